@@ -1,13 +1,10 @@
 package winter;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
 
-import com.google.gson.Gson;
-
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.MultipartConfig;
@@ -15,29 +12,51 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
+import winter.data.CachePolicy;
+import winter.data.HandlerDescriptor;
 import winter.data.Mapping;
-import winter.data.MappingMethod;
+import winter.data.RouteDescriptor;
+import winter.data.cache.CachedResponse;
+import winter.data.cache.ResponseCache;
+import winter.data.client.HtmlFragment;
 import winter.data.client.JsonString;
 import winter.data.client.ModelView;
+import winter.data.codec.Codecs;
 import winter.data.enumdata.RequestVerb;
+import winter.data.enumdata.RestFormat;
 import winter.data.exception.annotation.AnnotationNotFoundException;
 import winter.data.exception.annotation.DuplicateMappingException;
+import winter.data.exception.annotation.InvalidMappingException;
 import winter.data.exception.client.InvalidRequestVerbException;
 import winter.data.exception.client.MappingNotFoundException;
 import winter.data.exception.initialization.InvalidPackageNameException;
 import winter.data.exception.initialization.PackageProviderNotFoundException;
 import winter.data.exception.internal.InvalidReturnTypeException;
+import winter.data.exception.internal.RequestFailedException;
+import winter.data.routing.RouteMatch;
+import winter.data.routing.Router;
+import winter.data.servletabstraction.CachingResponse;
+import winter.data.servletabstraction.CompressedResponse;
+import winter.data.servletabstraction.ETagResponse;
+import winter.data.servletabstraction.Utf8ResponseWriter;
+import winter.service.BinaryResultWriter;
 import winter.service.ControllerScanner;
+import winter.service.HttpCacheHandler;
+import winter.service.ResponseCompressor;
 import winter.service.ExceptionHandler;
+import winter.service.ResultStreamer;
+import winter.service.TemplateEngine;
+import winter.service.ViewDispatcher;
 import winter.service.ControllerHandler;
 import winter.util.DataUtil;
+import winter.util.HtmlWriter;
 
 /**
  * The central servlet managing HTTP requests and responses in the Winter
  * framework.
  * <p>
  * This servlet acts as the front controller, initializing controller mappings,
- * processing incoming GET and POST requests, and dispatching them to
+ * processing incoming GET, POST, PUT and DELETE requests, and dispatching them to
  * appropriate
  * controller methods. It handles multipart requests, supports RESTful
  * responses,
@@ -59,9 +78,30 @@ public class FrontController extends HttpServlet {
     /** The map of URL paths to their corresponding {@link Mapping} objects. */
     private static final Map<String, Mapping> URL_MAPPINGS = new HashMap<>();
 
+    /** The routing table compiled from {@link #URL_MAPPINGS} after scanning. */
+    private static Router<RouteDescriptor> router = null;
+
     /** The handler for processing and logging exceptions. */
     private static final ExceptionHandler exceptionHandler = new ExceptionHandler();
 
+    /** Writes the results of handlers returning a stream of elements. */
+    private static final ResultStreamer resultStreamer = new ResultStreamer();
+
+    /** Writes the results of handlers returning binary content. */
+    private static final BinaryResultWriter binaryResultWriter = new BinaryResultWriter();
+
+    /** Validates the cached responses of handlers annotated with HttpCache. */
+    private static final HttpCacheHandler httpCacheHandler = new HttpCacheHandler();
+
+    /** Negotiates the compression of responses. */
+    private static final ResponseCompressor responseCompressor = new ResponseCompressor();
+
+    /** Forwards view results through cached dispatchers. */
+    private static final ViewDispatcher viewDispatcher = new ViewDispatcher();
+
+    /** The engine rendering template views. */
+    private static final TemplateEngine templateEngine = new TemplateEngine();
+
     /**
      * Provides access to the URL mappings registered during initialization.
      *
@@ -71,6 +111,15 @@ public class FrontController extends HttpServlet {
         return FrontController.URL_MAPPINGS;
     }
 
+    /**
+     * Sets the routing table compiled from the registered URL mappings.
+     *
+     * @param router the compiled routing table
+     */
+    public static void setRouter(Router<RouteDescriptor> router) {
+        FrontController.router = router;
+    }
+
     /**
      * Gets the exception that occurred during servlet initialization, if any.
      *
@@ -108,7 +157,8 @@ public class FrontController extends HttpServlet {
 
         try {
             controllerScanner.scanControllers(servletContext);
-        } catch (PackageProviderNotFoundException | InvalidPackageNameException | DuplicateMappingException e) {
+        } catch (PackageProviderNotFoundException | InvalidPackageNameException | DuplicateMappingException
+                | InvalidMappingException | AnnotationNotFoundException e) {
             FrontController.setInitException(e);
         } catch (Exception e) {
             FrontController.setInitException(new Exception("An error occurred during initialization", e));
@@ -116,7 +166,12 @@ public class FrontController extends HttpServlet {
     }
 
     /**
-     * Handles HTTP GET requests by processing them with the GET verb.
+     * Dispatches an HTTP request to the handler of its verb.
+     * <p>
+     * GET, POST, PUT and DELETE requests are resolved through the compiled
+     * routing table. Other methods (e.g., HEAD, OPTIONS) are left to
+     * {@link HttpServlet#service(HttpServletRequest, HttpServletResponse)}.
+     * </p>
      *
      * @param req  the HTTP request
      * @param resp the HTTP response
@@ -124,19 +179,32 @@ public class FrontController extends HttpServlet {
      * @throws IOException      if an I/O error occurs during response writing
      */
     @Override
-    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
-        RequestVerb requestVerb = RequestVerb.GET;
+    protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        RequestVerb requestVerb = RequestVerb.fromMethod(req.getMethod());
 
-        try {
-            processRequest(req, resp, requestVerb);
-        } catch (ServletException e) {
-            exceptionHandler.handleException(
-                    new ServletException("Servlet error occurred while processing GET request", e),
-                    Level.SEVERE, resp);
-        } catch (IOException e) {
-            exceptionHandler.handleException(new IOException("I/O error occurred while processing GET request", e),
-                    Level.SEVERE, resp);
+        if (requestVerb == null) {
+            super.service(req, resp);
+            return;
         }
+
+        dispatchRequest(req, resp, requestVerb);
+    }
+
+    /**
+     * Handles HTTP GET requests by processing them with the GET verb.
+     * <p>
+     * Requests normally go through {@link #service}; this method is reached when
+     * the servlet container derives a HEAD request from GET.
+     * </p>
+     *
+     * @param req  the HTTP request
+     * @param resp the HTTP response
+     * @throws ServletException if a servlet-specific error occurs
+     * @throws IOException      if an I/O error occurs during response writing
+     */
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        dispatchRequest(req, resp, RequestVerb.GET);
     }
 
     /**
@@ -149,17 +217,27 @@ public class FrontController extends HttpServlet {
      */
     @Override
     protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
-        RequestVerb requestVerb = RequestVerb.POST;
+        dispatchRequest(req, resp, RequestVerb.POST);
+    }
 
+    /**
+     * Processes a request with the given verb, reporting servlet and I/O errors.
+     *
+     * @param req         the HTTP request
+     * @param resp        the HTTP response
+     * @param requestVerb the HTTP verb (e.g., GET, POST)
+     */
+    private void dispatchRequest(HttpServletRequest req, HttpServletResponse resp, RequestVerb requestVerb) {
         try {
             processRequest(req, resp, requestVerb);
         } catch (ServletException e) {
             exceptionHandler.handleException(
-                    new ServletException("Servlet error occurred while processing POST request", e),
-                    Level.SEVERE, resp);
+                    new ServletException("Servlet error occurred while processing " + requestVerb + " request", e),
+                    Level.SEVERE, req, resp);
         } catch (IOException e) {
-            exceptionHandler.handleException(new IOException("I/O error occurred while processing POST request", e),
-                    Level.SEVERE, resp);
+            exceptionHandler.handleException(
+                    new IOException("I/O error occurred while processing " + requestVerb + " request", e),
+                    Level.SEVERE, req, resp);
         }
     }
 
@@ -181,7 +259,7 @@ public class FrontController extends HttpServlet {
     private void processRequest(HttpServletRequest req, HttpServletResponse resp, RequestVerb requestVerb)
             throws ServletException, IOException {
 
-        exceptionHandler.handleInitException(resp, this.getInitException());
+        exceptionHandler.handleInitException(req, resp, this.getInitException());
 
         // Stop the method execution if an error occurred during initialization
         if (this.getInitException() != null) {
@@ -189,22 +267,22 @@ public class FrontController extends HttpServlet {
         }
 
         String targetMapping = DataUtil.extractURIMapping(req);
-        resp.setContentType("text/html");
+        resp.setContentType(HandlerDescriptor.HTML_CONTENT_TYPE);
 
-        try (PrintWriter out = resp.getWriter()) {
-            try {
-                handleRequest(req, resp, targetMapping, out, requestVerb);
-            } catch (MappingNotFoundException | InvalidReturnTypeException e) {
-                exceptionHandler.handleException(e, Level.WARNING, resp);
-            } catch (IllegalAccessException | InvalidRequestVerbException | AnnotationNotFoundException e) {
-                exceptionHandler.handleException(e, Level.SEVERE, resp);
-            } catch (ReflectiveOperationException e) {
-                exceptionHandler.handleException(
-                        new ReflectiveOperationException("An error occurred while processing the requested URL", e),
-                        Level.SEVERE, resp);
-            } catch (Exception e) {
-                exceptionHandler.handleException(new Exception("An unexpected error occurred", e), Level.SEVERE, resp);
-            }
+        try {
+            handleRequest(req, resp, targetMapping, requestVerb);
+        } catch (MappingNotFoundException | InvalidReturnTypeException | InvalidRequestVerbException e) {
+            exceptionHandler.handleException(e, Level.WARNING, req, resp);
+        } catch (IllegalAccessException e) {
+            // Denied access is a client error: logged without its stack trace
+            exceptionHandler.handleException(e, Level.WARNING, req, resp);
+        } catch (ReflectiveOperationException e) {
+            exceptionHandler.handleException(
+                    new RequestFailedException("An error occurred while processing the requested URL", e),
+                    Level.SEVERE, req, resp);
+        } catch (Exception e) {
+            exceptionHandler.handleException(new RequestFailedException("An unexpected error occurred", e),
+                    Level.SEVERE, req, resp);
         }
     }
 
@@ -212,20 +290,26 @@ public class FrontController extends HttpServlet {
      * Handles the core request logic by invoking the mapped controller method and
      * processing its result.
      * <p>
-     * Retrieves the {@link Mapping} for the target URL, validates the verb, invokes
+     * Resolves the {@link RouteDescriptor} for the target URL through the
+     * compiled {@link Router}, selects the handler of the verb, invokes
      * the method via
      * {@link ControllerHandler}, and processes the result (e.g., rendering JSP or
      * returning JSON).
-     * Supports RESTful responses and form validation error handling.
+     * Supports RESTful responses and form validation error handling. Binary
+     * results are written to the response output stream; the response writer
+     * is only acquired for the other results. GET handlers with an
+     * {@link winter.data.annotation.http.HttpCache} annotation may answer
+     * <code>304 Not Modified</code> before or after the controller method runs,
+     * {@link winter.data.annotation.Cacheable} ones are replayed from their
+     * {@link ResponseCache}, and responses are compressed when enabled and
+     * accepted by the client.
      * </p>
      *
      * @param req           the HTTP request
      * @param resp          the HTTP response
      * @param targetMapping the extracted URL mapping path
-     * @param out           the response writer
      * @param requestVerb   the HTTP verb (e.g., GET, POST)
      * @throws MappingNotFoundException     if no mapping exists for the target URL
-     * @throws AnnotationNotFoundException  if a required annotation is missing
      * @throws ReflectiveOperationException if reflection fails during method
      *                                      invocation
      * @throws InvalidReturnTypeException   if the method returns an unsupported
@@ -236,40 +320,186 @@ public class FrontController extends HttpServlet {
      * @throws InvalidRequestVerbException  if the verb is not supported for the
      *                                      mapping
      */
-    private void handleRequest(HttpServletRequest req, HttpServletResponse resp, String targetMapping, PrintWriter out,
+    private void handleRequest(HttpServletRequest req, HttpServletResponse resp, String targetMapping,
             RequestVerb requestVerb)
-            throws MappingNotFoundException, AnnotationNotFoundException,
+            throws MappingNotFoundException,
             ReflectiveOperationException,
             InvalidReturnTypeException, ServletException,
             IOException, InvalidRequestVerbException {
 
-        Mapping mapping = FrontController.URL_MAPPINGS.get(targetMapping);
+        RouteMatch<RouteDescriptor> routeMatch = FrontController.router.match(targetMapping);
 
-        if (mapping == null) {
+        if (routeMatch == null) {
             throw new MappingNotFoundException("Resource not found for: " + targetMapping);
         }
 
-        MappingMethod mappingMethod = mapping.getMethod(requestVerb);
+        HandlerDescriptor handler = routeMatch.getTarget().getHandler(requestVerb);
 
-        if (mappingMethod == null) {
+        if (handler == null) {
             throw new InvalidRequestVerbException("Access denied for the specified URL");
         }
 
-        Object result = new ControllerHandler().invokeControllerMethod(mapping.getClassName(), mappingMethod, req);
-        Gson gson = new Gson();
+        req.setAttribute(ExceptionHandler.HANDLER_ATTRIBUTE, handler);
+        RestFormat restFormat = handler.negotiateRestFormat(req.getHeader("Accept"));
+
+        if (handler.isNegotiated()) {
+            resp.addHeader("Vary", "Accept");
+        }
+
+        CompressedResponse compressedResponse = responseCompressor.wrap(handler, req, resp);
+        HttpServletResponse target = (compressedResponse != null) ? compressedResponse : resp;
+
+        CachingResponse cachingResponse = null;
+        String cacheKey = null;
+
+        try {
+            CachePolicy cachePolicy = handler.getCachePolicy();
+
+            if (cachePolicy != null && httpCacheHandler.isNotModified(handler, req, target, routeMatch)) {
+                return;
+            }
+
+            ResponseCache responseCache = handler.getResponseCache();
+
+            if (responseCache != null) {
+                // The decoded parameters are kept on the request for the binding of a miss
+                cacheKey = handler.getBindingPlan().cacheKeyOf(req, routeMatch);
+
+                if (handler.isNegotiated()) {
+                    // Each format is a separate representation of the same result
+                    cacheKey = cacheKey + '~' + restFormat.name();
+                }
+
+                CachedResponse cachedResponse = responseCache.lookup(cacheKey);
+
+                if (cachedResponse != null) {
+                    cachedResponse.writeTo(req, target);
+
+                    if (compressedResponse != null) {
+                        compressedResponse.finish();
+                    }
+
+                    return;
+                }
+
+                if (responseCache.leads(cacheKey)) {
+                    cachingResponse = new CachingResponse(target, responseCache.getMaxEntrySize());
+                    target = cachingResponse;
+                }
+            }
+
+            ETagResponse etagResponse = (cachePolicy != null && cachePolicy.hashesBody())
+                    ? new ETagResponse(target, cachePolicy)
+                    : null;
+
+            Object result = new ControllerHandler().invokeControllerMethod(handler, req, routeMatch);
+            writeResult(result, handler, restFormat, req, (etagResponse != null) ? etagResponse : target);
+
+            if (etagResponse != null) {
+                etagResponse.finish(req);
+            }
+
+            if (cachingResponse != null) {
+                responseCache.complete(cacheKey, cachingResponse);
+                cachingResponse = null;
+            }
+
+            if (compressedResponse != null) {
+                compressedResponse.finish();
+            }
+        } finally {
+            if (cachingResponse != null) {
+                // Hand the failure to the requests waiting for this response
+                handler.getResponseCache().complete(cacheKey, null);
+            }
+
+            if (compressedResponse != null) {
+                compressedResponse.release();
+            }
+        }
+    }
+
+    /**
+     * Writes the result of a controller method into the response.
+     * <p>
+     * String results, {@link HtmlFragment}s and REST models are encoded by a
+     * {@link Utf8ResponseWriter}, which sends short bodies with their exact
+     * length; fragments are always sent as HTML, and REST results in the
+     * negotiated format. The response writer is only acquired for streamed
+     * results.
+     * Template views are rendered by the {@link TemplateEngine} from the model
+     * itself; other views are forwarded to through the {@link ViewDispatcher}
+     * without touching the writer, so they may use either the writer or the
+     * output stream.
+     * </p>
+     *
+     * @param result  the result of the controller method
+     * @param handler the handler that produced the result
+     * @param format  the negotiated format of REST results, or null for views
+     * @param req     the HTTP request
+     * @param resp    the HTTP response
+     * @throws MappingNotFoundException   if a file result does not exist
+     * @throws InvalidReturnTypeException if the method returns an unsupported
+     *                                    type
+     * @throws ServletException           if forwarding to a view fails
+     * @throws IOException                if an I/O error occurs during response
+     *                                    writing
+     */
+    private void writeResult(Object result, HandlerDescriptor handler, RestFormat format, HttpServletRequest req,
+            HttpServletResponse resp)
+            throws MappingNotFoundException, InvalidReturnTypeException, ServletException, IOException {
 
-        if (mappingMethod.isRest()) {
-            resp.setContentType("application/json");
+        if (BinaryResultWriter.isBinary(result)) {
+            binaryResultWriter.write(result, req, resp);
+            return;
         }
 
-        if (result instanceof String) {
-            if (mappingMethod.isRest()) {
-                out.print(gson.toJson(new JsonString(result.toString())));
-            } else {
-                out.print(result.toString());
+        resp.setContentType((format != null) ? format.getContentType() : handler.getContentType());
+
+        if (result instanceof String && format == RestFormat.CBOR) {
+            writeCbor(new JsonString(result.toString()), resp);
+        } else if (result instanceof String) {
+            Utf8ResponseWriter out = new Utf8ResponseWriter(resp);
+
+            try {
+                if (handler.isRest()) {
+                    Codecs.getJsonCodec().write(new JsonString(result.toString()), out);
+                } else {
+                    out.write(result.toString());
+                }
+
+                out.close();
+            } finally {
+                out.discard();
+            }
+        } else if (result instanceof HtmlFragment fragment) {
+            resp.setContentType(HandlerDescriptor.HTML_CONTENT_TYPE);
+            Utf8ResponseWriter out = new Utf8ResponseWriter(resp);
+
+            try {
+                fragment.render(new HtmlWriter(out));
+                out.close();
+            } finally {
+                out.discard();
             }
         } else if (result instanceof ModelView modelView) {
-            modelView.setRequestAttributes(req);
+            if (format == RestFormat.CBOR) {
+                writeCbor(modelView.getData(), resp);
+                return;
+            } else if (handler.isRest()) {
+                modelView.setRequestAttributes(req);
+
+                Utf8ResponseWriter out = new Utf8ResponseWriter(resp);
+
+                try {
+                    modelView.writeJsonData(out);
+                    out.close();
+                } finally {
+                    out.discard();
+                }
+                return;
+            }
+
             HttpServletRequest dispatchRequest = req;
             String redirectionUrl = modelView.getJspUrl();
 
@@ -284,13 +514,41 @@ public class FrontController extends HttpServlet {
                 redirectionUrl = (String) req.getAttribute("errorUrl");
             }
 
-            if (mappingMethod.isRest()) {
-                out.print(modelView.getJsonData());
-            } else {
-                req.getRequestDispatcher(redirectionUrl).forward(dispatchRequest, resp);
+            if (TemplateEngine.isTemplate(redirectionUrl)) {
+                // Templates read the model in place, and request attributes as a fallback
+                templateEngine.render(redirectionUrl, modelView.getData(), req, resp);
+                return;
             }
+
+            modelView.setRequestAttributes(req);
+
+            // The view acquires the writer or stream it needs
+            viewDispatcher.forward(redirectionUrl, req, dispatchRequest, resp);
+        } else if (ResultStreamer.isStreamed(result)) {
+            resultStreamer.stream(result, handler, req, resp, resp.getWriter());
         } else {
-            throw new InvalidReturnTypeException("Controller return type should be either String or ModelView");
+            throw new InvalidReturnTypeException(
+                    "Controller return type should be String, HtmlFragment, ModelView, Stream, Iterator, Iterable, "
+                            + "byte[], ByteBuffer, Path, FileChannel or File");
+        }
+    }
+
+    /**
+     * Writes a REST result as CBOR, with its exact length when it fits the
+     * response buffer.
+     *
+     * @param value the value to encode
+     * @param resp  the HTTP response, whose content type is set
+     * @throws IOException if an I/O error occurs during response writing
+     */
+    private void writeCbor(Object value, HttpServletResponse resp) throws IOException {
+        Utf8ResponseWriter out = new Utf8ResponseWriter(resp);
+
+        try {
+            Codecs.getCborCodec().write(value, out.asOutputStream());
+            out.close();
+        } finally {
+            out.discard();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,407 @@
+package winter.data;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.annotation.http.HttpCache;
+import winter.data.binding.BindingPlan;
+import winter.data.enumdata.ETagMode;
+import winter.data.exception.annotation.AnnotationNotFoundException;
+import winter.data.exception.annotation.InvalidMappingException;
+import winter.data.invocation.MethodInvoker;
+
+/**
+ * The HTTP caching rules of a GET handler in the Winter framework, compiled
+ * once from its {@link HttpCache} annotation.
+ * <p>
+ * The <code>Cache-Control</code> and <code>Vary</code> header values are built
+ * at scanning time, and the version method, if any, is compiled into a
+ * {@link MethodInvoker} and a {@link BindingPlan} like the handler itself.
+ * This class also implements the entity tag comparisons of RFC 9110.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CachePolicy {
+
+    /** The number of digest bytes kept in body entity tags. */
+    private static final int TAG_DIGEST_LENGTH = 16;
+
+    /** The longest version key used as is in an entity tag. */
+    private static final int MAX_PLAIN_TAG_LENGTH = 64;
+
+    /** The <code>Cache-Control</code> header value, or null if none. */
+    private final String cacheControl;
+
+    /** The <code>Vary</code> header value, or null if none. */
+    private final String vary;
+
+    /** The kind of entity tag sent. */
+    private final ETagMode etagMode;
+
+    /** The name of the version method, or null if the body is hashed. */
+    private final String versionMethodName;
+
+    /** The compiled invoker of the version method, or null if none. */
+    private final MethodInvoker versionInvoker;
+
+    /** The binding plan of the version method parameters, or null if none. */
+    private final BindingPlan versionPlan;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles the caching rules of a handler.
+     *
+     * @param controllerClass the controller class declaring the version method
+     * @param httpCache       the {@link HttpCache} annotation of the handler
+     * @throws IllegalAccessException      if the version method cannot be
+     *                                     accessed
+     * @throws AnnotationNotFoundException if a version method parameter lacks a
+     *                                     {@link winter.data.annotation.http.RequestParam}
+     *                                     annotation
+     * @throws InvalidMappingException     if the version method does not exist,
+     *                                     is overloaded or returns nothing
+     */
+    public CachePolicy(Class<?> controllerClass, HttpCache httpCache)
+            throws IllegalAccessException, AnnotationNotFoundException {
+
+        this.cacheControl = buildCacheControl(httpCache);
+        this.vary = (httpCache.vary().length > 0) ? String.join(", ", httpCache.vary()) : null;
+        this.etagMode = httpCache.etag();
+
+        if (httpCache.version().isEmpty()) {
+            this.versionMethodName = null;
+            this.versionInvoker = null;
+            this.versionPlan = null;
+        } else {
+            Method versionMethod = findVersionMethod(controllerClass, httpCache.version());
+            this.versionMethodName = versionMethod.getName();
+            this.versionInvoker = new MethodInvoker(versionMethod);
+            this.versionPlan = new BindingPlan(versionMethod);
+        }
+    }
+
+    /**
+     * Compiles the caching rules of a handler method, if it declares any.
+     *
+     * @param controllerClass the controller class
+     * @param method          the handler method
+     * @return the caching rules, or null if the method has no
+     *         {@link HttpCache} annotation
+     * @throws IllegalAccessException      if the version method cannot be
+     *                                     accessed
+     * @throws AnnotationNotFoundException if a version method parameter lacks a
+     *                                     {@link winter.data.annotation.http.RequestParam}
+     *                                     annotation
+     */
+    public static CachePolicy of(Class<?> controllerClass, Method method)
+            throws IllegalAccessException, AnnotationNotFoundException {
+
+        HttpCache httpCache = method.getAnnotation(HttpCache.class);
+        return (httpCache != null) ? new CachePolicy(controllerClass, httpCache) : null;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Checks if the handler declares a version method.
+     *
+     * @return true if responses are validated from a version key, false if their
+     *         body is hashed
+     */
+    public boolean hasVersion() {
+        return versionInvoker != null;
+    }
+
+    /**
+     * Checks if the entity tag is computed from the response body.
+     *
+     * @return true if responses must be hashed while they are written, false
+     *         otherwise
+     */
+    public boolean hashesBody() {
+        return versionInvoker == null && etagMode != ETagMode.NONE;
+    }
+
+    /**
+     * Gets the name of the version method.
+     *
+     * @return the method name, or null if none
+     */
+    public String getVersionMethodName() {
+        return versionMethodName;
+    }
+
+    /**
+     * Gets the compiled invoker of the version method.
+     *
+     * @return the invoker, or null if none
+     */
+    public MethodInvoker getVersionInvoker() {
+        return versionInvoker;
+    }
+
+    /**
+     * Gets the binding plan of the version method parameters.
+     *
+     * @return the binding plan, or null if none
+     */
+    public BindingPlan getVersionPlan() {
+        return versionPlan;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Sets the <code>Cache-Control</code> and <code>Vary</code> headers of a
+     * response.
+     *
+     * @param resp the HTTP response
+     */
+    public void applyHeaders(HttpServletResponse resp) {
+        if (cacheControl != null) {
+            resp.setHeader("Cache-Control", cacheControl);
+        }
+
+        if (vary != null) {
+            // Added rather than set, as compression also varies the response
+            resp.addHeader("Vary", vary);
+        }
+    }
+
+    /**
+     * Builds the entity tag of a version key.
+     *
+     * @param version the version key returned by the version method
+     * @return the quoted entity tag, or null if no tag is sent
+     */
+    public String tagOfVersion(Object version) {
+        long lastModified = lastModifiedOf(version);
+        String key = (lastModified >= 0) ? Long.toString(lastModified, Character.MAX_RADIX) : version.toString();
+
+        return tagOf(isPlainTag(key) ? key : encode(digest(key.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Builds the entity tag of a body digest.
+     *
+     * @param digest the SHA-256 digest of the body
+     * @return the quoted entity tag, or null if no tag is sent
+     */
+    public String tagOfDigest(byte[] digest) {
+        return tagOf(encode(digest));
+    }
+
+    /**
+     * Quotes an opaque tag according to the tag kind.
+     *
+     * @param opaque the characters of the tag
+     * @return the quoted entity tag, or null if no tag is sent
+     */
+    private String tagOf(String opaque) {
+        return switch (etagMode) {
+            case NONE -> null;
+            case STRONG -> "\"" + opaque + "\"";
+            case WEAK -> "W/\"" + opaque + "\"";
+        };
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Checks if an <code>If-None-Match</code> header matches an entity tag.
+     * <p>
+     * Tags are compared weakly, ignoring their <code>W/</code> prefix, as
+     * required for <code>If-None-Match</code>; <code>*</code> matches any tag.
+     * </p>
+     *
+     * @param ifNoneMatch the header value
+     * @param etag        the current entity tag
+     * @return true if one of the listed tags matches, false otherwise
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        int opaqueStart = etag.startsWith("W/") ? 2 : 0;
+        int opaqueLength = etag.length() - opaqueStart;
+        int length = ifNoneMatch.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = ifNoneMatch.charAt(i);
+
+            if (c == ' ' || c == '\t' || c == ',') {
+                i++;
+                continue;
+            } else if (c == '*') {
+                return true;
+            }
+
+            if (ifNoneMatch.startsWith("W/", i)) {
+                i += 2;
+            }
+
+            if (i >= length || ifNoneMatch.charAt(i) != '"') {
+                return false;
+            }
+
+            int end = ifNoneMatch.indexOf('"', i + 1);
+
+            if (end < 0) {
+                return false;
+            }
+
+            if (end + 1 - i == opaqueLength && ifNoneMatch.regionMatches(i, etag, opaqueStart, opaqueLength)) {
+                return true;
+            }
+
+            i = end + 1;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the instant held by a version key.
+     *
+     * @param version the version key
+     * @return the epoch milliseconds, or -1 if the key is not an instant
+     */
+    public static long lastModifiedOf(Object version) {
+        if (version instanceof Instant instant) {
+            return instant.toEpochMilli();
+        } else if (version instanceof Date date) {
+            return date.getTime();
+        } else if (version instanceof TemporalAccessor temporal && temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+            long millis = temporal.isSupported(ChronoField.MILLI_OF_SECOND)
+                    ? temporal.getLong(ChronoField.MILLI_OF_SECOND)
+                    : 0;
+            return temporal.getLong(ChronoField.INSTANT_SECONDS) * 1000 + millis;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Computes the SHA-256 digest of bytes.
+     *
+     * @param bytes the bytes
+     * @return the digest
+     */
+    private static byte[] digest(byte[] bytes) {
+        return newDigest().digest(bytes);
+    }
+
+    /**
+     * Creates the digest used for entity tags.
+     *
+     * @return a new SHA-256 digest
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform provides SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Encodes the leading bytes of a digest as URL-safe Base64.
+     *
+     * @param digest the digest
+     * @return the opaque tag characters
+     */
+    private static String encode(byte[] digest) {
+        int length = Math.min(TAG_DIGEST_LENGTH, digest.length);
+        byte[] prefix = new byte[length];
+        System.arraycopy(digest, 0, prefix, 0, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(prefix);
+    }
+
+    /**
+     * Checks if a version key can be used as is in an entity tag.
+     *
+     * @param key the version key
+     * @return true if the key is short and only holds tag characters, false
+     *         otherwise
+     */
+    private static boolean isPlainTag(String key) {
+        if (key.isEmpty() || key.length() > MAX_PLAIN_TAG_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (c <= 0x20 || c == '"' || c >= 0x7F) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /* ------------------------------- Compilation ------------------------------ */
+
+    /**
+     * Builds the <code>Cache-Control</code> header value of an annotation.
+     *
+     * @param httpCache the {@link HttpCache} annotation
+     * @return the header value, or null if the annotation declares no directive
+     */
+    private static String buildCacheControl(HttpCache httpCache) {
+        List<String> directives = new ArrayList<>(List.of(httpCache.directives()));
+
+        if (httpCache.maxAge() >= 0) {
+            directives.add("max-age=" + httpCache.maxAge());
+        }
+
+        return directives.isEmpty() ? null : String.join(", ", directives);
+    }
+
+    /**
+     * Finds the version method of a controller.
+     *
+     * @param controllerClass the controller class
+     * @param name            the method name
+     * @return the public method of that name
+     * @throws InvalidMappingException if the method does not exist, is
+     *                                 overloaded or returns nothing
+     */
+    private static Method findVersionMethod(Class<?> controllerClass, String name) {
+        Method versionMethod = null;
+
+        for (Method method : controllerClass.getMethods()) {
+            if (method.getName().equals(name)) {
+                if (versionMethod != null) {
+                    throw new InvalidMappingException("The version method '" + name + "' of "
+                            + controllerClass.getName() + " is overloaded");
+                }
+
+                versionMethod = method;
+            }
+        }
+
+        if (versionMethod == null) {
+            throw new InvalidMappingException("No public version method '" + name + "' in "
+                    + controllerClass.getName());
+        } else if (versionMethod.getReturnType() == void.class) {
+            throw new InvalidMappingException("The version method '" + name + "' of "
+                    + controllerClass.getName() + " must return a value");
+        }
+
+        return versionMethod;
+    }
+}
@@ -0,0 +1,345 @@
+package winter.data;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import winter.data.annotation.Compression;
+import winter.data.annotation.Rest;
+import winter.data.annotation.Streaming;
+import winter.data.annotation.http.Auth;
+import winter.data.annotation.http.HttpCache;
+import winter.data.binding.BindingPlan;
+import winter.data.cache.ResponseCache;
+import winter.data.cache.ResponseCaches;
+import winter.data.enumdata.RequestVerb;
+import winter.data.enumdata.RestFormat;
+import winter.data.enumdata.StreamFormat;
+import winter.data.exception.annotation.AnnotationNotFoundException;
+import winter.data.exception.annotation.InvalidMappingException;
+import winter.data.invocation.MethodInvoker;
+import winter.data.scope.ControllerProvider;
+
+/**
+ * An immutable description of a controller method bound to a route and verb in
+ * the Winter framework.
+ * <p>
+ * This class is built once by {@link winter.service.ControllerScanner} from a
+ * {@link MappingMethod}. Everything the request path needs (REST flag and
+ * formats, authentication roles, response content type, URL) is read from the
+ * annotations at that time, so no annotation is looked up while serving a
+ * request, the method is compiled into a {@link MethodInvoker}, its
+ * parameters into a {@link BindingPlan}, and controller instances come from
+ * the {@link ControllerProvider} of the controller class.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class HandlerDescriptor {
+
+    /** The content type of REST responses. */
+    public static final String JSON_CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    /** The content type of view responses. */
+    public static final String HTML_CONTENT_TYPE = "text/html;charset=UTF-8";
+
+    /** The flush interval of streamed results without {@link Streaming}. */
+    private static final int DEFAULT_FLUSH_INTERVAL = 256;
+
+    /** The compression threshold of methods without {@link Compression}. */
+    private static final int DEFAULT_COMPRESSION_MIN_SIZE = 1024;
+
+    /** The fully qualified name of the controller class. */
+    private final String className;
+
+    /** The controller method to invoke. */
+    private final Method method;
+
+    /** The HTTP verb handled by the method. */
+    private final RequestVerb verb;
+
+    /** The URL pattern the method is mapped to. */
+    private final String url;
+
+    /** Whether the method is annotated with {@link Rest}. */
+    private final boolean rest;
+
+    /** The roles allowed to invoke the method; empty if no role is required. */
+    private final Set<String> auth;
+
+    /** The content type of the method's responses. */
+    private final String contentType;
+
+    /** The compiled invoker of the method. */
+    private final MethodInvoker invoker;
+
+    /** The compiled binding plan of the method parameters. */
+    private final BindingPlan bindingPlan;
+
+    /** The provider of controller instances, shared by the controller's handlers. */
+    private final ControllerProvider provider;
+
+    /** The formats of REST results, preferred first; empty for views. */
+    private final RestFormat[] restFormats;
+
+    /** The formats of streamed results, preferred first. */
+    private final StreamFormat[] streamFormats;
+
+    /** The number of streamed elements written between two flushes. */
+    private final int flushInterval;
+
+    /** The smallest response compressed, in bytes, or -1 if never compressed. */
+    private final int compressionMinSize;
+
+    /** The HTTP caching rules of the method, or null if none. */
+    private final CachePolicy cachePolicy;
+
+    /** The server-side cache of the method's responses, or null if none. */
+    private final ResponseCache responseCache;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a handler descriptor from a scanned mapping method.
+     *
+     * @param provider      the provider of controller instances
+     * @param url           the URL pattern the method is mapped to
+     * @param mappingMethod the scanned mapping method
+     * @throws IllegalAccessException      if the method cannot be accessed
+     * @throws AnnotationNotFoundException if a method parameter lacks a
+     *                                     {@link winter.data.annotation.http.RequestParam}
+     *                                     annotation
+     * @throws InvalidMappingException     if the {@link HttpCache} version
+     *                                     method is invalid
+     */
+    public HandlerDescriptor(ControllerProvider provider, String url, MappingMethod mappingMethod)
+            throws IllegalAccessException, AnnotationNotFoundException {
+        this.className = provider.getControllerClass().getName();
+        this.provider = provider;
+        this.method = mappingMethod.getMethod();
+        this.verb = mappingMethod.getVerb();
+        this.url = url;
+        this.rest = mappingMethod.isRest();
+        this.auth = Set.copyOf(mappingMethod.getAuth());
+        this.contentType = this.rest ? JSON_CONTENT_TYPE : HTML_CONTENT_TYPE;
+        this.invoker = new MethodInvoker(this.method);
+        this.bindingPlan = new BindingPlan(this.method);
+
+        Rest restAnnotation = this.method.getAnnotation(Rest.class);
+        this.restFormats = !this.rest ? new RestFormat[0]
+                : (restAnnotation != null && restAnnotation.formats().length > 0) ? restAnnotation.formats().clone()
+                : new RestFormat[] { RestFormat.JSON };
+
+        Streaming streaming = this.method.getAnnotation(Streaming.class);
+        this.streamFormats = (streaming != null && streaming.value().length > 0) ? streaming.value().clone()
+                : StreamFormat.values();
+        this.flushInterval = (streaming != null) ? Math.max(1, streaming.flushInterval()) : DEFAULT_FLUSH_INTERVAL;
+
+        Compression compression = this.method.getAnnotation(Compression.class);
+        this.compressionMinSize = (compression == null) ? DEFAULT_COMPRESSION_MIN_SIZE
+                : compression.value() ? Math.max(0, compression.minSize()) : -1;
+
+        // Only GET responses are validated and cached
+        this.cachePolicy = (this.verb == RequestVerb.GET)
+                ? CachePolicy.of(provider.getControllerClass(), this.method)
+                : null;
+        this.responseCache = (this.verb == RequestVerb.GET) ? ResponseCaches.of(this.method) : null;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the fully qualified name of the controller class.
+     *
+     * @return the class name
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Gets the controller method to invoke.
+     *
+     * @return the method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets the HTTP verb handled by the method.
+     *
+     * @return the verb
+     */
+    public RequestVerb getVerb() {
+        return verb;
+    }
+
+    /**
+     * Gets the URL pattern the method is mapped to.
+     *
+     * @return the normalized URL pattern
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Checks if the method is a REST endpoint.
+     *
+     * @return true if the method is annotated with {@link Rest}, false otherwise
+     */
+    public boolean isRest() {
+        return rest;
+    }
+
+    /**
+     * Gets the roles allowed to invoke the method.
+     *
+     * @return an unmodifiable set of roles, empty if no role is required
+     */
+    public Set<String> getAuth() {
+        return auth;
+    }
+
+    /**
+     * Gets the content type of the method's responses.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Gets the compiled invoker of the method.
+     *
+     * @return the invoker
+     */
+    public MethodInvoker getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Gets the compiled binding plan of the method parameters.
+     *
+     * @return the binding plan
+     */
+    public BindingPlan getBindingPlan() {
+        return bindingPlan;
+    }
+
+    /**
+     * Gets the formats of REST results, preferred first.
+     *
+     * @return the allowed REST formats, empty if the method is not a REST
+     *         endpoint; the array must not be modified
+     */
+    public RestFormat[] getRestFormats() {
+        return restFormats;
+    }
+
+    /**
+     * Gets the formats of streamed results, preferred first.
+     *
+     * @return the allowed stream formats; the array must not be modified
+     */
+    public StreamFormat[] getStreamFormats() {
+        return streamFormats;
+    }
+
+    /**
+     * Gets the number of streamed elements written between two flushes.
+     *
+     * @return the flush interval
+     */
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Gets the smallest response of the method that may be compressed.
+     *
+     * @return the threshold in bytes, or -1 if the method opted out with
+     *         {@link Compression}
+     */
+    public int getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
+    /**
+     * Gets the HTTP caching rules of the method.
+     *
+     * @return the caching rules, or null if the method is not a GET handler
+     *         annotated with {@link HttpCache}
+     */
+    public CachePolicy getCachePolicy() {
+        return cachePolicy;
+    }
+
+    /**
+     * Gets the server-side cache of the method's responses.
+     *
+     * @return the response cache, or null if the method is not a GET handler
+     *         annotated with {@link winter.data.annotation.Cacheable}
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Gets the provider of controller instances.
+     *
+     * @return the controller provider
+     */
+    public ControllerProvider getProvider() {
+        return provider;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Checks if the method requires an authentication role.
+     *
+     * @return true if at least one role is required, false otherwise
+     */
+    public boolean requiresAuth() {
+        return !auth.isEmpty();
+    }
+
+    /**
+     * Chooses the format of a REST result from the <code>Accept</code> header.
+     *
+     * @param accept the <code>Accept</code> header, or null if absent
+     * @return the chosen format, or null if the method is not a REST endpoint
+     */
+    public RestFormat negotiateRestFormat(String accept) {
+        if (restFormats.length == 0) {
+            return null;
+        }
+
+        return RestFormat.negotiate(accept, restFormats);
+    }
+
+    /**
+     * Checks if the response depends on the <code>Accept</code> header, which
+     * caches must then take into account.
+     *
+     * @return true if the method is a REST endpoint with several formats
+     */
+    public boolean isNegotiated() {
+        return restFormats.length > 1;
+    }
+
+    /**
+     * Checks if a role is allowed to invoke the method.
+     *
+     * @param authString the role of the current user, or null if none
+     * @return true if no role is required or the role is allowed, false otherwise
+     * @see Auth
+     */
+    public boolean hasAuth(String authString) {
+        return auth.isEmpty() || (authString != null && auth.contains(authString));
+    }
+}
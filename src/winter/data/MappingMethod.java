@@ -8,7 +8,9 @@ import java.util.Set;
 import winter.data.annotation.Rest;
 import winter.data.annotation.http.Auth;
 import winter.data.annotation.http.UrlMapping;
+import winter.data.annotation.http.requestverb.DELETE;
 import winter.data.annotation.http.requestverb.POST;
+import winter.data.annotation.http.requestverb.PUT;
 import winter.data.enumdata.RequestVerb;
 
 /**
@@ -52,7 +54,8 @@ public class MappingMethod {
      * <p>
      * Initializes authentication roles as an empty set and sets the verb based on
      * annotations
-     * (defaults to GET unless {@link POST} is present).
+     * (defaults to GET unless {@link POST}, {@link PUT} or {@link DELETE} is
+     * present).
      * </p>
      *
      * @param method the controller method to map
@@ -123,8 +126,8 @@ public class MappingMethod {
     /**
      * Infers and sets the HTTP verb based on method annotations.
      * <p>
-     * Sets the verb to {@link RequestVerb#POST} if the {@link POST} annotation is
-     * present,
+     * Sets the verb to {@link RequestVerb#POST}, {@link RequestVerb#PUT} or
+     * {@link RequestVerb#DELETE} if the matching annotation is present,
      * otherwise defaults to {@link RequestVerb#GET}.
      * </p>
      */
@@ -134,6 +137,16 @@ public class MappingMethod {
             return;
         }
 
+        if (this.getMethod().isAnnotationPresent(PUT.class)) {
+            this.setVerb(RequestVerb.PUT);
+            return;
+        }
+
+        if (this.getMethod().isAnnotationPresent(DELETE.class)) {
+            this.setVerb(RequestVerb.DELETE);
+            return;
+        }
+
         this.setVerb(RequestVerb.GET);
     }
 
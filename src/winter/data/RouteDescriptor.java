@@ -0,0 +1,126 @@
+package winter.data;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import winter.data.enumdata.RequestVerb;
+import winter.data.exception.annotation.AnnotationNotFoundException;
+import winter.data.exception.annotation.DuplicateMappingException;
+import winter.data.scope.ControllerProvider;
+
+/**
+ * An immutable description of a routed URL in the Winter framework.
+ * <p>
+ * This class is the compiled counterpart of {@link Mapping}: it is built once
+ * by {@link winter.service.ControllerScanner} and stored in the
+ * {@link winter.data.routing.Router}. Handlers are kept in an array indexed by
+ * {@link RequestVerb#ordinal()}, so resolving the handler for a verb is a
+ * single array access.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RouteDescriptor {
+
+    /** The normalized URL pattern of the route. */
+    private final String url;
+
+    /** The handlers of the route, indexed by verb ordinal. */
+    private final HandlerDescriptor[] handlers;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a route descriptor from the handlers of each verb.
+     *
+     * @param url      the normalized URL pattern of the route
+     * @param handlers the map of verbs to their handlers
+     */
+    public RouteDescriptor(String url, EnumMap<RequestVerb, HandlerDescriptor> handlers) {
+        this.url = url;
+        this.handlers = new HandlerDescriptor[RequestVerb.values().length];
+
+        for (Map.Entry<RequestVerb, HandlerDescriptor> handler : handlers.entrySet()) {
+            this.handlers[handler.getKey().ordinal()] = handler.getValue();
+        }
+    }
+
+    /**
+     * Constructs a route descriptor from a scanned mapping.
+     *
+     * @param url      the normalized URL pattern of the route
+     * @param mapping  the scanned mapping
+     * @param provider the provider of instances of the mapping's controller
+     * @throws DuplicateMappingException if two methods handle the same verb
+     * @throws IllegalAccessException    if a controller method cannot be accessed
+     * @throws AnnotationNotFoundException if a controller method parameter lacks
+     *                                     a request parameter annotation
+     */
+    public RouteDescriptor(String url, Mapping mapping, ControllerProvider provider)
+            throws DuplicateMappingException, IllegalAccessException, AnnotationNotFoundException {
+        this(url, toHandlers(url, mapping, provider));
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the normalized URL pattern of the route.
+     *
+     * @return the URL pattern
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets the handler registered for a verb.
+     *
+     * @param verb the HTTP verb
+     * @return the handler, or null if the route does not accept the verb
+     */
+    public HandlerDescriptor getHandler(RequestVerb verb) {
+        return handlers[verb.ordinal()];
+    }
+
+    /**
+     * Checks if the route accepts a verb.
+     *
+     * @param verb the HTTP verb
+     * @return true if a handler is registered for the verb, false otherwise
+     */
+    public boolean hasVerb(RequestVerb verb) {
+        return handlers[verb.ordinal()] != null;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Builds the handlers of each verb from a scanned mapping.
+     *
+     * @param url      the normalized URL pattern of the route
+     * @param mapping  the scanned mapping
+     * @param provider the provider of instances of the mapping's controller
+     * @return the map of verbs to their handlers
+     * @throws DuplicateMappingException if two methods handle the same verb
+     * @throws IllegalAccessException    if a controller method cannot be accessed
+     * @throws AnnotationNotFoundException if a controller method parameter lacks
+     *                                     a request parameter annotation
+     */
+    private static EnumMap<RequestVerb, HandlerDescriptor> toHandlers(String url, Mapping mapping,
+            ControllerProvider provider) throws DuplicateMappingException, IllegalAccessException, AnnotationNotFoundException {
+        EnumMap<RequestVerb, HandlerDescriptor> handlers = new EnumMap<>(RequestVerb.class);
+
+        for (MappingMethod mappingMethod : mapping.getMappingMethods()) {
+            HandlerDescriptor handler = new HandlerDescriptor(provider, url, mappingMethod);
+
+            if (handlers.put(mappingMethod.getVerb(), handler) != null) {
+                throw new DuplicateMappingException(
+                        "Duplicate " + mappingMethod.getVerb() + " controller method for the URL '" + url + "'");
+            }
+        }
+
+        return handlers;
+    }
+}
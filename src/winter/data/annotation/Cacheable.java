@@ -0,0 +1,70 @@
+package winter.data.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the rendered responses of a GET controller method on the server in
+ * the Winter framework.
+ * <p>
+ * The method must be deterministic for a given set of bound request
+ * parameters and session role: responses are cached under the route, the
+ * normalized values of the parameters the method binds and the
+ * <code>auth</code> session attribute, and a cache hit is replayed without
+ * invoking the controller. Only successful responses are cached, as encoded
+ * bytes together with their status, content type and headers.
+ * </p>
+ * <p>
+ * Each method has its own cache, bounded by {@link #maxEntries()} and
+ * {@link #maxBytes()}, from which the least valuable responses are evicted
+ * using their recent access frequency. Concurrent misses on the same key
+ * invoke the controller once. Entries are removed programmatically through
+ * {@link winter.data.cache.ResponseCaches}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cacheable {
+
+    /**
+     * The number of seconds a response stays cached.
+     *
+     * @return the time to live, defaulting to 60 seconds
+     */
+    long ttl() default 60;
+
+    /**
+     * The largest number of responses cached for the method.
+     *
+     * @return the entry bound, defaulting to 1024
+     */
+    int maxEntries() default 1024;
+
+    /**
+     * The largest number of body bytes cached for the method.
+     * <p>
+     * A response larger than an eighth of this budget is not cached.
+     * </p>
+     *
+     * @return the byte bound, defaulting to 16 MiB
+     */
+    long maxBytes() default 16L * 1024 * 1024;
+
+    /**
+     * Whether the cached bodies are stored outside the Java heap.
+     * <p>
+     * Off-heap bodies do not weigh on garbage collection, which suits large
+     * caches of large responses.
+     * </p>
+     *
+     * @return true to store the bodies in direct buffers, false (default) to
+     *         keep them in byte arrays
+     */
+    boolean offHeap() default false;
+}
@@ -0,0 +1,45 @@
+package winter.data.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the compression of the responses of a controller method in the
+ * Winter framework.
+ * <p>
+ * When response compression is enabled with the
+ * <code>ResponseCompression</code> context parameter, every response at least
+ * {@link #minSize()} bytes long is compressed with gzip or deflate, as
+ * accepted by the client. This annotation changes the threshold of a method or
+ * opts it out, for instance for responses that are already compressed or must
+ * reach the client byte by byte.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Compression {
+
+    /**
+     * Whether the responses of the method may be compressed.
+     *
+     * @return true (default) to compress them, false to send them as is
+     */
+    boolean value() default true;
+
+    /**
+     * The smallest response compressed, in bytes.
+     * <p>
+     * Shorter responses are sent as is, since compressing them saves less than
+     * it costs.
+     * </p>
+     *
+     * @return the threshold, defaulting to 1024 bytes
+     */
+    int minSize() default 1024;
+}
@@ -5,6 +5,8 @@ import java.lang.annotation.Target;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.ElementType;
 
+import winter.data.enumdata.ControllerScope;
+
 /**
  * Marks a class as a controller in the Winter framework.
  * <p>
@@ -23,4 +25,28 @@ import java.lang.annotation.ElementType;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface Controller {
+
+    /**
+     * The instance scope of the controller.
+     * <p>
+     * Defines whether requests share a single instance, borrow one from a pool,
+     * or get a new instance. Defaults to {@link ControllerScope#PROTOTYPE},
+     * which creates a new instance for every request.
+     * </p>
+     *
+     * @return the controller scope, defaulting to
+     *         {@link ControllerScope#PROTOTYPE}
+     */
+    ControllerScope scope() default ControllerScope.PROTOTYPE;
+
+    /**
+     * The maximum number of idle instances kept by a pooled controller.
+     * <p>
+     * Only used with {@link ControllerScope#POOLED}. When the pool is empty, a
+     * new instance is created; when it is full, a released instance is dropped.
+     * </p>
+     *
+     * @return the pool size, defaulting to 16
+     */
+    int poolSize() default 16;
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package winter.data.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps exceptions to an HTTP status and an error body in the Winter framework.
+ * <p>
+ * The annotated method must be a public method of a {@link Controller} class.
+ * It takes no parameter, or a single parameter receiving the exception, and is
+ * compiled once when the controllers are scanned. It is invoked when a request
+ * fails with one of the {@link #value()} exceptions or a subclass of them,
+ * including when they are the cause of the failure. Its result becomes the
+ * error message, or for {@link Rest} routes a non-string result is sent as the
+ * JSON body itself; a void method or a null result keeps the exception
+ * message.
+ * </p>
+ * <p>
+ * The most specific mapping wins: a handler for a subclass takes precedence
+ * over one for its superclass.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ExceptionHandler {
+
+    /**
+     * The exceptions handled by the method.
+     *
+     * @return the exception classes
+     */
+    Class<? extends Throwable>[] value();
+
+    /**
+     * The status of the error response.
+     *
+     * @return the HTTP status code, defaulting to 500
+     */
+    int status() default 500;
+}
@@ -5,6 +5,8 @@ import java.lang.annotation.Target;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.ElementType;
 
+import winter.data.enumdata.RestFormat;
+
 /**
  * Marks a method as a REST endpoint in the Winter framework.
  * <p>
@@ -14,6 +16,11 @@ import java.lang.annotation.ElementType;
  * is processed by {@link winter.data.FrontController} to determine
  * REST behavior.
  * </p>
+ * <p>
+ * The <code>Accept</code> header of the request chooses the format of the
+ * data among {@link #formats()}, which allows only JSON unless CBOR is listed
+ * as well.
+ * </p>
  *
  * @author Hasina JY
  * @version 1.0.0
@@ -22,4 +29,11 @@ import java.lang.annotation.ElementType;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
 public @interface Rest {
-}
\ No newline at end of file
+
+    /**
+     * The formats produced, preferred first.
+     *
+     * @return the allowed formats
+     */
+    RestFormat[] formats() default { RestFormat.JSON };
+}
@@ -0,0 +1,46 @@
+package winter.data.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import winter.data.enumdata.StreamFormat;
+
+/**
+ * Configures the output of a method returning a stream of elements in the
+ * Winter framework.
+ * <p>
+ * Methods returning a {@link java.util.stream.Stream},
+ * {@link java.util.Iterator} or {@link Iterable} have their elements written
+ * one by one, so the result never needs to fit in memory. This annotation
+ * restricts the formats the method produces and sets how often the response
+ * is flushed; without it, every {@link StreamFormat} is allowed and JSON arrays
+ * are preferred.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Streaming {
+
+    /**
+     * The formats produced, preferred first.
+     * <p>
+     * The <code>Accept</code> header of the request chooses among them.
+     * </p>
+     *
+     * @return the allowed formats
+     */
+    StreamFormat[] value() default { StreamFormat.JSON_ARRAY, StreamFormat.NDJSON, StreamFormat.CSV };
+
+    /**
+     * The number of elements written between two flushes of the response.
+     *
+     * @return the flush interval, at least 1
+     */
+    int flushInterval() default 256;
+}
@@ -0,0 +1,81 @@
+package winter.data.annotation.http;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import winter.data.enumdata.ETagMode;
+
+/**
+ * Declares the HTTP caching of a GET controller method in the Winter
+ * framework.
+ * <p>
+ * The <code>Cache-Control</code> and <code>Vary</code> headers are built once
+ * from this annotation when the controllers are scanned. Responses also carry
+ * an entity tag, validated against <code>If-None-Match</code> so that clients
+ * holding the current body receive a bodiless <code>304 Not Modified</code>.
+ * </p>
+ * <p>
+ * Without a {@link #version()} method, the tag is a hash of the rendered body,
+ * computed while the body is written; the controller method still runs, but
+ * the body is not sent again. With a version method, the tag is derived from
+ * the version key it returns, and a matching <code>If-None-Match</code> or
+ * <code>If-Modified-Since</code> is answered before the controller method is
+ * invoked.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface HttpCache {
+
+    /**
+     * The <code>Cache-Control</code> directives other than
+     * <code>max-age</code> (e.g., "public", "private", "no-cache").
+     *
+     * @return the directives, defaulting to none
+     */
+    String[] directives() default {};
+
+    /**
+     * The number of seconds the response stays fresh.
+     *
+     * @return the <code>max-age</code> directive, or -1 (default) to omit it
+     */
+    int maxAge() default -1;
+
+    /**
+     * The request headers the response varies with (e.g., "Accept").
+     *
+     * @return the <code>Vary</code> header names, defaulting to none
+     */
+    String[] vary() default {};
+
+    /**
+     * The kind of entity tag sent with the response.
+     *
+     * @return the tag kind, defaulting to {@link ETagMode#STRONG}
+     */
+    ETagMode etag() default ETagMode.STRONG;
+
+    /**
+     * The name of the controller method returning the version key of the
+     * response.
+     * <p>
+     * The method is public and its parameters are bound with
+     * {@link RequestParam}, as for controller methods. It should be cheap, such
+     * as a counter or an update timestamp read from a cache. An
+     * {@link java.time.Instant}, {@link java.util.Date} or
+     * {@link java.time.temporal.TemporalAccessor} holding an instant also
+     * provides the <code>Last-Modified</code> header; any other value is used
+     * through its string form. A null key disables validation for the request.
+     * </p>
+     *
+     * @return the method name, or an empty string (default) to hash the body
+     */
+    String version() default "";
+}
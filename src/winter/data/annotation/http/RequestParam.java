@@ -4,6 +4,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 import winter.data.enumdata.RequestParamType;
+import winter.data.validation.ConstraintValidator;
 
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.ElementType;
@@ -66,4 +67,73 @@ public @interface RequestParam {
      * @return true if the parameter is required, false otherwise
      */
     boolean required() default false;
-}
\ No newline at end of file
+
+    /**
+     * The smallest accepted numeric value.
+     * <p>
+     * Applies to numeric parameters and to text parameters holding a number.
+     * Defaults to no lower bound.
+     * </p>
+     *
+     * @return the lower bound, inclusive
+     */
+    double min() default Double.NEGATIVE_INFINITY;
+
+    /**
+     * The largest accepted numeric value.
+     * <p>
+     * Applies to numeric parameters and to text parameters holding a number.
+     * Defaults to no upper bound.
+     * </p>
+     *
+     * @return the upper bound, inclusive
+     */
+    double max() default Double.POSITIVE_INFINITY;
+
+    /**
+     * The smallest accepted length of the value, as sent in the request.
+     *
+     * @return the minimum length, defaulting to 0
+     */
+    int minLength() default 0;
+
+    /**
+     * The largest accepted length of the value, as sent in the request.
+     *
+     * @return the maximum length, defaulting to no limit
+     */
+    int maxLength() default Integer.MAX_VALUE;
+
+    /**
+     * A regular expression the whole value must match.
+     * <p>
+     * The expression is compiled once, when the controllers are scanned.
+     * Defaults to an empty string, meaning no pattern.
+     * </p>
+     *
+     * @return the regular expression
+     */
+    String pattern() default "";
+
+    /**
+     * The values accepted for the parameter.
+     * <p>
+     * Defaults to an empty array, meaning any value is accepted.
+     * </p>
+     *
+     * @return the accepted values
+     */
+    String[] oneOf() default {};
+
+    /**
+     * Application validators applied after the built-in constraints.
+     * <p>
+     * Each class needs a public no-arg constructor; it is instantiated once, when
+     * the controllers are scanned.
+     * </p>
+     *
+     * @return the validator classes
+     * @see winter.data.validation.ConstraintValidator
+     */
+    Class<? extends ConstraintValidator>[] validators() default {};
+}
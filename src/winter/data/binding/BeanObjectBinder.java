@@ -0,0 +1,183 @@
+package winter.data.binding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import winter.data.exception.client.InvalidFormDataException;
+import winter.util.DataUtil;
+
+/**
+ * Binds request values to a class with a no-arg constructor and property
+ * setters in the Winter framework.
+ * <p>
+ * The constructor and the setter of each declared instance field are compiled
+ * into method handles once. A field without a setter makes binding fail, as the
+ * framework only writes properties through their setters.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BeanObjectBinder extends ObjectBinder {
+
+    /** The type of constructor handles. */
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    /** The type of setter handles. */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** The no-arg constructor, or null if the class has no accessible one. */
+    private final MethodHandle constructor;
+
+    /** The bound properties, in declaration order. */
+    private final PropertyBinder[] properties;
+
+    /** The setter of each property, or null for properties without one. */
+    private final MethodHandle[] setters;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles the binder of a class.
+     *
+     * @param type the target class
+     */
+    public BeanObjectBinder(Class<?> type) {
+        super(type);
+        this.constructor = resolveConstructor(type);
+
+        List<PropertyBinder> boundProperties = new ArrayList<>();
+        List<MethodHandle> boundSetters = new ArrayList<>();
+
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+
+            boundProperties.add(PropertyBinder.of(field.getName(), field.getType(), field.getGenericType(), field));
+            boundSetters.add(resolveSetter(type, field));
+        }
+
+        this.properties = boundProperties.toArray(new PropertyBinder[0]);
+        this.setters = boundSetters.toArray(new MethodHandle[0]);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Creates an instance through the no-arg constructor and populates it
+     * through the property setters.
+     * <p>
+     * Absent optional properties keep the value given by the constructor.
+     * </p>
+     *
+     * @param prefix  the request key of the object
+     * @param node    the request parameters of the object
+     * @param context the binding context of the request
+     * @return the populated instance
+     * @throws InvalidFormDataException     if any property is invalid
+     * @throws ReflectiveOperationException if the instance cannot be created or
+     *                                      a setter fails
+     */
+    @Override
+    public Object bind(String prefix, ParameterNode node, BindingContext context)
+            throws InvalidFormDataException, ReflectiveOperationException {
+
+        if (constructor == null) {
+            throw new NoSuchMethodException(getType().getName() + ".<init>()");
+        }
+
+        Object instance = invokeConstructor();
+        boolean hasError = false;
+
+        for (int i = 0; i < properties.length; i++) {
+            Object value = properties[i].read(prefix, node, context);
+
+            if (value == PropertyBinder.INVALID) {
+                hasError = true;
+            } else if (value != PropertyBinder.ABSENT) {
+                if (setters[i] == null) {
+                    throw new NoSuchMethodException(DataUtil.getSetterName(properties[i].getName()));
+                }
+
+                invokeSetter(setters[i], instance, value);
+            }
+        }
+
+        if (hasError) {
+            throw new InvalidFormDataException();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Creates a new instance of the target class.
+     *
+     * @return the new instance
+     * @throws ReflectiveOperationException if the constructor throws an exception
+     */
+    private Object invokeConstructor() throws ReflectiveOperationException {
+        try {
+            return constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new ReflectiveOperationException("Cannot instantiate: " + getType().getName(), e);
+        }
+    }
+
+    /**
+     * Writes a property through its setter.
+     *
+     * @param setter   the setter handle
+     * @param instance the instance to populate
+     * @param value    the converted value
+     * @throws ReflectiveOperationException if the setter throws an exception or
+     *                                      rejects the value
+     */
+    private static void invokeSetter(MethodHandle setter, Object instance, Object value)
+            throws ReflectiveOperationException {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw new ReflectiveOperationException("An error occurred while setting object attributes", e);
+        }
+    }
+
+    /* ------------------------------- Compilation ------------------------------ */
+
+    /**
+     * Resolves the no-arg constructor of a class.
+     *
+     * @param type the target class
+     * @return a constructor handle of type <code>()Object</code>, or null if the
+     *         class has no accessible one
+     */
+    private static MethodHandle resolveConstructor(Class<?> type) {
+        try {
+            return unreflectConstructor(type.getDeclaredConstructor()).asType(CONSTRUCTOR_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the setter of a field.
+     *
+     * @param type  the target class
+     * @param field the field
+     * @return a setter handle of type <code>(Object, Object)void</code>, or null
+     *         if the field has no accessible setter
+     */
+    private static MethodHandle resolveSetter(Class<?> type, Field field) {
+        try {
+            return unreflect(DataUtil.getSetterMethod(type, field.getName())).asType(SETTER_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package winter.data.binding;
+
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import winter.data.client.FormData;
+import winter.data.routing.RouteMatch;
+import winter.util.ParseResult;
+
+/**
+ * The per-request state shared by the parameter binders of a
+ * {@link BindingPlan} in the Winter framework.
+ * <p>
+ * A context is created once per request and handed to every binder, so the
+ * form data, the {@link ParseResult} used to parse values and the
+ * {@link ParameterNode} tree of the request parameters are allocated once
+ * rather than per parameter. The tree is only built if an object parameter
+ * needs it.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BindingContext {
+
+    /** The HTTP request being bound. */
+    private final HttpServletRequest request;
+
+    /** The resolved route providing the path variables, or null if none. */
+    private final RouteMatch<?> routeMatch;
+
+    /** The form data collecting values and error messages. */
+    private final FormData formData;
+
+    /** The parse result reused for every value of the request. */
+    private final ParseResult parseResult = new ParseResult();
+
+    /** The parameters decoded by a {@link ParameterDecoder}, or null if none. */
+    private final Map<String, String[]> decodedParameters;
+
+    /** The tree of the request parameters, or null until first needed. */
+    private ParameterNode parameters;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs the binding context of a request.
+     *
+     * @param request    the HTTP request being bound
+     * @param routeMatch the resolved route providing the path variables, or null
+     *                   if none
+     * @param formData   the form data collecting values and error messages
+     */
+    public BindingContext(HttpServletRequest request, RouteMatch<?> routeMatch, FormData formData) {
+        this(request, routeMatch, formData, null);
+    }
+
+    /**
+     * Constructs the binding context of a request whose bound parameters were
+     * decoded by the framework.
+     *
+     * @param request           the HTTP request being bound
+     * @param routeMatch        the resolved route providing the path variables,
+     *                          or null if none
+     * @param formData          the form data collecting values and error messages
+     * @param decodedParameters the parameters decoded by a
+     *                          {@link ParameterDecoder}, or null to read them
+     *                          from the request
+     */
+    public BindingContext(HttpServletRequest request, RouteMatch<?> routeMatch, FormData formData,
+            Map<String, String[]> decodedParameters) {
+        this.request = request;
+        this.routeMatch = routeMatch;
+        this.formData = formData;
+        this.decodedParameters = decodedParameters;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the HTTP request being bound.
+     *
+     * @return the HTTP request
+     */
+    public HttpServletRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Gets the resolved route providing the path variables.
+     *
+     * @return the route match, or null if none
+     */
+    public RouteMatch<?> getRouteMatch() {
+        return routeMatch;
+    }
+
+    /**
+     * Gets the form data collecting values and error messages.
+     *
+     * @return the form data
+     */
+    public FormData getFormData() {
+        return formData;
+    }
+
+    /**
+     * Gets the parse result reused for every value of the request.
+     *
+     * @return the parse result
+     */
+    public ParseResult getParseResult() {
+        return parseResult;
+    }
+
+    /**
+     * Gets the first value of a request parameter.
+     *
+     * @param name the parameter name
+     * @return the value, or null if the parameter is absent
+     */
+    public String getParameter(String name) {
+        if (decodedParameters == null) {
+            return request.getParameter(name);
+        }
+
+        String[] values = decodedParameters.get(name);
+        return (values != null) ? values[0] : null;
+    }
+
+    /**
+     * Gets the tree of the request parameters, building it on first use.
+     *
+     * @return the root of the tree
+     */
+    public ParameterNode getParameters() {
+        if (parameters == null) {
+            parameters = ParameterNode.of((decodedParameters != null) ? decodedParameters
+                    : request.getParameterMap());
+        }
+
+        return parameters;
+    }
+}
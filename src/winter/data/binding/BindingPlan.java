@@ -0,0 +1,237 @@
+package winter.data.binding;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import winter.data.annotation.http.RequestParam;
+import winter.data.client.FormData;
+import winter.data.exception.annotation.AnnotationNotFoundException;
+import winter.data.invocation.ArgumentFrame;
+import winter.data.routing.RouteMatch;
+
+/**
+ * The precompiled parameter-binding plan of a controller method in the Winter
+ * framework.
+ * <p>
+ * A plan is built once per handler by {@link winter.service.ControllerScanner}.
+ * It holds one {@link ParameterBinder} per method parameter, so the
+ * {@link RequestParam} annotations, parameter types and conversions are
+ * resolved at startup instead of on every request, and a parameter missing its
+ * annotation is reported when the application is deployed.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BindingPlan {
+
+    /** The binders of the method parameters, in declaration order. */
+    private final ParameterBinder[] binders;
+
+    /** The decoder of the bound request parameters. */
+    private final ParameterDecoder decoder;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles the binding plan of a controller method.
+     *
+     * @param method the controller method
+     * @throws AnnotationNotFoundException if a parameter lacks a
+     *                                     {@link RequestParam} annotation
+     */
+    public BindingPlan(Method method) throws AnnotationNotFoundException {
+        Parameter[] parameters = method.getParameters();
+        this.binders = new ParameterBinder[parameters.length];
+
+        String[] names = new String[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            binders[i] = ParameterBinder.of(i, parameters[i]);
+            names[i] = binders[i].getName();
+        }
+
+        this.decoder = new ParameterDecoder(names);
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the number of bound parameters.
+     *
+     * @return the parameter count
+     */
+    public int size() {
+        return binders.length;
+    }
+
+    /**
+     * Gets the binder of a parameter.
+     *
+     * @param index the parameter position
+     * @return the parameter binder
+     */
+    public ParameterBinder getBinder(int index) {
+        return binders[index];
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Binds the method arguments from an HTTP request.
+     * <p>
+     * A path variable of the route takes precedence over a request parameter with
+     * the same name. When {@link ParameterDecoder} is enabled, only the bound
+     * parameters are decoded from the raw request, reusing the decoding done
+     * for {@link #cacheKeyOf(HttpServletRequest, RouteMatch)}. If any
+     * parameter is invalid,
+     * the <code>hasError</code> and <code>formData</code> request attributes
+     * are set for the view to report the errors.
+     * </p>
+     *
+     * @param req        the HTTP request providing parameter values
+     * @param routeMatch the resolved route providing the path variables, or null
+     *                   if none
+     * @param frame      the argument frame to fill
+     * @return the filled argument frame
+     * @throws IOException                  if an I/O error occurs (e.g., file part
+     *                                      reading)
+     * @throws ServletException             if a servlet-related error occurs
+     * @throws ReflectiveOperationException if reflection fails during binding
+     */
+    public ArgumentFrame bind(HttpServletRequest req, RouteMatch<?> routeMatch, ArgumentFrame frame)
+            throws IOException, ServletException, ReflectiveOperationException {
+
+        FormData formData = new FormData();
+        BindingContext context = new BindingContext(req, routeMatch, formData, decoder.decode(req));
+        boolean hasError = false;
+
+        for (ParameterBinder binder : binders) {
+            String key = binder.getName();
+            String value = (routeMatch != null && routeMatch.hasVariable(key)) ? routeMatch.getVariable(key)
+                    : context.getParameter(key);
+
+            formData.setValue(key, value);
+            formData.setErrorMessage(key, "");
+        }
+
+        for (ParameterBinder binder : binders) {
+            hasError |= !binder.bind(context, frame);
+        }
+
+        if (hasError) {
+            req.setAttribute("hasError", true);
+            req.setAttribute("formData", formData);
+        }
+
+        return frame;
+    }
+
+    /**
+     * Builds the key of a request in a {@link winter.data.cache.ResponseCache}.
+     * <p>
+     * The key holds, in a normalized order, the value of each bound parameter
+     * as it would be bound (a path variable taking precedence over a request
+     * parameter), the nested parameters of object bindings, and the
+     * <code>auth</code> role of the session. Parameters the method does not
+     * bind do not split the cache. Every part is prefixed with its length, so
+     * no two requests share a key by accident.
+     * </p>
+     * <p>
+     * The values come from the same decoding as
+     * {@link #bind(HttpServletRequest, RouteMatch, ArgumentFrame)}, kept on the
+     * request, so a cache miss does not decode the parameters a second time.
+     * </p>
+     *
+     * @param req        the HTTP request providing parameter values
+     * @param routeMatch the resolved route providing the path variables, or null
+     *                   if none
+     * @return the cache key
+     * @throws IOException if the request parameters cannot be decoded
+     */
+    public String cacheKeyOf(HttpServletRequest req, RouteMatch<?> routeMatch) throws IOException {
+        Map<String, String[]> decoded = decoder.decode(req);
+        Map<String, String[]> parameters = (decoded != null) ? decoded : req.getParameterMap();
+        Map<String, String[]> bound = new TreeMap<>();
+
+        for (ParameterBinder binder : binders) {
+            String name = binder.getName();
+
+            if (routeMatch != null && routeMatch.hasVariable(name)) {
+                bound.put(name, new String[] { routeMatch.getVariable(name) });
+            }
+        }
+
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            String name = parameter.getKey();
+
+            if (!bound.containsKey(name) && isBound(name)) {
+                bound.put(name, parameter.getValue());
+            }
+        }
+
+        StringBuilder key = new StringBuilder();
+
+        for (Map.Entry<String, String[]> parameter : bound.entrySet()) {
+            appendPart(key, parameter.getKey());
+            key.append('#').append(parameter.getValue().length);
+
+            for (String value : parameter.getValue()) {
+                appendPart(key, value);
+            }
+        }
+
+        HttpSession httpSession = req.getSession(false);
+        Object role = (httpSession != null) ? httpSession.getAttribute("auth") : null;
+        key.append('@');
+
+        if (role != null) {
+            appendPart(key, role.toString());
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Checks if a request parameter is read by one of the binders.
+     *
+     * @param name the parameter name
+     * @return true if the name is a bound name, or starts with one followed by
+     *         <code>.</code> or <code>[</code>, false otherwise
+     */
+    private boolean isBound(String name) {
+        for (ParameterBinder binder : binders) {
+            String bound = binder.getName();
+
+            if (name.startsWith(bound) && (name.length() == bound.length()
+                    || name.charAt(bound.length()) == '.' || name.charAt(bound.length()) == '[')) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Appends a length-prefixed part to a cache key.
+     *
+     * @param key  the key being built
+     * @param part the part, appended as a <code>-</code> marker if null
+     */
+    private static void appendPart(StringBuilder key, String part) {
+        if (part == null) {
+            key.append('-');
+        } else {
+            key.append(part.length()).append(':').append(part);
+        }
+    }
+}
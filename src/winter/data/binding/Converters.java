@@ -0,0 +1,530 @@
+package winter.data.binding;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import winter.data.invocation.ArgumentFrame;
+import winter.util.ParseResult;
+import winter.util.ParseUtil;
+import winter.util.Utility;
+
+/**
+ * Utility class resolving the {@link ValueConverter} of each bindable type in
+ * the Winter framework.
+ * <p>
+ * The converter of a type is resolved on first use and cached in a
+ * {@link ClassValue}, so binders look it up once when they are compiled and
+ * never branch on the type afterwards. Built-in converters cover primitives and
+ * their wrappers, {@link String}, enums, {@link LocalDate},
+ * {@link LocalTime}, {@link LocalDateTime}, {@link Instant}, {@link UUID},
+ * {@link BigDecimal} and {@link BigInteger}. Primitive converters write their
+ * value unboxed into the argument frame.
+ * </p>
+ * <p>
+ * Applications add or replace converters with
+ * {@link #register(Class, ValueConverter)}, typically from a
+ * <code>ServletContextListener</code> so that they are known before the
+ * controllers are scanned.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Converters extends Utility {
+
+    /** The error message of a malformed date. */
+    public static final String DATE_FORMAT_MESSAGE = "Invalid date format";
+
+    /** The error message of a malformed time or timestamp. */
+    public static final String TIME_FORMAT_MESSAGE = "Invalid time format";
+
+    /** The error message of a malformed UUID. */
+    public static final String UUID_FORMAT_MESSAGE = "Invalid UUID format";
+
+    /** The converters registered by the application, by target type. */
+    private static final Map<Class<?>, ValueConverter> REGISTERED = new ConcurrentHashMap<>();
+
+    /** The resolved converter of each type, null if the type is not supported. */
+    private static final ClassValue<ValueConverter> CONVERTERS = new ClassValue<>() {
+        @Override
+        protected ValueConverter computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /** The converter keeping the raw text. */
+    private static final ValueConverter TEXT = (value, result) -> {
+        result.reset();
+        return value;
+    };
+
+    /* ------------------------------ Registration ------------------------------ */
+
+    /**
+     * Registers the converter of a type, replacing any built-in or previously
+     * registered one.
+     * <p>
+     * Binders compiled before the registration keep their converter.
+     * </p>
+     *
+     * @param <T>       the target type
+     * @param type      the target type
+     * @param converter the converter, which must be thread-safe
+     */
+    public static <T> void register(Class<T> type, ValueConverter converter) {
+        REGISTERED.put(Objects.requireNonNull(type), Objects.requireNonNull(converter));
+        CONVERTERS.remove(type);
+    }
+
+    /* --------------------------------- Lookup --------------------------------- */
+
+    /**
+     * Finds the converter of a type.
+     *
+     * @param type the target type
+     * @return the converter, or null if the type is not supported
+     */
+    public static ValueConverter find(Class<?> type) {
+        return CONVERTERS.get(type);
+    }
+
+    /**
+     * Checks if a type is bound from a single request value.
+     *
+     * @param type the target type
+     * @return true if the type has a converter, false otherwise
+     */
+    public static boolean supports(Class<?> type) {
+        return find(type) != null;
+    }
+
+    /**
+     * Gets the converter of a type.
+     *
+     * @param type the target type
+     * @return the converter, rejecting every value if the type is not supported
+     */
+    public static ValueConverter of(Class<?> type) {
+        ValueConverter converter = find(type);
+
+        if (converter == null) {
+            String message = "Unsupported value type: " + type.getName();
+            return (value, result) -> {
+                result.reject(message);
+                return null;
+            };
+        }
+
+        return converter;
+    }
+
+    /* ------------------------------- Resolution ------------------------------- */
+
+    /**
+     * Resolves the converter of a type, registered converters first.
+     *
+     * @param type the target type
+     * @return the converter, or null if the type is not supported
+     */
+    private static ValueConverter resolve(Class<?> type) {
+        ValueConverter registered = REGISTERED.get(type);
+
+        if (registered != null) {
+            return registered;
+        } else if (type.isPrimitive()) {
+            return primitive(type);
+        } else if (type == String.class) {
+            return TEXT;
+        } else if (type.isEnum()) {
+            return enumeration(type);
+        }
+
+        return builtIn(type);
+    }
+
+    /**
+     * Resolves the converter of a primitive type.
+     *
+     * @param type the primitive type
+     * @return the converter, or null for <code>void</code>
+     */
+    private static ValueConverter primitive(Class<?> type) {
+        if (type == int.class) {
+            return new PrimitiveConverter(ParseUtil::parseInt, ParseResult::getInt,
+                    (result, frame, index) -> frame.setInt(index, result.getInt()));
+        } else if (type == long.class) {
+            return new PrimitiveConverter(ParseUtil::parseLong, ParseResult::getLong,
+                    (result, frame, index) -> frame.setLong(index, result.getLong()));
+        } else if (type == double.class) {
+            return new PrimitiveConverter(ParseUtil::parseDouble, ParseResult::getDouble,
+                    (result, frame, index) -> frame.setDouble(index, result.getDouble()));
+        } else if (type == float.class) {
+            return new PrimitiveConverter(ParseUtil::parseFloat, ParseResult::getFloat,
+                    (result, frame, index) -> frame.setFloat(index, result.getFloat()));
+        } else if (type == boolean.class) {
+            return new PrimitiveConverter(ParseUtil::parseBoolean, ParseResult::getBoolean,
+                    (result, frame, index) -> frame.setBoolean(index, result.getBoolean()));
+        } else if (type == char.class) {
+            return new PrimitiveConverter(ParseUtil::parseChar, ParseResult::getChar,
+                    (result, frame, index) -> frame.setChar(index, result.getChar()));
+        } else if (type == short.class) {
+            return new PrimitiveConverter(ParseUtil::parseShort, ParseResult::getShort,
+                    (result, frame, index) -> frame.setLong(index, result.getShort()));
+        } else if (type == byte.class) {
+            return new PrimitiveConverter(ParseUtil::parseByte, ParseResult::getByte,
+                    (result, frame, index) -> frame.setLong(index, result.getByte()));
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves the converter of a wrapper or library type.
+     *
+     * @param type the target type
+     * @return the converter, or null if the type is not supported
+     */
+    private static ValueConverter builtIn(Class<?> type) {
+        if (type == Integer.class) {
+            return (value, result) -> ParseUtil.parseInt(value, result) ? result.getInt() : null;
+        } else if (type == Long.class) {
+            return (value, result) -> ParseUtil.parseLong(value, result) ? result.getLong() : null;
+        } else if (type == Double.class) {
+            return (value, result) -> ParseUtil.parseDouble(value, result) ? result.getDouble() : null;
+        } else if (type == Float.class) {
+            return (value, result) -> ParseUtil.parseFloat(value, result) ? result.getFloat() : null;
+        } else if (type == Boolean.class) {
+            return (value, result) -> ParseUtil.parseBoolean(value, result) ? result.getBoolean() : null;
+        } else if (type == Character.class) {
+            return (value, result) -> ParseUtil.parseChar(value, result) ? result.getChar() : null;
+        } else if (type == Short.class) {
+            return (value, result) -> ParseUtil.parseShort(value, result) ? result.getShort() : null;
+        } else if (type == Byte.class) {
+            return (value, result) -> ParseUtil.parseByte(value, result) ? result.getByte() : null;
+        } else if (type == LocalDate.class) {
+            return Converters::parseLocalDate;
+        } else if (type == LocalTime.class) {
+            return temporal(LocalTime::parse);
+        } else if (type == LocalDateTime.class) {
+            return temporal(LocalDateTime::parse);
+        } else if (type == Instant.class) {
+            return temporal(Instant::parse);
+        } else if (type == UUID.class) {
+            return Converters::parseUuid;
+        } else if (type == BigDecimal.class) {
+            return Converters::parseBigDecimal;
+        } else if (type == BigInteger.class) {
+            return Converters::parseBigInteger;
+        }
+
+        return null;
+    }
+
+    /**
+     * Builds the converter of an enum type, matching constant names exactly.
+     *
+     * @param type the enum type
+     * @return the converter
+     */
+    private static ValueConverter enumeration(Class<?> type) {
+        Object[] constants = type.getEnumConstants();
+        Map<String, Object> byName = new HashMap<>();
+        String message = "Value must be one of " + Arrays.toString(constants);
+
+        for (Object constant : constants) {
+            byName.put(((Enum<?>) constant).name(), constant);
+        }
+
+        return (value, result) -> {
+            Object constant = byName.get(value);
+
+            if (constant == null) {
+                result.reject(message);
+                return null;
+            }
+
+            result.reset();
+            return constant;
+        };
+    }
+
+    /**
+     * Builds the converter of a time type parsed by the JDK.
+     * <p>
+     * The JDK parsers report malformed values by throwing, so these types cost an
+     * exception per invalid value.
+     * </p>
+     *
+     * @param parser the ISO-8601 parser of the type
+     * @return the converter
+     */
+    private static ValueConverter temporal(Function<CharSequence, ?> parser) {
+        return (value, result) -> {
+            try {
+                Object parsed = parser.apply(value);
+                result.reset();
+                return parsed;
+            } catch (DateTimeParseException e) {
+                result.reject(TIME_FORMAT_MESSAGE);
+                return null;
+            }
+        };
+    }
+
+    /* ------------------------------ Value parsers ----------------------------- */
+
+    /**
+     * Parses an ISO-8601 date of the form <code>yyyy-MM-dd</code>.
+     *
+     * @param value  the raw value
+     * @param result the result receiving the status of the conversion
+     * @return the date, or null if the value is malformed
+     */
+    private static Object parseLocalDate(String value, ParseResult result) {
+        if (value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            result.reject(DATE_FORMAT_MESSAGE);
+            return null;
+        }
+
+        int year = parseDigits(value, 0, 4);
+        int month = parseDigits(value, 5, 7);
+        int day = parseDigits(value, 8, 10);
+
+        if (year < 0 || month < 1 || month > 12 || day < 1
+                || day > Month.of(month).length(Year.isLeap(year))) {
+            result.reject(DATE_FORMAT_MESSAGE);
+            return null;
+        }
+
+        result.reset();
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Parses a UUID in its canonical 36-character form.
+     *
+     * @param value  the raw value
+     * @param result the result receiving the status of the conversion
+     * @return the UUID, or null if the value is malformed
+     */
+    private static Object parseUuid(String value, ParseResult result) {
+        if (value.length() != 36) {
+            result.reject(UUID_FORMAT_MESSAGE);
+            return null;
+        }
+
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        int nibbles = 0;
+
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    result.reject(UUID_FORMAT_MESSAGE);
+                    return null;
+                }
+
+                continue;
+            }
+
+            int digit = ParseUtil.hexDigit(c);
+
+            if (digit < 0) {
+                result.reject(UUID_FORMAT_MESSAGE);
+                return null;
+            }
+
+            if (nibbles++ < 16) {
+                mostSignificantBits = (mostSignificantBits << 4) | digit;
+            } else {
+                leastSignificantBits = (leastSignificantBits << 4) | digit;
+            }
+        }
+
+        result.reset();
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Parses an arbitrary-precision decimal, checking its syntax first.
+     *
+     * @param value  the raw value
+     * @param result the result receiving the status of the conversion
+     * @return the decimal, or null if the value is malformed
+     */
+    private static Object parseBigDecimal(String value, ParseResult result) {
+        if (ParseUtil.isNumeric(value)) {
+            try {
+                BigDecimal decimal = new BigDecimal(value);
+                result.reset();
+                return decimal;
+            } catch (NumberFormatException e) {
+                // Exponent beyond the range of BigDecimal
+            }
+        }
+
+        result.reject(ParseUtil.NUMERIC_FORMAT_MESSAGE);
+        return null;
+    }
+
+    /**
+     * Parses an arbitrary-precision integer, checking its syntax first.
+     *
+     * @param value  the raw value
+     * @param result the result receiving the status of the conversion
+     * @return the integer, or null if the value is malformed
+     */
+    private static Object parseBigInteger(String value, ParseResult result) {
+        int start = (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+
+        if (start == value.length() || !isDigits(value, start)) {
+            result.reject(ParseUtil.NUMERIC_FORMAT_MESSAGE);
+            return null;
+        }
+
+        result.reset();
+        return new BigInteger(value);
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Parses a short run of ASCII digits.
+     *
+     * @param text the text holding the digits
+     * @param from the index of the first digit
+     * @param to   the index after the last digit, at most 9 digits after
+     *             <code>from</code>
+     * @return the value of the digits, or -1 if a character is not a digit
+     */
+    private static int parseDigits(String text, int from, int to) {
+        int value = 0;
+
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            value = value * 10 + (c - '0');
+        }
+
+        return value;
+    }
+
+    /**
+     * Checks if a text only holds ASCII digits from an index.
+     *
+     * @param text the text to check
+     * @param from the index of the first digit
+     * @return true if every character from the index is a digit, false otherwise
+     */
+    private static boolean isDigits(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * Writes a parsed primitive value into a slot of an argument frame.
+     */
+    @FunctionalInterface
+    private interface SlotWriter {
+
+        /**
+         * Writes the value of a successful parse.
+         *
+         * @param result the result holding the parsed value
+         * @param frame  the argument frame to write into
+         * @param index  the slot of the parameter
+         */
+        void write(ParseResult result, ArgumentFrame frame, int index);
+    }
+
+    /**
+     * The converter of a primitive type, writing its value without boxing.
+     */
+    private static final class PrimitiveConverter implements ValueConverter {
+
+        /** The exception-free parser of the type. */
+        private final BiPredicate<CharSequence, ParseResult> parser;
+
+        /** Reads the parsed value as a wrapper, for properties and validators. */
+        private final Function<ParseResult, Object> boxer;
+
+        /** Writes the parsed value into a primitive slot. */
+        private final SlotWriter writer;
+
+        /**
+         * Constructs a primitive converter.
+         *
+         * @param parser the exception-free parser of the type
+         * @param boxer  reads the parsed value as a wrapper
+         * @param writer writes the parsed value into a primitive slot
+         */
+        private PrimitiveConverter(BiPredicate<CharSequence, ParseResult> parser, Function<ParseResult, Object> boxer,
+                SlotWriter writer) {
+            this.parser = parser;
+            this.boxer = boxer;
+            this.writer = writer;
+        }
+
+        /**
+         * Parses a value and boxes it.
+         *
+         * @param value  the raw value
+         * @param result the result receiving the status of the conversion
+         * @return the boxed value, or null if the value is malformed
+         */
+        @Override
+        public Object convert(String value, ParseResult result) {
+            return parser.test(value, result) ? boxer.apply(result) : null;
+        }
+
+        /**
+         * Parses a value and writes it unboxed into its slot.
+         *
+         * @param value  the raw value
+         * @param result the result receiving the status of the conversion
+         * @param frame  the argument frame to write into
+         * @param index  the slot of the parameter
+         * @return true if the value was parsed and written, false otherwise
+         */
+        @Override
+        public boolean write(String value, ParseResult result, ArgumentFrame frame, int index) {
+            if (!parser.test(value, result)) {
+                return false;
+            }
+
+            writer.write(result, frame, index);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package winter.data.binding;
+
+import java.io.IOException;
+import java.lang.reflect.Parameter;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Part;
+import winter.data.annotation.http.RequestParam;
+import winter.data.invocation.ArgumentFrame;
+import winter.data.servletabstraction.File;
+
+/**
+ * Binds a {@link File} parameter from a multipart request part in the Winter
+ * framework.
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FileParameterBinder extends ParameterBinder {
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles a file binder.
+     *
+     * @param index        the position of the parameter
+     * @param parameter    the method parameter
+     * @param requestParam the {@link RequestParam} annotation of the parameter
+     */
+    public FileParameterBinder(int index, Parameter parameter, RequestParam requestParam) {
+        super(index, parameter, requestParam);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Wraps the request part of the parameter in a {@link File}.
+     *
+     * @param context the binding context of the request
+     * @param frame   the argument frame to write into
+     * @return true if the file was bound without error, false otherwise
+     * @throws IOException      if the part cannot be read
+     * @throws ServletException if the request is not a multipart request
+     */
+    @Override
+    public boolean bind(BindingContext context, ArgumentFrame frame) throws IOException, ServletException {
+        Part part = context.getRequest().getPart(getName());
+        return store(new File(part), context.getFormData(), frame);
+    }
+}
@@ -0,0 +1,206 @@
+package winter.data.binding;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import winter.data.annotation.http.RequestParam;
+import winter.data.client.FormData;
+import winter.data.exception.client.InvalidFormDataException;
+
+/**
+ * Binds a list or array property from indexed request parameters in the Winter
+ * framework.
+ * <p>
+ * Elements are read from <code>items[0]</code>, <code>items[1]</code>, and so
+ * on, in index order; missing indexes are skipped rather than bound to null.
+ * Elements of a type with a {@link ValueConverter} may also be sent as a
+ * repeated parameter, such as <code>tags=a&amp;tags=b</code>, and share the
+ * constraints of the property. Other elements are populated as objects, as in
+ * <code>items[3].qty</code>.
+ * </p>
+ * <p>
+ * The property may be declared as a {@link List}, {@link Collection},
+ * {@link Iterable} or array.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ListPropertyBinder extends PropertyBinder {
+
+    /** The element type. */
+    private final Class<?> elementType;
+
+    /** The binder of value elements, or null if elements are objects. */
+    private final ValuePropertyBinder valueBinder;
+
+    /** Whether the property is an array rather than a list. */
+    private final boolean array;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles a list property binder.
+     *
+     * @param name         the property name
+     * @param type         the property type
+     * @param genericType  the generic property type, giving the element type
+     * @param requestParam the {@link RequestParam} annotation of the property, or
+     *                     null if none
+     */
+    public ListPropertyBinder(String name, Class<?> type, Type genericType, RequestParam requestParam) {
+        super(name, requestParam);
+        this.array = type.isArray();
+        this.elementType = array ? type.getComponentType() : elementTypeOf(genericType);
+        this.valueBinder = Converters.supports(elementType)
+                ? new ValuePropertyBinder(name, elementType, requestParam)
+                : null;
+    }
+
+    /**
+     * Checks if a type is bound as a list of elements.
+     *
+     * @param type the property type
+     * @return true if the type is a {@link List}, {@link Collection},
+     *         {@link Iterable} or array type, false otherwise
+     */
+    public static boolean supports(Class<?> type) {
+        return type.isArray() || type == List.class || type == Collection.class || type == Iterable.class;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Reads every element of the property from its child node.
+     *
+     * @param prefix  the request key of the object, or an empty string
+     * @param node    the request parameters of the object
+     * @param context the binding context of the request
+     * @return the list or array, {@link #ABSENT} or {@link #INVALID}
+     * @throws ReflectiveOperationException if an element object cannot be created
+     *                                      or populated
+     */
+    @Override
+    public Object read(String prefix, ParameterNode node, BindingContext context)
+            throws ReflectiveOperationException {
+
+        String key = keyOf(prefix);
+        ParameterNode child = node.getChild(getName());
+        FormData formData = context.getFormData();
+
+        if (child == null) {
+            return absent(key, formData);
+        }
+
+        List<Object> elements = new ArrayList<>();
+        boolean hasError = false;
+
+        if (child.hasElements()) {
+            for (Map.Entry<Integer, ParameterNode> element : child.getElements().entrySet()) {
+                String elementKey = key + "[" + element.getKey() + "]";
+                Object value = readElement(elementKey, element.getValue(), context);
+
+                if (value == INVALID) {
+                    hasError = true;
+                } else if (value != ABSENT) {
+                    elements.add(value);
+                }
+            }
+        } else if (valueBinder != null && child.getValues() != null) {
+            String[] rawValues = child.getValues();
+
+            for (int i = 0; i < rawValues.length; i++) {
+                Object value = valueBinder.convert(key + "[" + i + "]", rawValues[i], context);
+
+                if (value == INVALID) {
+                    hasError = true;
+                } else if (value != ABSENT) {
+                    elements.add(value);
+                }
+            }
+        }
+
+        if (hasError) {
+            return INVALID;
+        } else if (elements.isEmpty() && isRequired()) {
+            return absent(key, formData);
+        }
+
+        return array ? toArray(elements) : elements;
+    }
+
+    /**
+     * Reads one indexed element.
+     *
+     * @param key     the request key of the element
+     * @param node    the request parameters of the element
+     * @param context the binding context of the request
+     * @return the element, {@link #ABSENT} or {@link #INVALID}
+     * @throws ReflectiveOperationException if the element object cannot be created
+     *                                      or populated
+     */
+    private Object readElement(String key, ParameterNode node, BindingContext context)
+            throws ReflectiveOperationException {
+
+        if (valueBinder != null) {
+            return valueBinder.convert(key, node.getValue(), context);
+        }
+
+        try {
+            return ObjectBinder.of(elementType).bind(key, node, context);
+        } catch (InvalidFormDataException e) {
+            return INVALID;
+        }
+    }
+
+    /**
+     * Copies the elements into an array of the element type.
+     *
+     * @param elements the elements
+     * @return the array, unboxing primitive elements
+     */
+    private Object toArray(List<Object> elements) {
+        Object result = Array.newInstance(elementType, elements.size());
+
+        for (int i = 0; i < elements.size(); i++) {
+            Array.set(result, i, elements.get(i));
+        }
+
+        return result;
+    }
+
+    /* ------------------------------- Compilation ------------------------------ */
+
+    /**
+     * Resolves the element type of a generic collection type.
+     *
+     * @param genericType the generic property type
+     * @return the element class, or {@link String} if it cannot be resolved
+     */
+    private static Class<?> elementTypeOf(Type genericType) {
+        if (genericType instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+
+            if (argument instanceof WildcardType) {
+                argument = ((WildcardType) argument).getUpperBounds()[0];
+            }
+
+            if (argument instanceof ParameterizedType) {
+                argument = ((ParameterizedType) argument).getRawType();
+            }
+
+            if (argument instanceof Class && argument != Object.class) {
+                return (Class<?>) argument;
+            }
+        }
+
+        return String.class;
+    }
+}
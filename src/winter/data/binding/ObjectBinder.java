@@ -0,0 +1,134 @@
+package winter.data.binding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+import winter.data.exception.client.InvalidFormDataException;
+
+/**
+ * Creates and populates instances of a class from request values in the
+ * Winter framework.
+ * <p>
+ * A binder is built once per target class and shared by every parameter of
+ * that type. The {@link PropertyBinder} of each property and the method handles
+ * writing them are resolved at that time, so binding an object only converts
+ * values and calls the handles, like hand-written code would. Values are read
+ * from the {@link ParameterNode} of the object, so nested objects and lists are
+ * bound by walking the request parameter tree.
+ * </p>
+ * <p>
+ * Records are built through their canonical constructor, other classes
+ * through their no-arg constructor and property setters.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class ObjectBinder {
+
+    /** The binders already built, one per target class. */
+    private static final ClassValue<ObjectBinder> BINDERS = new ClassValue<>() {
+        @Override
+        protected ObjectBinder computeValue(Class<?> type) {
+            return type.isRecord() ? new RecordObjectBinder(type) : new BeanObjectBinder(type);
+        }
+    };
+
+    /** The lookup used for members that are not publicly accessible. */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** The target class. */
+    private final Class<?> type;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a binder for a target class.
+     *
+     * @param type the target class
+     */
+    protected ObjectBinder(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the binder of a target class, building it on first use.
+     *
+     * @param type the target class
+     * @return the shared binder of the class
+     */
+    public static ObjectBinder of(Class<?> type) {
+        return BINDERS.get(type);
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the target class.
+     *
+     * @return the target class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Creates an instance of the target class from request values.
+     * <p>
+     * Each property is read from the child node named after it, and its raw
+     * value is recorded in the form data under <code>prefix.property</code>.
+     * Conversion and validation errors are recorded under the same key.
+     * </p>
+     *
+     * @param prefix  the request key of the object
+     * @param node    the request parameters of the object
+     * @param context the binding context of the request
+     * @return the populated instance
+     * @throws InvalidFormDataException     if any property is invalid
+     * @throws ReflectiveOperationException if the instance cannot be created or
+     *                                      populated
+     */
+    public abstract Object bind(String prefix, ParameterNode node, BindingContext context)
+            throws InvalidFormDataException, ReflectiveOperationException;
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Resolves the handle of a method, falling back to private access for
+     * methods that are not public.
+     *
+     * @param method the method
+     * @return the method handle
+     * @throws IllegalAccessException if the method cannot be accessed
+     */
+    protected static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        }
+    }
+
+    /**
+     * Resolves the handle of a constructor, falling back to private access for
+     * constructors that are not public.
+     *
+     * @param constructor the constructor
+     * @return the constructor handle
+     * @throws IllegalAccessException if the constructor cannot be accessed
+     */
+    protected static MethodHandle unreflectConstructor(Constructor<?> constructor) throws IllegalAccessException {
+        try {
+            return MethodHandles.publicLookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package winter.data.binding;
+
+import java.lang.reflect.Parameter;
+
+import winter.data.annotation.http.RequestParam;
+import winter.data.invocation.ArgumentFrame;
+
+/**
+ * Binds a complex object or list parameter from prefixed request parameters in
+ * the Winter framework.
+ * <p>
+ * The request values named <code>prefix.property</code> are found under the
+ * child of the parameter name in the request {@link ParameterNode} tree and
+ * handed to the {@link ObjectBinder} of the parameter type, which is resolved
+ * when this binder is compiled and shared by every parameter of that type.
+ * List and array parameters read their elements from
+ * <code>prefix[n]</code> through a {@link ListPropertyBinder}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ObjectParameterBinder extends ParameterBinder {
+
+    /** The binder of the parameter type, or null for list parameters. */
+    private final ObjectBinder objectBinder;
+
+    /** The binder of list parameters, or null for object parameters. */
+    private final ListPropertyBinder listBinder;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles an object binder.
+     *
+     * @param index        the position of the parameter
+     * @param parameter    the method parameter
+     * @param requestParam the {@link RequestParam} annotation of the parameter
+     */
+    public ObjectParameterBinder(int index, Parameter parameter, RequestParam requestParam) {
+        super(index, parameter, requestParam);
+
+        if (ListPropertyBinder.supports(parameter.getType())) {
+            this.objectBinder = null;
+            this.listBinder = new ListPropertyBinder(requestParam.value(), parameter.getType(),
+                    parameter.getParameterizedType(), requestParam);
+        } else {
+            this.objectBinder = ObjectBinder.of(parameter.getType());
+            this.listBinder = null;
+        }
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Creates and populates an instance of the parameter type.
+     * <p>
+     * An object is created even if none of its properties is sent. If any
+     * property is invalid, the errors are reported in the form data and the
+     * parameter is bound to null.
+     * </p>
+     *
+     * @param context the binding context of the request
+     * @param frame   the argument frame to write into
+     * @return true if the object was bound without error, false otherwise
+     */
+    @Override
+    public boolean bind(BindingContext context, ArgumentFrame frame) {
+        try {
+            ParameterNode root = context.getParameters();
+
+            if (listBinder != null) {
+                Object value = listBinder.read("", root, context);
+
+                if (value == PropertyBinder.INVALID) {
+                    frame.set(getIndex(), null);
+                    return false;
+                }
+
+                return store((value == PropertyBinder.ABSENT) ? null : value, context.getFormData(), frame);
+            }
+
+            ParameterNode node = root.getChild(getName());
+            Object instance = objectBinder.bind(getName(), (node != null) ? node : ParameterNode.EMPTY, context);
+            return store(instance, context.getFormData(), frame);
+        } catch (Exception e) {
+            store(null, context.getFormData(), frame);
+            return false;
+        }
+    }
+}
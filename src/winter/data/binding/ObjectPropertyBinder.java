@@ -0,0 +1,72 @@
+package winter.data.binding;
+
+import winter.data.annotation.http.RequestParam;
+import winter.data.exception.client.InvalidFormDataException;
+
+/**
+ * Binds a nested object property from the request parameter tree in the
+ * Winter framework.
+ * <p>
+ * The values of <code>order.customer.name</code> populate the
+ * <code>customer</code> property of the <code>order</code> object through the
+ * {@link ObjectBinder} of the property type. That binder is looked up when the
+ * property is read, so classes may refer to themselves.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ObjectPropertyBinder extends PropertyBinder {
+
+    /** The property type. */
+    private final Class<?> type;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles a nested object property binder.
+     *
+     * @param name         the property name
+     * @param type         the property type
+     * @param requestParam the {@link RequestParam} annotation of the property, or
+     *                     null if none
+     */
+    public ObjectPropertyBinder(String name, Class<?> type, RequestParam requestParam) {
+        super(name, requestParam);
+        this.type = type;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Creates and populates the nested object from its child node.
+     * <p>
+     * An object without any request parameter is absent.
+     * </p>
+     *
+     * @param prefix  the request key of the object, or an empty string
+     * @param node    the request parameters of the object
+     * @param context the binding context of the request
+     * @return the nested object, {@link #ABSENT} or {@link #INVALID}
+     * @throws ReflectiveOperationException if the nested object cannot be created
+     *                                      or populated
+     */
+    @Override
+    public Object read(String prefix, ParameterNode node, BindingContext context)
+            throws ReflectiveOperationException {
+
+        String key = keyOf(prefix);
+        ParameterNode child = node.getChild(getName());
+
+        if (child == null) {
+            return absent(key, context.getFormData());
+        }
+
+        try {
+            return ObjectBinder.of(type).bind(key, child, context);
+        } catch (InvalidFormDataException e) {
+            return INVALID;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package winter.data.binding;
+
+import java.io.IOException;
+import java.lang.reflect.Parameter;
+
+import jakarta.servlet.ServletException;
+import winter.data.annotation.http.RequestParam;
+import winter.data.client.FormData;
+import winter.data.exception.annotation.AnnotationNotFoundException;
+import winter.data.invocation.ArgumentFrame;
+import winter.data.servletabstraction.File;
+
+/**
+ * Binds one controller method parameter from an HTTP request in the Winter
+ * framework.
+ * <p>
+ * Binders are compiled once per parameter by {@link BindingPlan}. The
+ * {@link RequestParam} annotation is read at that time, and the binder kind
+ * (simple value, {@link File} or object) is chosen from the parameter type, so
+ * binding a request only runs the work specific to the parameter.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class ParameterBinder {
+
+    /** The error message reported for a missing required parameter. */
+    protected static final String REQUIRED_MESSAGE = "Field cannot be empty";
+
+    /** The position of the parameter in the method signature. */
+    private final int index;
+
+    /** The request parameter name. */
+    private final String name;
+
+    /** The declared type of the parameter. */
+    private final Class<?> type;
+
+    /** Whether the parameter must be present in the request. */
+    private final boolean required;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a binder from a method parameter and its annotation.
+     *
+     * @param index        the position of the parameter
+     * @param parameter    the method parameter
+     * @param requestParam the {@link RequestParam} annotation of the parameter
+     */
+    protected ParameterBinder(int index, Parameter parameter, RequestParam requestParam) {
+        this.index = index;
+        this.name = requestParam.value();
+        this.type = parameter.getType();
+        this.required = requestParam.required();
+    }
+
+    /**
+     * Compiles the binder of a method parameter.
+     *
+     * @param index     the position of the parameter
+     * @param parameter the method parameter
+     * @return the binder matching the parameter type
+     * @throws AnnotationNotFoundException if the parameter lacks a
+     *                                     {@link RequestParam} annotation
+     */
+    public static ParameterBinder of(int index, Parameter parameter) throws AnnotationNotFoundException {
+        // @RequestParam is required as parameter names are positional without
+        // additional configurations
+        RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
+
+        if (requestParam == null) {
+            throw new AnnotationNotFoundException(
+                    "The annotation @RequestParam was not found on the controller method parameter: "
+                            + parameter.getName() + " of " + parameter.getDeclaringExecutable());
+        }
+
+        Class<?> type = parameter.getType();
+
+        if (Converters.supports(type)) {
+            return new ValueParameterBinder(index, parameter, requestParam);
+        } else if (type == File.class) {
+            return new FileParameterBinder(index, parameter, requestParam);
+        } else {
+            return new ObjectParameterBinder(index, parameter, requestParam);
+        }
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the position of the parameter in the method signature.
+     *
+     * @return the parameter index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the request parameter name.
+     *
+     * @return the parameter name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the declared type of the parameter.
+     *
+     * @return the parameter type
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Checks if the parameter must be present in the request.
+     *
+     * @return true if the parameter is required, false otherwise
+     */
+    public boolean isRequired() {
+        return required;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Binds the parameter from a request into its argument slot.
+     * <p>
+     * Validation errors are recorded in the form data rather than thrown.
+     * </p>
+     *
+     * @param context the binding context of the request
+     * @param frame   the argument frame to write into
+     * @return true if the parameter was bound without error, false otherwise
+     * @throws IOException                  if an I/O error occurs (e.g., file part
+     *                                      reading)
+     * @throws ServletException             if a servlet-related error occurs
+     * @throws ReflectiveOperationException if reflection fails during binding
+     */
+    public abstract boolean bind(BindingContext context, ArgumentFrame frame)
+            throws IOException, ServletException, ReflectiveOperationException;
+
+    /**
+     * Writes a bound value into the argument slot, enforcing the required flag.
+     *
+     * @param value    the bound value
+     * @param formData the form data collecting error messages
+     * @param frame    the argument frame to write into
+     * @return true if the value satisfies the required flag, false otherwise
+     */
+    protected boolean store(Object value, FormData formData, ArgumentFrame frame) {
+        frame.set(index, value);
+
+        if (value == null && required) {
+            formData.setErrorMessage(name, REQUIRED_MESSAGE);
+            return false;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,422 @@
+package winter.data.binding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.http.HttpServletRequest;
+import winter.util.DataUtil;
+import winter.util.ParseUtil;
+
+/**
+ * Decodes only the request parameters a handler binds in the Winter framework.
+ * <p>
+ * A decoder is compiled with the parameter names of its {@link BindingPlan}.
+ * It scans the raw query string and, for
+ * <code>application/x-www-form-urlencoded</code> requests, the raw body once,
+ * and percent-decodes only the parameters named after a bound parameter or
+ * starting with one followed by <code>.</code> or <code>[</code>. Other
+ * parameters, such as tracking blobs or hidden fields the handler never binds,
+ * are skipped without being decoded or copied. Names are matched on the raw
+ * bytes when they need no decoding.
+ * </p>
+ * <p>
+ * Decoding is disabled by default and enabled with the
+ * <code>LazyParameterDecoding</code> context parameter. As the decoder reads
+ * the request body itself, form fields are then only available through
+ * {@link winter.data.annotation.http.RequestParam} bindings, not through
+ * {@link HttpServletRequest#getParameter(String)}. Multipart requests are
+ * always left to the container.
+ * </p>
+ * <p>
+ * A request is decoded once per decoder: the decoded parameters are kept in a
+ * request attribute, so binding the arguments after building a cache key
+ * reuses them, and the raw body is kept too, so the decoder of an
+ * {@link winter.data.annotation.http.HttpCache} version method and the
+ * decoder of the handler both see the form fields.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ParameterDecoder {
+
+    /** The content type of URL-encoded form bodies. */
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+    /** The content type prefix of multipart bodies. */
+    private static final String MULTIPART_CONTENT_TYPE = "multipart/";
+
+    /** The largest form body decoded, in bytes. */
+    private static final int MAX_FORM_SIZE = 2 * 1024 * 1024;
+
+    /** The request attribute holding the raw form body once read. */
+    private static final String BODY_ATTRIBUTE = ParameterDecoder.class.getName() + ".body";
+
+    /** The source of decoder identifiers, naming their request attributes. */
+    private static final AtomicInteger DECODER_IDS = new AtomicInteger();
+
+    /** Whether requests are decoded by the framework rather than the container. */
+    private static volatile boolean enabled = false;
+
+    /** The request attribute holding the parameters decoded by this decoder. */
+    private final String attributeName = ParameterDecoder.class.getName() + '#' + DECODER_IDS.incrementAndGet();
+
+    /** The bound parameter names. */
+    private final String[] names;
+
+    /** The ASCII bytes of each bound name, or null for non-ASCII names. */
+    private final byte[][] asciiNames;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles a decoder for a set of bound parameter names.
+     *
+     * @param names the bound parameter names
+     */
+    public ParameterDecoder(String[] names) {
+        this.names = names.clone();
+        this.asciiNames = new byte[names.length][];
+
+        for (int i = 0; i < names.length; i++) {
+            asciiNames[i] = isAscii(names[i]) ? names[i].getBytes(StandardCharsets.US_ASCII) : null;
+        }
+    }
+
+    /* --------------------------- Getters and setters -------------------------- */
+
+    /**
+     * Checks if requests are decoded by the framework.
+     *
+     * @return true if lazy decoding is enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables decoding by the framework for every handler.
+     *
+     * @param enabled true to decode the bound parameters only, false to rely on
+     *                the container
+     */
+    public static void setEnabled(boolean enabled) {
+        ParameterDecoder.enabled = enabled;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Decodes the bound parameters of a request, or returns those already
+     * decoded for it by this decoder.
+     *
+     * @param req the HTTP request
+     * @return the decoded values by parameter name, in query then body order,
+     *         which must not be modified, or null if the request is left to
+     *         the container
+     * @throws IOException if the body cannot be read or exceeds the form size
+     *                     limit
+     */
+    public Map<String, String[]> decode(HttpServletRequest req) throws IOException {
+        if (!enabled) {
+            return null;
+        }
+
+        String contentType = req.getContentType();
+
+        if (contentType != null && contentType.regionMatches(true, 0, MULTIPART_CONTENT_TYPE, 0,
+                MULTIPART_CONTENT_TYPE.length())) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String[]> decoded = (Map<String, String[]>) req.getAttribute(attributeName);
+
+        if (decoded != null) {
+            return decoded;
+        }
+
+        Map<String, String[]> parameters = new HashMap<>();
+        String query = req.getQueryString();
+
+        if (query != null) {
+            // The raw query string holds the request bytes as ISO-8859-1
+            // characters; percent-escapes are UTF-8
+            byte[] data = query.getBytes(StandardCharsets.ISO_8859_1);
+            scan(data, data.length, StandardCharsets.UTF_8, parameters);
+        }
+
+        if (contentType != null && contentType.regionMatches(true, 0, FORM_CONTENT_TYPE, 0,
+                FORM_CONTENT_TYPE.length())) {
+            byte[] body = readBody(req);
+            scan(body, body.length, DataUtil.charsetOf(req.getCharacterEncoding(), StandardCharsets.UTF_8), parameters);
+        }
+
+        req.setAttribute(attributeName, parameters);
+        return parameters;
+    }
+
+    /**
+     * Scans URL-encoded <code>name=value</code> pairs and decodes the bound ones.
+     *
+     * @param data       the raw bytes
+     * @param length     the number of bytes to scan
+     * @param charset    the charset of percent-decoded bytes
+     * @param parameters the decoded values by parameter name
+     */
+    private void scan(byte[] data, int length, Charset charset, Map<String, String[]> parameters) {
+        int start = 0;
+
+        while (start < length) {
+            int end = indexOf(data, (byte) '&', start, length);
+            int separator = indexOf(data, (byte) '=', start, end);
+            int nameEnd = (separator < end) ? separator : end;
+
+            if (nameEnd > start) {
+                String name = match(data, start, nameEnd, charset);
+
+                if (name != null) {
+                    String value = (separator < end) ? decode(data, separator + 1, end, charset) : "";
+                    add(parameters, name, value);
+                }
+            }
+
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Matches a raw parameter name against the bound names.
+     *
+     * @param data    the raw bytes
+     * @param from    the index of the first byte of the name
+     * @param to      the index after the last byte of the name
+     * @param charset the charset of percent-decoded bytes
+     * @return the decoded name if it is bound, null otherwise
+     */
+    private String match(byte[] data, int from, int to, Charset charset) {
+        if (!isPlain(data, from, to)) {
+            String name = decode(data, from, to, charset);
+
+            for (String bound : names) {
+                if (name.equals(bound) || (name.startsWith(bound) && isNested(name.charAt(bound.length())))) {
+                    return name;
+                }
+            }
+
+            return null;
+        }
+
+        int length = to - from;
+
+        for (int i = 0; i < asciiNames.length; i++) {
+            byte[] bound = asciiNames[i];
+
+            if (bound == null || length < bound.length || !regionEquals(data, from, bound)) {
+                continue;
+            }
+
+            if (length == bound.length) {
+                return names[i];
+            } else if (isNested((char) data[from + bound.length])) {
+                return new String(data, from, length, StandardCharsets.US_ASCII);
+            }
+        }
+
+        return null;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Percent-decodes a range of bytes, turning <code>+</code> into a space.
+     * <p>
+     * A <code>%</code> not followed by two hexadecimal digits is kept as is.
+     * </p>
+     *
+     * @param data    the raw bytes
+     * @param from    the index of the first byte
+     * @param to      the index after the last byte
+     * @param charset the charset of the decoded bytes
+     * @return the decoded text
+     */
+    private static String decode(byte[] data, int from, int to, Charset charset) {
+        int i = from;
+
+        while (i < to && data[i] != '%' && data[i] != '+') {
+            i++;
+        }
+
+        if (i == to) {
+            return new String(data, from, to - from, charset);
+        }
+
+        byte[] decoded = new byte[to - from];
+        int length = i - from;
+        System.arraycopy(data, from, decoded, 0, length);
+
+        while (i < to) {
+            byte b = data[i];
+
+            if (b == '+') {
+                decoded[length++] = ' ';
+                i++;
+                continue;
+            }
+
+            int high = b == '%' && i + 2 < to ? ParseUtil.hexDigit(data[i + 1]) : -1;
+            int low = high >= 0 ? ParseUtil.hexDigit(data[i + 2]) : -1;
+
+            if (low >= 0) {
+                decoded[length++] = (byte) ((high << 4) | low);
+                i += 3;
+            } else {
+                decoded[length++] = b;
+                i++;
+            }
+        }
+
+        return new String(decoded, 0, length, charset);
+    }
+
+    /**
+     * Reads the whole request body, once per request.
+     *
+     * @param req the HTTP request
+     * @return the body bytes
+     * @throws IOException if the body cannot be read or exceeds
+     *                     {@value #MAX_FORM_SIZE} bytes
+     */
+    private static byte[] readBody(HttpServletRequest req) throws IOException {
+        byte[] read = (byte[]) req.getAttribute(BODY_ATTRIBUTE);
+
+        if (read != null) {
+            return read;
+        }
+
+        if (req.getContentLengthLong() > MAX_FORM_SIZE) {
+            throw new IOException("Form body exceeds " + MAX_FORM_SIZE + " bytes");
+        }
+
+        try (InputStream in = req.getInputStream()) {
+            byte[] body = in.readNBytes(MAX_FORM_SIZE + 1);
+
+            if (body.length > MAX_FORM_SIZE) {
+                throw new IOException("Form body exceeds " + MAX_FORM_SIZE + " bytes");
+            }
+
+            req.setAttribute(BODY_ATTRIBUTE, body);
+            return body;
+        }
+    }
+
+    /**
+     * Adds a value to a parameter, keeping previous values.
+     *
+     * @param parameters the decoded values by parameter name
+     * @param name       the parameter name
+     * @param value      the decoded value
+     */
+    private static void add(Map<String, String[]> parameters, String name, String value) {
+        String[] values = parameters.get(name);
+
+        if (values == null) {
+            parameters.put(name, new String[] { value });
+        } else {
+            String[] extended = new String[values.length + 1];
+            System.arraycopy(values, 0, extended, 0, values.length);
+            extended[values.length] = value;
+            parameters.put(name, extended);
+        }
+    }
+
+    /**
+     * Finds a byte in a range.
+     *
+     * @param data   the bytes
+     * @param target the byte to find
+     * @param from   the index to start from
+     * @param to     the index to stop at
+     * @return the index of the byte, or <code>to</code> if absent
+     */
+    private static int indexOf(byte[] data, byte target, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == target) {
+                return i;
+            }
+        }
+
+        return to;
+    }
+
+    /**
+     * Checks if a range of bytes starts with a name.
+     *
+     * @param data the bytes
+     * @param from the index of the range
+     * @param name the ASCII bytes of the name
+     * @return true if the range starts with the name, false otherwise
+     */
+    private static boolean regionEquals(byte[] data, int from, byte[] name) {
+        for (int i = 0; i < name.length; i++) {
+            if (data[from + i] != name[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a raw name needs no decoding.
+     *
+     * @param data the raw bytes
+     * @param from the index of the first byte of the name
+     * @param to   the index after the last byte of the name
+     * @return true if the name is plain ASCII without escapes, false otherwise
+     */
+    private static boolean isPlain(byte[] data, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = data[i];
+
+            if (b < 0 || b == '%' || b == '+') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a name only holds ASCII characters.
+     *
+     * @param name the name
+     * @return true if the name is ASCII, false otherwise
+     */
+    private static boolean isAscii(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a character starts a nested or indexed name.
+     *
+     * @param c the character following a bound name
+     * @return true if the character is <code>.</code> or <code>[</code>
+     */
+    private static boolean isNested(char c) {
+        return c == '.' || c == '[';
+    }
+
+}
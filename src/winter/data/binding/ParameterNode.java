@@ -0,0 +1,260 @@
+package winter.data.binding;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A node of the tree of request parameter names in the Winter framework.
+ * <p>
+ * The tree is built once per request, in a single pass over the parameter map,
+ * by splitting every name on <code>.</code> and <code>[n]</code>: the values
+ * of <code>order.items[3].qty</code> are found under the child
+ * <code>order</code>, its child <code>items</code>, its element 3 and finally
+ * its child <code>qty</code>. Object binders walk the tree instead of scanning
+ * the parameter map, so binding any number of objects, nested objects and
+ * lists takes time linear in the number of parameters.
+ * </p>
+ * <p>
+ * Elements are kept by index, so sparse indexes cost nothing more than the
+ * parameters actually sent. Names that do not follow the syntax (an empty
+ * segment, an unclosed bracket or a non-numeric index) are left out of the
+ * tree; they remain readable as plain request parameters.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ParameterNode {
+
+    /** The empty node, without values, children or elements. */
+    public static final ParameterNode EMPTY = new ParameterNode();
+
+    /** The largest number of digits accepted in an index. */
+    private static final int MAX_INDEX_DIGITS = 9;
+
+    /** The values of the parameter named by this node, or null if none. */
+    private String[] values;
+
+    /** The named children of this node, or null if none. */
+    private Map<String, ParameterNode> children;
+
+    /** The indexed elements of this node, or null if none. */
+    private NavigableMap<Integer, ParameterNode> elements;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs an empty node.
+     */
+    private ParameterNode() {
+    }
+
+    /**
+     * Builds the tree of a parameter map.
+     *
+     * @param parameters the request parameters, by name
+     * @return the root of the tree
+     */
+    public static ParameterNode of(Map<String, String[]> parameters) {
+        ParameterNode root = new ParameterNode();
+
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            String name = parameter.getKey();
+
+            if (isWellFormed(name)) {
+                root.insert(name, parameter.getValue());
+            }
+        }
+
+        return root;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the first value of the parameter named by this node.
+     *
+     * @return the value, or null if the node only groups other parameters
+     */
+    public String getValue() {
+        return (values != null && values.length > 0) ? values[0] : null;
+    }
+
+    /**
+     * Gets every value of the parameter named by this node.
+     *
+     * @return the values, or null if the node only groups other parameters
+     */
+    public String[] getValues() {
+        return values;
+    }
+
+    /**
+     * Gets a named child.
+     *
+     * @param name the child name
+     * @return the child, or null if no parameter starts with it
+     */
+    public ParameterNode getChild(String name) {
+        return (children != null) ? children.get(name) : null;
+    }
+
+    /**
+     * Gets the indexed elements, in index order.
+     *
+     * @return a read-only view of the elements by index, empty if none
+     */
+    public Map<Integer, ParameterNode> getElements() {
+        return (elements != null) ? Collections.unmodifiableNavigableMap(elements) : Collections.emptyMap();
+    }
+
+    /**
+     * Checks if the node has indexed elements.
+     *
+     * @return true if at least one <code>[n]</code> parameter follows this node,
+     *         false otherwise
+     */
+    public boolean hasElements() {
+        return elements != null;
+    }
+
+    /* ------------------------------ Construction ------------------------------ */
+
+    /**
+     * Inserts the values of a well-formed parameter name below this node.
+     *
+     * @param name   the parameter name
+     * @param values the parameter values
+     */
+    private void insert(String name, String[] values) {
+        ParameterNode node = this;
+        int length = name.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = name.charAt(i);
+
+            if (c == '[') {
+                int close = name.indexOf(']', i);
+                node = node.element(Integer.parseInt(name, i + 1, close, 10));
+                i = close + 1;
+            } else {
+                int start = (c == '.') ? i + 1 : i;
+                int end = segmentEnd(name, start);
+                node = node.child(name.substring(start, end));
+                i = end;
+            }
+        }
+
+        node.values = values;
+    }
+
+    /**
+     * Gets or creates a named child.
+     *
+     * @param name the child name
+     * @return the child
+     */
+    private ParameterNode child(String name) {
+        if (children == null) {
+            children = new HashMap<>();
+        }
+
+        return children.computeIfAbsent(name, key -> new ParameterNode());
+    }
+
+    /**
+     * Gets or creates an indexed element.
+     *
+     * @param index the element index
+     * @return the element
+     */
+    private ParameterNode element(int index) {
+        if (elements == null) {
+            elements = new TreeMap<>();
+        }
+
+        return elements.computeIfAbsent(index, key -> new ParameterNode());
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Checks if a parameter name follows the <code>name(.name|[n])*</code>
+     * syntax.
+     *
+     * @param name the parameter name
+     * @return true if the name can be inserted in the tree, false otherwise
+     */
+    private static boolean isWellFormed(String name) {
+        int length = name.length();
+        int end = segmentEnd(name, 0);
+
+        if (end == 0) {
+            return false;
+        }
+
+        int i = end;
+
+        while (i < length) {
+            char c = name.charAt(i);
+
+            if (c == '.') {
+                end = segmentEnd(name, i + 1);
+
+                if (end == i + 1) {
+                    return false;
+                }
+
+                i = end;
+            } else if (c != '[') {
+                // Text right after a closing bracket
+                return false;
+            } else {
+                int close = name.indexOf(']', i);
+
+                if (close < 0 || close == i + 1 || close - i - 1 > MAX_INDEX_DIGITS) {
+                    return false;
+                }
+
+                for (int j = i + 1; j < close; j++) {
+                    char digit = name.charAt(j);
+
+                    if (digit < '0' || digit > '9') {
+                        return false;
+                    }
+                }
+
+                i = close + 1;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the end of a name segment.
+     *
+     * @param name  the parameter name
+     * @param start the index of the first character of the segment
+     * @return the index of the next <code>.</code> or <code>[</code>, or the
+     *         length of the name
+     */
+    private static int segmentEnd(String name, int start) {
+        int length = name.length();
+
+        for (int i = start; i < length; i++) {
+            char c = name.charAt(i);
+
+            if (c == '.' || c == '[') {
+                return i;
+            }
+        }
+
+        return length;
+    }
+}
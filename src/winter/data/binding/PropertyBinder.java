@@ -0,0 +1,142 @@
+package winter.data.binding;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Type;
+
+import winter.data.annotation.http.RequestParam;
+import winter.data.client.FormData;
+
+/**
+ * Binds one property of an object from the request parameter tree in the
+ * Winter framework.
+ * <p>
+ * Property binders are compiled once per field or record component by the
+ * {@link ObjectBinder} of their class. The binder kind is chosen from the
+ * property type: a simple value, a list or array, or a nested object. The
+ * request values of a property are found under the child of its name in the
+ * {@link ParameterNode} of the object, and its raw values and errors are
+ * recorded in the form data under <code>prefix.property</code>.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class PropertyBinder {
+
+    /** The value read for an absent optional property. */
+    public static final Object ABSENT = new Object();
+
+    /** The value read for an invalid property. */
+    public static final Object INVALID = new Object();
+
+    /** The property name, also the request key suffix. */
+    private final String name;
+
+    /** Whether the property must be present in the request. */
+    private final boolean required;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a property binder.
+     *
+     * @param name         the property name
+     * @param requestParam the {@link RequestParam} annotation of the property, or
+     *                     null if none
+     */
+    protected PropertyBinder(String name, RequestParam requestParam) {
+        this.name = name;
+        this.required = (requestParam != null) && requestParam.required();
+    }
+
+    /**
+     * Compiles the binder of a property.
+     *
+     * @param name        the property name
+     * @param type        the property type
+     * @param genericType the generic property type, giving the element type of
+     *                    lists
+     * @param element     the element that may carry a {@link RequestParam}
+     *                    annotation
+     * @return the binder matching the property type
+     */
+    public static PropertyBinder of(String name, Class<?> type, Type genericType, AnnotatedElement element) {
+        RequestParam requestParam = element.getAnnotation(RequestParam.class);
+
+        if (Converters.supports(type)) {
+            return new ValuePropertyBinder(name, type, requestParam);
+        } else if (ListPropertyBinder.supports(type)) {
+            return new ListPropertyBinder(name, type, genericType, requestParam);
+        } else {
+            return new ObjectPropertyBinder(name, type, requestParam);
+        }
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the property name.
+     *
+     * @return the property name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Checks if the property must be present in the request.
+     *
+     * @return true if the property is required, false otherwise
+     */
+    public boolean isRequired() {
+        return required;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Reads, converts and validates the value of the property.
+     * <p>
+     * Errors are recorded in the form data rather than thrown.
+     * </p>
+     *
+     * @param prefix  the request key of the object, or an empty string for a
+     *                method parameter
+     * @param node    the request parameters of the object
+     * @param context the binding context of the request
+     * @return the converted value, {@link #ABSENT} if the property is absent and
+     *         optional, or {@link #INVALID} if it is invalid
+     * @throws ReflectiveOperationException if a nested object cannot be created
+     *                                      or populated
+     */
+    public abstract Object read(String prefix, ParameterNode node, BindingContext context)
+            throws ReflectiveOperationException;
+
+    /**
+     * Gets the request key of the property.
+     *
+     * @param prefix the request key of the object, or an empty string
+     * @return the request key, <code>prefix.property</code>
+     */
+    protected String keyOf(String prefix) {
+        return prefix.isEmpty() ? name : prefix + "." + name;
+    }
+
+    /**
+     * Reports an absent property, enforcing the required flag.
+     *
+     * @param key      the request key of the property
+     * @param formData the form data collecting error messages
+     * @return {@link #INVALID} if the property is required, {@link #ABSENT}
+     *         otherwise
+     */
+    protected Object absent(String key, FormData formData) {
+        if (required) {
+            formData.setErrorMessage(key, ParameterBinder.REQUIRED_MESSAGE);
+            return INVALID;
+        }
+
+        return ABSENT;
+    }
+}
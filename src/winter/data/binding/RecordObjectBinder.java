@@ -0,0 +1,148 @@
+package winter.data.binding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+
+import winter.data.exception.client.InvalidFormDataException;
+
+/**
+ * Binds request values to a record through its canonical constructor in the
+ * Winter framework.
+ * <p>
+ * The components of the record and its canonical constructor are compiled once
+ * into a single spreading method handle, so immutable models are built in one
+ * call once all their values are converted. A {@link
+ * winter.data.annotation.http.RequestParam} annotation on a component sets its
+ * constraints.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RecordObjectBinder extends ObjectBinder {
+
+    /** The type of canonical constructor handles. */
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /** The bound components, in declaration order. */
+    private final PropertyBinder[] properties;
+
+    /** The default value of each component: null, or zero for primitives. */
+    private final Object[] defaults;
+
+    /** The canonical constructor, spreading an argument array. */
+    private final MethodHandle constructor;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles the binder of a record class.
+     *
+     * @param type the record class
+     * @throws IllegalArgumentException if the class is not a record or its
+     *                                  canonical constructor cannot be accessed
+     */
+    public RecordObjectBinder(Class<?> type) {
+        super(type);
+
+        RecordComponent[] components = type.getRecordComponents();
+
+        if (components == null) {
+            throw new IllegalArgumentException("Not a record class: " + type.getName());
+        }
+
+        Class<?>[] componentTypes = new Class<?>[components.length];
+        this.properties = new PropertyBinder[components.length];
+        this.defaults = new Object[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            componentTypes[i] = component.getType();
+            properties[i] = PropertyBinder.of(component.getName(), component.getType(), component.getGenericType(),
+                    annotationsOf(type, component));
+            defaults[i] = component.getType().isPrimitive()
+                    ? Array.get(Array.newInstance(component.getType(), 1), 0)
+                    : null;
+        }
+
+        try {
+            Constructor<?> canonical = type.getDeclaredConstructor(componentTypes);
+            this.constructor = unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, components.length)
+                    .asType(CONSTRUCTOR_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot access the canonical constructor of: " + type.getName(), e);
+        }
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Converts every component value, then creates the record through its
+     * canonical constructor.
+     * <p>
+     * Absent optional components are given their default value: null, or zero
+     * for primitive types.
+     * </p>
+     *
+     * @param prefix  the request key of the object
+     * @param node    the request parameters of the object
+     * @param context the binding context of the request
+     * @return the new record
+     * @throws InvalidFormDataException     if any component is invalid
+     * @throws ReflectiveOperationException if the canonical constructor fails
+     */
+    @Override
+    public Object bind(String prefix, ParameterNode node, BindingContext context)
+            throws InvalidFormDataException, ReflectiveOperationException {
+
+        Object[] arguments = new Object[properties.length];
+        boolean hasError = false;
+
+        for (int i = 0; i < properties.length; i++) {
+            Object value = properties[i].read(prefix, node, context);
+
+            if (value == PropertyBinder.INVALID) {
+                hasError = true;
+            } else {
+                arguments[i] = (value == PropertyBinder.ABSENT) ? defaults[i] : value;
+            }
+        }
+
+        if (hasError) {
+            throw new InvalidFormDataException();
+        }
+
+        try {
+            return constructor.invokeExact(arguments);
+        } catch (Throwable e) {
+            throw new ReflectiveOperationException("Cannot instantiate: " + getType().getName(), e);
+        }
+    }
+
+    /* ------------------------------- Compilation ------------------------------ */
+
+    /**
+     * Gets the element carrying the annotations of a record component.
+     * <p>
+     * {@link winter.data.annotation.http.RequestParam} does not target record
+     * components, so it is propagated to the private field of the component.
+     * </p>
+     *
+     * @param type      the record class
+     * @param component the record component
+     * @return the field of the component, or the component itself if it has none
+     */
+    private static AnnotatedElement annotationsOf(Class<?> type, RecordComponent component) {
+        try {
+            return type.getDeclaredField(component.getName());
+        } catch (NoSuchFieldException e) {
+            return component;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package winter.data.binding;
+
+import winter.data.invocation.ArgumentFrame;
+import winter.util.ParseResult;
+
+/**
+ * Converts a raw request value into the type of a bound parameter in the
+ * Winter framework.
+ * <p>
+ * A converter is selected once per parameter or object property when its
+ * binder is compiled, so binding a value never branches on the target type.
+ * Converters never throw on malformed input: they report it through the
+ * status of a {@link ParseResult}, using {@link ParseResult#reset()} on
+ * success and {@link ParseResult#reject(String)} on failure. Applications
+ * register converters of their own types through
+ * {@link Converters#register(Class, ValueConverter)}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ValueConverter {
+
+    /**
+     * Converts a raw request value.
+     *
+     * @param value  the raw value, present and non-empty for non-text types
+     * @param result the result receiving the status of the conversion
+     * @return the converted value, meaningless if the result is not valid
+     */
+    Object convert(String value, ParseResult result);
+
+    /**
+     * Converts a raw request value straight into a slot of an argument frame.
+     * <p>
+     * Converters of primitive types override this method to write the parsed
+     * value unboxed.
+     * </p>
+     *
+     * @param value  the raw value, present and non-empty for non-text types
+     * @param result the result receiving the status of the conversion
+     * @param frame  the argument frame to write into
+     * @param index  the slot of the parameter
+     * @return true if the value was converted and written, false otherwise
+     */
+    default boolean write(String value, ParseResult result, ArgumentFrame frame, int index) {
+        Object converted = convert(value, result);
+
+        if (!result.isValid()) {
+            return false;
+        }
+
+        frame.set(index, converted);
+        return true;
+    }
+
+    /**
+     * Selects the converter of a target type.
+     *
+     * @param type the target type
+     * @return the converter
+     * @see Converters#of(Class)
+     */
+    static ValueConverter of(Class<?> type) {
+        return Converters.of(type);
+    }
+}
@@ -0,0 +1,109 @@
+package winter.data.binding;
+
+import java.lang.reflect.Parameter;
+
+import winter.data.annotation.http.RequestParam;
+import winter.data.client.FormData;
+import winter.data.invocation.ArgumentFrame;
+import winter.data.validation.ConstraintSet;
+import winter.util.ParseResult;
+
+/**
+ * Binds a parameter of a type with a {@link ValueConverter} from a single
+ * request value in the Winter framework.
+ * <p>
+ * The {@link ValueConverter} of the parameter type and its
+ * {@link ConstraintSet} are resolved when the binder is compiled. Without
+ * constraints, the converter writes the value straight into its argument slot,
+ * so primitive parameters are never boxed.
+ * A value that is absent, or empty for a non-text type, is only an error if
+ * the parameter is required; an invalid value is reported in the form data and
+ * bound as null, or zero for primitive types.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ValueParameterBinder extends ParameterBinder {
+
+    /** The converter of the parameter type. */
+    private final ValueConverter converter;
+
+    /** The compiled constraints of the parameter. */
+    private final ConstraintSet constraints;
+
+    /** Whether an empty value is a value, as for text parameters. */
+    private final boolean acceptsEmpty;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles a value binder.
+     *
+     * @param index        the position of the parameter
+     * @param parameter    the method parameter
+     * @param requestParam the {@link RequestParam} annotation of the parameter
+     */
+    public ValueParameterBinder(int index, Parameter parameter, RequestParam requestParam) {
+        super(index, parameter, requestParam);
+        this.converter = Converters.of(parameter.getType());
+        this.constraints = ConstraintSet.of(requestParam);
+        this.acceptsEmpty = (parameter.getType() == String.class);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Converts and validates the request value of the parameter.
+     *
+     * @param context the binding context of the request
+     * @param frame   the argument frame to write into
+     * @return true if the value was bound without error, false otherwise
+     */
+    @Override
+    public boolean bind(BindingContext context, ArgumentFrame frame) {
+        FormData formData = context.getFormData();
+        String rawValue = formData.getValue(getName(), false);
+
+        if (rawValue == null || (rawValue.isEmpty() && !acceptsEmpty)) {
+            return store(null, formData, frame);
+        }
+
+        ParseResult result = context.getParseResult();
+
+        if (constraints.isEmpty()) {
+            return converter.write(rawValue, result, frame, getIndex())
+                    || reject(result.getMessage(), formData, frame);
+        }
+
+        Object value = converter.convert(rawValue, result);
+
+        if (!result.isValid()) {
+            return reject(result.getMessage(), formData, frame);
+        }
+
+        String violation = constraints.validate(rawValue, value);
+
+        if (violation != null) {
+            return reject(violation, formData, frame);
+        }
+
+        frame.set(getIndex(), value);
+        return true;
+    }
+
+    /**
+     * Reports an invalid value and binds the parameter to its empty value.
+     *
+     * @param message  the error message
+     * @param formData the form data collecting error messages
+     * @param frame    the argument frame to write into
+     * @return always false
+     */
+    private boolean reject(String message, FormData formData, ArgumentFrame frame) {
+        formData.setErrorMessage(getName(), message);
+        frame.set(getIndex(), null);
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package winter.data.binding;
+
+import winter.data.annotation.http.RequestParam;
+import winter.data.client.FormData;
+import winter.data.validation.ConstraintSet;
+import winter.util.ParseResult;
+
+/**
+ * Binds a property of a type with a {@link ValueConverter} from a single
+ * request value in the Winter framework.
+ * <p>
+ * The converter of the property type and its {@link ConstraintSet} are
+ * resolved when the binder is compiled. A value that is absent, or empty for a
+ * non-text type, is only an error if the property is required.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ValuePropertyBinder extends PropertyBinder {
+
+    /** The converter of the property type. */
+    private final ValueConverter converter;
+
+    /** The compiled constraints of the property. */
+    private final ConstraintSet constraints;
+
+    /** Whether an empty value is a value, as for text properties. */
+    private final boolean acceptsEmpty;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles a value property binder.
+     *
+     * @param name         the property name
+     * @param type         the property type
+     * @param requestParam the {@link RequestParam} annotation of the property, or
+     *                     null if none
+     */
+    public ValuePropertyBinder(String name, Class<?> type, RequestParam requestParam) {
+        super(name, requestParam);
+        this.converter = Converters.of(type);
+        this.constraints = ConstraintSet.of(requestParam);
+        this.acceptsEmpty = (type == String.class);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Reads the value of the property from its child node.
+     *
+     * @param prefix  the request key of the object, or an empty string
+     * @param node    the request parameters of the object
+     * @param context the binding context of the request
+     * @return the converted value, {@link #ABSENT} or {@link #INVALID}
+     */
+    @Override
+    public Object read(String prefix, ParameterNode node, BindingContext context) {
+        String key = keyOf(prefix);
+        ParameterNode child = node.getChild(getName());
+        Object value = convert(key, (child != null) ? child.getValue() : null, context);
+
+        return (value == ABSENT) ? absent(key, context.getFormData()) : value;
+    }
+
+    /**
+     * Records, converts and validates a raw value.
+     * <p>
+     * Also used for the elements of lists, which share the converter and
+     * constraints of their property.
+     * </p>
+     *
+     * @param key      the request key of the value
+     * @param rawValue the raw value, or null if absent
+     * @param context  the binding context of the request
+     * @return the converted value, {@link #ABSENT} if the value is absent or
+     *         empty, or {@link #INVALID} if it is invalid
+     */
+    protected Object convert(String key, String rawValue, BindingContext context) {
+        FormData formData = context.getFormData();
+        formData.setValue(key, rawValue);
+
+        if (rawValue == null || (rawValue.isEmpty() && !acceptsEmpty)) {
+            return ABSENT;
+        }
+
+        ParseResult result = context.getParseResult();
+        Object value = converter.convert(rawValue, result);
+
+        if (!result.isValid()) {
+            formData.setErrorMessage(key, result.getMessage());
+            return INVALID;
+        }
+
+        String violation = constraints.validate(rawValue, value);
+
+        if (violation != null) {
+            formData.setErrorMessage(key, violation);
+            return INVALID;
+        }
+
+        return value;
+    }
+}
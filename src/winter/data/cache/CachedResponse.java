@@ -0,0 +1,185 @@
+package winter.data.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.CachePolicy;
+
+/**
+ * A rendered response stored by a {@link ResponseCache} in the Winter
+ * framework.
+ * <p>
+ * The body is kept as the encoded bytes sent to the client, in a heap or
+ * direct buffer, together with the content type, character encoding and the
+ * headers set while the response was rendered, so a hit is replayed without
+ * encoding anything again.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CachedResponse {
+
+    /** The estimated size of the bookkeeping of an entry, in bytes. */
+    private static final int ENTRY_OVERHEAD = 128;
+
+    /** The size of the chunks copied from direct buffers, in bytes. */
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    /** The content type, or null if none. */
+    private final String contentType;
+
+    /** The character encoding, or null if none. */
+    private final String characterEncoding;
+
+    /** The headers, as name and value pairs, in the order they were set. */
+    private final String[] headers;
+
+    /** The encoded body, read from position 0 to its limit. */
+    private final ByteBuffer body;
+
+    /** The time the entry expires at, in {@link System#nanoTime()} units. */
+    private final long expiresAt;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Stores a rendered response.
+     *
+     * @param contentType       the content type, or null if none
+     * @param characterEncoding the character encoding, or null if none
+     * @param headers           the headers, as name and value pairs
+     * @param body              the body bytes
+     * @param length            the number of body bytes
+     * @param offHeap           true to copy the body into a direct buffer
+     * @param expiresAt         the expiry time, in {@link System#nanoTime()}
+     *                          units
+     */
+    public CachedResponse(String contentType, String characterEncoding, List<String> headers, byte[] body,
+            int length, boolean offHeap, long expiresAt) {
+
+        this.contentType = contentType;
+        this.characterEncoding = characterEncoding;
+        this.headers = headers.toArray(new String[0]);
+        this.expiresAt = expiresAt;
+
+        if (offHeap) {
+            this.body = ByteBuffer.allocateDirect(length).put(body, 0, length).flip();
+        } else {
+            byte[] copy = new byte[length];
+            System.arraycopy(body, 0, copy, 0, length);
+            this.body = ByteBuffer.wrap(copy);
+        }
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the estimated memory used by the entry.
+     *
+     * @return the body length plus a fixed overhead, in bytes
+     */
+    public long getWeight() {
+        return (long) body.limit() + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * Checks if the entry has expired.
+     *
+     * @param now the current time, in {@link System#nanoTime()} units
+     * @return true if the entry must no longer be served, false otherwise
+     */
+    public boolean isExpired(long now) {
+        return now - expiresAt >= 0;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Replays the response.
+     * <p>
+     * A response with an <code>ETag</code> header listed by the request's
+     * <code>If-None-Match</code> header is replayed as a bodiless
+     * <code>304 Not Modified</code>.
+     * </p>
+     *
+     * @param req  the HTTP request
+     * @param resp the HTTP response
+     * @throws IOException if the body cannot be sent
+     */
+    public void writeTo(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String etag = null;
+
+        if (contentType != null) {
+            resp.setContentType(contentType);
+        }
+
+        if (characterEncoding != null) {
+            resp.setCharacterEncoding(characterEncoding);
+        }
+
+        for (int i = 0; i < headers.length; i += 2) {
+            if (isRepeated(i)) {
+                resp.addHeader(headers[i], headers[i + 1]);
+            } else {
+                resp.setHeader(headers[i], headers[i + 1]);
+            }
+
+            if ("ETag".equalsIgnoreCase(headers[i])) {
+                etag = headers[i + 1];
+            }
+        }
+
+        String ifNoneMatch = req.getHeader("If-None-Match");
+
+        if (etag != null && ifNoneMatch != null && CachePolicy.matches(ifNoneMatch, etag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        int length = body.limit();
+        resp.setContentLength(length);
+
+        if (length == 0) {
+            return;
+        }
+
+        ServletOutputStream out = resp.getOutputStream();
+
+        if (body.hasArray()) {
+            out.write(body.array(), body.arrayOffset(), length);
+        } else {
+            // Each replay reads the shared buffer through its own view
+            ByteBuffer view = body.duplicate();
+            byte[] chunk = new byte[Math.min(CHUNK_SIZE, length)];
+
+            while (view.hasRemaining()) {
+                int count = Math.min(chunk.length, view.remaining());
+                view.get(chunk, 0, count);
+                out.write(chunk, 0, count);
+            }
+        }
+    }
+
+    /**
+     * Checks if a header name already appears earlier in the stored headers.
+     *
+     * @param index the index of the header name
+     * @return true if the header adds a value to a previous one, false if it
+     *         sets the first value
+     */
+    private boolean isRepeated(int index) {
+        for (int i = 0; i < index; i += 2) {
+            if (headers[i].equalsIgnoreCase(headers[index])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,127 @@
+package winter.data.cache;
+
+/**
+ * An approximate counter of the recent accesses to cache keys in the Winter
+ * framework.
+ * <p>
+ * This is a count-min sketch of four-bit counters packed sixteen to a
+ * <code>long</code>: each key hash increments one counter in each of four rows
+ * and its frequency is the smallest of them, so the sketch holds the popularity
+ * of many more keys than the cache holds entries in a few bytes each. Counters
+ * saturate at 15 and are all halved once the sketch has recorded ten times as
+ * many accesses as the cache holds entries, so old popularity fades.
+ * </p>
+ * <p>
+ * This class is not thread-safe; {@link ResponseCache} only uses it under its
+ * eviction lock.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class FrequencySketch {
+
+    /** The seeds of the four rows. */
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L };
+
+    /** The mask keeping the low three bits of each counter when halving. */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /** The largest counter value. */
+    private static final int MAX_COUNT = 15;
+
+    /** The counters, sixteen per element. */
+    private final long[] table;
+
+    /** The mask of a counter index. */
+    private final int counterMask;
+
+    /** The number of increments after which the counters are halved. */
+    private final int sampleSize;
+
+    /** The number of increments since the last halving. */
+    private int size = 0;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a sketch sized for a cache.
+     *
+     * @param maxEntries the largest number of entries of the cache
+     */
+    public FrequencySketch(int maxEntries) {
+        int length = Integer.highestOneBit(Math.max(1, Math.min(maxEntries, 1 << 24) - 1) << 1);
+        this.table = new long[Math.max(4, length / 4)];
+        this.counterMask = table.length * 16 - 1;
+        this.sampleSize = 10 * Math.max(1, maxEntries);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Gets the estimated recent access count of a key.
+     *
+     * @param hash the key hash
+     * @return the smallest counter of the key, from 0 to 15
+     */
+    public int frequency(int hash) {
+        int frequency = MAX_COUNT;
+
+        for (int row = 0; row < SEEDS.length; row++) {
+            int index = indexOf(hash, row);
+            int count = (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xF);
+            frequency = Math.min(frequency, count);
+        }
+
+        return frequency;
+    }
+
+    /**
+     * Records an access to a key.
+     *
+     * @param hash the key hash
+     */
+    public void increment(int hash) {
+        boolean added = false;
+
+        for (int row = 0; row < SEEDS.length; row++) {
+            int index = indexOf(hash, row);
+            int shift = (index & 15) << 2;
+
+            if (((table[index >>> 4] >>> shift) & 0xF) < MAX_COUNT) {
+                table[index >>> 4] += 1L << shift;
+                added = true;
+            }
+        }
+
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Halves every counter.
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+
+        size /= 2;
+    }
+
+    /**
+     * Gets the counter of a key in a row.
+     *
+     * @param hash the key hash
+     * @param row  the row
+     * @return the counter index
+     */
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & counterMask;
+    }
+}
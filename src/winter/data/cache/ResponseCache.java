@@ -0,0 +1,572 @@
+package winter.data.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import winter.data.annotation.Cacheable;
+import winter.data.servletabstraction.CachingResponse;
+
+/**
+ * The server-side cache of the responses of one controller method in the
+ * Winter framework.
+ * <p>
+ * Entries are read from a concurrent map without locking. Eviction follows the
+ * W-TinyLFU policy: new entries enter a small LRU window holding 1% of the
+ * entries, then a segmented LRU split between a probation segment and a
+ * protected segment holding 80% of the rest, which entries reach when they are
+ * accessed again. When the cache is full, the entry leaving the window only
+ * displaces the oldest probation entry if a {@link FrequencySketch} has seen
+ * it accessed more often recently, so a burst of one-off keys cannot flush the
+ * popular responses. Entries are also evicted while the cached bodies exceed
+ * the byte budget.
+ * </p>
+ * <p>
+ * Accesses are recorded only when the eviction lock is free: under contention
+ * the policy loses some accesses rather than making readers wait. Expired
+ * entries are dropped when they are read.
+ * </p>
+ * <p>
+ * Concurrent misses on the same key are collapsed: the first request renders
+ * the response and the others wait for it, up to
+ * {@value #FOLLOWER_TIMEOUT_SECONDS} seconds, before rendering it themselves.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ResponseCache {
+
+    /** The longest time a request waits for another one rendering its response. */
+    private static final long FOLLOWER_TIMEOUT_SECONDS = 30;
+
+    /** The share of a byte budget a single response may use. */
+    private static final int MAX_ENTRY_SHARE = 8;
+
+    /** The segment of new entries. */
+    private static final int WINDOW = 0;
+
+    /** The segment of entries accessed once since they left the window. */
+    private static final int PROBATION = 1;
+
+    /** The segment of entries accessed again while on probation. */
+    private static final int PROTECTED = 2;
+
+    /** The time to live of the entries, in nanoseconds. */
+    private final long ttlNanos;
+
+    /** The largest number of entries. */
+    private final int maxEntries;
+
+    /** The largest total weight of the entries, in bytes. */
+    private final long maxBytes;
+
+    /** The largest body cached, in bytes. */
+    private final int maxEntrySize;
+
+    /** Whether the bodies are stored outside the heap. */
+    private final boolean offHeap;
+
+    /** The largest number of entries in the window. */
+    private final int maxWindow;
+
+    /** The largest number of entries in the protected segment. */
+    private final int maxProtected;
+
+    /** The live entries by key. */
+    private final ConcurrentHashMap<String, Node> data = new ConcurrentHashMap<>();
+
+    /** The responses being rendered by key. */
+    private final ConcurrentHashMap<String, Flight> inflight = new ConcurrentHashMap<>();
+
+    /** The lock guarding the segments, the sketch and the counters. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** The recent access frequencies of the keys. */
+    private final FrequencySketch sketch;
+
+    /** The window segment, in access order. */
+    private final AccessOrder window = new AccessOrder();
+
+    /** The probation segment, in access order. */
+    private final AccessOrder probation = new AccessOrder();
+
+    /** The protected segment, in access order. */
+    private final AccessOrder protectedSegment = new AccessOrder();
+
+    /** The number of entries in the window. */
+    private int windowCount = 0;
+
+    /** The number of entries in the protected segment. */
+    private int protectedCount = 0;
+
+    /** The total weight of the entries, in bytes. */
+    private long weight = 0;
+
+    /** The number of invalidations, so renderings started before one are not stored. */
+    private volatile long generation = 0;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates the cache of a controller method.
+     *
+     * @param cacheable the {@link Cacheable} annotation of the method
+     */
+    public ResponseCache(Cacheable cacheable) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, cacheable.ttl()));
+        this.maxEntries = Math.max(1, cacheable.maxEntries());
+        this.maxBytes = Math.max(0, cacheable.maxBytes());
+        this.maxEntrySize = (int) Math.min(Integer.MAX_VALUE - 8, this.maxBytes / MAX_ENTRY_SHARE);
+        this.offHeap = cacheable.offHeap();
+        this.maxWindow = Math.max(1, this.maxEntries / 100);
+        this.maxProtected = (this.maxEntries - this.maxWindow) * 8 / 10;
+        this.sketch = new FrequencySketch(this.maxEntries);
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the largest body cached.
+     *
+     * @return the size in bytes
+     */
+    public int getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    /**
+     * Gets the number of cached responses.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Looks a response up, waiting for it if another request is rendering it.
+     * <p>
+     * When null is returned, the caller must render the response; if
+     * {@link #leads(String)} then holds, it must also call
+     * {@link #complete(String, CachingResponse)}.
+     * </p>
+     *
+     * @param key the cache key
+     * @return the cached response, or null if the caller must render it
+     */
+    public CachedResponse lookup(String key) {
+        CachedResponse cached = get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        Flight flight = new Flight(Thread.currentThread(), generation);
+        Flight leader = inflight.putIfAbsent(key, flight);
+
+        if (leader == null || leader.owner == Thread.currentThread()) {
+            return null;
+        }
+
+        try {
+            return leader.future.get(FOLLOWER_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the current request renders a response for the other requests
+     * with the same key.
+     *
+     * @param key the cache key
+     * @return true if the current thread must complete the rendering, false
+     *         otherwise
+     */
+    public boolean leads(String key) {
+        Flight flight = inflight.get(key);
+        return flight != null && flight.owner == Thread.currentThread();
+    }
+
+    /**
+     * Ends the rendering of a response led by the current thread, storing it if
+     * it can be cached and handing it to the waiting requests.
+     *
+     * @param key      the cache key
+     * @param response the rendered response, or null if rendering failed
+     */
+    public void complete(String key, CachingResponse response) {
+        Flight flight = inflight.get(key);
+
+        if (flight == null || flight.owner != Thread.currentThread()) {
+            return;
+        }
+
+        CachedResponse cached = null;
+
+        try {
+            cached = (response != null) ? response.capture(offHeap, System.nanoTime() + ttlNanos) : null;
+
+            // A rendering started before an invalidation may hold stale data
+            if (cached != null && flight.generation == generation) {
+                put(key, cached);
+            }
+        } finally {
+            inflight.remove(key, flight);
+            flight.future.complete(cached);
+        }
+    }
+
+    /**
+     * Gets a live response and records the access.
+     *
+     * @param key the cache key
+     * @return the cached response, or null if absent or expired
+     */
+    public CachedResponse get(String key) {
+        Node node = data.get(key);
+
+        if (node == null) {
+            if (lock.tryLock()) {
+                try {
+                    // Misses count too, so a key is admitted once it is popular
+                    sketch.increment(spread(key.hashCode()));
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            return null;
+        }
+
+        if (node.value.isExpired(System.nanoTime())) {
+            lock.lock();
+
+            try {
+                remove(node);
+            } finally {
+                lock.unlock();
+            }
+
+            return null;
+        }
+
+        if (lock.tryLock()) {
+            try {
+                onAccess(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return node.value;
+    }
+
+    /**
+     * Stores a response, evicting other ones if the cache is full.
+     *
+     * @param key    the cache key
+     * @param cached the response
+     */
+    public void put(String key, CachedResponse cached) {
+        if (cached.getWeight() > maxBytes) {
+            return;
+        }
+
+        lock.lock();
+
+        try {
+            Node previous = data.get(key);
+
+            if (previous != null) {
+                remove(previous);
+            }
+
+            Node node = new Node(key, spread(key.hashCode()), cached);
+            data.put(key, node);
+            window.add(node);
+            windowCount++;
+            weight += cached.getWeight();
+            sketch.increment(node.hash);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every response, including the ones being rendered.
+     */
+    public void invalidateAll() {
+        lock.lock();
+
+        try {
+            generation++;
+
+            // Readers still holding a node must not link it back
+            for (Node node : data.values()) {
+                node.segment = -1;
+            }
+
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedSegment.clear();
+            windowCount = 0;
+            protectedCount = 0;
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves an accessed entry within the segments.
+     *
+     * @param node the entry
+     */
+    private void onAccess(Node node) {
+        sketch.increment(node.hash);
+
+        if (node.segment < 0) {
+            return;
+        }
+
+        if (node.segment == WINDOW) {
+            window.moveToLast(node);
+        } else if (node.segment == PROTECTED) {
+            protectedSegment.moveToLast(node);
+        } else {
+            probation.remove(node);
+            node.segment = PROTECTED;
+            protectedSegment.add(node);
+            protectedCount++;
+
+            if (protectedCount > maxProtected) {
+                Node demoted = protectedSegment.first();
+                protectedSegment.remove(demoted);
+                protectedCount--;
+                demoted.segment = PROBATION;
+                probation.add(demoted);
+            }
+        }
+    }
+
+    /**
+     * Moves the entries overflowing the window to probation, then evicts
+     * entries until the cache fits its bounds.
+     */
+    private void evict() {
+        while (windowCount > maxWindow) {
+            Node candidate = window.first();
+            window.remove(candidate);
+            windowCount--;
+            candidate.segment = PROBATION;
+            probation.add(candidate);
+        }
+
+        while (data.size() > maxEntries || weight > maxBytes) {
+            Node victim = probation.first();
+            Node candidate = probation.last();
+
+            if (victim == null) {
+                victim = (protectedCount > 0) ? protectedSegment.first() : window.first();
+                remove(victim);
+            } else if (candidate != victim && sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)) {
+                remove(victim);
+            } else {
+                remove(candidate);
+            }
+        }
+    }
+
+    /**
+     * Removes an entry from the map and its segment.
+     *
+     * @param node the entry
+     */
+    private void remove(Node node) {
+        if (node.segment < 0 || !data.remove(node.key, node)) {
+            return;
+        }
+
+        switch (node.segment) {
+            case WINDOW -> {
+                window.remove(node);
+                windowCount--;
+            }
+            case PROTECTED -> {
+                protectedSegment.remove(node);
+                protectedCount--;
+            }
+            default -> probation.remove(node);
+        }
+
+        node.segment = -1;
+        weight -= node.value.getWeight();
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Spreads the bits of a key hash.
+     *
+     * @param hashCode the hash code of the key
+     * @return the spread hash
+     */
+    private static int spread(int hashCode) {
+        int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * A cached response linked into its segment.
+     */
+    private static final class Node {
+
+        /** The cache key. */
+        private final String key;
+
+        /** The spread hash of the key. */
+        private final int hash;
+
+        /** The cached response. */
+        private final CachedResponse value;
+
+        /** The segment of the entry, or -1 once removed. */
+        private int segment = WINDOW;
+
+        /** The previous entry of the segment. */
+        private Node previous;
+
+        /** The next entry of the segment. */
+        private Node next;
+
+        /**
+         * Creates an entry.
+         *
+         * @param key   the cache key
+         * @param hash  the spread hash of the key
+         * @param value the cached response
+         */
+        private Node(String key, int hash, CachedResponse value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A segment of entries, from the least to the most recently used.
+     */
+    private static final class AccessOrder {
+
+        /** The sentinel linking the first and last entries. */
+        private final Node head = new Node(null, 0, null);
+
+        /**
+         * Creates an empty segment.
+         */
+        private AccessOrder() {
+            clear();
+        }
+
+        /**
+         * Gets the least recently used entry.
+         *
+         * @return the entry, or null if the segment is empty
+         */
+        private Node first() {
+            return (head.next != head) ? head.next : null;
+        }
+
+        /**
+         * Gets the most recently used entry.
+         *
+         * @return the entry, or null if the segment is empty
+         */
+        private Node last() {
+            return (head.previous != head) ? head.previous : null;
+        }
+
+        /**
+         * Appends an entry as the most recently used.
+         *
+         * @param node the entry
+         */
+        private void add(Node node) {
+            node.previous = head.previous;
+            node.next = head;
+            head.previous.next = node;
+            head.previous = node;
+        }
+
+        /**
+         * Unlinks an entry.
+         *
+         * @param node the entry
+         */
+        private void remove(Node node) {
+            node.previous.next = node.next;
+            node.next.previous = node.previous;
+            node.previous = null;
+            node.next = null;
+        }
+
+        /**
+         * Marks an entry as the most recently used.
+         *
+         * @param node the entry
+         */
+        private void moveToLast(Node node) {
+            remove(node);
+            add(node);
+        }
+
+        /**
+         * Unlinks every entry.
+         */
+        private void clear() {
+            head.previous = head;
+            head.next = head;
+        }
+    }
+
+    /**
+     * A response being rendered by one request for the others with its key.
+     */
+    private static final class Flight {
+
+        /** The thread rendering the response. */
+        private final Thread owner;
+
+        /** The invalidation count when the rendering started. */
+        private final long generation;
+
+        /** The rendered response, or null if it is not cached. */
+        private final CompletableFuture<CachedResponse> future = new CompletableFuture<>();
+
+        /**
+         * Starts a rendering.
+         *
+         * @param owner      the thread rendering the response
+         * @param generation the invalidation count
+         */
+        private Flight(Thread owner, long generation) {
+            this.owner = owner;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package winter.data.cache;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import winter.data.annotation.Cacheable;
+import winter.util.Utility;
+
+/**
+ * The registry of the server-side response caches in the Winter framework.
+ * <p>
+ * Each controller method annotated with {@link Cacheable} gets one
+ * {@link ResponseCache}, created when the controllers are scanned and shared
+ * by every route the method is mapped to. Applications invalidate cached
+ * responses through this class when the data they were rendered from changes,
+ * typically from the controller method modifying it.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ResponseCaches extends Utility {
+
+    /** The caches by controller method. */
+    private static final Map<Method, ResponseCache> caches = new ConcurrentHashMap<>();
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Gets the cache of a controller method, creating it on first use.
+     *
+     * @param method the controller method
+     * @return the cache, or null if the method has no {@link Cacheable}
+     *         annotation
+     */
+    public static ResponseCache of(Method method) {
+        Cacheable cacheable = method.getAnnotation(Cacheable.class);
+        return (cacheable != null) ? caches.computeIfAbsent(method, key -> new ResponseCache(cacheable)) : null;
+    }
+
+    /**
+     * Removes the cached responses of every controller method.
+     */
+    public static void invalidateAll() {
+        caches.values().forEach(ResponseCache::invalidateAll);
+    }
+
+    /**
+     * Removes the cached responses of the methods of a controller.
+     *
+     * @param controllerClass the controller class
+     */
+    public static void invalidate(Class<?> controllerClass) {
+        caches.forEach((method, cache) -> {
+            if (method.getDeclaringClass().isAssignableFrom(controllerClass)) {
+                cache.invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * Removes the cached responses of the methods of a controller with a given
+     * name.
+     *
+     * @param controllerClass the controller class
+     * @param methodName      the method name, covering all its overloads
+     */
+    public static void invalidate(Class<?> controllerClass, String methodName) {
+        caches.forEach((method, cache) -> {
+            if (method.getName().equals(methodName) && method.getDeclaringClass().isAssignableFrom(controllerClass)) {
+                cache.invalidateAll();
+            }
+        });
+    }
+}
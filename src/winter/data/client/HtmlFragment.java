@@ -0,0 +1,40 @@
+package winter.data.client;
+
+import java.io.IOException;
+
+import winter.util.HtmlWriter;
+
+/**
+ * An HTML response written by a controller in the Winter framework.
+ * <p>
+ * A controller returning HTML can return a fragment instead of a
+ * <code>String</code>: the fragment is called with an {@link HtmlWriter}
+ * streaming into the response, so large pages such as long tables are never
+ * held as one string, and their values are escaped as they are written.
+ * </p>
+ *
+ * <pre>
+ * return (HtmlFragment) html -&gt; {
+ *     html.start("table");
+ *     for (User user : users) {
+ *         html.start("tr").element("td", user.getName()).end("tr");
+ *     }
+ *     html.end("table");
+ * };
+ * </pre>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface HtmlFragment {
+
+    /**
+     * Writes the fragment.
+     *
+     * @param html the writer streaming into the response
+     * @throws IOException if the response cannot be written
+     */
+    void render(HtmlWriter html) throws IOException;
+}
@@ -1,12 +1,16 @@
 package winter.data.client;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import com.google.gson.Gson;
-
 import jakarta.servlet.http.HttpServletRequest;
+import winter.data.codec.CborCodec;
+import winter.data.codec.Codecs;
+import winter.data.codec.JsonCodec;
 
 /**
  * Represents a model-view combination for rendering views in the Winter
@@ -88,14 +92,42 @@ public class ModelView {
     /**
      * Gets the data map as a JSON string.
      * <p>
-     * Uses {@link Gson} to serialize the data map into a JSON-formatted string.
+     * Uses the shared {@link JsonCodec} to serialize the data map into a
+     * JSON-formatted string.
      * </p>
      *
      * @return the JSON representation of the data map
      */
     public String getJsonData() {
-        Gson gson = new Gson();
-        return gson.toJson(this.getData());
+        return Codecs.getJsonCodec().toJson(this.getData());
+    }
+
+    /**
+     * Streams the data map as JSON into a writer.
+     * <p>
+     * Uses the shared {@link JsonCodec}, without building the document as a
+     * string.
+     * </p>
+     *
+     * @param writer the destination, neither flushed nor closed
+     * @throws IOException if the data cannot be written
+     */
+    public void writeJsonData(Writer writer) throws IOException {
+        Codecs.getJsonCodec().write(this.getData(), writer);
+    }
+
+    /**
+     * Streams the data map as CBOR into a byte stream.
+     * <p>
+     * Uses the shared {@link CborCodec}, which maps the data like the JSON
+     * codec does, for REST clients asking for the binary format.
+     * </p>
+     *
+     * @param stream the destination, neither flushed nor closed
+     * @throws IOException if the data cannot be written
+     */
+    public void writeCborData(OutputStream stream) throws IOException {
+        Codecs.getCborCodec().write(this.getData(), stream);
     }
 
     /**
@@ -0,0 +1,956 @@
+package winter.data.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Serializes and deserializes CBOR documents in the Winter framework.
+ * <p>
+ * Values are mapped the way the default JSON codec maps them, so that a
+ * <code>@Rest</code> endpoint returns the same document in either format:
+ * objects become maps of their non-static, non-transient fields (including
+ * inherited ones, named after <code>@SerializedName</code> if present) with
+ * null fields left out, records map their components, enums their names, and
+ * map keys are written as text. Numbers and primitive fields are written from
+ * primitives, and primitive arrays as typed arrays. Classes of the JDK that
+ * are not collections or numbers, such as dates, are written as their
+ * <code>toString()</code>.
+ * </p>
+ * <p>
+ * The field layout of each class is resolved once into method handles and
+ * cached through a {@link ClassValue}, so the codec is thread-safe and shared
+ * through {@link Codecs#getCborCodec()}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CborCodec {
+
+    /** The field layouts already resolved, by class. */
+    private static final ClassValue<ObjectLayout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected ObjectLayout computeValue(Class<?> type) {
+            return new ObjectLayout(type);
+        }
+    };
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Writes a value as CBOR into a byte stream.
+     * <p>
+     * The encoded bytes are all sent to the stream, which is neither flushed
+     * nor closed.
+     * </p>
+     *
+     * @param value  the value to write, may be null
+     * @param stream the destination
+     * @throws IOException if the value cannot be written
+     */
+    public void write(Object value, OutputStream stream) throws IOException {
+        try (CborWriter out = new CborWriter(stream)) {
+            write(value, out);
+        }
+    }
+
+    /**
+     * Writes a value as a CBOR data item, for callers composing a document.
+     *
+     * @param value the value to write, may be null
+     * @param out   the encoder
+     * @throws IOException if the value cannot be written
+     */
+    public void write(Object value, CborWriter out) throws IOException {
+        if (value == null) {
+            out.writeNull();
+        } else if (value instanceof String text) {
+            out.writeString(text);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double number) {
+            out.writeDouble(number);
+        } else if (value instanceof Float number) {
+            out.writeFloat(number);
+        } else if (value instanceof Boolean bool) {
+            out.writeBoolean(bool);
+        } else if (value instanceof BigInteger number) {
+            out.writeBigInteger(number);
+        } else if (value instanceof BigDecimal number) {
+            out.writeTag(CborWriter.TAG_DECIMAL_FRACTION);
+            out.startArray(2);
+            out.writeLong(-(long) number.scale());
+            out.writeBigInteger(number.unscaledValue());
+        } else if (value instanceof Number number) {
+            out.writeDouble(number.doubleValue());
+        } else if (value instanceof CharSequence || value instanceof Character) {
+            out.writeString(value.toString());
+        } else if (value instanceof Enum<?> constant) {
+            out.writeString(constant.name());
+        } else if (value.getClass().isArray()) {
+            writeArray(value, out);
+        } else if (value instanceof Collection<?> collection) {
+            out.startArray(collection.size());
+
+            for (Object element : collection) {
+                write(element, out);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.startMap(map.size());
+
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.writeString(String.valueOf(entry.getKey()));
+                write(entry.getValue(), out);
+            }
+        } else if (value instanceof Iterable<?> iterable) {
+            out.startArray();
+
+            for (Object element : iterable) {
+                write(element, out);
+            }
+
+            out.writeBreak();
+        } else if (value instanceof Optional<?> optional) {
+            write(optional.orElse(null), out);
+        } else {
+            LAYOUTS.get(value.getClass()).write(value, out, this);
+        }
+    }
+
+    /**
+     * Reads a CBOR document from a byte stream.
+     * <p>
+     * The stream is not closed, and bytes past the document may have been
+     * consumed.
+     * </p>
+     *
+     * @param <T>    the target type
+     * @param stream the source
+     * @param type   the target type, possibly generic
+     * @return the value read
+     * @throws IOException if the document cannot be read or does not match
+     *                     the type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(InputStream stream, Type type) throws IOException {
+        try (CborReader in = new CborReader(stream)) {
+            return (T) read(in, type);
+        }
+    }
+
+    /**
+     * Reads a CBOR data item into a type, for callers decoding a document
+     * piecewise.
+     *
+     * @param in   the decoder
+     * @param type the target type, possibly generic
+     * @return the value read, boxed for primitive types
+     * @throws IOException if the item cannot be read, nests too deep or does
+     *                     not match the type
+     */
+    public Object read(CborReader in, Type type) throws IOException {
+        in.enter();
+
+        try {
+            return readItem(in, type);
+        } finally {
+            in.leave();
+        }
+    }
+
+    /**
+     * Reads a CBOR data item into a type, within
+     * {@link #read(CborReader, Type)}.
+     *
+     * @param in   the decoder
+     * @param type the target type, possibly generic
+     * @return the value read, boxed for primitive types
+     * @throws IOException if the item cannot be read or does not match the
+     *                     type
+     */
+    private Object readItem(CborReader in, Type type) throws IOException {
+        Class<?> raw = rawClass(type);
+
+        if (in.isNull()) {
+            in.skipValue();
+
+            if (raw.isPrimitive()) {
+                throw new IOException("Cannot decode CBOR null into " + raw);
+            }
+
+            return null;
+        }
+
+        if (raw == Object.class) {
+            return in.readValue();
+        } else if (raw == String.class || raw == CharSequence.class) {
+            return in.readString();
+        } else if (raw == int.class || raw == Integer.class) {
+            return Math.toIntExact(in.readLong());
+        } else if (raw == long.class || raw == Long.class) {
+            return in.readLong();
+        } else if (raw == double.class || raw == Double.class) {
+            return in.readDouble();
+        } else if (raw == float.class || raw == Float.class) {
+            return (float) in.readDouble();
+        } else if (raw == boolean.class || raw == Boolean.class) {
+            return in.readBoolean();
+        } else if (raw == short.class || raw == Short.class) {
+            return (short) in.readLong();
+        } else if (raw == byte.class || raw == Byte.class) {
+            return (byte) in.readLong();
+        } else if (raw == char.class || raw == Character.class) {
+            String text = in.readString();
+
+            if (text.length() != 1) {
+                throw new IOException("Cannot decode \"" + text + "\" into a character");
+            }
+
+            return text.charAt(0);
+        } else if (raw == BigInteger.class || raw == BigDecimal.class || raw == Number.class) {
+            return toNumber(in.readValue(), raw);
+        } else if (raw.isEnum()) {
+            return enumConstant(raw, in.readString());
+        } else if (raw == char[].class) {
+            return in.readString().toCharArray();
+        } else if (raw == boolean[].class) {
+            return readBooleans(in);
+        } else if (raw.isArray() && raw.getComponentType().isPrimitive()) {
+            return in.readNumberArray(raw.getComponentType());
+        } else if (raw.isArray()) {
+            List<Object> elements = readElements(in, elementType(type), new ArrayList<>());
+            return elements.toArray((Object[]) Array.newInstance(raw.getComponentType(), elements.size()));
+        } else if (Collection.class.isAssignableFrom(raw)) {
+            return readElements(in, typeArgument(type, 0), newCollection(raw));
+        } else if (Map.class.isAssignableFrom(raw)) {
+            return readEntries(in, typeArgument(type, 0), typeArgument(type, 1), newMap(raw));
+        } else if (raw == Optional.class) {
+            return Optional.ofNullable(read(in, typeArgument(type, 0)));
+        }
+
+        return LAYOUTS.get(raw).read(in, this);
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Writes an array, primitive arrays in bulk.
+     *
+     * @param array the array
+     * @param out   the encoder
+     * @throws IOException if the array cannot be written
+     */
+    private void writeArray(Object array, CborWriter out) throws IOException {
+        if (array instanceof byte[] bytes) {
+            out.writeBytes(bytes, 0, bytes.length);
+        } else if (array instanceof int[] ints) {
+            out.writeInts(ints);
+        } else if (array instanceof long[] longs) {
+            out.writeLongs(longs);
+        } else if (array instanceof double[] doubles) {
+            out.writeDoubles(doubles);
+        } else if (array instanceof float[] floats) {
+            out.writeFloats(floats);
+        } else if (array instanceof short[] shorts) {
+            out.writeShorts(shorts);
+        } else if (array instanceof char[] chars) {
+            out.writeString(new String(chars));
+        } else if (array instanceof boolean[] booleans) {
+            out.startArray(booleans.length);
+
+            for (boolean bool : booleans) {
+                out.writeBoolean(bool);
+            }
+        } else {
+            Object[] elements = (Object[]) array;
+            out.startArray(elements.length);
+
+            for (Object element : elements) {
+                write(element, out);
+            }
+        }
+    }
+
+    /**
+     * Reads an array of booleans.
+     *
+     * @param in the decoder
+     * @return the booleans
+     * @throws IOException if the item is not an array of booleans
+     */
+    private static boolean[] readBooleans(CborReader in) throws IOException {
+        int size = in.readArrayHeader();
+        boolean[] values = new boolean[(size < 0) ? 16 : size];
+        int count = 0;
+
+        while ((size < 0) ? !in.isBreak() : count < size) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+
+            values[count++] = in.readBoolean();
+        }
+
+        if (size < 0) {
+            in.readBreak();
+            values = Arrays.copyOf(values, count);
+        }
+
+        return values;
+    }
+
+    /**
+     * Reads the elements of an array into a collection.
+     *
+     * @param <C>         the collection type
+     * @param in          the decoder
+     * @param elementType the element type
+     * @param elements    the collection to fill
+     * @return the collection
+     * @throws IOException if the item is not an array of such elements
+     */
+    @SuppressWarnings("unchecked")
+    private <C extends Collection<?>> C readElements(CborReader in, Type elementType, C elements)
+            throws IOException {
+        Collection<Object> target = (Collection<Object>) elements;
+        int size = in.readArrayHeader();
+
+        for (int i = 0; (size < 0) ? !in.isBreak() : i < size; i++) {
+            target.add(read(in, elementType));
+        }
+
+        if (size < 0) {
+            in.readBreak();
+        }
+
+        return elements;
+    }
+
+    /**
+     * Reads the entries of a map.
+     *
+     * @param in        the decoder
+     * @param keyType   the key type: text, an enum, or a number
+     * @param valueType the value type
+     * @param entries   the map to fill
+     * @return the map
+     * @throws IOException if the item is not a map of such entries
+     */
+    private Map<Object, Object> readEntries(CborReader in, Type keyType, Type valueType,
+            Map<Object, Object> entries) throws IOException {
+        Class<?> rawKey = rawClass(keyType);
+        int size = in.readMapHeader();
+
+        for (int i = 0; (size < 0) ? !in.isBreak() : i < size; i++) {
+            Object key = (rawKey == Object.class || in.peekMajorType() != CborWriter.MAJOR_TEXT)
+                    ? read(in, keyType)
+                    : keyOf(in.readString(), rawKey);
+            entries.put(key, read(in, valueType));
+        }
+
+        if (size < 0) {
+            in.readBreak();
+        }
+
+        return entries;
+    }
+
+    /**
+     * Converts a map key written as text.
+     *
+     * @param text    the key text
+     * @param keyType the key type
+     * @return the key
+     * @throws IOException if the key cannot be converted
+     */
+    private static Object keyOf(String text, Class<?> keyType) throws IOException {
+        try {
+            if (keyType == String.class || keyType == CharSequence.class) {
+                return text;
+            } else if (keyType.isEnum()) {
+                return enumConstant(keyType, text);
+            } else if (keyType == Integer.class) {
+                return Integer.valueOf(text);
+            } else if (keyType == Long.class) {
+                return Long.valueOf(text);
+            } else if (keyType == Double.class) {
+                return Double.valueOf(text);
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Cannot decode the map key \"" + text + "\" into " + keyType, e);
+        }
+
+        throw new IOException("Cannot decode map keys into " + keyType);
+    }
+
+    /**
+     * Converts a decoded number.
+     *
+     * @param value the decoded value
+     * @param type  BigInteger, BigDecimal or Number
+     * @return the number
+     * @throws IOException if the value is not a number
+     */
+    private static Number toNumber(Object value, Class<?> type) throws IOException {
+        if (!(value instanceof Number number)) {
+            throw new IOException("Cannot decode " + value + " into a number");
+        } else if (type == Number.class) {
+            return number;
+        }
+
+        BigDecimal decimal = (number instanceof BigDecimal big) ? big
+                : (number instanceof BigInteger big) ? new BigDecimal(big)
+                : (number instanceof Double) ? BigDecimal.valueOf(number.doubleValue())
+                : BigDecimal.valueOf(number.longValue());
+
+        if (type == BigDecimal.class) {
+            return decimal;
+        }
+
+        try {
+            return decimal.toBigIntegerExact();
+        } catch (ArithmeticException e) {
+            throw new IOException("Cannot decode " + value + " into an integer", e);
+        }
+    }
+
+    /**
+     * Finds the constant of an enum by name.
+     *
+     * @param type the enum class
+     * @param name the constant name
+     * @return the constant
+     * @throws IOException if the enum has no such constant
+     */
+    private static Object enumConstant(Class<?> type, String name) throws IOException {
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+
+        throw new IOException("No constant " + name + " in " + type.getName());
+    }
+
+    /**
+     * Creates an empty collection for a declared type.
+     *
+     * @param type the declared collection type
+     * @return the collection
+     * @throws IOException if the type cannot be instantiated
+     */
+    private static Collection<?> newCollection(Class<?> type) throws IOException {
+        if (type.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>();
+        } else if (type.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>();
+        } else if (type.isAssignableFrom(TreeSet.class) && SortedSet.class.isAssignableFrom(type)) {
+            return new TreeSet<>();
+        }
+
+        return (Collection<?>) instantiate(type);
+    }
+
+    /**
+     * Creates an empty map for a declared type.
+     *
+     * @param type the declared map type
+     * @return the map
+     * @throws IOException if the type cannot be instantiated
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> newMap(Class<?> type) throws IOException {
+        if (type.isAssignableFrom(LinkedHashMap.class)) {
+            return new LinkedHashMap<>();
+        } else if (type.isAssignableFrom(TreeMap.class) && SortedMap.class.isAssignableFrom(type)) {
+            return new TreeMap<>();
+        } else if (type == HashMap.class) {
+            return new HashMap<>();
+        }
+
+        return (Map<Object, Object>) instantiate(type);
+    }
+
+    /**
+     * Instantiates a concrete class through its constructor without
+     * parameters.
+     *
+     * @param type the class
+     * @return the new instance
+     * @throws IOException if the class cannot be instantiated
+     */
+    private static Object instantiate(Class<?> type) throws IOException {
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IOException("Cannot instantiate " + type.getName() + " to decode CBOR", e);
+        }
+    }
+
+    /**
+     * Resolves the class of a possibly generic type.
+     *
+     * @param type the type
+     * @return the raw class, or Object for unbounded variables
+     */
+    static Class<?> rawClass(Type type) {
+        if (type instanceof Class<?> raw) {
+            return raw;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return rawClass(parameterized.getRawType());
+        } else if (type instanceof GenericArrayType array) {
+            return Array.newInstance(rawClass(array.getGenericComponentType()), 0).getClass();
+        } else if (type instanceof WildcardType wildcard) {
+            return rawClass(wildcard.getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable<?> variable) {
+            return rawClass(variable.getBounds()[0]);
+        }
+
+        return Object.class;
+    }
+
+    /**
+     * Resolves the element type of an array type.
+     *
+     * @param type the array type
+     * @return the element type
+     */
+    private static Type elementType(Type type) {
+        return (type instanceof GenericArrayType array) ? array.getGenericComponentType()
+                : rawClass(type).getComponentType();
+    }
+
+    /**
+     * Resolves a type argument of a generic type.
+     *
+     * @param type  the type
+     * @param index the index of the argument
+     * @return the argument, or Object if the type is raw
+     */
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length > index) {
+            return parameterized.getActualTypeArguments()[index];
+        }
+
+        return Object.class;
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * The fields of a class, with typed handles reading them.
+     */
+    private static final class ObjectLayout {
+
+        /** The kind of fields holding references. */
+        private static final int OBJECT = 0;
+
+        /** The kind of int fields. */
+        private static final int INT = 1;
+
+        /** The kind of long fields. */
+        private static final int LONG = 2;
+
+        /** The kind of double fields. */
+        private static final int DOUBLE = 3;
+
+        /** The kind of float fields. */
+        private static final int FLOAT = 4;
+
+        /** The kind of boolean fields. */
+        private static final int BOOLEAN = 5;
+
+        /** The kind of short and byte fields. */
+        private static final int SMALL_INT = 6;
+
+        /** The kind of char fields. */
+        private static final int CHAR = 7;
+
+        /** The lookup used for fields that are not public. */
+        private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+        /** The class laid out. */
+        private final Class<?> type;
+
+        /** Whether the class is written as its string form. */
+        private final boolean opaque;
+
+        /** The fields, in declaration order from the top superclass. */
+        private final Field[] fields;
+
+        /** The property names, encoded in UTF-8. */
+        private final byte[][] names;
+
+        /** The kind of each field. */
+        private final int[] kinds;
+
+        /** The getter of each field, returning its primitive type unboxed. */
+        private final MethodHandle[] getters;
+
+        /** The index of each field by property name. */
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        /** The constructor used to decode, or null if there is none. */
+        private final Constructor<?> constructor;
+
+        /**
+         * Resolves the layout of a class.
+         *
+         * @param type the class
+         */
+        ObjectLayout(Class<?> type) {
+            this.type = type;
+            this.opaque = isOpaque(type);
+            List<Field> declared = opaque ? List.of() : fieldsOf(type);
+
+            this.fields = declared.toArray(new Field[0]);
+            this.names = new byte[fields.length][];
+            this.kinds = new int[fields.length];
+            this.getters = new MethodHandle[fields.length];
+
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                String name = (serializedName != null) ? serializedName.value() : field.getName();
+                Class<?> fieldType = field.getType();
+
+                names[i] = name.getBytes(StandardCharsets.UTF_8);
+                kinds[i] = kindOf(fieldType);
+                getters[i] = getterOf(field);
+                indexes.put(name, i);
+            }
+
+            this.constructor = opaque ? null : constructorOf(type);
+        }
+
+        /**
+         * Writes an object as a map of its non-null fields.
+         *
+         * @param value the object
+         * @param out   the encoder
+         * @param codec the codec writing field values
+         * @throws IOException if the object cannot be written
+         */
+        void write(Object value, CborWriter out, CborCodec codec) throws IOException {
+            if (opaque) {
+                out.writeString(value.toString());
+                return;
+            }
+
+            out.startMap();
+
+            try {
+                for (int i = 0; i < fields.length; i++) {
+                    MethodHandle getter = getters[i];
+
+                    switch (kinds[i]) {
+                        case INT:
+                            out.writeUtf8(names[i]);
+                            out.writeLong((int) getter.invokeExact(value));
+                            break;
+                        case LONG:
+                            out.writeUtf8(names[i]);
+                            out.writeLong((long) getter.invokeExact(value));
+                            break;
+                        case DOUBLE:
+                            out.writeUtf8(names[i]);
+                            out.writeDouble((double) getter.invokeExact(value));
+                            break;
+                        case FLOAT:
+                            out.writeUtf8(names[i]);
+                            out.writeFloat((float) getter.invokeExact(value));
+                            break;
+                        case BOOLEAN:
+                            out.writeUtf8(names[i]);
+                            out.writeBoolean((boolean) getter.invokeExact(value));
+                            break;
+                        case SMALL_INT:
+                            out.writeUtf8(names[i]);
+                            out.writeLong((int) getter.invokeExact(value));
+                            break;
+                        case CHAR:
+                            out.writeUtf8(names[i]);
+                            out.writeString(String.valueOf((char) getter.invokeExact(value)));
+                            break;
+                        default:
+                            Object fieldValue = (Object) getter.invokeExact(value);
+
+                            if (fieldValue != null) {
+                                out.writeUtf8(names[i]);
+                                codec.write(fieldValue, out);
+                            }
+                    }
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IOException("Cannot read the fields of " + type.getName(), e);
+            }
+
+            out.writeBreak();
+        }
+
+        /**
+         * Reads an object from a map of its fields, ignoring unknown keys.
+         *
+         * @param in    the decoder
+         * @param codec the codec reading field values
+         * @return the object
+         * @throws IOException if the map cannot be read or the object cannot
+         *                     be built
+         */
+        Object read(CborReader in, CborCodec codec) throws IOException {
+            if (constructor == null) {
+                throw new IOException("Cannot decode CBOR into " + type.getName()
+                        + ", which has no constructor without parameters");
+            }
+
+            boolean record = type.isRecord();
+            Object[] arguments = record ? defaultArguments() : null;
+            Object target = record ? null : construct();
+            int size = in.readMapHeader();
+
+            for (int i = 0; (size < 0) ? !in.isBreak() : i < size; i++) {
+                Integer index = (in.peekMajorType() == CborWriter.MAJOR_TEXT) ? indexes.get(in.readString()) : null;
+
+                if (index == null) {
+                    in.skipValue();
+                    continue;
+                }
+
+                Field field = fields[index];
+                Object value = codec.read(in, field.getGenericType());
+
+                if (record) {
+                    arguments[index] = value;
+                } else if (value != null || !field.getType().isPrimitive()) {
+                    try {
+                        field.set(target, value);
+                    } catch (IllegalAccessException | RuntimeException e) {
+                        throw new IOException("Cannot set the field " + field.getName() + " of " + type.getName(), e);
+                    }
+                }
+            }
+
+            if (size < 0) {
+                in.readBreak();
+            }
+
+            return record ? construct(arguments) : target;
+        }
+
+        /**
+         * Builds the default arguments of a record constructor.
+         *
+         * @return zero or false for primitive components, null for the others
+         */
+        private Object[] defaultArguments() {
+            Object[] arguments = new Object[fields.length];
+
+            for (int i = 0; i < fields.length; i++) {
+                Class<?> fieldType = fields[i].getType();
+
+                if (fieldType.isPrimitive()) {
+                    arguments[i] = Array.get(Array.newInstance(fieldType, 1), 0);
+                }
+            }
+
+            return arguments;
+        }
+
+        /**
+         * Invokes the decoding constructor.
+         *
+         * @param arguments the constructor arguments
+         * @return the new instance
+         * @throws IOException if the constructor fails
+         */
+        private Object construct(Object... arguments) throws IOException {
+            try {
+                return constructor.newInstance(arguments);
+            } catch (InvocationTargetException e) {
+                throw new IOException("Cannot build " + type.getName() + " from CBOR", e.getCause());
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw new IOException("Cannot build " + type.getName() + " from CBOR", e);
+            }
+        }
+
+        /**
+         * Checks whether a class is written as its string form: a class of the
+         * JDK whose fields are not accessible.
+         *
+         * @param type the class
+         * @return true if the class is opaque
+         */
+        private static boolean isOpaque(Class<?> type) {
+            String name = type.getName();
+            return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                    || name.startsWith("sun.");
+        }
+
+        /**
+         * Lists the fields mapped by the JSON codec: record components, or the
+         * non-static, non-transient fields up the hierarchy.
+         *
+         * @param type the class
+         * @return the fields
+         */
+        private static List<Field> fieldsOf(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    try {
+                        fields.add(type.getDeclaredField(component.getName()));
+                    } catch (NoSuchFieldException e) {
+                        throw new IllegalStateException("No field for the component " + component.getName(), e);
+                    }
+                }
+
+                return fields;
+            }
+
+            List<Class<?>> hierarchy = new ArrayList<>();
+
+            for (Class<?> current = type; current != null && current != Object.class;
+                    current = current.getSuperclass()) {
+                hierarchy.add(0, current);
+            }
+
+            for (Class<?> current : hierarchy) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                        fields.add(field);
+                    }
+                }
+            }
+
+            return fields;
+        }
+
+        /**
+         * Classifies the type of a field.
+         *
+         * @param fieldType the field type
+         * @return the field kind
+         */
+        private static int kindOf(Class<?> fieldType) {
+            if (fieldType == int.class) {
+                return INT;
+            } else if (fieldType == long.class) {
+                return LONG;
+            } else if (fieldType == double.class) {
+                return DOUBLE;
+            } else if (fieldType == float.class) {
+                return FLOAT;
+            } else if (fieldType == boolean.class) {
+                return BOOLEAN;
+            } else if (fieldType == short.class || fieldType == byte.class) {
+                return SMALL_INT;
+            } else if (fieldType == char.class) {
+                return CHAR;
+            }
+
+            return OBJECT;
+        }
+
+        /**
+         * Resolves the getter of a field, typed to return its primitive type
+         * unboxed, with shorts and bytes widened to int.
+         *
+         * @param field the field
+         * @return the getter handle
+         */
+        private static MethodHandle getterOf(Field field) {
+            MethodHandle getter;
+
+            try {
+                field.setAccessible(true);
+                getter = LOOKUP.unreflectGetter(field);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("Cannot access the field " + field.getName() + " of "
+                        + field.getDeclaringClass().getName(), e);
+            }
+
+            Class<?> fieldType = field.getType();
+            Class<?> returned = !fieldType.isPrimitive() ? Object.class
+                    : (fieldType == short.class || fieldType == byte.class) ? int.class
+                    : fieldType;
+
+            return getter.asType(MethodType.methodType(returned, Object.class));
+        }
+
+        /**
+         * Finds the decoding constructor: the canonical constructor of a
+         * record, or the constructor without parameters of a class.
+         *
+         * @param type the class
+         * @return the accessible constructor, or null if there is none
+         */
+        private static Constructor<?> constructorOf(Class<?> type) {
+            if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                return null;
+            }
+
+            try {
+                Constructor<?> constructor;
+
+                if (type.isRecord()) {
+                    RecordComponent[] components = type.getRecordComponents();
+                    Class<?>[] parameterTypes = new Class<?>[components.length];
+
+                    for (int i = 0; i < components.length; i++) {
+                        parameterTypes[i] = components[i].getType();
+                    }
+
+                    constructor = type.getDeclaredConstructor(parameterTypes);
+                } else {
+                    constructor = type.getDeclaredConstructor();
+                }
+
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (NoSuchMethodException | RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
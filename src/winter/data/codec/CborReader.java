@@ -0,0 +1,1005 @@
+package winter.data.codec;
+
+import static winter.data.codec.CborWriter.MAJOR_ARRAY;
+import static winter.data.codec.CborWriter.MAJOR_BYTES;
+import static winter.data.codec.CborWriter.MAJOR_MAP;
+import static winter.data.codec.CborWriter.MAJOR_NEGATIVE;
+import static winter.data.codec.CborWriter.MAJOR_SIMPLE;
+import static winter.data.codec.CborWriter.MAJOR_TAG;
+import static winter.data.codec.CborWriter.MAJOR_TEXT;
+import static winter.data.codec.CborWriter.MAJOR_UNSIGNED;
+import static winter.data.codec.CborWriter.TAG_DECIMAL_FRACTION;
+import static winter.data.codec.CborWriter.TAG_NEGATIVE_BIGNUM;
+import static winter.data.codec.CborWriter.TAG_POSITIVE_BIGNUM;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import winter.util.BufferPool;
+
+/**
+ * A streaming CBOR decoder in the Winter framework.
+ * <p>
+ * Data items (RFC 8949) are decoded from a buffer borrowed from the
+ * {@link BufferPool} and refilled from the stream as needed, so a reader may
+ * consume bytes past the last item it returns. Numbers are read into
+ * primitives, and primitive arrays are read from typed arrays (RFC 8746) of
+ * any element type and byte order, or from plain arrays of numbers.
+ * </p>
+ * <p>
+ * {@link #readValue()} decodes any item into generic Java values: integers
+ * as <code>Long</code> or <code>BigInteger</code>, floats as
+ * <code>Double</code>, arrays as lists, maps as linked maps, typed arrays as
+ * primitive arrays, and decimal fractions as <code>BigDecimal</code>. Other
+ * tags are ignored. The reader is used by a single thread, and
+ * {@link #close()} must be called to return the buffer; it does not close the
+ * stream.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CborReader implements Closeable {
+
+    /** The initial byte of null. */
+    private static final int NULL = 0xF6;
+
+    /** The initial byte of undefined, read as null. */
+    private static final int UNDEFINED = 0xF7;
+
+    /** The initial byte ending items of unknown size. */
+    private static final int BREAK = 0xFF;
+
+    /** The additional information of items of unknown size. */
+    private static final int INDEFINITE = 31;
+
+    /** The deepest nesting of arrays, maps and tags accepted. */
+    static final int MAX_DEPTH = 512;
+
+    /** The source of the data. */
+    private final InputStream in;
+
+    /** The bytes read from the stream, or null once the reader is closed. */
+    private byte[] buffer = BufferPool.acquire();
+
+    /** The index of the next byte to decode. */
+    private int position = 0;
+
+    /** The number of bytes read into the buffer. */
+    private int limit = 0;
+
+    /** The major type of the last head read. */
+    private int major;
+
+    /** The additional information of the last head read. */
+    private int additional;
+
+    /** The argument of the last head read, as an unsigned value. */
+    private long argument;
+
+    /** The number of items being decoded around the current one. */
+    private int depth = 0;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a decoder reading from a stream.
+     *
+     * @param in the source, not closed by this reader
+     */
+    public CborReader(InputStream in) {
+        this.in = in;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Returns the major type of the next item, without consuming it.
+     *
+     * @return the major type, from 0 to 7
+     * @throws IOException if the data cannot be read
+     */
+    public int peekMajorType() throws IOException {
+        return peek() >>> 5;
+    }
+
+    /**
+     * Checks whether the next item is null or undefined, without consuming
+     * it.
+     *
+     * @return true if the next item is null
+     * @throws IOException if the data cannot be read
+     */
+    public boolean isNull() throws IOException {
+        int initial = peek();
+        return initial == NULL || initial == UNDEFINED;
+    }
+
+    /**
+     * Checks whether an array or map of unknown size ends here, without
+     * consuming the break.
+     *
+     * @return true if the next byte is a break
+     * @throws IOException if the data cannot be read
+     */
+    public boolean isBreak() throws IOException {
+        return peek() == BREAK;
+    }
+
+    /**
+     * Consumes the break ending an array or map of unknown size.
+     *
+     * @throws IOException if the next byte is not a break
+     */
+    public void readBreak() throws IOException {
+        if (readByte() != BREAK) {
+            throw new IOException("Expected the end of a CBOR array or map");
+        }
+    }
+
+    /**
+     * Reads an integer.
+     *
+     * @return the value
+     * @throws IOException if the item is not an integer fitting 64 bits
+     */
+    public long readLong() throws IOException {
+        readHead();
+
+        switch (major) {
+            case MAJOR_UNSIGNED:
+                if (argument < 0) {
+                    throw new IOException("CBOR integer out of range");
+                }
+                return argument;
+            case MAJOR_NEGATIVE:
+                if (argument < 0) {
+                    throw new IOException("CBOR integer out of range");
+                }
+                return -1 - argument;
+            case MAJOR_SIMPLE:
+                double value = floatOf();
+                if (value != Math.rint(value) || Math.abs(value) >= 0x1p63) {
+                    throw new IOException("Expected a CBOR integer, found " + value);
+                }
+                return (long) value;
+            case MAJOR_TAG:
+                try {
+                    Number number = readTagged();
+                    return (number instanceof BigInteger big) ? big.longValueExact()
+                            : ((BigDecimal) number).longValueExact();
+                } catch (ArithmeticException e) {
+                    throw new IOException("CBOR integer out of range", e);
+                }
+            default:
+                throw unexpected("an integer");
+        }
+    }
+
+    /**
+     * Reads a number as a double.
+     *
+     * @return the value
+     * @throws IOException if the item is not a number
+     */
+    public double readDouble() throws IOException {
+        readHead();
+
+        switch (major) {
+            case MAJOR_UNSIGNED:
+                return unsignedToDouble(argument);
+            case MAJOR_NEGATIVE:
+                return -1 - unsignedToDouble(argument);
+            case MAJOR_SIMPLE:
+                return floatOf();
+            case MAJOR_TAG:
+                return readTagged().doubleValue();
+            default:
+                throw unexpected("a number");
+        }
+    }
+
+    /**
+     * Reads a boolean.
+     *
+     * @return the value
+     * @throws IOException if the item is not a boolean
+     */
+    public boolean readBoolean() throws IOException {
+        int initial = readByte();
+
+        if (initial == 0xF5) {
+            return true;
+        } else if (initial == 0xF4) {
+            return false;
+        }
+
+        throw new IOException("Expected a CBOR boolean");
+    }
+
+    /**
+     * Reads a text string.
+     *
+     * @return the text
+     * @throws IOException if the item is not a text string
+     */
+    public String readString() throws IOException {
+        readHead();
+
+        if (major != MAJOR_TEXT) {
+            throw unexpected("a text string");
+        }
+
+        return readTextBody();
+    }
+
+    /**
+     * Reads a byte string.
+     *
+     * @return the bytes
+     * @throws IOException if the item is not a byte string
+     */
+    public byte[] readBytes() throws IOException {
+        readHead();
+
+        if (major != MAJOR_BYTES) {
+            throw unexpected("a byte string");
+        }
+
+        return (additional == INDEFINITE) ? readChunks(MAJOR_BYTES) : readRaw(lengthOf(argument));
+    }
+
+    /**
+     * Reads the head of an array.
+     *
+     * @return the number of elements, or -1 if the array ends with a break
+     * @throws IOException if the item is not an array
+     */
+    public int readArrayHeader() throws IOException {
+        readHead();
+
+        if (major != MAJOR_ARRAY) {
+            throw unexpected("an array");
+        }
+
+        return (additional == INDEFINITE) ? -1 : lengthOf(argument);
+    }
+
+    /**
+     * Reads the head of a map.
+     *
+     * @return the number of entries, or -1 if the map ends with a break
+     * @throws IOException if the item is not a map
+     */
+    public int readMapHeader() throws IOException {
+        readHead();
+
+        if (major != MAJOR_MAP) {
+            throw unexpected("a map");
+        }
+
+        return (additional == INDEFINITE) ? -1 : lengthOf(argument);
+    }
+
+    /**
+     * Reads an array of numbers into a primitive array, from a typed array or
+     * a plain array.
+     *
+     * @param componentType the primitive type of the elements, other than
+     *                      char and boolean
+     * @return the primitive array
+     * @throws IOException if the item is not an array of numbers
+     */
+    public Object readNumberArray(Class<?> componentType) throws IOException {
+        if (peekMajorType() == MAJOR_TAG) {
+            readHead();
+            int tag = (int) Math.min(argument, Integer.MAX_VALUE);
+
+            if (!isTypedArray(tag)) {
+                return readNumberArray(componentType);
+            }
+
+            return readTypedArray(tag, componentType);
+        }
+
+        if (componentType == byte.class && peekMajorType() == MAJOR_BYTES) {
+            return readBytes();
+        }
+
+        int size = readArrayHeader();
+        int capacity = (size < 0) ? 16 : size;
+        int count = 0;
+
+        if (componentType == int.class) {
+            int[] values = new int[capacity];
+            while (hasNext(size, count)) {
+                values = (count == values.length) ? Arrays.copyOf(values, count * 2) : values;
+                values[count++] = (int) readLong();
+            }
+            return endArray(size) ? Arrays.copyOf(values, count) : values;
+        } else if (componentType == long.class) {
+            long[] values = new long[capacity];
+            while (hasNext(size, count)) {
+                values = (count == values.length) ? Arrays.copyOf(values, count * 2) : values;
+                values[count++] = readLong();
+            }
+            return endArray(size) ? Arrays.copyOf(values, count) : values;
+        } else if (componentType == double.class) {
+            double[] values = new double[capacity];
+            while (hasNext(size, count)) {
+                values = (count == values.length) ? Arrays.copyOf(values, count * 2) : values;
+                values[count++] = readDouble();
+            }
+            return endArray(size) ? Arrays.copyOf(values, count) : values;
+        } else if (componentType == float.class) {
+            float[] values = new float[capacity];
+            while (hasNext(size, count)) {
+                values = (count == values.length) ? Arrays.copyOf(values, count * 2) : values;
+                values[count++] = (float) readDouble();
+            }
+            return endArray(size) ? Arrays.copyOf(values, count) : values;
+        } else if (componentType == short.class) {
+            short[] values = new short[capacity];
+            while (hasNext(size, count)) {
+                values = (count == values.length) ? Arrays.copyOf(values, count * 2) : values;
+                values[count++] = (short) readLong();
+            }
+            return endArray(size) ? Arrays.copyOf(values, count) : values;
+        } else if (componentType == byte.class) {
+            byte[] values = new byte[capacity];
+            while (hasNext(size, count)) {
+                values = (count == values.length) ? Arrays.copyOf(values, count * 2) : values;
+                values[count++] = (byte) readLong();
+            }
+            return endArray(size) ? Arrays.copyOf(values, count) : values;
+        }
+
+        throw new IllegalArgumentException("Not a numeric primitive type: " + componentType);
+    }
+
+    /**
+     * Reads any item into generic Java values.
+     *
+     * @return the value, or null
+     * @throws IOException if the data is malformed
+     */
+    public Object readValue() throws IOException {
+        enter();
+
+        try {
+            return readItem();
+        } finally {
+            leave();
+        }
+    }
+
+    /**
+     * Skips the next item, with all its content.
+     *
+     * @throws IOException if the data is malformed
+     */
+    public void skipValue() throws IOException {
+        enter();
+
+        try {
+            skipItem();
+        } finally {
+            leave();
+        }
+    }
+
+    /**
+     * Returns the buffer to the pool, leaving the stream open.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            BufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    /* ------------------------------ Nesting depth ----------------------------- */
+
+    /**
+     * Enters a nested item, before decoding it.
+     *
+     * @throws IOException if the data nests deeper than {@link #MAX_DEPTH}
+     */
+    void enter() throws IOException {
+        if (++depth > MAX_DEPTH) {
+            depth--;
+            throw new IOException("CBOR nesting too deep");
+        }
+    }
+
+    /**
+     * Leaves a nested item entered with {@link #enter()}.
+     */
+    void leave() {
+        depth--;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Reads any item into generic Java values, within {@link #readValue()}.
+     *
+     * @return the value, or null
+     * @throws IOException if the data is malformed
+     */
+    private Object readItem() throws IOException {
+        readHead();
+
+        switch (major) {
+            case MAJOR_UNSIGNED:
+                return (argument < 0) ? unsignedToBigInteger(argument) : (Object) argument;
+            case MAJOR_NEGATIVE:
+                return (argument < 0) ? unsignedToBigInteger(argument).not() : (Object) (-1 - argument);
+            case MAJOR_BYTES:
+                return (additional == INDEFINITE) ? readChunks(MAJOR_BYTES) : readRaw(lengthOf(argument));
+            case MAJOR_TEXT:
+                return readTextBody();
+            case MAJOR_ARRAY:
+                int size = (additional == INDEFINITE) ? -1 : lengthOf(argument);
+                List<Object> list = new ArrayList<>((size < 0) ? 10 : size);
+                while (hasNext(size, list.size())) {
+                    list.add(readValue());
+                }
+                endArray(size);
+                return list;
+            case MAJOR_MAP:
+                int entries = (additional == INDEFINITE) ? -1 : lengthOf(argument);
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; hasNext(entries, i); i++) {
+                    map.put(readValue(), readValue());
+                }
+                endArray(entries);
+                return map;
+            case MAJOR_TAG:
+                int tag = (int) Math.min(argument, Integer.MAX_VALUE);
+                if (isTypedArray(tag)) {
+                    return readTypedArray(tag, null);
+                } else if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM
+                        || tag == TAG_DECIMAL_FRACTION) {
+                    Number number = readTagged();
+                    return (number instanceof BigInteger big && big.bitLength() < 64) ? big.longValue() : number;
+                }
+                return readValue();
+            default:
+                if (additional == 20 || additional == 21) {
+                    return additional == 21;
+                } else if (additional == 22 || additional == 23) {
+                    return null;
+                } else if (additional >= 25 && additional <= 27) {
+                    return floatOf();
+                }
+                throw new IOException("Unexpected CBOR simple value " + argument);
+        }
+    }
+
+    /**
+     * Skips the next item, with all its content, within {@link #skipValue()}.
+     *
+     * @throws IOException if the data is malformed
+     */
+    private void skipItem() throws IOException {
+        readHead();
+
+        switch (major) {
+            case MAJOR_BYTES:
+            case MAJOR_TEXT:
+                if (additional == INDEFINITE) {
+                    readChunks(major);
+                } else {
+                    skip(argument);
+                }
+                break;
+            case MAJOR_ARRAY:
+            case MAJOR_MAP:
+                long items = (additional == INDEFINITE) ? -1 : argument * ((major == MAJOR_MAP) ? 2 : 1);
+                for (long i = 0; (items < 0) ? !isBreak() : i < items; i++) {
+                    skipValue();
+                }
+                if (items < 0) {
+                    readBreak();
+                }
+                break;
+            case MAJOR_TAG:
+                skipValue();
+                break;
+            default:
+                if (major == MAJOR_SIMPLE && additional == INDEFINITE) {
+                    throw new IOException("Unexpected CBOR break");
+                }
+        }
+    }
+
+    /**
+     * Reads the content of a text string whose head was read.
+     *
+     * @return the text
+     * @throws IOException if the data is malformed
+     */
+    private String readTextBody() throws IOException {
+        if (additional == INDEFINITE) {
+            return new String(readChunks(MAJOR_TEXT), StandardCharsets.UTF_8);
+        }
+
+        int length = lengthOf(argument);
+
+        if (length <= buffer.length) {
+            require(length);
+            String text = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return text;
+        }
+
+        return new String(readRaw(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the item following a numeric tag: a bignum or a decimal fraction.
+     *
+     * @return the number
+     * @throws IOException if the tag is not numeric or its item is malformed
+     */
+    private Number readTagged() throws IOException {
+        long tag = argument;
+
+        if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+            BigInteger magnitude = new BigInteger(1, readBytes());
+            return (tag == TAG_POSITIVE_BIGNUM) ? magnitude : magnitude.not();
+        } else if (tag == TAG_DECIMAL_FRACTION) {
+            if (readArrayHeader() != 2) {
+                throw new IOException("Malformed CBOR decimal fraction");
+            }
+
+            long exponent = readLong();
+            Object mantissa = readValue();
+            BigInteger unscaled = (mantissa instanceof BigInteger big) ? big
+                    : BigInteger.valueOf(((Number) mantissa).longValue());
+            return new BigDecimal(unscaled, Math.toIntExact(-exponent));
+        }
+
+        throw new IOException("Unexpected CBOR tag " + tag);
+    }
+
+    /**
+     * Reads the byte string of a typed array into a primitive array.
+     *
+     * @param tag           the typed array tag, already read
+     * @param componentType the primitive type of the elements, or null for
+     *                      the natural type of the tag
+     * @return the primitive array
+     * @throws IOException if the byte string is malformed
+     */
+    private Object readTypedArray(int tag, Class<?> componentType) throws IOException {
+        boolean floating = (tag & 0x10) != 0;
+        boolean signed = (tag & 0x08) != 0;
+        boolean little = (tag & 0x04) != 0;
+        int size = floating ? 2 << (tag & 0x03) : 1 << (tag & 0x03);
+
+        if (floating && size > 8) {
+            throw new IOException("Unsupported CBOR 128-bit float array");
+        }
+
+        readHead();
+
+        if (major != MAJOR_BYTES || additional == INDEFINITE || argument % size != 0) {
+            throw new IOException("Malformed CBOR typed array");
+        }
+
+        if (componentType == null) {
+            componentType = floating ? ((size == 8) ? double.class : float.class)
+                    : (size == 1) ? (signed ? byte.class : short.class)
+                    : (size == 2) ? (signed ? short.class : int.class)
+                    : (size == 4 && signed) ? int.class : long.class;
+        }
+
+        int count = lengthOf(argument / size);
+
+        if (componentType == int.class) {
+            int[] values = new int[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = floating ? (int) readFloatElement(size, little)
+                        : (int) readIntElement(size, signed, little);
+            }
+            return values;
+        } else if (componentType == long.class) {
+            long[] values = new long[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = floating ? (long) readFloatElement(size, little) : readIntElement(size, signed, little);
+            }
+            return values;
+        } else if (componentType == double.class) {
+            double[] values = new double[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = floating ? readFloatElement(size, little) : readIntElement(size, signed, little);
+            }
+            return values;
+        } else if (componentType == float.class) {
+            float[] values = new float[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = floating ? (float) readFloatElement(size, little) : readIntElement(size, signed, little);
+            }
+            return values;
+        } else if (componentType == short.class) {
+            short[] values = new short[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = floating ? (short) readFloatElement(size, little)
+                        : (short) readIntElement(size, signed, little);
+            }
+            return values;
+        } else if (componentType == byte.class) {
+            if (!floating && size == 1) {
+                return readRaw(count);
+            }
+
+            byte[] values = new byte[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = floating ? (byte) readFloatElement(size, little)
+                        : (byte) readIntElement(size, signed, little);
+            }
+            return values;
+        }
+
+        throw new IllegalArgumentException("Not a numeric primitive type: " + componentType);
+    }
+
+    /**
+     * Reads one integer element of a typed array.
+     *
+     * @param size   the element size in bytes
+     * @param signed whether the element is signed
+     * @param little whether the element is little-endian
+     * @return the value
+     * @throws IOException if the data cannot be read
+     */
+    private long readIntElement(int size, boolean signed, boolean little) throws IOException {
+        require(size);
+        long value = 0;
+
+        for (int i = 0; i < size; i++) {
+            int b = buffer[position + (little ? size - 1 - i : i)] & 0xFF;
+            value = (value << 8) | b;
+        }
+
+        position += size;
+
+        if (signed && size < 8) {
+            int shift = 64 - size * 8;
+            value = (value << shift) >> shift;
+        }
+
+        return value;
+    }
+
+    /**
+     * Reads one float element of a typed array.
+     *
+     * @param size   the element size in bytes
+     * @param little whether the element is little-endian
+     * @return the value
+     * @throws IOException if the data cannot be read
+     */
+    private double readFloatElement(int size, boolean little) throws IOException {
+        long bits = readIntElement(size, false, little);
+
+        if (size == 2) {
+            return halfToFloat((int) bits);
+        } else if (size == 4) {
+            return Float.intBitsToFloat((int) bits);
+        }
+
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Reads the head of the next item into {@link #major},
+     * {@link #additional} and {@link #argument}.
+     *
+     * @throws IOException if the head is malformed
+     */
+    private void readHead() throws IOException {
+        int initial = readByte();
+        major = initial >>> 5;
+        additional = initial & 0x1F;
+
+        if (additional < 24) {
+            argument = additional;
+        } else if (additional <= 27) {
+            int length = headLength(additional) - 1;
+            require(length);
+            long value = 0;
+
+            for (int i = 0; i < length; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+
+            argument = value;
+        } else if (additional == INDEFINITE
+                && (major == MAJOR_BYTES || major == MAJOR_TEXT || major == MAJOR_ARRAY
+                        || major == MAJOR_MAP || major == MAJOR_SIMPLE)) {
+            argument = -1;
+        } else {
+            throw new IOException("Malformed CBOR item head " + initial);
+        }
+    }
+
+    /**
+     * Reads the chunks of a string of unknown size, up to its break.
+     *
+     * @param chunkType the major type of the chunks
+     * @return the concatenated bytes
+     * @throws IOException if a chunk is malformed
+     */
+    private byte[] readChunks(int chunkType) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        while (!isBreak()) {
+            readHead();
+
+            if (major != chunkType || additional == INDEFINITE) {
+                throw new IOException("Malformed CBOR string chunk");
+            }
+
+            bytes.writeBytes(readRaw(lengthOf(argument)));
+        }
+
+        readBreak();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads bytes into a new array.
+     *
+     * @param length the number of bytes
+     * @return the bytes
+     * @throws IOException if the data ends early
+     */
+    private byte[] readRaw(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int available = Math.min(limit - position, length);
+        System.arraycopy(buffer, position, bytes, 0, available);
+        position += available;
+
+        for (int offset = available; offset < length;) {
+            int read = in.read(bytes, offset, length - offset);
+
+            if (read < 0) {
+                throw new EOFException("Unexpected end of CBOR data");
+            }
+
+            offset += read;
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Skips bytes.
+     *
+     * @param length the number of bytes
+     * @throws IOException if the data ends early
+     */
+    private void skip(long length) throws IOException {
+        while (length > 0) {
+            if (position == limit) {
+                fill(1);
+            }
+
+            int skipped = (int) Math.min(limit - position, length);
+            position += skipped;
+            length -= skipped;
+        }
+    }
+
+    /**
+     * Returns the next byte without consuming it.
+     *
+     * @return the byte, from 0 to 255
+     * @throws IOException if the data ends
+     */
+    private int peek() throws IOException {
+        require(1);
+        return buffer[position] & 0xFF;
+    }
+
+    /**
+     * Consumes the next byte.
+     *
+     * @return the byte, from 0 to 255
+     * @throws IOException if the data ends
+     */
+    private int readByte() throws IOException {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * Makes bytes available in the buffer, contiguously.
+     *
+     * @param length the number of bytes, at most the buffer size
+     * @throws IOException if the data ends early
+     */
+    private void require(int length) throws IOException {
+        if (limit - position < length) {
+            fill(length);
+        }
+    }
+
+    /**
+     * Moves the unread bytes to the start of the buffer and reads until some
+     * bytes are available.
+     *
+     * @param length the number of bytes needed
+     * @throws IOException if the data ends early or the reader is closed
+     */
+    private void fill(int length) throws IOException {
+        if (buffer == null) {
+            throw new IOException("The reader is closed");
+        }
+
+        System.arraycopy(buffer, position, buffer, 0, limit - position);
+        limit -= position;
+        position = 0;
+
+        while (limit < length) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+
+            if (read < 0) {
+                throw new EOFException("Unexpected end of CBOR data");
+            }
+
+            limit += read;
+        }
+    }
+
+    /**
+     * Checks whether an array or map has more items, consuming the break of
+     * one of unknown size only through {@link #endArray(int)}.
+     *
+     * @param size  the number of items, or -1 if unknown
+     * @param index the number of items read
+     * @return true if another item follows
+     * @throws IOException if the data cannot be read
+     */
+    private boolean hasNext(int size, int index) throws IOException {
+        return (size < 0) ? !isBreak() : index < size;
+    }
+
+    /**
+     * Consumes the break of an array or map of unknown size.
+     *
+     * @param size the number of items, or -1 if unknown
+     * @return true if the size was unknown
+     * @throws IOException if the break cannot be read
+     */
+    private boolean endArray(int size) throws IOException {
+        if (size < 0) {
+            readBreak();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Decodes the float of the last simple head.
+     *
+     * @return the value
+     * @throws IOException if the head is not a float
+     */
+    private double floatOf() throws IOException {
+        switch (additional) {
+            case 25:
+                return halfToFloat((int) argument);
+            case 26:
+                return Float.intBitsToFloat((int) argument);
+            case 27:
+                return Double.longBitsToDouble(argument);
+            default:
+                throw unexpected("a number");
+        }
+    }
+
+    /**
+     * Builds the exception for an item of the wrong type.
+     *
+     * @param expected the description of the expected item
+     * @return the exception
+     */
+    private IOException unexpected(String expected) {
+        return new IOException("Expected " + expected + " in CBOR data, found major type " + major);
+    }
+
+    /**
+     * Checks whether a tag is a typed array of numbers.
+     *
+     * @param tag the tag
+     * @return true for the integer and float typed array tags
+     */
+    private static boolean isTypedArray(int tag) {
+        return tag >= 64 && tag <= 87 && tag != 76;
+    }
+
+    /**
+     * Returns the length of a head, from its additional information.
+     *
+     * @param additional the additional information, up to 27
+     * @return the number of bytes, including the initial byte
+     */
+    private static int headLength(int additional) {
+        return (additional < 24) ? 1 : 1 + (1 << (additional - 24));
+    }
+
+    /**
+     * Checks a length read from a head.
+     *
+     * @param length the length, as an unsigned value
+     * @return the length
+     * @throws IOException if the length does not fit an array
+     */
+    private static int lengthOf(long length) throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IOException("CBOR item too large: " + Long.toUnsignedString(length));
+        }
+
+        return (int) length;
+    }
+
+    /**
+     * Converts an unsigned 64-bit value to a double.
+     *
+     * @param value the value
+     * @return the double
+     */
+    private static double unsignedToDouble(long value) {
+        return (value >= 0) ? value : (double) (value >>> 1) * 2.0;
+    }
+
+    /**
+     * Converts an unsigned 64-bit value to a big integer.
+     *
+     * @param value the value
+     * @return the big integer
+     */
+    private static BigInteger unsignedToBigInteger(long value) {
+        return new BigInteger(Long.toUnsignedString(value));
+    }
+
+    /**
+     * Converts the bits of a 16-bit float.
+     *
+     * @param bits the half-precision bits
+     * @return the value
+     */
+    private static float halfToFloat(int bits) {
+        int exponent = (bits >> 10) & 0x1F;
+        int mantissa = bits & 0x3FF;
+        float value;
+
+        if (exponent == 0) {
+            value = mantissa * 0x1p-24f;
+        } else if (exponent == 0x1F) {
+            value = (mantissa == 0) ? Float.POSITIVE_INFINITY : Float.NaN;
+        } else {
+            value = (1 + mantissa / 1024f) * (float) Math.scalb(1.0, exponent - 15);
+        }
+
+        return ((bits & 0x8000) != 0) ? -value : value;
+    }
+}
@@ -0,0 +1,554 @@
+package winter.data.codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+
+import winter.util.BufferPool;
+
+/**
+ * A streaming CBOR encoder in the Winter framework.
+ * <p>
+ * Data items (RFC 8949) are encoded into a buffer borrowed from the
+ * {@link BufferPool} and sent to the stream each time it fills. Numbers are
+ * written from primitives, in the shortest head for integers, and primitive
+ * arrays are written in bulk as typed arrays (RFC 8746): a tag followed by a
+ * byte string of big-endian elements. Text is encoded into UTF-8 directly,
+ * with unpaired surrogates written as <code>?</code>.
+ * </p>
+ * <p>
+ * The writer is used by a single thread, and {@link #close()} must be called
+ * to send the rest of the data and return the buffer; it does not close the
+ * stream.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CborWriter implements Closeable {
+
+    /** The major type of unsigned integers. */
+    static final int MAJOR_UNSIGNED = 0;
+
+    /** The major type of negative integers. */
+    static final int MAJOR_NEGATIVE = 1;
+
+    /** The major type of byte strings. */
+    static final int MAJOR_BYTES = 2;
+
+    /** The major type of text strings. */
+    static final int MAJOR_TEXT = 3;
+
+    /** The major type of arrays. */
+    static final int MAJOR_ARRAY = 4;
+
+    /** The major type of maps. */
+    static final int MAJOR_MAP = 5;
+
+    /** The major type of tags. */
+    static final int MAJOR_TAG = 6;
+
+    /** The major type of simple values and floats. */
+    static final int MAJOR_SIMPLE = 7;
+
+    /** The tag of unsigned bignums. */
+    static final int TAG_POSITIVE_BIGNUM = 2;
+
+    /** The tag of negative bignums. */
+    static final int TAG_NEGATIVE_BIGNUM = 3;
+
+    /** The tag of decimal fractions. */
+    static final int TAG_DECIMAL_FRACTION = 4;
+
+    /** The tag of big-endian signed 16-bit typed arrays. */
+    static final int TAG_INT16_ARRAY = 73;
+
+    /** The tag of big-endian signed 32-bit typed arrays. */
+    static final int TAG_INT32_ARRAY = 74;
+
+    /** The tag of big-endian signed 64-bit typed arrays. */
+    static final int TAG_INT64_ARRAY = 75;
+
+    /** The tag of big-endian 32-bit float typed arrays. */
+    static final int TAG_FLOAT32_ARRAY = 81;
+
+    /** The tag of big-endian 64-bit float typed arrays. */
+    static final int TAG_FLOAT64_ARRAY = 82;
+
+    /** The big-endian view of buffers as shorts. */
+    private static final VarHandle SHORTS = MethodHandles.byteArrayViewVarHandle(short[].class,
+            ByteOrder.BIG_ENDIAN);
+
+    /** The big-endian view of buffers as ints. */
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    /** The big-endian view of buffers as longs. */
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /** The big-endian view of buffers as floats. */
+    private static final VarHandle FLOATS = MethodHandles.byteArrayViewVarHandle(float[].class,
+            ByteOrder.BIG_ENDIAN);
+
+    /** The big-endian view of buffers as doubles. */
+    private static final VarHandle DOUBLES = MethodHandles.byteArrayViewVarHandle(double[].class,
+            ByteOrder.BIG_ENDIAN);
+
+    /** The byte written in place of an unpaired surrogate. */
+    private static final byte REPLACEMENT = '?';
+
+    /** The destination of the data. */
+    private final OutputStream out;
+
+    /** The encoded bytes not sent yet, or null once the writer is closed. */
+    private byte[] buffer = BufferPool.acquire();
+
+    /** The number of bytes in the buffer. */
+    private int count = 0;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates an encoder writing to a stream.
+     *
+     * @param out the destination, not closed by this writer
+     */
+    public CborWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Writes null.
+     *
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeNull() throws IOException {
+        ensure(1);
+        buffer[count++] = (byte) 0xF6;
+    }
+
+    /**
+     * Writes a boolean.
+     *
+     * @param value the value
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeBoolean(boolean value) throws IOException {
+        ensure(1);
+        buffer[count++] = (byte) (value ? 0xF5 : 0xF4);
+    }
+
+    /**
+     * Writes an integer in its shortest form.
+     *
+     * @param value the value
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeLong(long value) throws IOException {
+        if (value >= 0) {
+            writeHead(MAJOR_UNSIGNED, value);
+        } else {
+            writeHead(MAJOR_NEGATIVE, -1 - value);
+        }
+    }
+
+    /**
+     * Writes an integer of any size, as a bignum beyond 64 bits.
+     *
+     * @param value the value
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeBigInteger(BigInteger value) throws IOException {
+        if (value.bitLength() < 64) {
+            writeLong(value.longValue());
+            return;
+        }
+
+        boolean negative = value.signum() < 0;
+        byte[] magnitude = (negative ? value.not() : value).toByteArray();
+        int offset = (magnitude[0] == 0) ? 1 : 0;
+
+        writeTag(negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        writeBytes(magnitude, offset, magnitude.length - offset);
+    }
+
+    /**
+     * Writes a 64-bit float.
+     *
+     * @param value the value
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeDouble(double value) throws IOException {
+        ensure(9);
+        buffer[count++] = (byte) 0xFB;
+        DOUBLES.set(buffer, count, value);
+        count += 8;
+    }
+
+    /**
+     * Writes a 32-bit float.
+     *
+     * @param value the value
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeFloat(float value) throws IOException {
+        ensure(5);
+        buffer[count++] = (byte) 0xFA;
+        FLOATS.set(buffer, count, value);
+        count += 4;
+    }
+
+    /**
+     * Writes a text string.
+     *
+     * @param text the text
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeString(CharSequence text) throws IOException {
+        int length = text.length();
+        writeHead(MAJOR_TEXT, utf8Length(text));
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c < 0x80) {
+                ensure(1);
+                buffer[count++] = (byte) c;
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer[count++] = (byte) (0xC0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                ensure(4);
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                ensure(1);
+                buffer[count++] = REPLACEMENT;
+            } else {
+                ensure(3);
+                buffer[count++] = (byte) (0xE0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Writes a text string already encoded in UTF-8, such as a precomputed
+     * property name.
+     *
+     * @param utf8 the encoded text
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeUtf8(byte[] utf8) throws IOException {
+        writeHead(MAJOR_TEXT, utf8.length);
+        writeRaw(utf8, 0, utf8.length);
+    }
+
+    /**
+     * Writes a byte string.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+        writeHead(MAJOR_BYTES, length);
+        writeRaw(bytes, offset, length);
+    }
+
+    /**
+     * Starts an array of known size, followed by its elements.
+     *
+     * @param size the number of elements
+     * @throws IOException if the data cannot be sent
+     */
+    public void startArray(int size) throws IOException {
+        writeHead(MAJOR_ARRAY, size);
+    }
+
+    /**
+     * Starts an array of unknown size, ended by {@link #writeBreak()}.
+     *
+     * @throws IOException if the data cannot be sent
+     */
+    public void startArray() throws IOException {
+        ensure(1);
+        buffer[count++] = (byte) 0x9F;
+    }
+
+    /**
+     * Starts a map of known size, followed by its keys and values.
+     *
+     * @param size the number of entries
+     * @throws IOException if the data cannot be sent
+     */
+    public void startMap(int size) throws IOException {
+        writeHead(MAJOR_MAP, size);
+    }
+
+    /**
+     * Starts a map of unknown size, ended by {@link #writeBreak()}.
+     *
+     * @throws IOException if the data cannot be sent
+     */
+    public void startMap() throws IOException {
+        ensure(1);
+        buffer[count++] = (byte) 0xBF;
+    }
+
+    /**
+     * Ends an array or map of unknown size.
+     *
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeBreak() throws IOException {
+        ensure(1);
+        buffer[count++] = (byte) 0xFF;
+    }
+
+    /**
+     * Writes a tag, followed by the tagged item.
+     *
+     * @param tag the tag number
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeTag(long tag) throws IOException {
+        writeHead(MAJOR_TAG, tag);
+    }
+
+    /**
+     * Writes shorts as a typed array.
+     *
+     * @param values the values
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeShorts(short[] values) throws IOException {
+        writeTag(TAG_INT16_ARRAY);
+        writeHead(MAJOR_BYTES, values.length * 2L);
+
+        for (short value : values) {
+            ensure(2);
+            SHORTS.set(buffer, count, value);
+            count += 2;
+        }
+    }
+
+    /**
+     * Writes ints as a typed array.
+     *
+     * @param values the values
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeInts(int[] values) throws IOException {
+        writeTag(TAG_INT32_ARRAY);
+        writeHead(MAJOR_BYTES, values.length * 4L);
+
+        for (int value : values) {
+            ensure(4);
+            INTS.set(buffer, count, value);
+            count += 4;
+        }
+    }
+
+    /**
+     * Writes longs as a typed array.
+     *
+     * @param values the values
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeLongs(long[] values) throws IOException {
+        writeTag(TAG_INT64_ARRAY);
+        writeHead(MAJOR_BYTES, values.length * 8L);
+
+        for (long value : values) {
+            ensure(8);
+            LONGS.set(buffer, count, value);
+            count += 8;
+        }
+    }
+
+    /**
+     * Writes floats as a typed array.
+     *
+     * @param values the values
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeFloats(float[] values) throws IOException {
+        writeTag(TAG_FLOAT32_ARRAY);
+        writeHead(MAJOR_BYTES, values.length * 4L);
+
+        for (float value : values) {
+            ensure(4);
+            FLOATS.set(buffer, count, value);
+            count += 4;
+        }
+    }
+
+    /**
+     * Writes doubles as a typed array.
+     *
+     * @param values the values
+     * @throws IOException if the data cannot be sent
+     */
+    public void writeDoubles(double[] values) throws IOException {
+        writeTag(TAG_FLOAT64_ARRAY);
+        writeHead(MAJOR_BYTES, values.length * 8L);
+
+        for (double value : values) {
+            ensure(8);
+            DOUBLES.set(buffer, count, value);
+            count += 8;
+        }
+    }
+
+    /**
+     * Sends the buffered data and flushes the stream.
+     *
+     * @throws IOException if the data cannot be sent
+     */
+    public void flush() throws IOException {
+        sendBuffer();
+        out.flush();
+    }
+
+    /**
+     * Sends the rest of the data and returns the buffer to the pool, leaving
+     * the stream open.
+     *
+     * @throws IOException if the data cannot be sent
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+
+        try {
+            sendBuffer();
+        } finally {
+            BufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Writes the head of a data item, in its shortest form.
+     *
+     * @param major    the major type
+     * @param argument the argument, as an unsigned value
+     * @throws IOException if the data cannot be sent
+     */
+    private void writeHead(int major, long argument) throws IOException {
+        int type = major << 5;
+        ensure(9);
+
+        if (argument >= 0 && argument < 24) {
+            buffer[count++] = (byte) (type | (int) argument);
+        } else if (argument >= 0 && argument < 0x100) {
+            buffer[count++] = (byte) (type | 24);
+            buffer[count++] = (byte) argument;
+        } else if (argument >= 0 && argument < 0x10000) {
+            buffer[count++] = (byte) (type | 25);
+            SHORTS.set(buffer, count, (short) argument);
+            count += 2;
+        } else if (argument >= 0 && argument < 0x100000000L) {
+            buffer[count++] = (byte) (type | 26);
+            INTS.set(buffer, count, (int) argument);
+            count += 4;
+        } else {
+            buffer[count++] = (byte) (type | 27);
+            LONGS.set(buffer, count, argument);
+            count += 8;
+        }
+    }
+
+    /**
+     * Appends bytes, sending large runs straight to the stream.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @throws IOException if the data cannot be sent
+     */
+    private void writeRaw(byte[] bytes, int offset, int length) throws IOException {
+        if (length > buffer.length - count) {
+            sendBuffer();
+
+            if (length > buffer.length) {
+                out.write(bytes, offset, length);
+                return;
+            }
+        }
+
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    /**
+     * Makes room for bytes in the buffer.
+     *
+     * @param length the number of bytes to append, at most 9
+     * @throws IOException if the buffer cannot be sent
+     */
+    private void ensure(int length) throws IOException {
+        if (count + length > buffer.length) {
+            sendBuffer();
+        }
+    }
+
+    /**
+     * Sends the buffered bytes to the stream.
+     *
+     * @throws IOException if the bytes cannot be sent
+     */
+    private void sendBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    /**
+     * Computes the length of a text encoded in UTF-8.
+     *
+     * @param text the text
+     * @return the number of bytes, counting unpaired surrogates as one
+     */
+    private static int utf8Length(CharSequence text) {
+        int length = text.length();
+        int bytes = length;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            } else if (c >= 0x80) {
+                bytes++;
+            }
+        }
+
+        return bytes;
+    }
+}
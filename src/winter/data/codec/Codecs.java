@@ -0,0 +1,146 @@
+package winter.data.codec;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapterFactory;
+
+import winter.util.Utility;
+
+/**
+ * Utility class holding the codecs shared by the Winter framework.
+ * <p>
+ * The JSON codec defaults to a {@link GsonJsonCodec} built once from a shared
+ * {@link GsonBuilder}. Applications register their Gson type adapters here, or
+ * replace the codec entirely, typically from a
+ * <code>ServletContextListener</code> so that the configuration is complete
+ * before the first request. The CBOR codec is stateless apart from its cached
+ * class layouts, and needs no configuration.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Codecs extends Utility {
+
+    /** The configuration of the default JSON codec. */
+    private static final GsonBuilder GSON_BUILDER = new GsonBuilder();
+
+    /** The shared CBOR codec. */
+    private static final CborCodec CBOR_CODEC = new CborCodec();
+
+    /** The shared JSON codec, or null until first needed. */
+    private static volatile JsonCodec jsonCodec;
+
+    /** Whether the JSON codec was replaced with {@link #setJsonCodec(JsonCodec)}. */
+    private static boolean customJsonCodec;
+
+    /* ------------------------------- JSON codec ------------------------------- */
+
+    /**
+     * Gets the shared JSON codec, building the default one on first use.
+     *
+     * @return the JSON codec
+     */
+    public static JsonCodec getJsonCodec() {
+        JsonCodec codec = jsonCodec;
+
+        if (codec == null) {
+            synchronized (GSON_BUILDER) {
+                codec = jsonCodec;
+
+                if (codec == null) {
+                    codec = new GsonJsonCodec(GSON_BUILDER.create());
+                    jsonCodec = codec;
+                }
+            }
+        }
+
+        return codec;
+    }
+
+    /**
+     * Replaces the shared JSON codec.
+     * <p>
+     * Gson type adapters can no longer be registered afterwards, since they
+     * only configure the default codec.
+     * </p>
+     *
+     * @param codec the codec, which must be thread-safe
+     */
+    public static void setJsonCodec(JsonCodec codec) {
+        Objects.requireNonNull(codec);
+
+        synchronized (GSON_BUILDER) {
+            jsonCodec = codec;
+            customJsonCodec = true;
+        }
+    }
+
+    /**
+     * Registers a Gson type adapter for the default JSON codec.
+     * <p>
+     * The default codec is rebuilt on its next use.
+     * </p>
+     *
+     * @param type    the adapted type
+     * @param adapter a Gson <code>TypeAdapter</code>, <code>JsonSerializer</code>,
+     *                <code>JsonDeserializer</code> or
+     *                <code>InstanceCreator</code>
+     * @throws IllegalStateException if the JSON codec was replaced with
+     *                               {@link #setJsonCodec(JsonCodec)}
+     * @see GsonBuilder#registerTypeAdapter(Type, Object)
+     */
+    public static void registerTypeAdapter(Type type, Object adapter) {
+        synchronized (GSON_BUILDER) {
+            checkDefaultJsonCodec();
+            GSON_BUILDER.registerTypeAdapter(type, adapter);
+            jsonCodec = null;
+        }
+    }
+
+    /**
+     * Registers a Gson type adapter factory for the default JSON codec.
+     * <p>
+     * The default codec is rebuilt on its next use.
+     * </p>
+     *
+     * @param factory the type adapter factory
+     * @throws IllegalStateException if the JSON codec was replaced with
+     *                               {@link #setJsonCodec(JsonCodec)}
+     * @see GsonBuilder#registerTypeAdapterFactory(TypeAdapterFactory)
+     */
+    public static void registerTypeAdapterFactory(TypeAdapterFactory factory) {
+        synchronized (GSON_BUILDER) {
+            checkDefaultJsonCodec();
+            GSON_BUILDER.registerTypeAdapterFactory(factory);
+            jsonCodec = null;
+        }
+    }
+
+    /**
+     * Ensures the JSON codec is still the default one, built from the shared
+     * Gson configuration.
+     *
+     * @throws IllegalStateException if the JSON codec was replaced
+     */
+    private static void checkDefaultJsonCodec() {
+        if (customJsonCodec) {
+            throw new IllegalStateException(
+                    "Gson type adapters only apply to the default JSON codec, which was replaced");
+        }
+    }
+
+    /* ------------------------------- CBOR codec ------------------------------- */
+
+    /**
+     * Gets the shared CBOR codec.
+     *
+     * @return the CBOR codec
+     */
+    public static CborCodec getCborCodec() {
+        return CBOR_CODEC;
+    }
+}
@@ -0,0 +1,100 @@
+package winter.data.codec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * The default {@link JsonCodec} of the Winter framework, backed by Gson.
+ * <p>
+ * A single {@link Gson} instance is shared by every request, so the type
+ * adapters it resolves are cached for the lifetime of the application. Values
+ * are streamed into the destination through a {@link JsonWriter}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GsonJsonCodec implements JsonCodec {
+
+    /** The configured Gson instance. */
+    private final Gson gson;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a codec with the default Gson configuration.
+     */
+    public GsonJsonCodec() {
+        this(new Gson());
+    }
+
+    /**
+     * Constructs a codec over a configured Gson instance.
+     *
+     * @param gson the Gson instance, shared by every call
+     */
+    public GsonJsonCodec(Gson gson) {
+        this.gson = gson;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the configured Gson instance.
+     *
+     * @return the Gson instance
+     */
+    public Gson getGson() {
+        return gson;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Streams a value as JSON into a character stream.
+     *
+     * @param value  the value to write, may be null
+     * @param writer the destination
+     * @throws IOException if the value cannot be written
+     */
+    @Override
+    public void write(Object value, Writer writer) throws IOException {
+        JsonWriter jsonWriter = gson.newJsonWriter(writer);
+
+        try {
+            if (value == null) {
+                jsonWriter.nullValue();
+            } else {
+                gson.toJson(value, value.getClass(), jsonWriter);
+            }
+        } catch (JsonIOException e) {
+            throw new IOException("Cannot write JSON", e);
+        }
+    }
+
+    /**
+     * Reads a JSON document from a character stream.
+     *
+     * @param <T>    the target type
+     * @param reader the source, not closed
+     * @param type   the target type, possibly generic
+     * @return the value read
+     * @throws IOException if the document cannot be read or is malformed
+     */
+    @Override
+    public <T> T read(Reader reader, Type type) throws IOException {
+        try {
+            return gson.fromJson(reader, type);
+        } catch (JsonParseException e) {
+            throw new IOException("Cannot read JSON", e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package winter.data.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializes and deserializes JSON documents in the Winter framework.
+ * <p>
+ * One configured codec is shared by the whole framework through
+ * {@link Codecs#getJsonCodec()}, so implementations must be thread-safe and
+ * should keep their per-type state (such as reflective adapters) across calls.
+ * Values are written straight into the response writer or stream, without
+ * building the document as a string first.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface JsonCodec {
+
+    /**
+     * Writes a value as JSON into a character stream.
+     * <p>
+     * The writer is neither flushed nor closed, so that callers writing many
+     * values decide when the output is sent.
+     * </p>
+     *
+     * @param value  the value to write, may be null
+     * @param writer the destination
+     * @throws IOException if the value cannot be written
+     */
+    void write(Object value, Writer writer) throws IOException;
+
+    /**
+     * Reads a JSON document from a character stream.
+     *
+     * @param <T>    the target type
+     * @param reader the source, not closed
+     * @param type   the target type, possibly generic
+     * @return the value read
+     * @throws IOException if the document cannot be read or is malformed
+     */
+    <T> T read(Reader reader, Type type) throws IOException;
+
+    /**
+     * Writes a value as UTF-8 encoded JSON into a byte stream.
+     * <p>
+     * The stream is flushed but not closed.
+     * </p>
+     *
+     * @param value  the value to write, may be null
+     * @param stream the destination
+     * @throws IOException if the value cannot be written
+     */
+    default void write(Object value, OutputStream stream) throws IOException {
+        Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+        write(value, writer);
+        writer.flush();
+    }
+
+    /**
+     * Serializes a value into a JSON string.
+     * <p>
+     * Prefer {@link #write(Object, Writer)} for responses, which does not hold
+     * the whole document in memory.
+     * </p>
+     *
+     * @param value the value to serialize, may be null
+     * @return the JSON document
+     */
+    default String toJson(Object value) {
+        StringWriter writer = new StringWriter();
+
+        try {
+            write(value, writer);
+        } catch (IOException e) {
+            // A StringWriter never fails
+            throw new IllegalStateException(e);
+        }
+
+        return writer.toString();
+    }
+}
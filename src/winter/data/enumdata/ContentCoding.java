@@ -0,0 +1,126 @@
+package winter.data.enumdata;
+
+/**
+ * Enumerates the content codings used to compress responses in the Winter
+ * framework.
+ * <p>
+ * The coding of a response is negotiated from the
+ * <code>Accept-Encoding</code> header of the request by
+ * {@link #negotiate(String)}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ContentCoding {
+
+    /** The gzip format of RFC 1952. */
+    GZIP("gzip"),
+
+    /** The zlib format of RFC 1950, named "deflate" in HTTP. */
+    DEFLATE("deflate");
+
+    /** The token of the coding in HTTP headers. */
+    private final String token;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a content coding.
+     *
+     * @param token the token of the coding in HTTP headers
+     */
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the token of the coding in HTTP headers.
+     *
+     * @return the token, as sent in <code>Content-Encoding</code>
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Chooses the coding of a response from an <code>Accept-Encoding</code>
+     * header.
+     * <p>
+     * The coding with the highest quality value is chosen, gzip winning ties;
+     * <code>*</code> stands for any coding not listed, and a quality of 0
+     * refuses a coding.
+     * </p>
+     *
+     * @param acceptEncoding the header value, or null if absent
+     * @return the chosen coding, or null if the response must not be compressed
+     */
+    public static ContentCoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+
+        double gzip = -1;
+        double deflate = -1;
+        double any = -1;
+        int start = 0;
+
+        while (start < acceptEncoding.length()) {
+            int end = acceptEncoding.indexOf(',', start);
+            end = (end < 0) ? acceptEncoding.length() : end;
+
+            int parameters = acceptEncoding.indexOf(';', start);
+            int tokenEnd = (parameters >= 0 && parameters < end) ? parameters : end;
+            String token = acceptEncoding.substring(start, tokenEnd).trim();
+            double quality = qualityOf(acceptEncoding, tokenEnd, end);
+
+            if (token.equalsIgnoreCase("gzip") || token.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, quality);
+            } else if (token.equalsIgnoreCase("deflate")) {
+                deflate = Math.max(deflate, quality);
+            } else if (token.equals("*")) {
+                any = quality;
+            }
+
+            start = end + 1;
+        }
+
+        gzip = (gzip < 0) ? any : gzip;
+        deflate = (deflate < 0) ? any : deflate;
+
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        }
+
+        return (deflate > 0) ? DEFLATE : null;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Reads the quality value of a coding.
+     *
+     * @param acceptEncoding the header value
+     * @param from           the index of the coding parameters
+     * @param to             the index of the end of the coding
+     * @return the quality value, 1 if absent or malformed
+     */
+    private static double qualityOf(String acceptEncoding, int from, int to) {
+        int q = acceptEncoding.indexOf("q=", from);
+
+        if (q < 0 || q >= to) {
+            return 1;
+        }
+
+        try {
+            return Double.parseDouble(acceptEncoding.substring(q + 2, to).trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package winter.data.enumdata;
+
+/**
+ * Enumerates the instance scopes of controllers in the Winter framework.
+ * <p>
+ * This enum defines how controller instances are created and reused across
+ * requests. It is used with {@link winter.data.annotation.Controller} and
+ * resolved once by {@link winter.service.ControllerScanner}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ControllerScope {
+
+    /**
+     * A single instance shared by all requests; the controller must be
+     * stateless apart from its injected {@link winter.data.servletabstraction.Session}.
+     */
+    SINGLETON,
+
+    /**
+     * Instances reused from a bounded pool, each serving one request at a time.
+     */
+    POOLED,
+
+    /** A new instance for every request. */
+    PROTOTYPE
+}
@@ -0,0 +1,25 @@
+package winter.data.enumdata;
+
+/**
+ * Enumerates the kinds of entity tags sent with cached responses in the Winter
+ * framework.
+ * <p>
+ * This enum is used with {@link winter.data.annotation.http.HttpCache} and
+ * resolved once into a {@link winter.data.CachePolicy}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ETagMode {
+
+    /** No entity tag is sent. */
+    NONE,
+
+    /** A strong tag, <code>"..."</code>, promising byte-identical bodies. */
+    STRONG,
+
+    /** A weak tag, <code>W/"..."</code>, promising equivalent bodies. */
+    WEAK
+}
@@ -0,0 +1,37 @@
+package winter.data.enumdata;
+
+/**
+ * Enumerates the ways a template value is escaped in the Winter framework.
+ * <p>
+ * The mode of each value is chosen when its template is compiled, from the
+ * HTML context the value appears in, and applied by
+ * {@link winter.data.template.Escaper}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum EscapeMode {
+
+    /** Written as is, for values marked raw. */
+    NONE,
+
+    /** Markup characters and quotes replaced, for text and quoted attributes. */
+    HTML,
+
+    /** Like {@link #HTML}, with white space and <code>=</code> replaced too. */
+    UNQUOTED_ATTRIBUTE,
+
+    /** Percent-encoded UTF-8, for values inside a URL. */
+    URL_COMPONENT,
+
+    /** Punctuation written as <code>&#92;uXXXX</code>, for JavaScript strings. */
+    SCRIPT_STRING,
+
+    /** Written as a JSON value, for JavaScript outside of strings. */
+    SCRIPT_VALUE,
+
+    /** Punctuation written as <code>&#92;XXXXXX</code>, for style sheets. */
+    CSS
+}
@@ -26,5 +26,30 @@ public enum RequestVerb {
     PUT,
 
     /** Represents an HTTP DELETE request, typically used to remove resources. */
-    DELETE
+    DELETE;
+
+    /**
+     * Resolves a verb from an HTTP method name.
+     * <p>
+     * Unlike {@link #valueOf(String)}, this method does not throw for methods the
+     * framework does not route (e.g., HEAD, OPTIONS).
+     * </p>
+     *
+     * @param method the HTTP method name, as returned by
+     *               {@link jakarta.servlet.http.HttpServletRequest#getMethod()}
+     * @return the matching verb, or null if the method is not supported
+     */
+    public static RequestVerb fromMethod(String method) {
+        if (method == null) {
+            return null;
+        }
+
+        return switch (method) {
+            case "GET" -> GET;
+            case "POST" -> POST;
+            case "PUT" -> PUT;
+            case "DELETE" -> DELETE;
+            default -> null;
+        };
+    }
 }
\ No newline at end of file
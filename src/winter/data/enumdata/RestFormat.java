@@ -0,0 +1,72 @@
+package winter.data.enumdata;
+
+import winter.util.ContentNegotiator;
+
+/**
+ * Enumerates the formats of REST responses in the Winter framework.
+ * <p>
+ * Results of {@link winter.data.annotation.Rest} methods, whether a
+ * {@link winter.data.client.ModelView} or a string, are written in one of these
+ * formats, chosen from the <code>Accept</code> header among the formats the
+ * annotation allows. Error responses stay in JSON.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum RestFormat {
+
+    /** JSON, written by the shared {@link winter.data.codec.JsonCodec}. */
+    JSON("application/json;charset=UTF-8", "application/json"),
+
+    /**
+     * CBOR (RFC 8949), written by the {@link winter.data.codec.CborCodec}:
+     * the same document as JSON in a compact binary encoding.
+     */
+    CBOR("application/cbor", "application/cbor");
+
+    /** The content type of responses in this format. */
+    private final String contentType;
+
+    /** The media types selecting this format in an <code>Accept</code> header. */
+    private final String[] mediaTypes;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a REST format.
+     *
+     * @param contentType the content type of responses in this format
+     * @param mediaTypes  the media types selecting this format
+     */
+    RestFormat(String contentType, String... mediaTypes) {
+        this.contentType = contentType;
+        this.mediaTypes = mediaTypes;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the content type of responses in this format.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Chooses the format of a REST response from an <code>Accept</code>
+     * header, the first allowed format unless the header prefers another.
+     *
+     * @param accept  the <code>Accept</code> header, or null if absent
+     * @param allowed the formats the handler produces, preferred first
+     * @return the chosen format
+     */
+    public static RestFormat negotiate(String accept, RestFormat[] allowed) {
+        return ContentNegotiator.negotiate(accept, allowed, format -> format.mediaTypes);
+    }
+}
@@ -0,0 +1,77 @@
+package winter.data.enumdata;
+
+import winter.util.ContentNegotiator;
+
+/**
+ * Enumerates the formats of streamed controller results in the Winter
+ * framework.
+ * <p>
+ * Handlers returning a {@link java.util.stream.Stream},
+ * {@link java.util.Iterator} or {@link Iterable} write their elements one by
+ * one in one of these formats, chosen from the <code>Accept</code> header among
+ * the formats allowed by {@link winter.data.annotation.Streaming}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum StreamFormat {
+
+    /** A single JSON array holding every element. */
+    JSON_ARRAY("application/json;charset=UTF-8", "application/json"),
+
+    /** One JSON document per line (newline-delimited JSON). */
+    NDJSON("application/x-ndjson;charset=UTF-8", "application/x-ndjson", "application/ndjson", "application/jsonl"),
+
+    /** Comma-separated values with a header row, as defined by RFC 4180. */
+    CSV("text/csv;charset=UTF-8", "text/csv");
+
+    /** The content type of responses in this format. */
+    private final String contentType;
+
+    /** The media types selecting this format in an <code>Accept</code> header. */
+    private final String[] mediaTypes;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a stream format.
+     *
+     * @param contentType the content type of responses in this format
+     * @param mediaTypes  the media types selecting this format
+     */
+    StreamFormat(String contentType, String... mediaTypes) {
+        this.contentType = contentType;
+        this.mediaTypes = mediaTypes;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the content type of responses in this format.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Chooses the format of a response from an <code>Accept</code> header.
+     * <p>
+     * The allowed format with the highest quality in the header is chosen; on
+     * equal quality, the one listed first in the header wins. Wildcards and an
+     * absent header select the first allowed format.
+     * </p>
+     *
+     * @param accept  the <code>Accept</code> header, or null if absent
+     * @param allowed the formats the handler produces, preferred first
+     * @return the chosen format
+     */
+    public static StreamFormat negotiate(String accept, StreamFormat[] allowed) {
+        return ContentNegotiator.negotiate(accept, allowed, format -> format.mediaTypes);
+    }
+}
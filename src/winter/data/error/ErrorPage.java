@@ -0,0 +1,244 @@
+package winter.data.error;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.servletabstraction.Utf8ResponseWriter;
+import winter.util.HtmlWriter;
+
+/**
+ * The pre-rendered error responses of an HTTP status in the Winter framework.
+ * <p>
+ * The HTML page and the JSON object of a status are rendered once through an
+ * {@link HtmlWriter}, as UTF-8 bytes split around the error message, so
+ * sending an error only streams the escaped message between byte arrays, with
+ * an exact <code>Content-Length</code>. The page carries its own minimal style
+ * sheet and loads no external resource. In development, the stack trace of a
+ * failure can be streamed into the page too.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ErrorPage {
+
+    /** The content type of HTML error pages. */
+    public static final String HTML_CONTENT_TYPE = "text/html;charset=UTF-8";
+
+    /** The content type of JSON error bodies. */
+    public static final String JSON_CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    /** The style sheet of the HTML pages. */
+    private static final String STYLE = "body{margin:0;min-height:100vh;display:flex;align-items:center;"
+            + "justify-content:center;background:#f3f4f6;font-family:system-ui,sans-serif}"
+            + "main{background:#fff;padding:2rem;border-radius:.25rem;box-shadow:0 1px 3px rgba(0,0,0,.15);"
+            + "text-align:center;max-width:40rem}h1{font-size:2.25rem;margin:0 0 1rem}"
+            + "p{color:#4b5563;margin:0 0 1.5rem}pre{text-align:left;overflow:auto;font-size:.75rem}";
+
+    /** The hexadecimal digits of unicode escapes. */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /** The HTTP status code. */
+    private final int status;
+
+    /** The HTML page up to the message. */
+    private final byte[] htmlHead;
+
+    /** The HTML page from the end of the message to the stack trace. */
+    private final byte[] htmlMiddle;
+
+    /** The HTML page after the stack trace. */
+    private final byte[] htmlTail;
+
+    /** The JSON object up to the message. */
+    private final byte[] jsonHead;
+
+    /** The JSON object after the message. */
+    private final byte[] jsonTail;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Renders the error responses of a status.
+     *
+     * @param status  the HTTP status code
+     * @param reason  the reason phrase of the status
+     * @param title   the title of the HTML page
+     * @param details the explanation shown under the message, or an empty
+     *                string if none
+     */
+    public ErrorPage(int status, String reason, String title, String details) {
+        this.status = status;
+
+        StringWriter head = new StringWriter();
+        StringWriter middle = new StringWriter();
+
+        try {
+            HtmlWriter html = new HtmlWriter(head);
+            html.raw("<!DOCTYPE html>\n").start("html").attribute("lang", "en").raw("\n");
+            html.start("head").raw("\n").start("meta").attribute("charset", "UTF-8").raw("\n");
+            html.start("meta").attribute("name", "viewport")
+                    .attribute("content", "width=device-width, initial-scale=1.0").raw("\n");
+            html.element("title", "Error " + status).raw("\n").start("style").raw(STYLE).end("style").raw("\n");
+            html.end("head").raw("\n").start("body").raw("\n").start("main").raw("\n");
+            html.element("h1", title).raw("\n").start("p").flush();
+
+            html = new HtmlWriter(middle);
+            html.end("p").raw("\n");
+
+            if (!details.isEmpty()) {
+                html.element("p", details).raw("\n");
+            }
+
+            html.flush();
+        } catch (IOException e) {
+            // String writers do not fail
+            throw new IllegalStateException(e);
+        }
+
+        this.htmlHead = head.toString().getBytes(StandardCharsets.UTF_8);
+        this.htmlMiddle = middle.toString().getBytes(StandardCharsets.UTF_8);
+        this.htmlTail = "</main>\n</body>\n</html>\n".getBytes(StandardCharsets.UTF_8);
+        this.jsonHead = ("{\"status\":" + status + ",\"error\":\"" + escapeJson(reason) + "\",\"message\":")
+                .getBytes(StandardCharsets.UTF_8);
+        this.jsonTail = "}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the HTTP status code.
+     *
+     * @return the status code
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Sends the error response of the status.
+     *
+     * @param resp    the HTTP response, not yet committed
+     * @param message the error message, or null if none
+     * @param json    true to send the JSON object, false to send the HTML page
+     * @throws IOException if the response cannot be written
+     */
+    public void write(HttpServletResponse resp, String message, boolean json) throws IOException {
+        write(resp, message, json, null);
+    }
+
+    /**
+     * Sends the error response of the status, with the stack trace of a
+     * failure on the HTML page.
+     * <p>
+     * The message and trace are escaped while they are written into a
+     * {@link Utf8ResponseWriter}, which sends pages of usual size with their
+     * exact length.
+     * </p>
+     *
+     * @param resp    the HTTP response, not yet committed
+     * @param message the error message, or null if none
+     * @param json    true to send the JSON object, false to send the HTML page
+     * @param trace   the failure whose stack trace is shown, or null to show
+     *                none; JSON bodies never show it
+     * @throws IOException if the response cannot be written
+     */
+    public void write(HttpServletResponse resp, String message, boolean json, Throwable trace) throws IOException {
+        resp.setStatus(status);
+        resp.setContentType(json ? JSON_CONTENT_TYPE : HTML_CONTENT_TYPE);
+        Utf8ResponseWriter out = new Utf8ResponseWriter(resp);
+
+        try {
+            if (json) {
+                out.writeEncoded(jsonHead, 0, jsonHead.length);
+
+                if (message != null) {
+                    out.write('"');
+                    writeJson(message, out);
+                    out.write('"');
+                } else {
+                    out.write("null");
+                }
+
+                out.writeEncoded(jsonTail, 0, jsonTail.length);
+            } else {
+                out.writeEncoded(htmlHead, 0, htmlHead.length);
+
+                if (message != null) {
+                    HtmlWriter.escape(message, out);
+                }
+
+                out.writeEncoded(htmlMiddle, 0, htmlMiddle.length);
+
+                if (trace != null) {
+                    new HtmlWriter(out).start("pre").stackTrace(trace).end("pre").raw("\n");
+                }
+
+                out.writeEncoded(htmlTail, 0, htmlTail.length);
+            }
+
+            out.close();
+        } finally {
+            out.discard();
+        }
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Escapes text for a JSON string.
+     *
+     * @param text the text
+     * @return the escaped text, without the enclosing quotes
+     */
+    public static String escapeJson(String text) {
+        StringWriter escaped = new StringWriter(text.length() + 16);
+
+        try {
+            writeJson(text, escaped);
+        } catch (IOException e) {
+            // String writers do not fail
+            throw new IllegalStateException(e);
+        }
+
+        return escaped.toString();
+    }
+
+    /**
+     * Writes text escaped for a JSON string.
+     *
+     * @param text the text
+     * @param out  the destination
+     * @throws IOException if the text cannot be written
+     */
+    private static void writeJson(String text, Writer out) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        out.write("\\u");
+                        out.write(HEX_DIGITS[c >> 12]);
+                        out.write(HEX_DIGITS[(c >> 8) & 0xF]);
+                        out.write(HEX_DIGITS[(c >> 4) & 0xF]);
+                        out.write(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package winter.data.error;
+
+import winter.util.Utility;
+
+/**
+ * The pre-rendered error responses of every client and server error status in
+ * the Winter framework.
+ * <p>
+ * The {@link ErrorPage} of each status from 400 to 599 is rendered when the
+ * class is loaded, so no template is formatted while serving a request.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ErrorPages extends Utility {
+
+    /** The first status with a pre-rendered page. */
+    private static final int FIRST_STATUS = 400;
+
+    /** The last status with a pre-rendered page. */
+    private static final int LAST_STATUS = 599;
+
+    /** The pre-rendered pages, indexed from {@link #FIRST_STATUS}. */
+    private static final ErrorPage[] PAGES = new ErrorPage[LAST_STATUS - FIRST_STATUS + 1];
+
+    static {
+        for (int status = FIRST_STATUS; status <= LAST_STATUS; status++) {
+            PAGES[status - FIRST_STATUS] = render(status);
+        }
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Gets the error responses of a status.
+     *
+     * @param status the HTTP status code
+     * @return the pre-rendered page, or a page rendered on the spot for a status
+     *         outside 400 to 599
+     */
+    public static ErrorPage of(int status) {
+        return (status >= FIRST_STATUS && status <= LAST_STATUS) ? PAGES[status - FIRST_STATUS] : render(status);
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Renders the error responses of a status.
+     *
+     * @param status the HTTP status code
+     * @return the rendered page
+     */
+    private static ErrorPage render(int status) {
+        String reason = reasonOf(status);
+        String title = status + " - " + (status == 404 ? "Page Not Found" : reason);
+        return new ErrorPage(status, reason, title, detailsOf(status));
+    }
+
+    /**
+     * Gets the reason phrase of a status.
+     *
+     * @param status the HTTP status code
+     * @return the reason phrase, or "Error" for an unnamed status
+     */
+    private static String reasonOf(int status) {
+        return switch (status) {
+            case 400 -> "Bad Request";
+            case 401 -> "Unauthorized";
+            case 403 -> "Forbidden";
+            case 404 -> "Not Found";
+            case 405 -> "Method Not Allowed";
+            case 406 -> "Not Acceptable";
+            case 409 -> "Conflict";
+            case 410 -> "Gone";
+            case 412 -> "Precondition Failed";
+            case 413 -> "Content Too Large";
+            case 415 -> "Unsupported Media Type";
+            case 422 -> "Unprocessable Content";
+            case 429 -> "Too Many Requests";
+            case 500 -> "Internal Server Error";
+            case 501 -> "Not Implemented";
+            case 502 -> "Bad Gateway";
+            case 503 -> "Service Unavailable";
+            case 504 -> "Gateway Timeout";
+            default -> "Error";
+        };
+    }
+
+    /**
+     * Gets the explanation shown on the page of a status.
+     *
+     * @param status the HTTP status code
+     * @return the explanation, or an empty string if none
+     */
+    private static String detailsOf(int status) {
+        return switch (status) {
+            case 404 -> "The page you're looking for might have been removed or is temporarily unavailable.";
+            case 405 -> "The requested method is not allowed for this resource.";
+            case 403 -> "You don't have permission to access this resource.";
+            case 500 -> "An unexpected error occurred on our server. We're working on it!";
+            default -> "";
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package winter.data.error;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import winter.data.exception.annotation.InvalidMappingException;
+import winter.data.invocation.ArgumentFrame;
+import winter.data.invocation.MethodInvoker;
+import winter.data.scope.ControllerProvider;
+
+/**
+ * The error response of an exception class in the Winter framework.
+ * <p>
+ * A mapping holds the HTTP status of the error and, for
+ * {@link winter.data.annotation.ExceptionHandler} methods, the handler method
+ * compiled into a {@link MethodInvoker} together with the
+ * {@link ControllerProvider} of its controller, like a request handler.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ExceptionMapping {
+
+    /** The HTTP status of the error. */
+    private final int status;
+
+    /** The compiled invoker of the handler method, or null if none. */
+    private final MethodInvoker invoker;
+
+    /** The provider of controller instances, or null for static methods. */
+    private final ControllerProvider provider;
+
+    /** Whether the handler method receives the exception. */
+    private final boolean receivesException;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a mapping to a status only.
+     *
+     * @param status the HTTP status of the error
+     */
+    public ExceptionMapping(int status) {
+        this.status = status;
+        this.invoker = null;
+        this.provider = null;
+        this.receivesException = false;
+    }
+
+    /**
+     * Compiles a mapping to a handler method.
+     *
+     * @param status   the HTTP status of the error
+     * @param method   the handler method
+     * @param provider the provider of instances of the controller declaring
+     *                 the method
+     * @throws IllegalAccessException  if the method cannot be accessed
+     * @throws InvalidMappingException if the method takes more than one
+     *                                 parameter, or one that cannot receive an
+     *                                 exception
+     */
+    public ExceptionMapping(int status, Method method, ControllerProvider provider) throws IllegalAccessException {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        if (parameterTypes.length > 1
+                || (parameterTypes.length == 1 && parameterTypes[0] != Object.class
+                        && !Throwable.class.isAssignableFrom(parameterTypes[0]))) {
+            throw new InvalidMappingException("The exception handler " + method.getName() + " of "
+                    + method.getDeclaringClass().getName() + " must take no parameter or the exception");
+        }
+
+        this.status = status;
+        this.invoker = new MethodInvoker(method);
+        this.provider = Modifier.isStatic(method.getModifiers()) ? null : provider;
+        this.receivesException = parameterTypes.length == 1;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the HTTP status of the error.
+     *
+     * @return the status code
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks if the mapping invokes a handler method.
+     *
+     * @return true if an application method renders the error, false otherwise
+     */
+    public boolean hasHandler() {
+        return invoker != null;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Invokes the handler method.
+     * <p>
+     * An exception the method does not accept, as its parameter only declares
+     * one of the handled classes, is passed as null.
+     * </p>
+     *
+     * @param exception the exception being handled
+     * @return the result of the method, or null if it returns nothing
+     * @throws ReflectiveOperationException if the controller cannot be
+     *                                      instantiated or the method throws an
+     *                                      exception
+     */
+    public Object invoke(Throwable exception) throws ReflectiveOperationException {
+        ArgumentFrame frame = invoker.newFrame();
+
+        if (receivesException) {
+            frame.setReference(0, frame.getType(0).isInstance(exception) ? exception : null);
+        }
+
+        if (provider == null) {
+            return invoker.invoke(null, frame);
+        }
+
+        Object instance = provider.acquire();
+
+        try {
+            return invoker.invoke(instance, frame);
+        } finally {
+            provider.release(instance);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package winter.data.error;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import winter.data.exception.client.InvalidRequestVerbException;
+import winter.data.exception.client.MappingNotFoundException;
+import winter.data.exception.internal.RequestFailedException;
+import winter.util.Utility;
+
+/**
+ * Utility class resolving the {@link ExceptionMapping} of each exception class
+ * in the Winter framework.
+ * <p>
+ * The mapping of a class is the one registered for the class itself or its
+ * closest registered superclass. It is resolved on first use and cached in a
+ * {@link ClassValue}, so an error is mapped with a single lookup instead of a
+ * chain of <code>instanceof</code> tests. Built-in mappings send
+ * {@link MappingNotFoundException} as 404, {@link InvalidRequestVerbException}
+ * as 405 and {@link IllegalAccessException} as 403; unmapped exceptions are
+ * server errors.
+ * </p>
+ * <p>
+ * Applications add mappings with
+ * {@link winter.data.annotation.ExceptionHandler} methods, registered when the
+ * controllers are scanned.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ExceptionMappings extends Utility {
+
+    /** The mapping of exceptions without a registered mapping. */
+    public static final ExceptionMapping SERVER_ERROR = new ExceptionMapping(500);
+
+    /** The largest number of causes followed to find a mapped exception. */
+    private static final int MAX_CAUSE_DEPTH = 8;
+
+    /** The registered mappings, by exception class. */
+    private static final Map<Class<?>, ExceptionMapping> REGISTERED = new ConcurrentHashMap<>();
+
+    /** The resolved mapping of each class, null if no superclass is registered. */
+    private static volatile ClassValue<ExceptionMapping> mappings = newTable();
+
+    static {
+        REGISTERED.put(MappingNotFoundException.class, new ExceptionMapping(404));
+        REGISTERED.put(InvalidRequestVerbException.class, new ExceptionMapping(405));
+        REGISTERED.put(IllegalAccessException.class, new ExceptionMapping(403));
+    }
+
+    /* ------------------------------ Registration ------------------------------ */
+
+    /**
+     * Registers the mapping of an exception class, replacing any built-in or
+     * previously registered one.
+     *
+     * @param type    the exception class, covering its subclasses
+     * @param mapping the mapping
+     */
+    public static void register(Class<? extends Throwable> type, ExceptionMapping mapping) {
+        REGISTERED.put(Objects.requireNonNull(type), Objects.requireNonNull(mapping));
+
+        // Subclasses may have resolved to the mapping of a superclass
+        mappings = newTable();
+    }
+
+    /* --------------------------------- Lookup --------------------------------- */
+
+    /**
+     * Finds the mapping of an exception class.
+     *
+     * @param type the exception class
+     * @return the mapping of the class or its closest registered superclass, or
+     *         null if none
+     */
+    public static ExceptionMapping find(Class<?> type) {
+        return mappings.get(type);
+    }
+
+    /**
+     * Finds the exception of a failure that has a mapping.
+     * <p>
+     * The exception itself is checked first, then its causes. Wrappers of the
+     * framework ({@link RequestFailedException}) and of reflection
+     * ({@link InvocationTargetException},
+     * {@link UndeclaredThrowableException}) are looked through, so the
+     * exception the application threw is mapped even when a mapping covers
+     * its wrappers too, as one for <code>Exception</code> does.
+     * </p>
+     *
+     * @param exception the failure
+     * @return the first mapped exception of the cause chain that is not a
+     *         wrapper, or null if none
+     */
+    public static Throwable findMapped(Throwable exception) {
+        Throwable current = exception;
+
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (!isWrapper(current) && find(current.getClass()) != null) {
+                return current;
+            }
+
+            current = (current.getCause() != current) ? current.getCause() : null;
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether an exception only wraps its cause.
+     *
+     * @param exception the exception
+     * @return true for the wrappers of the framework and of reflection that
+     *         have a cause
+     */
+    private static boolean isWrapper(Throwable exception) {
+        return exception.getCause() != null && (exception instanceof RequestFailedException
+                || exception instanceof InvocationTargetException
+                || exception instanceof UndeclaredThrowableException);
+    }
+
+    /* ------------------------------- Resolution ------------------------------- */
+
+    /**
+     * Creates an empty table of resolved mappings.
+     *
+     * @return the table
+     */
+    private static ClassValue<ExceptionMapping> newTable() {
+        return new ClassValue<>() {
+            @Override
+            protected ExceptionMapping computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+    }
+
+    /**
+     * Resolves the mapping of a class from the closest registered superclass.
+     *
+     * @param type the exception class
+     * @return the mapping, or null if none
+     */
+    private static ExceptionMapping resolve(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            ExceptionMapping mapping = REGISTERED.get(current);
+
+            if (mapping != null) {
+                return mapping;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,37 @@
+package winter.data.exception.annotation;
+
+/**
+ * Indicates that a URL mapping pattern is malformed in the Winter framework.
+ * <p>
+ * This runtime exception is thrown while compiling the routing table when a
+ * {@link winter.data.annotation.http.UrlMapping} value cannot be turned into a
+ * route (e.g., an unclosed <code>{var}</code> segment or a wildcard that is not
+ * the last segment). It is raised by {@link winter.data.routing.Router} during
+ * controller scanning.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InvalidMappingException extends RuntimeException {
+
+    /**
+     * Constructs an exception with a message describing the invalid mapping.
+     *
+     * @param msg the detail message explaining the error
+     */
+    public InvalidMappingException(String msg) {
+        super(msg);
+    }
+
+    /**
+     * Constructs an exception with a message and a cause for the invalid mapping.
+     *
+     * @param msg   the detail message explaining the error
+     * @param cause the underlying cause of the exception
+     */
+    public InvalidMappingException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
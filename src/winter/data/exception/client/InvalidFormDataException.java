@@ -10,6 +10,10 @@ package winter.data.exception.client;
  * {@link winter.service.ControllerHandler}
  * or {@link winter.util.DataUtil}.
  * </p>
+ * <p>
+ * Like the other client errors, it is created without a stack trace, as
+ * malformed input is routine and says nothing about the server code.
+ * </p>
  *
  * @author Hasina JY
  * @version 1.0.0
@@ -24,7 +28,7 @@ public class InvalidFormDataException extends Exception {
      * </p>
      */
     public InvalidFormDataException() {
-        super("Invalid form data provided");
+        super("Invalid form data provided", null, false, false);
     }
 
     /**
@@ -33,7 +37,7 @@ public class InvalidFormDataException extends Exception {
      * @param message the detail message explaining the invalid form data
      */
     public InvalidFormDataException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     /**
@@ -45,7 +49,7 @@ public class InvalidFormDataException extends Exception {
      *                error)
      */
     public InvalidFormDataException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 
     /**
@@ -54,6 +58,6 @@ public class InvalidFormDataException extends Exception {
      * @param cause the underlying cause of the exception (e.g., a validation error)
      */
     public InvalidFormDataException(Throwable cause) {
-        super(cause);
+        super((cause != null) ? cause.toString() : null, cause, false, false);
     }
 }
\ No newline at end of file
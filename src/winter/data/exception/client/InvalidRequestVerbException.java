@@ -10,6 +10,10 @@ package winter.data.exception.client;
  * request
  * processing.
  * </p>
+ * <p>
+ * The exception carries no stack trace: it reports a client mistake, and
+ * capturing the stack on every rejected request would be wasted work.
+ * </p>
  *
  * @author Hasina JY
  * @version 1.0.0
@@ -25,7 +29,7 @@ public class InvalidRequestVerbException extends Exception {
      *                invalid verb
      */
     public InvalidRequestVerbException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     /**
@@ -38,6 +42,6 @@ public class InvalidRequestVerbException extends Exception {
      *                leading to this error)
      */
     public InvalidRequestVerbException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
\ No newline at end of file
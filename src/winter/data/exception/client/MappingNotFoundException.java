@@ -9,6 +9,10 @@ package winter.data.exception.client;
  * {@link winter.service.ExceptionHandler}
  * to return a 404 response.
  * </p>
+ * <p>
+ * Unknown URLs are cheap to request in bulk, so this exception is created
+ * without a stack trace or suppressed exceptions.
+ * </p>
  *
  * @author Hasina JY
  * @version 1.0.0
@@ -20,7 +24,7 @@ public class MappingNotFoundException extends Exception {
      * Constructs a new MappingNotFoundException with no detail message.
      */
     public MappingNotFoundException() {
-        super();
+        super(null, null, false, false);
     }
 
     /**
@@ -29,6 +33,6 @@ public class MappingNotFoundException extends Exception {
      * @param message the detail message explaining why the mapping was not found
      */
     public MappingNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
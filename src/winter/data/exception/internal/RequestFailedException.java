@@ -0,0 +1,29 @@
+package winter.data.exception.internal;
+
+/**
+ * Wraps the failure of a request in the Winter framework.
+ * <p>
+ * The framework wraps unexpected failures in this exception to give them a
+ * generic message, which is sent to the client instead of the message of the
+ * original exception. Exception mappings look through it, so an
+ * {@link winter.data.annotation.ExceptionHandler} receives the exception the
+ * application threw, not this wrapper.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RequestFailedException extends ReflectiveOperationException {
+
+    /**
+     * Constructs a new RequestFailedException with the specified detail message
+     * and cause.
+     *
+     * @param msg   the generic message sent to the client
+     * @param cause the failure being wrapped
+     */
+    public RequestFailedException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
@@ -0,0 +1,31 @@
+package winter.data.exception.internal;
+
+/**
+ * Indicates that a view template cannot be compiled in the Winter framework.
+ * <p>
+ * This exception is thrown when a template has a malformed expression or
+ * directive, or a block left open, and carries the template path and line.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TemplateSyntaxException extends Exception {
+
+    /**
+     * Constructs a new TemplateSyntaxException with no detail message.
+     */
+    public TemplateSyntaxException() {
+        super();
+    }
+
+    /**
+     * Constructs a new TemplateSyntaxException with the specified detail message.
+     *
+     * @param msg the detail message locating the error in the template
+     */
+    public TemplateSyntaxException(String msg) {
+        super(msg);
+    }
+}
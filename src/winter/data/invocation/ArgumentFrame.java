@@ -0,0 +1,285 @@
+package winter.data.invocation;
+
+/**
+ * Holds the arguments of a single controller method invocation in the Winter
+ * framework.
+ * <p>
+ * Each parameter of the method owns a slot. Primitive parameters are stored
+ * unboxed in a <code>long</code> array (floating-point values as their raw
+ * bits) and read back by the compiled {@link MethodInvoker} with their exact
+ * type, so a primitive argument never needs a wrapper object. Reference
+ * parameters are stored in an <code>Object</code> array.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ArgumentFrame {
+
+    /** The parameter types of the invoked method, shared by every frame. */
+    private final Class<?>[] types;
+
+    /** The slots of primitive parameters. */
+    private final long[] primitives;
+
+    /** The slots of reference parameters. */
+    private final Object[] references;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs an empty frame for the given parameter types.
+     *
+     * @param types the parameter types of the invoked method
+     */
+    ArgumentFrame(Class<?>[] types) {
+        this.types = types;
+        this.primitives = new long[types.length];
+        this.references = new Object[types.length];
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the number of slots in this frame.
+     *
+     * @return the number of parameters of the invoked method
+     */
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * Gets the declared type of a slot.
+     *
+     * @param index the parameter position
+     * @return the parameter type
+     */
+    public Class<?> getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Gets the value of a slot, boxing it if the parameter is primitive.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public Object get(int index) {
+        Class<?> type = types[index];
+
+        if (!type.isPrimitive()) {
+            return references[index];
+        } else if (type == int.class) {
+            return getInt(index);
+        } else if (type == long.class) {
+            return getLong(index);
+        } else if (type == double.class) {
+            return getDouble(index);
+        } else if (type == float.class) {
+            return getFloat(index);
+        } else if (type == boolean.class) {
+            return getBoolean(index);
+        } else if (type == char.class) {
+            return getChar(index);
+        } else if (type == short.class) {
+            return getShort(index);
+        } else {
+            return getByte(index);
+        }
+    }
+
+    /**
+     * Gets the value of a reference slot.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public Object getReference(int index) {
+        return references[index];
+    }
+
+    /**
+     * Gets the value of an <code>int</code> slot.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public int getInt(int index) {
+        return (int) primitives[index];
+    }
+
+    /**
+     * Gets the value of a <code>long</code> slot.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public long getLong(int index) {
+        return primitives[index];
+    }
+
+    /**
+     * Gets the value of a <code>double</code> slot.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public double getDouble(int index) {
+        return Double.longBitsToDouble(primitives[index]);
+    }
+
+    /**
+     * Gets the value of a <code>float</code> slot.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public float getFloat(int index) {
+        return Float.intBitsToFloat((int) primitives[index]);
+    }
+
+    /**
+     * Gets the value of a <code>boolean</code> slot.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public boolean getBoolean(int index) {
+        return primitives[index] != 0;
+    }
+
+    /**
+     * Gets the value of a <code>char</code> slot.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public char getChar(int index) {
+        return (char) primitives[index];
+    }
+
+    /**
+     * Gets the value of a <code>short</code> slot.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public short getShort(int index) {
+        return (short) primitives[index];
+    }
+
+    /**
+     * Gets the value of a <code>byte</code> slot.
+     *
+     * @param index the parameter position
+     * @return the argument value
+     */
+    public byte getByte(int index) {
+        return (byte) primitives[index];
+    }
+
+    /* --------------------------------- Setters -------------------------------- */
+
+    /**
+     * Sets the value of a slot, unboxing it if the parameter is primitive.
+     * <p>
+     * A null value leaves a primitive slot at its default value (zero or false).
+     * </p>
+     *
+     * @param index the parameter position
+     * @param value the argument value
+     * @throws ClassCastException if a primitive slot receives a value of the wrong
+     *                            wrapper type
+     */
+    public void set(int index, Object value) {
+        Class<?> type = types[index];
+
+        if (!type.isPrimitive()) {
+            references[index] = value;
+        } else if (value == null) {
+            primitives[index] = 0;
+        } else if (type == boolean.class) {
+            setBoolean(index, (Boolean) value);
+        } else if (type == char.class) {
+            setChar(index, (Character) value);
+        } else if (type == double.class) {
+            setDouble(index, ((Number) value).doubleValue());
+        } else if (type == float.class) {
+            setFloat(index, ((Number) value).floatValue());
+        } else {
+            setLong(index, ((Number) value).longValue());
+        }
+    }
+
+    /**
+     * Sets the value of a reference slot.
+     *
+     * @param index the parameter position
+     * @param value the argument value
+     */
+    public void setReference(int index, Object value) {
+        references[index] = value;
+    }
+
+    /**
+     * Sets the value of an <code>int</code> slot.
+     *
+     * @param index the parameter position
+     * @param value the argument value
+     */
+    public void setInt(int index, int value) {
+        primitives[index] = value;
+    }
+
+    /**
+     * Sets the value of a <code>long</code> slot.
+     *
+     * @param index the parameter position
+     * @param value the argument value
+     */
+    public void setLong(int index, long value) {
+        primitives[index] = value;
+    }
+
+    /**
+     * Sets the value of a <code>double</code> slot.
+     *
+     * @param index the parameter position
+     * @param value the argument value
+     */
+    public void setDouble(int index, double value) {
+        primitives[index] = Double.doubleToRawLongBits(value);
+    }
+
+    /**
+     * Sets the value of a <code>float</code> slot.
+     *
+     * @param index the parameter position
+     * @param value the argument value
+     */
+    public void setFloat(int index, float value) {
+        primitives[index] = Float.floatToRawIntBits(value);
+    }
+
+    /**
+     * Sets the value of a <code>boolean</code> slot.
+     *
+     * @param index the parameter position
+     * @param value the argument value
+     */
+    public void setBoolean(int index, boolean value) {
+        primitives[index] = value ? 1 : 0;
+    }
+
+    /**
+     * Sets the value of a <code>char</code> slot.
+     *
+     * @param index the parameter position
+     * @param value the argument value
+     */
+    public void setChar(int index, char value) {
+        primitives[index] = value;
+    }
+}
@@ -0,0 +1,26 @@
+package winter.data.invocation;
+
+/**
+ * Calls a compiled controller method in the Winter framework.
+ * <p>
+ * Implementations are built by {@link MethodInvoker}, one per method, so that
+ * every call site sees a single receiver type and a constant target.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+interface Invocation {
+
+    /**
+     * Calls the method on a target with the arguments of a frame.
+     *
+     * @param target the instance to invoke the method on, ignored for static
+     *               methods
+     * @param frame  the arguments
+     * @return the value returned by the method, or null for void methods
+     * @throws Throwable anything thrown by the method
+     */
+    Object invoke(Object target, ArgumentFrame frame) throws Throwable;
+}
@@ -0,0 +1,42 @@
+package winter.data.invocation;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * The class file template of compiled invocations in the Winter framework.
+ * <p>
+ * This class is never loaded as is: {@link MethodInvoker} defines a hidden
+ * class from its bytes for every controller method, passing the compiled
+ * handle as class data. The handle then lives in a <code>static final</code>
+ * field, which the JIT treats as a constant and inlines through.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class InvocationTemplate implements Invocation {
+
+    /** The compiled handle, of type <code>(Object, ArgumentFrame)Object</code>. */
+    private static final MethodHandle HANDLE;
+
+    static {
+        try {
+            HANDLE = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object invoke(Object target, ArgumentFrame frame) throws Throwable {
+        return (Object) HANDLE.invokeExact(target, frame);
+    }
+}
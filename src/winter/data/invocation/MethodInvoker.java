@@ -0,0 +1,257 @@
+package winter.data.invocation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A direct invoker compiled from a controller method in the Winter framework.
+ * <p>
+ * This class turns a {@link Method} into a single {@link MethodHandle} of the
+ * exact type <code>(Object, ArgumentFrame)Object</code> once, at scanning time.
+ * Each parameter is fed by a typed getter of {@link ArgumentFrame}, so
+ * primitive arguments reach the method without being boxed, and the call goes
+ * through {@link MethodHandle#invokeExact} instead of {@link Method#invoke},
+ * avoiding the reflective access checks and the argument array copy on every
+ * request.
+ * </p>
+ * <p>
+ * The handle is then bound into a hidden class defined from
+ * {@link InvocationTemplate}, where it is a <code>static final</code> constant:
+ * the JIT inlines the controller method into the invocation instead of calling
+ * an opaque handle held in a field.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MethodInvoker {
+
+    /** The exact type of every compiled invoker handle. */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class,
+            ArgumentFrame.class);
+
+    /** The lookup used to resolve the frame getters and define invocations. */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** The class file of the invocation template, or null if it cannot be read. */
+    private static final byte[] TEMPLATE = readTemplate();
+
+    /** The invocation calling the method with the arguments of a frame. */
+    private final Invocation invocation;
+
+    /** The parameter types of the method. */
+    private final Class<?>[] parameterTypes;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles an invoker for a method.
+     *
+     * @param method the method to invoke
+     * @throws IllegalAccessException if the method cannot be accessed
+     */
+    public MethodInvoker(Method method) throws IllegalAccessException {
+        this.parameterTypes = method.getParameterTypes();
+        this.invocation = bind(compile(method, parameterTypes));
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Creates an empty argument frame for this invoker.
+     *
+     * @return a frame with one slot per method parameter
+     */
+    public ArgumentFrame newFrame() {
+        return new ArgumentFrame(parameterTypes);
+    }
+
+    /**
+     * Invokes the method on a target with the arguments of a frame.
+     *
+     * @param target the instance to invoke the method on, ignored for static
+     *               methods
+     * @param frame  the arguments, created by {@link #newFrame()}
+     * @return the value returned by the method, or null for void methods
+     * @throws InvocationTargetException if the method throws an exception
+     */
+    public Object invoke(Object target, ArgumentFrame frame) throws InvocationTargetException {
+        try {
+            return invocation.invoke(target, frame);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /* ------------------------------- Compilation ------------------------------ */
+
+    /**
+     * Compiles the invoker handle of a method.
+     * <p>
+     * Every parameter of the method handle is filtered through the frame getter
+     * of its type, then all the frame arguments are merged into one, giving a
+     * handle that only takes the target and the frame.
+     * </p>
+     *
+     * @param method         the method to invoke
+     * @param parameterTypes the parameter types of the method
+     * @return the compiled handle
+     * @throws IllegalAccessException if the method cannot be accessed
+     */
+    private static MethodHandle compile(Method method, Class<?>[] parameterTypes) throws IllegalAccessException {
+        MethodHandle target = unreflect(method);
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            target = MethodHandles.dropArguments(target, 0, Object.class);
+        }
+
+        int count = parameterTypes.length;
+        MethodHandle[] getters = new MethodHandle[count];
+        int[] reorder = new int[count + 1];
+
+        for (int i = 0; i < count; i++) {
+            getters[i] = getter(parameterTypes[i], i);
+            reorder[i + 1] = 1;
+        }
+
+        Class<?> targetType = target.type().parameterType(0);
+        MethodHandle filtered = MethodHandles.filterArguments(target, 1, getters);
+        MethodType merged = MethodType.methodType(filtered.type().returnType(), targetType, ArgumentFrame.class);
+
+        return MethodHandles.permuteArguments(filtered, merged, reorder).asType(INVOKER_TYPE);
+    }
+
+    /**
+     * Binds a compiled handle as the constant of a new invocation class.
+     *
+     * @param handle the compiled handle
+     * @return the invocation calling the handle
+     * @throws IllegalAccessException if the invocation class cannot be defined
+     */
+    private static Invocation bind(MethodHandle handle) throws IllegalAccessException {
+        if (TEMPLATE == null) {
+            return new HandleInvocation(handle);
+        }
+
+        MethodHandles.Lookup hidden = LOOKUP.defineHiddenClassWithClassData(TEMPLATE, handle, true);
+
+        try {
+            return (Invocation) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+        } catch (IllegalAccessException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create the invocation of " + handle, e);
+        }
+    }
+
+    /**
+     * Reads the class file of the invocation template.
+     *
+     * @return the class file bytes, or null if the class loader does not expose
+     *         them
+     */
+    private static byte[] readTemplate() {
+        try (InputStream in = InvocationTemplate.class.getResourceAsStream("InvocationTemplate.class")) {
+            return (in == null) ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves a method handle, falling back to private access for methods of
+     * classes that are not public.
+     *
+     * @param method the method to resolve
+     * @return the method handle
+     * @throws IllegalAccessException if the method cannot be accessed
+     */
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        }
+    }
+
+    /**
+     * Creates the handle reading a parameter from its frame slot.
+     *
+     * @param type  the parameter type
+     * @param index the parameter position
+     * @return a handle of type <code>(ArgumentFrame)type</code>
+     * @throws IllegalAccessException if the frame getter cannot be accessed
+     */
+    private static MethodHandle getter(Class<?> type, int index) throws IllegalAccessException {
+        String name;
+        Class<?> slotType = type;
+
+        if (type == int.class) {
+            name = "getInt";
+        } else if (type == long.class) {
+            name = "getLong";
+        } else if (type == double.class) {
+            name = "getDouble";
+        } else if (type == float.class) {
+            name = "getFloat";
+        } else if (type == boolean.class) {
+            name = "getBoolean";
+        } else if (type == char.class) {
+            name = "getChar";
+        } else if (type == short.class) {
+            name = "getShort";
+        } else if (type == byte.class) {
+            name = "getByte";
+        } else {
+            name = "getReference";
+            slotType = Object.class;
+        }
+
+        try {
+            MethodHandle getter = LOOKUP.findVirtual(ArgumentFrame.class, name,
+                    MethodType.methodType(slotType, int.class));
+            getter = MethodHandles.insertArguments(getter, 1, index);
+            return getter.asType(MethodType.methodType(type, ArgumentFrame.class));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Missing argument frame getter: " + name, e);
+        }
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * An invocation holding its handle in a field, used when the template class
+     * file is not available.
+     */
+    private static final class HandleInvocation implements Invocation {
+
+        /** The compiled handle. */
+        private final MethodHandle handle;
+
+        /**
+         * Creates an invocation of a handle.
+         *
+         * @param handle the compiled handle
+         */
+        private HandleInvocation(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object invoke(Object target, ArgumentFrame frame) throws Throwable {
+            return (Object) handle.invokeExact(target, frame);
+        }
+    }
+}
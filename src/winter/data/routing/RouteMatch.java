@@ -0,0 +1,131 @@
+package winter.data.routing;
+
+/**
+ * Represents the result of resolving a request path against a {@link Router}.
+ * <p>
+ * This class holds the matched target along with the positions of the path
+ * variables inside the normalized request path. Variable values are only
+ * materialized as strings when they are requested, so a successful lookup does
+ * not allocate a substring per variable.
+ * </p>
+ *
+ * @param <T> the type of the routed target
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RouteMatch<T> {
+
+    /** The target registered for the matched route. */
+    private final T target;
+
+    /** The normalized path the variable offsets refer to. */
+    private final CharSequence path;
+
+    /** The names of the route variables, in declaration order. */
+    private final String[] variableNames;
+
+    /** The start and end offsets of each variable, two entries per variable. */
+    private final int[] offsets;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a route match.
+     *
+     * @param target        the matched target
+     * @param path          the normalized request path
+     * @param variableNames the names of the route variables
+     * @param offsets       the start and end offsets of each variable
+     */
+    RouteMatch(T target, CharSequence path, String[] variableNames, int[] offsets) {
+        this.target = target;
+        this.path = path;
+        this.variableNames = variableNames;
+        this.offsets = offsets;
+    }
+
+    /* --------------------------- Getters and setters -------------------------- */
+
+    /**
+     * Gets the target registered for the matched route.
+     *
+     * @return the matched target
+     */
+    public T getTarget() {
+        return target;
+    }
+
+    /**
+     * Gets the normalized request path that was matched.
+     *
+     * @return the normalized path
+     */
+    public CharSequence getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the number of variables captured by the matched route.
+     *
+     * @return the variable count
+     */
+    public int getVariableCount() {
+        return variableNames.length;
+    }
+
+    /**
+     * Gets the name of the variable at the given position.
+     *
+     * @param index the variable position
+     * @return the variable name (<code>*</code> for a trailing wildcard)
+     */
+    public String getVariableName(int index) {
+        return variableNames[index];
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Gets the value of the variable at the given position.
+     *
+     * @param index the variable position
+     * @return the captured value
+     */
+    public String getVariable(int index) {
+        return path.subSequence(offsets[2 * index], offsets[2 * index + 1]).toString();
+    }
+
+    /**
+     * Gets the value of a named path variable.
+     *
+     * @param name the variable name as declared in the mapping
+     * @return the captured value, or null if the route declares no such variable
+     */
+    public String getVariable(String name) {
+        for (int i = 0; i < variableNames.length; i++) {
+            if (variableNames[i].equals(name)) {
+                return getVariable(i);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if the matched route declares a variable with the given name.
+     *
+     * @param name the variable name
+     * @return true if the variable exists, false otherwise
+     */
+    public boolean hasVariable(String name) {
+        for (String variableName : variableNames) {
+            if (variableName.equals(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
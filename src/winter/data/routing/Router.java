@@ -0,0 +1,454 @@
+package winter.data.routing;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import winter.data.exception.annotation.DuplicateMappingException;
+import winter.data.exception.annotation.InvalidMappingException;
+import winter.util.ParseUtil;
+
+/**
+ * A compiled routing table resolving request paths to targets in the Winter
+ * framework.
+ * <p>
+ * This class compiles a set of URL patterns into a radix trie once, at
+ * controller scanning time, and is never modified afterwards. Patterns are made
+ * of literal text, <code>{var}</code> segments capturing a single path segment,
+ * and an optional trailing <code>*</code> segment capturing the remainder of
+ * the path. When several routes could match, literal text wins over a variable
+ * and a variable wins over a wildcard.
+ * </p>
+ * <p>
+ * Lookups walk the path one character at a time, so their cost depends on the
+ * length of the path rather than on the number of registered routes, and a path
+ * that leaves the trie is rejected as soon as no edge matches. Trailing
+ * slashes, repeated slashes and percent-encoded characters are normalized in a
+ * single pass before the walk.
+ * </p>
+ *
+ * @param <T> the type of the routed target
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Router<T> {
+
+    /** The variable name used for the remainder captured by a wildcard. */
+    public static final String WILDCARD = "*";
+
+    /** The variable offsets of routing tables without variables, shared as they are never written. */
+    private static final int[] NO_OFFSETS = new int[0];
+
+    /** The root of the trie, representing the empty path. */
+    private final Node<T> root = new Node<>("");
+
+    /** The largest number of variables declared by a single route. */
+    private int maxVariables = 0;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Compiles a routing table from URL patterns.
+     *
+     * @param routes the map of URL patterns to their targets
+     * @throws InvalidMappingException   if a pattern is malformed
+     * @throws DuplicateMappingException if two patterns resolve to the same route
+     */
+    public Router(Map<String, T> routes) throws InvalidMappingException, DuplicateMappingException {
+        for (Map.Entry<String, T> route : routes.entrySet()) {
+            this.insert(normalizePath(route.getKey()), route.getValue());
+        }
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Resolves a request path to its route.
+     *
+     * @param path the request path, relative to the context path
+     * @return the match holding the target and its path variables, or null if no
+     *         route matches
+     */
+    public RouteMatch<T> match(String path) {
+        String normalizedPath = normalizePath(path);
+        int[] offsets = (maxVariables == 0) ? NO_OFFSETS : new int[2 * maxVariables];
+        Route<T> route = find(root, normalizedPath, 0, offsets, 0);
+
+        if (route == null) {
+            return null;
+        }
+
+        return new RouteMatch<>(route.target, normalizedPath, route.variableNames, offsets);
+    }
+
+    /**
+     * Normalizes a request path or URL pattern.
+     * <p>
+     * Ensures a leading slash, collapses repeated slashes, removes the trailing
+     * slash and decodes percent-encoded UTF-8 sequences, except for encoded
+     * slashes which are kept as-is so they cannot introduce new segments. Paths
+     * that are already normalized are returned without copying.
+     * </p>
+     *
+     * @param path the path to normalize
+     * @return the normalized path
+     */
+    public static String normalizePath(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+
+        int length = path.length();
+
+        if (path.charAt(0) == '/') {
+            for (int i = 1; i < length; i++) {
+                char c = path.charAt(i);
+
+                if (c == '%' || (c == '/' && (path.charAt(i - 1) == '/' || i == length - 1))) {
+                    return rewritePath(path, i);
+                }
+            }
+
+            return path;
+        }
+
+        return rewritePath(path, 0);
+    }
+
+    /**
+     * Rewrites a path from the first character that needs normalization.
+     *
+     * @param path  the path to normalize
+     * @param start the index of the first character to rewrite
+     * @return the normalized path
+     */
+    private static String rewritePath(String path, int start) {
+        int length = path.length();
+        StringBuilder normalized = new StringBuilder(length + 1);
+
+        if (path.charAt(0) != '/') {
+            normalized.append('/');
+        }
+
+        normalized.append(path, 0, start);
+        ByteArrayOutputStream bytes = null;
+
+        for (int i = start; i < length; i++) {
+            char c = path.charAt(i);
+
+            int high = c == '%' && i + 2 < length ? ParseUtil.hexDigit(path.charAt(i + 1)) : -1;
+            int low = high >= 0 ? ParseUtil.hexDigit(path.charAt(i + 2)) : -1;
+
+            if (low >= 0) {
+                int decoded = (high << 4) | low;
+
+                if (decoded == '/') {
+                    flushBytes(normalized, bytes);
+                    normalized.append(path, i, i + 3);
+                } else {
+                    if (bytes == null) {
+                        bytes = new ByteArrayOutputStream();
+                    }
+
+                    bytes.write(decoded);
+                }
+
+                i += 2;
+                continue;
+            }
+
+            flushBytes(normalized, bytes);
+
+            if (c == '/' && normalized.length() > 0 && normalized.charAt(normalized.length() - 1) == '/') {
+                continue;
+            }
+
+            normalized.append(c);
+        }
+
+        flushBytes(normalized, bytes);
+
+        if (normalized.length() > 1 && normalized.charAt(normalized.length() - 1) == '/') {
+            normalized.setLength(normalized.length() - 1);
+        }
+
+        return normalized.toString();
+    }
+
+    /**
+     * Appends pending percent-decoded bytes to a path as UTF-8 text.
+     *
+     * @param normalized the path being built
+     * @param bytes      the pending bytes, or null if none
+     */
+    private static void flushBytes(StringBuilder normalized, ByteArrayOutputStream bytes) {
+        if (bytes != null && bytes.size() > 0) {
+            normalized.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+            bytes.reset();
+        }
+    }
+
+    /* ------------------------------- Compilation ------------------------------ */
+
+    /**
+     * Inserts a normalized URL pattern into the trie.
+     *
+     * @param pattern the normalized URL pattern
+     * @param target  the target to register
+     * @throws InvalidMappingException   if the pattern is malformed
+     * @throws DuplicateMappingException if the route is already registered
+     */
+    private void insert(String pattern, T target) throws InvalidMappingException, DuplicateMappingException {
+        Node<T> node = root;
+        List<String> variableNames = new ArrayList<>();
+        int length = pattern.length();
+        int literalStart = 0;
+        int i = 0;
+
+        while (i < length) {
+            char c = pattern.charAt(i);
+            boolean segmentStart = i > 0 && pattern.charAt(i - 1) == '/';
+
+            if (c == '{' && segmentStart) {
+                int close = pattern.indexOf('}', i);
+
+                if (close < 0 || (close + 1 < length && pattern.charAt(close + 1) != '/')) {
+                    throw new InvalidMappingException("Unclosed path variable in the URL mapping '" + pattern + "'");
+                }
+
+                String name = pattern.substring(i + 1, close);
+
+                if (name.isEmpty() || name.indexOf('{') >= 0 || variableNames.contains(name)) {
+                    throw new InvalidMappingException(
+                            "Invalid path variable '" + name + "' in the URL mapping '" + pattern + "'");
+                }
+
+                node = insertLiteral(node, pattern.substring(literalStart, i));
+
+                if (node.variable == null) {
+                    node.variable = new Node<>("");
+                }
+
+                node = node.variable;
+                variableNames.add(name);
+                i = close + 1;
+                literalStart = i;
+            } else if (c == '*' && segmentStart && i == length - 1) {
+                node = insertLiteral(node, pattern.substring(literalStart, i));
+                variableNames.add(WILDCARD);
+                node.wildcard = register(node.wildcard, pattern, target, variableNames);
+                return;
+            } else if (c == '{' || c == '}' || c == '*') {
+                throw new InvalidMappingException(
+                        "Unexpected '" + c + "' in the URL mapping '" + pattern + "'");
+            } else {
+                i++;
+            }
+        }
+
+        node = insertLiteral(node, pattern.substring(literalStart));
+        node.route = register(node.route, pattern, target, variableNames);
+    }
+
+    /**
+     * Creates the route stored at a trie position, rejecting conflicts.
+     *
+     * @param existing      the route already stored at the position, or null
+     * @param pattern       the normalized URL pattern
+     * @param target        the target to register
+     * @param variableNames the names of the pattern variables
+     * @return the new route
+     * @throws DuplicateMappingException if a route is already stored
+     */
+    private Route<T> register(Route<T> existing, String pattern, T target, List<String> variableNames)
+            throws DuplicateMappingException {
+        if (existing != null) {
+            throw new DuplicateMappingException(
+                    "The URL mapping '" + pattern + "' conflicts with '" + existing.pattern + "'");
+        }
+
+        maxVariables = Math.max(maxVariables, variableNames.size());
+        return new Route<>(target, variableNames.toArray(new String[0]), pattern);
+    }
+
+    /**
+     * Inserts literal text below a node, splitting edges where needed.
+     *
+     * @param node    the node to start from
+     * @param literal the literal text to insert
+     * @return the node reached at the end of the literal
+     */
+    private static <T> Node<T> insertLiteral(Node<T> node, String literal) {
+        while (!literal.isEmpty()) {
+            int index = node.indexOf(literal.charAt(0));
+
+            if (index < 0) {
+                Node<T> child = new Node<>(literal);
+                node.addChild(child);
+                return child;
+            }
+
+            Node<T> child = node.children[index];
+            int common = 0;
+            int max = Math.min(child.label.length(), literal.length());
+
+            while (common < max && child.label.charAt(common) == literal.charAt(common)) {
+                common++;
+            }
+
+            if (common < child.label.length()) {
+                Node<T> parent = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                parent.addChild(child);
+                node.children[index] = parent;
+                child = parent;
+            }
+
+            literal = literal.substring(common);
+            node = child;
+        }
+
+        return node;
+    }
+
+    /* --------------------------------- Lookup --------------------------------- */
+
+    /**
+     * Finds the route matching the remainder of a path below a node.
+     * <p>
+     * Literal children are tried first, then the variable child, then the
+     * wildcard. The start and end offsets of each captured variable are written
+     * to <code>offsets</code> at the position of the variable in the route.
+     * </p>
+     *
+     * @param node     the node whose edge has been consumed
+     * @param path     the normalized path
+     * @param position the index of the next character to match
+     * @param offsets  the variable offsets being captured
+     * @param depth    the number of variables captured so far
+     * @return the matching route, or null if none matches
+     */
+    private static <T> Route<T> find(Node<T> node, String path, int position, int[] offsets, int depth) {
+        int length = path.length();
+
+        if (position == length) {
+            return node.route;
+        }
+
+        int index = node.indexOf(path.charAt(position));
+
+        if (index >= 0) {
+            String label = node.children[index].label;
+
+            if (path.regionMatches(position, label, 0, label.length())) {
+                Route<T> route = find(node.children[index], path, position + label.length(), offsets, depth);
+
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+
+        if (node.variable != null && path.charAt(position) != '/') {
+            int end = path.indexOf('/', position);
+
+            if (end < 0) {
+                end = length;
+            }
+
+            Route<T> route = find(node.variable, path, end, offsets, depth + 1);
+
+            if (route != null) {
+                offsets[2 * depth] = position;
+                offsets[2 * depth + 1] = end;
+                return route;
+            }
+        }
+
+        if (node.wildcard != null) {
+            offsets[2 * depth] = position;
+            offsets[2 * depth + 1] = length;
+            return node.wildcard;
+        }
+
+        return null;
+    }
+
+    /* ------------------------------ Inner classes ----------------------------- */
+
+    /**
+     * A node of the radix trie, reached through a literal edge.
+     *
+     * @param <T> the type of the routed target
+     */
+    private static final class Node<T> {
+
+        /** The literal edge leading to this node. */
+        private String label;
+
+        /** The first character of each literal child, aligned with children. */
+        private char[] indices = new char[0];
+
+        /** The literal children of this node. */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Node<T>[] children = new Node[0];
+
+        /** The child consuming a <code>{var}</code> segment, or null. */
+        private Node<T> variable;
+
+        /** The route ending at this node, or null. */
+        private Route<T> route;
+
+        /** The route capturing the remainder of the path from this node, or null. */
+        private Route<T> wildcard;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int indexOf(char c) {
+            for (int i = 0; i < indices.length; i++) {
+                if (indices[i] == c) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private void addChild(Node<T> child) {
+            indices = Arrays.copyOf(indices, indices.length + 1);
+            indices[indices.length - 1] = child.label.charAt(0);
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+        }
+    }
+
+    /**
+     * A compiled route stored in the trie.
+     *
+     * @param <T> the type of the routed target
+     */
+    private static final class Route<T> {
+
+        /** The target registered for the route. */
+        private final T target;
+
+        /** The names of the route variables, in declaration order. */
+        private final String[] variableNames;
+
+        /** The normalized URL pattern, kept for error reporting. */
+        private final String pattern;
+
+        private Route(T target, String[] variableNames, String pattern) {
+            this.target = target;
+            this.variableNames = variableNames;
+            this.pattern = pattern;
+        }
+    }
+}
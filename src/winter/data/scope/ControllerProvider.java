@@ -0,0 +1,244 @@
+package winter.data.scope;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import winter.data.annotation.Controller;
+import winter.data.enumdata.ControllerScope;
+import winter.data.servletabstraction.Session;
+import winter.util.DataUtil;
+
+/**
+ * Supplies controller instances according to their scope in the Winter
+ * framework.
+ * <p>
+ * A provider is created once per controller class by
+ * {@link winter.service.ControllerScanner}. It resolves the class, its no-arg
+ * constructor and the injector of its {@link Session} field at that time, so
+ * serving a request never looks up a class, a constructor or a field
+ * reflectively. Subclasses decide
+ * whether an instance is shared, pooled or created per request.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class ControllerProvider {
+
+    /** The controller class. */
+    private final Class<?> controllerClass;
+
+    /** The no-arg constructor of the controller, of type <code>()Object</code>. */
+    private final MethodHandle constructor;
+
+    /** The type of session injector handles. */
+    private static final MethodType INJECTOR_TYPE = MethodType.methodType(void.class, Object.class, Session.class);
+
+    /**
+     * The injector of the controller's {@link Session} field, of type
+     * <code>(Object, Session)void</code>, or null if none.
+     */
+    private final MethodHandle sessionInjector;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Resolves the constructor and session injector of a controller class.
+     *
+     * @param controllerClass the controller class
+     * @throws ReflectiveOperationException if the class has no accessible no-arg
+     *                                      constructor or its session field cannot
+     *                                      be accessed
+     */
+    protected ControllerProvider(Class<?> controllerClass) throws ReflectiveOperationException {
+        this.controllerClass = controllerClass;
+        this.constructor = resolveConstructor(controllerClass);
+        this.sessionInjector = resolveSessionInjector(controllerClass);
+    }
+
+    /**
+     * Creates the provider matching the scope declared by a controller class.
+     *
+     * @param controllerClass the controller class
+     * @return the provider of the controller's scope
+     * @throws ReflectiveOperationException if the controller cannot be
+     *                                      instantiated
+     * @see Controller#scope()
+     */
+    public static ControllerProvider of(Class<?> controllerClass) throws ReflectiveOperationException {
+        Controller controller = controllerClass.getAnnotation(Controller.class);
+        ControllerScope scope = (controller != null) ? controller.scope() : ControllerScope.PROTOTYPE;
+
+        return switch (scope) {
+            case SINGLETON -> new SingletonControllerProvider(controllerClass);
+            case POOLED -> new PooledControllerProvider(controllerClass, controller.poolSize());
+            case PROTOTYPE -> new PrototypeControllerProvider(controllerClass);
+        };
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the controller class.
+     *
+     * @return the controller class
+     */
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    /**
+     * Checks if the controller has a {@link Session} field to inject.
+     * <p>
+     * Controllers without one never need the HTTP session of a request.
+     * </p>
+     *
+     * @return true if a session injector exists, false otherwise
+     */
+    public boolean hasSession() {
+        return sessionInjector != null;
+    }
+
+    /**
+     * Checks if a single instance is shared by concurrent requests.
+     * <p>
+     * Shared instances must not be injected per request; they receive a
+     * {@link winter.data.servletabstraction.ScopedSession} once instead.
+     * </p>
+     *
+     * @return true if the instance is shared, false otherwise
+     */
+    public boolean isShared() {
+        return false;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Gets a controller instance to serve a request.
+     *
+     * @return the controller instance
+     * @throws ReflectiveOperationException if a new instance cannot be created
+     */
+    public abstract Object acquire() throws ReflectiveOperationException;
+
+    /**
+     * Returns a controller instance once the request has been served.
+     *
+     * @param instance the instance obtained from {@link #acquire()}
+     */
+    public abstract void release(Object instance);
+
+    /**
+     * Injects a session into the {@link Session} field of a controller instance.
+     *
+     * @param instance the controller instance
+     * @param session  the session to inject
+     * @throws InvocationTargetException if the setter throws an exception
+     */
+    public void injectSession(Object instance, Session session) throws InvocationTargetException {
+        if (sessionInjector == null) {
+            return;
+        }
+
+        try {
+            sessionInjector.invokeExact(instance, session);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e, "Cannot inject session into: " + controllerClass.getName());
+        }
+    }
+
+    /**
+     * Creates a new controller instance.
+     *
+     * @return the new instance
+     * @throws InvocationTargetException if the constructor throws an exception
+     */
+    protected Object newInstance() throws InvocationTargetException {
+        try {
+            return constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e, "Cannot instantiate controller: " + controllerClass.getName());
+        }
+    }
+
+    /* ------------------------------- Resolution ------------------------------- */
+
+    /**
+     * Resolves the no-arg constructor of a controller class.
+     *
+     * @param controllerClass the controller class
+     * @return a constructor handle of type <code>()Object</code>
+     * @throws ReflectiveOperationException if no accessible no-arg constructor
+     *                                      exists
+     */
+    private static MethodHandle resolveConstructor(Class<?> controllerClass) throws ReflectiveOperationException {
+        Constructor<?> constructor = controllerClass.getDeclaredConstructor();
+        MethodHandle handle;
+
+        try {
+            handle = MethodHandles.publicLookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            constructor.setAccessible(true);
+            handle = MethodHandles.lookup().unreflectConstructor(constructor);
+        }
+
+        return handle.asType(MethodType.methodType(Object.class));
+    }
+
+    /**
+     * Resolves the injector of the first {@link Session} field of a controller
+     * class.
+     * <p>
+     * The setter of the field is used when it exists, so that controllers can
+     * react to the injection; otherwise the field is written directly.
+     * </p>
+     *
+     * @param controllerClass the controller class
+     * @return an injector of type <code>(Object, Session)void</code>, or null if
+     *         the class has no session field
+     * @throws IllegalAccessException if the session field cannot be accessed
+     */
+    private static MethodHandle resolveSessionInjector(Class<?> controllerClass) throws IllegalAccessException {
+        for (Field field : controllerClass.getDeclaredFields()) {
+            if (field.getType() == Session.class) {
+                MethodHandle injector;
+
+                try {
+                    Method setter = DataUtil.getSetterMethod(controllerClass, field.getName());
+                    injector = unreflectSetter(setter);
+                } catch (NoSuchFieldException | NoSuchMethodException e) {
+                    field.setAccessible(true);
+                    injector = MethodHandles.lookup().unreflectSetter(field);
+                }
+
+                return injector.asType(INJECTOR_TYPE);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves the handle of a setter method, falling back to private access for
+     * setters that are not public.
+     *
+     * @param setter the setter method
+     * @return the setter handle
+     * @throws IllegalAccessException if the setter cannot be accessed
+     */
+    private static MethodHandle unreflectSetter(Method setter) throws IllegalAccessException {
+        try {
+            return MethodHandles.publicLookup().unreflect(setter);
+        } catch (IllegalAccessException e) {
+            setter.setAccessible(true);
+            return MethodHandles.lookup().unreflect(setter);
+        }
+    }
+}
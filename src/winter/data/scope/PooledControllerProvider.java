@@ -0,0 +1,69 @@
+package winter.data.scope;
+
+import winter.util.SlotPool;
+
+/**
+ * Provides controller instances from a bounded, lock-free pool in the Winter
+ * framework.
+ * <p>
+ * Each pooled instance serves one request at a time. Idle instances are kept
+ * in a lock-free {@link SlotPool}. When the pool is empty a new instance is
+ * created, and when it is full the released instance is dropped.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see winter.data.enumdata.ControllerScope#POOLED
+ */
+public class PooledControllerProvider extends ControllerProvider {
+
+    /** The idle instances. */
+    private final SlotPool<Object> instances;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a pooled provider for a controller class.
+     *
+     * @param controllerClass the controller class
+     * @param poolSize        the maximum number of idle instances
+     * @throws ReflectiveOperationException if the controller has no accessible
+     *                                      no-arg constructor
+     * @throws IllegalArgumentException     if the pool size is not positive
+     */
+    public PooledControllerProvider(Class<?> controllerClass, int poolSize) throws ReflectiveOperationException {
+        super(controllerClass);
+
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Invalid pool size for the controller " + controllerClass.getName() + ": " + poolSize);
+        }
+
+        this.instances = new SlotPool<>(poolSize);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Takes an idle instance from the pool, or creates one if the pool is empty.
+     *
+     * @return the controller instance
+     * @throws ReflectiveOperationException if a new instance cannot be created
+     */
+    @Override
+    public Object acquire() throws ReflectiveOperationException {
+        Object instance = instances.poll();
+        return (instance != null) ? instance : this.newInstance();
+    }
+
+    /**
+     * Puts an instance back into the pool, or drops it if the pool is full.
+     *
+     * @param instance the instance obtained from {@link #acquire()}
+     */
+    @Override
+    public void release(Object instance) {
+        instances.offer(instance);
+    }
+}
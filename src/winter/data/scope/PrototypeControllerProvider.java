@@ -0,0 +1,53 @@
+package winter.data.scope;
+
+/**
+ * Provides a new controller instance for every request in the Winter
+ * framework.
+ * <p>
+ * This is the default scope. The class and its constructor are still resolved
+ * once, so each request only pays for the constructor call itself.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see winter.data.enumdata.ControllerScope#PROTOTYPE
+ */
+public class PrototypeControllerProvider extends ControllerProvider {
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a provider for a controller class.
+     *
+     * @param controllerClass the controller class
+     * @throws ReflectiveOperationException if the controller has no accessible
+     *                                      no-arg constructor
+     */
+    public PrototypeControllerProvider(Class<?> controllerClass) throws ReflectiveOperationException {
+        super(controllerClass);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Creates a new controller instance.
+     *
+     * @return the new instance
+     * @throws ReflectiveOperationException if the constructor throws an exception
+     */
+    @Override
+    public Object acquire() throws ReflectiveOperationException {
+        return this.newInstance();
+    }
+
+    /**
+     * Does nothing, since prototype instances are never reused.
+     *
+     * @param instance the instance obtained from {@link #acquire()}
+     */
+    @Override
+    public void release(Object instance) {
+        // Prototype instances are left to the garbage collector
+    }
+}
@@ -0,0 +1,74 @@
+package winter.data.scope;
+
+import winter.data.servletabstraction.ScopedSession;
+
+/**
+ * Provides a single controller instance shared by all requests in the Winter
+ * framework.
+ * <p>
+ * The instance is created when the controllers are scanned, so serving a
+ * request allocates nothing. If the controller declares a
+ * {@link winter.data.servletabstraction.Session} field, it is injected once with
+ * a {@link ScopedSession} that follows the request of the calling thread.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see winter.data.enumdata.ControllerScope#SINGLETON
+ */
+public class SingletonControllerProvider extends ControllerProvider {
+
+    /** The shared controller instance. */
+    private final Object instance;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates the shared instance of a controller class.
+     *
+     * @param controllerClass the controller class
+     * @throws ReflectiveOperationException if the controller cannot be
+     *                                      instantiated or injected
+     */
+    public SingletonControllerProvider(Class<?> controllerClass) throws ReflectiveOperationException {
+        super(controllerClass);
+        this.instance = this.newInstance();
+
+        if (this.hasSession()) {
+            this.injectSession(this.instance, new ScopedSession());
+        }
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Indicates that the instance is shared by concurrent requests.
+     *
+     * @return always true
+     */
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return the shared controller instance
+     */
+    @Override
+    public Object acquire() {
+        return instance;
+    }
+
+    /**
+     * Does nothing, since the shared instance lives as long as the provider.
+     *
+     * @param instance the shared instance
+     */
+    @Override
+    public void release(Object instance) {
+        // The shared instance is never released
+    }
+}
@@ -0,0 +1,208 @@
+package winter.data.servletabstraction;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import winter.util.DataUtil;
+
+/**
+ * A response wrapper intercepting the body as it is written in the Winter
+ * framework.
+ * <p>
+ * The body written through {@link #getOutputStream()} or {@link #getWriter()}
+ * is handed to {@link #writeBody(byte[], int, int)}, where subclasses hold it
+ * back, copy or transform it before sending it to the wrapped response
+ * through {@link #getWrappedStream()}. Only one of the stream and the writer
+ * may be acquired, as on a container response; the writer encodes characters
+ * with the response character encoding.
+ * </p>
+ * <p>
+ * Closing the body stream only flushes it, so a container closing the
+ * response after a forward cannot preempt the completion of the body by the
+ * subclass. Writes are blocking: non-blocking output is not supported.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class BufferingResponseWrapper extends HttpServletResponseWrapper {
+
+    /** The stream intercepting the body. */
+    private final BodyOutputStream stream = new BodyOutputStream();
+
+    /** The writer over the stream, or null if not acquired. */
+    private PrintWriter writer = null;
+
+    /** Whether the stream was acquired directly. */
+    private boolean streamAcquired = false;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Wraps a response to intercept its body.
+     *
+     * @param response the HTTP response
+     */
+    protected BufferingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Gets the stream intercepting the body.
+     *
+     * @return the body stream
+     * @throws IllegalStateException if {@link #getWriter()} was already called
+     */
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response");
+        }
+
+        streamAcquired = true;
+        return stream;
+    }
+
+    /**
+     * Gets a writer encoding characters into the body with the response
+     * character encoding.
+     *
+     * @return the writer
+     * @throws IllegalStateException if {@link #getOutputStream()} was already
+     *                               called
+     */
+    @Override
+    public PrintWriter getWriter() {
+        if (streamAcquired) {
+            throw new IllegalStateException("getOutputStream() has already been called on this response");
+        }
+
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(stream,
+                    DataUtil.charsetOf(getCharacterEncoding(), StandardCharsets.ISO_8859_1)));
+        }
+
+        return writer;
+    }
+
+    /**
+     * Receives bytes of the body.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @throws IOException if the bytes cannot be sent
+     */
+    protected abstract void writeBody(byte[] bytes, int offset, int length) throws IOException;
+
+    /**
+     * Flushes the body stream, sending what the subclass no longer holds back.
+     *
+     * @throws IOException if the wrapped stream cannot be flushed
+     */
+    protected abstract void flushBody() throws IOException;
+
+    /**
+     * Encodes the characters still buffered by the writer into the body, so
+     * the subclass can complete it.
+     */
+    protected void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Gets the stream of the wrapped response, where the body is sent.
+     *
+     * @return the wrapped stream
+     * @throws IOException if the wrapped stream cannot be acquired
+     */
+    protected ServletOutputStream getWrappedStream() throws IOException {
+        return super.getOutputStream();
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * The stream handing the body to the subclass.
+     */
+    private final class BodyOutputStream extends ServletOutputStream {
+
+        /**
+         * Writes one byte.
+         *
+         * @param b the byte
+         * @throws IOException if the byte cannot be sent
+         */
+        @Override
+        public void write(int b) throws IOException {
+            writeBody(new byte[] { (byte) b }, 0, 1);
+        }
+
+        /**
+         * Writes bytes.
+         *
+         * @param bytes  the bytes
+         * @param offset the index of the first byte
+         * @param length the number of bytes
+         * @throws IOException if the bytes cannot be sent
+         */
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            writeBody(bytes, offset, length);
+        }
+
+        /**
+         * Flushes the body through the subclass.
+         *
+         * @throws IOException if the wrapped stream cannot be flushed
+         */
+        @Override
+        public void flush() throws IOException {
+            flushBody();
+        }
+
+        /**
+         * Flushes the stream without closing the response.
+         *
+         * @throws IOException if the wrapped stream cannot be flushed
+         */
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        /**
+         * Checks if bytes can be written without blocking.
+         *
+         * @return true, as writes are blocking
+         */
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        /**
+         * Rejects non-blocking writes, which are not supported while the body
+         * is intercepted.
+         *
+         * @param writeListener the listener
+         * @throws IllegalStateException always
+         */
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new IllegalStateException("Non-blocking writes are not supported on "
+                    + BufferingResponseWrapper.this.getClass().getSimpleName());
+        }
+    }
+}
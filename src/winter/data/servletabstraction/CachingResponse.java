@@ -0,0 +1,299 @@
+package winter.data.servletabstraction;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.cache.CachedResponse;
+
+/**
+ * A response wrapper copying a response as it is written, so it can be stored
+ * in a {@link winter.data.cache.ResponseCache} in the Winter framework.
+ * <p>
+ * Every call passes straight through to the wrapped response, so the client
+ * receives the response as usual; the body bytes are also copied into a
+ * buffer, and the headers set while rendering are recorded. A response is only
+ * captured if it succeeds with a <code>200</code> status, sets no cookie and
+ * its body fits the size limit of the cache.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CachingResponse extends BufferingResponseWrapper {
+
+    /** The initial capacity of the body copy, in bytes. */
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+
+    /** The format of date headers. */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.RFC_1123_DATE_TIME
+            .withZone(ZoneOffset.UTC);
+
+    /** The largest body copied, in bytes. */
+    private final int maxSize;
+
+    /** The headers set while rendering, as name and value pairs. */
+    private final List<String> headers = new ArrayList<>();
+
+    /** The copy of the body, or null once the response cannot be cached. */
+    private byte[] buffer;
+
+    /** The number of bytes copied. */
+    private int count = 0;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Wraps a response to copy it.
+     *
+     * @param response the HTTP response
+     * @param maxSize  the largest body copied, in bytes
+     */
+    public CachingResponse(HttpServletResponse response, int maxSize) {
+        super(response);
+        this.maxSize = maxSize;
+        this.buffer = new byte[Math.min(INITIAL_CAPACITY, maxSize)];
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Sets a header, recording it.
+     *
+     * @param name  the header name
+     * @param value the header value
+     */
+    @Override
+    public void setHeader(String name, String value) {
+        super.setHeader(name, value);
+        record(name, value, true);
+    }
+
+    /**
+     * Adds a header, recording it.
+     *
+     * @param name  the header name
+     * @param value the header value
+     */
+    @Override
+    public void addHeader(String name, String value) {
+        super.addHeader(name, value);
+        record(name, value, false);
+    }
+
+    /**
+     * Sets a date header, recording it.
+     *
+     * @param name the header name
+     * @param date the epoch milliseconds
+     */
+    @Override
+    public void setDateHeader(String name, long date) {
+        super.setDateHeader(name, date);
+        record(name, DATE_FORMAT.format(Instant.ofEpochMilli(date)), true);
+    }
+
+    /**
+     * Adds a date header, recording it.
+     *
+     * @param name the header name
+     * @param date the epoch milliseconds
+     */
+    @Override
+    public void addDateHeader(String name, long date) {
+        super.addDateHeader(name, date);
+        record(name, DATE_FORMAT.format(Instant.ofEpochMilli(date)), false);
+    }
+
+    /**
+     * Sets an integer header, recording it.
+     *
+     * @param name  the header name
+     * @param value the header value
+     */
+    @Override
+    public void setIntHeader(String name, int value) {
+        super.setIntHeader(name, value);
+        record(name, Integer.toString(value), true);
+    }
+
+    /**
+     * Adds an integer header, recording it.
+     *
+     * @param name  the header name
+     * @param value the header value
+     */
+    @Override
+    public void addIntHeader(String name, int value) {
+        super.addIntHeader(name, value);
+        record(name, Integer.toString(value), false);
+    }
+
+    /**
+     * Adds a cookie, which makes the response specific to the client.
+     *
+     * @param cookie the cookie
+     */
+    @Override
+    public void addCookie(Cookie cookie) {
+        super.addCookie(cookie);
+        buffer = null;
+    }
+
+    /**
+     * Sends an error, which is never cached.
+     *
+     * @param sc  the status code
+     * @param msg the message
+     * @throws IOException if the error cannot be sent
+     */
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        buffer = null;
+        super.sendError(sc, msg);
+    }
+
+    /**
+     * Sends an error, which is never cached.
+     *
+     * @param sc the status code
+     * @throws IOException if the error cannot be sent
+     */
+    @Override
+    public void sendError(int sc) throws IOException {
+        buffer = null;
+        super.sendError(sc);
+    }
+
+    /**
+     * Sends a redirect, which is never cached.
+     *
+     * @param location the redirect location
+     * @throws IOException if the redirect cannot be sent
+     */
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        buffer = null;
+        super.sendRedirect(location);
+    }
+
+    /**
+     * Discards the copied body along with the wrapped buffer.
+     */
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        count = 0;
+    }
+
+    /**
+     * Discards the copied body and the recorded headers along with the wrapped
+     * response.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        count = 0;
+        headers.clear();
+    }
+
+    /**
+     * Captures the rendered response.
+     *
+     * @param offHeap   true to store the body in a direct buffer
+     * @param expiresAt the expiry time, in {@link System#nanoTime()} units
+     * @return the response to cache, or null if it cannot be cached
+     */
+    public CachedResponse capture(boolean offHeap, long expiresAt) {
+        flushWriter();
+
+        if (buffer == null || getStatus() != HttpServletResponse.SC_OK) {
+            return null;
+        }
+
+        return new CachedResponse(getContentType(), getCharacterEncoding(), headers, buffer, count, offHeap,
+                expiresAt);
+    }
+
+    /**
+     * Records a header set while rendering.
+     *
+     * @param name    the header name
+     * @param value   the header value
+     * @param replace true if the header replaces the previous values of the
+     *                name
+     */
+    private void record(String name, String value, boolean replace) {
+        if ("Set-Cookie".equalsIgnoreCase(name)) {
+            buffer = null;
+        }
+
+        if (replace) {
+            for (int i = headers.size() - 2; i >= 0; i -= 2) {
+                if (headers.get(i).equalsIgnoreCase(name)) {
+                    headers.remove(i + 1);
+                    headers.remove(i);
+                }
+            }
+        }
+
+        headers.add(name);
+        headers.add(value);
+    }
+
+    /**
+     * Sends bytes of the body to the wrapped response and copies them.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @throws IOException if the bytes cannot be sent
+     */
+    @Override
+    protected void writeBody(byte[] bytes, int offset, int length) throws IOException {
+        getWrappedStream().write(bytes, offset, length);
+        copy(bytes, offset, length);
+    }
+
+    /**
+     * Flushes the wrapped stream.
+     *
+     * @throws IOException if the wrapped stream cannot be flushed
+     */
+    @Override
+    protected void flushBody() throws IOException {
+        getWrappedStream().flush();
+    }
+
+    /**
+     * Copies written bytes, giving up the copy if the body grows past the size
+     * limit.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     */
+    private void copy(byte[] bytes, int offset, int length) {
+        if (buffer == null) {
+            return;
+        } else if (count + length > maxSize) {
+            buffer = null;
+            return;
+        }
+
+        if (count + length > buffer.length) {
+            byte[] grown = new byte[Math.min(maxSize, Math.max(buffer.length * 2, count + length))];
+            System.arraycopy(buffer, 0, grown, 0, count);
+            buffer = grown;
+        }
+
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+}
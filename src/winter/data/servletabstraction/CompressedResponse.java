@@ -0,0 +1,477 @@
+package winter.data.servletabstraction;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.enumdata.ContentCoding;
+import winter.util.DeflaterPool;
+
+/**
+ * A response wrapper compressing the body as it is written in the Winter
+ * framework.
+ * <p>
+ * The first bytes of the body are held back until the body reaches the
+ * minimum size, or until its full length is known. Shorter bodies are sent as
+ * is, with their exact <code>Content-Length</code>; longer ones are streamed
+ * through a {@link DeflaterOutputStream} borrowed from the
+ * {@link DeflaterPool}, and every flush of the response sends the data
+ * compressed so far. Bodies of an already compressed media type (images,
+ * audio, video, archives) and responses that already carry a
+ * <code>Content-Encoding</code> are never compressed.
+ * </p>
+ * <p>
+ * A strong <code>ETag</code> is turned into a weak one on compressed
+ * responses, as the compressed bytes depend on the deflater; weak comparison
+ * still validates it against the tag of the uncompressed body.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CompressedResponse extends BufferingResponseWrapper {
+
+    /** The prefixes of media types that are not worth compressing. */
+    private static final String[] INCOMPRESSIBLE_TYPES = { "image/", "audio/", "video/", "font/woff",
+            "application/zip", "application/gzip", "application/x-gzip", "application/x-bzip2",
+            "application/x-7z-compressed", "application/octet-stream" };
+
+    /** The size of the buffer of the deflater stream, in bytes. */
+    private static final int DEFLATER_BUFFER_SIZE = 8 * 1024;
+
+    /** The coding negotiated with the client. */
+    private final ContentCoding coding;
+
+    /** The smallest body compressed, in bytes. */
+    private final int minSize;
+
+    /** Whether the body is held back, sent as is or compressed. */
+    private State state = State.PENDING;
+
+    /** The bytes held back, or null once the state is decided. */
+    private byte[] pending;
+
+    /** The number of bytes held back. */
+    private int count = 0;
+
+    /** The content length declared by the handler, or -1 if none. */
+    private long contentLength = -1;
+
+    /** The compressing stream, or null if the body is not compressed. */
+    private CodingOutputStream encoder = null;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Wraps a response to compress its body.
+     *
+     * @param response the HTTP response
+     * @param coding   the coding negotiated with the client
+     * @param minSize  the smallest body compressed, in bytes
+     */
+    public CompressedResponse(HttpServletResponse response, ContentCoding coding, int minSize) {
+        super(response);
+        this.coding = coding;
+        this.minSize = Math.max(0, minSize);
+        this.pending = new byte[Math.min(this.minSize, DEFLATER_BUFFER_SIZE)];
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Records the content length declared by the handler.
+     *
+     * @param length the content length
+     */
+    @Override
+    public void setContentLength(int length) {
+        setContentLengthLong(length);
+    }
+
+    /**
+     * Records the content length declared by the handler. A length below the
+     * minimum size sends the body as is; the length of a compressed body is
+     * not known in advance and is dropped.
+     *
+     * @param length the content length
+     * @throws UncheckedIOException if the held-back bytes cannot be sent
+     */
+    @Override
+    public void setContentLengthLong(long length) {
+        switch (state) {
+            case PENDING -> {
+                contentLength = length;
+
+                if (length < minSize) {
+                    try {
+                        decide(false);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+            case IDENTITY -> super.setContentLengthLong(length);
+            case COMPRESSED -> {
+                // The compressed length differs from the declared one
+            }
+        }
+    }
+
+    /**
+     * Sets a header, weakening a strong entity tag on a compressed body.
+     *
+     * @param name  the header name
+     * @param value the header value
+     */
+    @Override
+    public void setHeader(String name, String value) {
+        if (state == State.COMPRESSED && "ETag".equalsIgnoreCase(name)) {
+            value = weaken(value);
+        }
+
+        super.setHeader(name, value);
+    }
+
+    /**
+     * Checks if the response is committed.
+     *
+     * @return false while the body is held back, the state of the wrapped
+     *         response otherwise
+     */
+    @Override
+    public boolean isCommitted() {
+        return state != State.PENDING && super.isCommitted();
+    }
+
+    /**
+     * Flushes the response once its state is decided; a held-back body is not
+     * flushed.
+     *
+     * @throws IOException if the wrapped response cannot be flushed
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+        if (state != State.PENDING) {
+            flushBody();
+            super.flushBuffer();
+        }
+    }
+
+    /**
+     * Discards the body written so far.
+     *
+     * @throws IllegalStateException if compressed data was already produced
+     */
+    @Override
+    public void resetBuffer() {
+        if (state == State.COMPRESSED) {
+            throw new IllegalStateException("The compressed body has already started");
+        }
+
+        count = 0;
+        super.resetBuffer();
+    }
+
+    /**
+     * Discards the body written so far, the status and the headers.
+     *
+     * @throws IllegalStateException if compressed data was already produced
+     */
+    @Override
+    public void reset() {
+        resetBuffer();
+        contentLength = -1;
+        super.reset();
+    }
+
+    /**
+     * Completes the response after the handler has written it.
+     * <p>
+     * A body still held back is sent as is with its exact length; a compressed
+     * body is terminated. The deflater is returned to the pool in both cases.
+     * </p>
+     *
+     * @throws IOException if the body cannot be sent
+     */
+    public void finish() throws IOException {
+        flushWriter();
+
+        try {
+            if (state == State.PENDING) {
+                int status = getStatus();
+
+                if (status != HttpServletResponse.SC_NOT_MODIFIED && status != HttpServletResponse.SC_NO_CONTENT) {
+                    contentLength = count;
+                    decide(false);
+                }
+            } else if (state == State.COMPRESSED) {
+                encoder.finish();
+            }
+
+            if (state != State.PENDING) {
+                getWrappedStream().flush();
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Returns the deflater to the pool, without completing the response.
+     * <p>
+     * This method is called when the handler fails; it may be called again
+     * after {@link #finish()}.
+     * </p>
+     */
+    public void release() {
+        if (encoder != null) {
+            encoder.release();
+        }
+    }
+
+    /**
+     * Writes bytes of the body.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @throws IOException if the bytes cannot be sent
+     */
+    @Override
+    protected void writeBody(byte[] bytes, int offset, int length) throws IOException {
+        if (state == State.PENDING) {
+            if (count + length < minSize) {
+                if (count + length > pending.length) {
+                    byte[] grown = new byte[Math.min(minSize, Math.max(pending.length * 2, count + length))];
+                    System.arraycopy(pending, 0, grown, 0, count);
+                    pending = grown;
+                }
+
+                System.arraycopy(bytes, offset, pending, count, length);
+                count += length;
+                return;
+            }
+
+            decide(true);
+        }
+
+        if (state == State.COMPRESSED) {
+            encoder.write(bytes, offset, length);
+        } else {
+            getWrappedStream().write(bytes, offset, length);
+        }
+    }
+
+    /**
+     * Sends the data compressed so far; a held-back body is not flushed.
+     *
+     * @throws IOException if the data cannot be sent
+     */
+    @Override
+    protected void flushBody() throws IOException {
+        if (state == State.COMPRESSED) {
+            encoder.flush();
+        } else if (state == State.IDENTITY) {
+            getWrappedStream().flush();
+        }
+    }
+
+    /**
+     * Decides whether the body is compressed and sends the held-back bytes.
+     *
+     * @param compress true if the body reached the minimum size, false to send
+     *                 it as is
+     * @throws IOException if the held-back bytes cannot be sent
+     */
+    private void decide(boolean compress) throws IOException {
+        byte[] held = pending;
+        pending = null;
+
+        if (compress && isCompressible()) {
+            state = State.COMPRESSED;
+            super.setHeader("Content-Encoding", coding.getToken());
+
+            String etag = getHeader("ETag");
+
+            if (etag != null) {
+                super.setHeader("ETag", weaken(etag));
+            }
+
+            encoder = new CodingOutputStream(getWrappedStream(), coding);
+
+            if (count > 0) {
+                encoder.write(held, 0, count);
+            }
+        } else {
+            state = State.IDENTITY;
+
+            if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+
+            if (count > 0) {
+                getWrappedStream().write(held, 0, count);
+            }
+        }
+    }
+
+    /**
+     * Checks if the body may be compressed.
+     *
+     * @return true if the status has a body, the response has no coding yet and
+     *         its media type is not already compressed, false otherwise
+     */
+    private boolean isCompressible() {
+        int status = getStatus();
+
+        if (status == HttpServletResponse.SC_NOT_MODIFIED || status == HttpServletResponse.SC_NO_CONTENT
+                || getHeader("Content-Encoding") != null) {
+            return false;
+        }
+
+        String contentType = getContentType();
+
+        if (contentType == null) {
+            return true;
+        }
+
+        for (String type : INCOMPRESSIBLE_TYPES) {
+            if (contentType.regionMatches(true, 0, type, 0, type.length())) {
+                // SVG images are text
+                return type.equals("image/") && contentType.regionMatches(true, 6, "svg", 0, 3);
+            }
+        }
+
+        return true;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Turns an entity tag into a weak one.
+     *
+     * @param etag the entity tag
+     * @return the weak tag
+     */
+    private static String weaken(String etag) {
+        return (etag == null || etag.startsWith("W/")) ? etag : "W/" + etag;
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * The states of the body of a compressed response.
+     */
+    private enum State {
+
+        /** The body is held back until it reaches the minimum size. */
+        PENDING,
+
+        /** The body is sent as is. */
+        IDENTITY,
+
+        /** The body is compressed. */
+        COMPRESSED
+    }
+
+    /**
+     * A deflater stream over a pooled {@link Deflater}, writing the gzip header
+     * and trailer itself when the coding is gzip.
+     * <p>
+     * Flushes are synchronous, so each flush sends every byte compressed so
+     * far.
+     * </p>
+     */
+    private static final class CodingOutputStream extends DeflaterOutputStream {
+
+        /** The gzip header: magic number, deflate method, no flags, no time. */
+        private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0,
+                (byte) 0xff };
+
+        /** Whether the gzip framing is written. */
+        private final boolean gzip;
+
+        /** The checksum of the uncompressed bytes, for the gzip trailer. */
+        private final CRC32 crc = new CRC32();
+
+        /** Whether the deflater was returned to the pool. */
+        private boolean released = false;
+
+        /**
+         * Opens a deflater stream.
+         *
+         * @param out    the response stream
+         * @param coding the content coding
+         * @throws IOException if the gzip header cannot be written
+         */
+        CodingOutputStream(OutputStream out, ContentCoding coding) throws IOException {
+            super(out, DeflaterPool.acquire(coding == ContentCoding.GZIP), DEFLATER_BUFFER_SIZE, true);
+            this.gzip = (coding == ContentCoding.GZIP);
+
+            if (gzip) {
+                out.write(GZIP_HEADER);
+            }
+        }
+
+        /**
+         * Compresses bytes.
+         *
+         * @param bytes  the bytes
+         * @param offset the index of the first byte
+         * @param length the number of bytes
+         * @throws IOException if the compressed bytes cannot be sent
+         */
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            super.write(bytes, offset, length);
+
+            if (gzip) {
+                crc.update(bytes, offset, length);
+            }
+        }
+
+        /**
+         * Terminates the compressed data and writes the gzip trailer.
+         *
+         * @throws IOException if the data cannot be sent
+         */
+        @Override
+        public void finish() throws IOException {
+            if (def.finished()) {
+                return;
+            }
+
+            super.finish();
+
+            if (gzip) {
+                writeIntLE(crc.getValue());
+                writeIntLE(def.getBytesRead());
+            }
+        }
+
+        /**
+         * Returns the deflater to the pool once.
+         */
+        void release() {
+            if (!released) {
+                released = true;
+                DeflaterPool.release(def, gzip);
+            }
+        }
+
+        /**
+         * Writes the low 32 bits of a value in little-endian order.
+         *
+         * @param value the value
+         * @throws IOException if the bytes cannot be sent
+         */
+        private void writeIntLE(long value) throws IOException {
+            out.write(new byte[] { (byte) value, (byte) (value >> 8), (byte) (value >> 16), (byte) (value >> 24) });
+        }
+    }
+}
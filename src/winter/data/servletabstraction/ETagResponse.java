@@ -0,0 +1,248 @@
+package winter.data.servletabstraction;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.CachePolicy;
+
+/**
+ * A response wrapper computing the entity tag of a body while it is written in
+ * the Winter framework.
+ * <p>
+ * Every byte written through {@link #getOutputStream()} or
+ * {@link #getWriter()} is added to a SHA-256 digest and held in a buffer, so
+ * the body is hashed once, incrementally, without being rendered twice. When
+ * the handler is done, {@link #finish(HttpServletRequest)} sets the
+ * <code>ETag</code> header and either sends the buffered body with its exact
+ * <code>Content-Length</code>, or a bodiless <code>304 Not Modified</code> if
+ * the client already holds it.
+ * </p>
+ * <p>
+ * Bodies longer than {@value #MAX_BUFFERED_SIZE} bytes are not held back: the
+ * buffer is sent and the rest of the body passes straight through, without an
+ * entity tag.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ETagResponse extends BufferingResponseWrapper {
+
+    /** The largest body held back to be tagged, in bytes. */
+    private static final int MAX_BUFFERED_SIZE = 1024 * 1024;
+
+    /** The initial capacity of the body buffer, in bytes. */
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+
+    /** The caching rules of the handler. */
+    private final CachePolicy policy;
+
+    /** The digest of the bytes written so far. */
+    private final MessageDigest digest = CachePolicy.newDigest();
+
+    /** The bytes written so far, or null once the body passes through. */
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+
+    /** The number of bytes in the buffer. */
+    private int count = 0;
+
+    /** The content length declared by the handler, or -1 if none. */
+    private long contentLength = -1;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Wraps a response to tag its body.
+     *
+     * @param response the HTTP response
+     * @param policy   the caching rules of the handler
+     */
+    public ETagResponse(HttpServletResponse response, CachePolicy policy) {
+        super(response);
+        this.policy = policy;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Records the content length declared by the handler.
+     *
+     * @param length the content length
+     */
+    @Override
+    public void setContentLength(int length) {
+        setContentLengthLong(length);
+    }
+
+    /**
+     * Records the content length declared by the handler; it is only sent if
+     * the body passes through untagged.
+     *
+     * @param length the content length
+     */
+    @Override
+    public void setContentLengthLong(long length) {
+        if (buffer == null) {
+            super.setContentLengthLong(length);
+        } else {
+            contentLength = length;
+        }
+    }
+
+    /**
+     * Checks if the response is committed.
+     *
+     * @return false while the body is held back, the state of the wrapped
+     *         response otherwise
+     */
+    @Override
+    public boolean isCommitted() {
+        return buffer == null && super.isCommitted();
+    }
+
+    /**
+     * Flushes the response once the body passes through; a held-back body is
+     * not flushed.
+     *
+     * @throws IOException if the wrapped response cannot be flushed
+     */
+    @Override
+    public void flushBuffer() throws IOException {
+        if (buffer == null) {
+            super.flushBuffer();
+        }
+    }
+
+    /**
+     * Discards the held-back body.
+     *
+     * @throws IllegalStateException if the body already passes through
+     */
+    @Override
+    public void resetBuffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("The response has already been committed");
+        }
+
+        count = 0;
+        digest.reset();
+        super.resetBuffer();
+    }
+
+    /**
+     * Discards the held-back body, the status and the headers.
+     *
+     * @throws IllegalStateException if the body already passes through
+     */
+    @Override
+    public void reset() {
+        resetBuffer();
+        contentLength = -1;
+        super.reset();
+    }
+
+    /**
+     * Completes the response after the handler has written it.
+     * <p>
+     * A successful, held-back response gets its <code>ETag</code> header, then
+     * its body, or the <code>304</code> status if the request's
+     * <code>If-None-Match</code> header lists the tag.
+     * </p>
+     *
+     * @param req the HTTP request
+     * @throws IOException if the body cannot be sent
+     */
+    public void finish(HttpServletRequest req) throws IOException {
+        flushWriter();
+
+        if (buffer == null) {
+            return;
+        }
+
+        if (getStatus() == HttpServletResponse.SC_OK) {
+            String etag = policy.tagOfDigest(digest.digest());
+            String ifNoneMatch = req.getHeader("If-None-Match");
+            setHeader("ETag", etag);
+
+            if (ifNoneMatch != null && CachePolicy.matches(ifNoneMatch, etag)) {
+                setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                buffer = null;
+                return;
+            }
+        }
+
+        byte[] body = buffer;
+        buffer = null;
+        super.setContentLength(count);
+
+        if (count > 0) {
+            ServletOutputStream out = getWrappedStream();
+            out.write(body, 0, count);
+            out.flush();
+        }
+    }
+
+    /**
+     * Adds bytes to the held-back body, or sends them if the body passes
+     * through.
+     *
+     * @param bytes  the bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @throws IOException if the bytes cannot be sent
+     */
+    @Override
+    protected void writeBody(byte[] bytes, int offset, int length) throws IOException {
+        if (buffer != null && count + length > MAX_BUFFERED_SIZE) {
+            passThrough();
+        }
+
+        if (buffer == null) {
+            getWrappedStream().write(bytes, offset, length);
+            return;
+        }
+
+        if (count + length > buffer.length) {
+            byte[] grown = new byte[Math.min(MAX_BUFFERED_SIZE, Math.max(buffer.length * 2, count + length))];
+            System.arraycopy(buffer, 0, grown, 0, count);
+            buffer = grown;
+        }
+
+        System.arraycopy(bytes, offset, buffer, count, length);
+        digest.update(bytes, offset, length);
+        count += length;
+    }
+
+    /**
+     * Flushes the bytes that pass through; a held-back body is not flushed.
+     *
+     * @throws IOException if the wrapped stream cannot be flushed
+     */
+    @Override
+    protected void flushBody() throws IOException {
+        if (buffer == null) {
+            getWrappedStream().flush();
+        }
+    }
+
+    /**
+     * Gives up tagging: sends the held-back bytes and lets the rest of the body
+     * through.
+     *
+     * @throws IOException if the held-back bytes cannot be sent
+     */
+    private void passThrough() throws IOException {
+        byte[] body = buffer;
+        buffer = null;
+
+        if (contentLength >= 0) {
+            super.setContentLengthLong(contentLength);
+        }
+
+        getWrappedStream().write(body, 0, count);
+    }
+}
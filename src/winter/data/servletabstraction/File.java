@@ -11,7 +11,8 @@ import winter.data.exception.internal.FileSaveException;
 import winter.util.DataUtil;
 
 /**
- * An abstraction for handling file uploads in the Winter framework.
+ * An abstraction for handling file uploads and downloads in the Winter
+ * framework.
  * <p>
  * This class wraps a file uploaded via a {@link Part} object, providing
  * functionality to
@@ -46,6 +47,21 @@ public class File {
     public File() {
     }
 
+    /**
+     * Constructs a file object from a name and content.
+     * <p>
+     * Returned from a controller method, the file is sent as a download under
+     * its filename.
+     * </p>
+     *
+     * @param filename the filename
+     * @param bytes    the file content
+     */
+    public File(String filename, byte[] bytes) {
+        this.setFilename(filename);
+        this.setBytes(bytes);
+    }
+
     /**
      * Constructs a file object from a servlet {@link Part}.
      * <p>
@@ -0,0 +1,65 @@
+package winter.data.servletabstraction;
+
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * A {@link Session} bound to the HTTP session of the request being processed
+ * by the current thread in the Winter framework.
+ * <p>
+ * Singleton controllers are shared by concurrent requests, so they cannot
+ * receive a new {@link Session} per request. They are injected with a single
+ * instance of this class instead, and the framework binds the session of each
+ * request to the processing thread for the duration of the controller call.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ScopedSession extends Session {
+
+    /** The HTTP session of the request processed by the current thread. */
+    private static final ThreadLocal<HttpSession> CURRENT = new ThreadLocal<>();
+
+    /* --------------------------- Getters and setters -------------------------- */
+
+    /**
+     * Gets the HTTP session of the request processed by the current thread.
+     *
+     * @return the bound {@link HttpSession}, or null outside of a request
+     */
+    @Override
+    public HttpSession getHttpSession() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Rejects explicit sessions, since this session always follows the current
+     * request.
+     *
+     * @param httpSession the {@link HttpSession} to wrap
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setHttpSession(HttpSession httpSession) {
+        throw new UnsupportedOperationException("A scoped session is bound to the current request");
+    }
+
+    /* ------------------------------ Thread binding ---------------------------- */
+
+    /**
+     * Binds an HTTP session to the current thread.
+     *
+     * @param httpSession the session of the request being processed
+     */
+    public static void bind(HttpSession httpSession) {
+        CURRENT.set(httpSession);
+    }
+
+    /**
+     * Removes the HTTP session bound to the current thread.
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+}
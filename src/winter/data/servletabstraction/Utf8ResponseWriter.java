@@ -0,0 +1,350 @@
+package winter.data.servletabstraction;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import winter.util.BufferPool;
+
+/**
+ * A writer encoding a text response into UTF-8 bytes in the Winter framework.
+ * <p>
+ * Characters are encoded once, in bulk, into a buffer borrowed from the
+ * {@link BufferPool}, with a fast path for ASCII. A body that fits the buffer
+ * is sent with its exact <code>Content-Length</code> in a single write to the
+ * {@link ServletOutputStream} when the writer is closed; a longer body is
+ * streamed buffer by buffer without a length, which the container sends
+ * chunked. Unpaired surrogates are encoded as <code>?</code>. Bodies of a
+ * binary format can be written through {@link #asOutputStream()} to get the
+ * same exact length.
+ * </p>
+ * <p>
+ * {@link #flush()} only sends data once the body is streamed, so it does not
+ * give up the exact length of a short body. {@link #close()} completes the
+ * body, or {@link #discard()} drops it after a failure; one of them must be
+ * called, as it returns the buffer to the pool. Neither closes the response.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Utf8ResponseWriter extends Writer {
+
+    /** The character sent in place of an unpaired surrogate. */
+    private static final byte REPLACEMENT = '?';
+
+    /** The response the body is written to. */
+    private final HttpServletResponse response;
+
+    /** The encoded bytes not sent yet, or null once the writer is closed. */
+    private byte[] buffer = BufferPool.acquire();
+
+    /** The number of bytes in the buffer. */
+    private int count = 0;
+
+    /** The response stream, or null while the whole body fits the buffer. */
+    private ServletOutputStream out = null;
+
+    /** The high surrogate waiting for its low surrogate, or 0 if none. */
+    private char highSurrogate = 0;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a writer for a response.
+     *
+     * @param response the HTTP response, whose stream is not acquired yet
+     */
+    public Utf8ResponseWriter(HttpServletResponse response) {
+        this.response = response;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Writes one character.
+     *
+     * @param c the character
+     * @throws IOException if the writer is closed or the bytes cannot be sent
+     */
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        encode((char) c);
+    }
+
+    /**
+     * Writes characters of an array.
+     *
+     * @param chars  the characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @throws IOException if the writer is closed or the bytes cannot be sent
+     */
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        ensureOpen();
+        int end = offset + length;
+
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+
+            if (c < 0x80 && highSurrogate == 0 && count < buffer.length) {
+                buffer[count++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    /**
+     * Writes characters of a string.
+     *
+     * @param text   the string
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @throws IOException if the writer is closed or the bytes cannot be sent
+     */
+    @Override
+    public void write(String text, int offset, int length) throws IOException {
+        ensureOpen();
+        int end = offset + length;
+
+        for (int i = offset; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (c < 0x80 && highSurrogate == 0 && count < buffer.length) {
+                buffer[count++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    /**
+     * Writes bytes already encoded in UTF-8, such as the static fragments of a
+     * compiled template.
+     *
+     * @param bytes  the encoded bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @throws IOException if the writer is closed or the bytes cannot be sent
+     */
+    public void writeEncoded(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            put(REPLACEMENT);
+        }
+
+        if (count + length <= buffer.length) {
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+            return;
+        }
+
+        reserve(length);
+
+        if (length > buffer.length) {
+            out.write(bytes, offset, length);
+        } else {
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+    }
+
+    /**
+     * Returns a view of this writer as a byte stream, whose writes go to
+     * {@link #writeEncoded(byte[], int, int)}. Closing the view does not close
+     * the writer.
+     *
+     * @return the byte stream
+     */
+    public OutputStream asOutputStream() {
+        return new OutputStream() {
+
+            /**
+             * Writes one byte.
+             *
+             * @param b the byte
+             * @throws IOException if the writer is closed or the bytes cannot
+             *                     be sent
+             */
+            @Override
+            public void write(int b) throws IOException {
+                writeEncoded(new byte[] { (byte) b }, 0, 1);
+            }
+
+            /**
+             * Writes bytes of an array.
+             *
+             * @param bytes  the bytes
+             * @param offset the index of the first byte
+             * @param length the number of bytes
+             * @throws IOException if the writer is closed or the bytes cannot
+             *                     be sent
+             */
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                writeEncoded(bytes, offset, length);
+            }
+        };
+    }
+
+    /**
+     * Sends the buffered bytes if the body is already streamed; a body still
+     * fitting the buffer is kept until {@link #close()}.
+     *
+     * @throws IOException if the bytes cannot be sent
+     */
+    @Override
+    public void flush() throws IOException {
+        if (out != null && buffer != null) {
+            out.write(buffer, 0, count);
+            count = 0;
+            out.flush();
+        }
+    }
+
+    /**
+     * Completes the body and returns the buffer to the pool.
+     * <p>
+     * A body that fit the buffer is sent with its exact length; the rest of a
+     * streamed body is sent and flushed.
+     * </p>
+     *
+     * @throws IOException if the bytes cannot be sent
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+
+        try {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                put(REPLACEMENT);
+            }
+
+            if (out == null) {
+                response.setContentLength(count);
+
+                if (count == 0) {
+                    return;
+                }
+
+                out = response.getOutputStream();
+            }
+
+            out.write(buffer, 0, count);
+            out.flush();
+        } finally {
+            BufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    /**
+     * Drops the buffered bytes and returns the buffer to the pool, after a
+     * failure.
+     * <p>
+     * A body that fit the buffer was never sent, so the response can still be
+     * reset for an error page; the part of a streamed body already sent stays
+     * sent.
+     * </p>
+     */
+    public void discard() {
+        if (buffer != null) {
+            BufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    /**
+     * Encodes one character, pairing surrogates.
+     *
+     * @param c the character
+     * @throws IOException if the buffer must be sent and cannot be
+     */
+    private void encode(char c) throws IOException {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                reserve(4);
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+
+            put(REPLACEMENT);
+        }
+
+        if (c < 0x80) {
+            put((byte) c);
+        } else if (c < 0x800) {
+            reserve(2);
+            buffer[count++] = (byte) (0xC0 | (c >> 6));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            put(REPLACEMENT);
+        } else {
+            reserve(3);
+            buffer[count++] = (byte) (0xE0 | (c >> 12));
+            buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    /**
+     * Appends one byte.
+     *
+     * @param b the byte
+     * @throws IOException if the buffer must be sent and cannot be
+     */
+    private void put(byte b) throws IOException {
+        reserve(1);
+        buffer[count++] = b;
+    }
+
+    /**
+     * Makes room for bytes, switching to streaming when the buffer is full.
+     *
+     * @param length the number of bytes to append
+     * @throws IOException if the buffer cannot be sent
+     */
+    private void reserve(int length) throws IOException {
+        if (count + length <= buffer.length) {
+            return;
+        }
+
+        if (out == null) {
+            out = response.getOutputStream();
+        }
+
+        out.write(buffer, 0, count);
+        count = 0;
+    }
+
+    /**
+     * Checks that the writer is not closed.
+     *
+     * @throws IOException if the writer is closed
+     */
+    private void ensureOpen() throws IOException {
+        if (buffer == null) {
+            throw new IOException("The writer is closed");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package winter.data.template;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import winter.data.servletabstraction.Utf8ResponseWriter;
+
+/**
+ * A conditional block of a template in the Winter framework, written
+ * <code>#{if path}...#{else}...#{end}</code>.
+ * <p>
+ * A value is false when it is null, <code>false</code>, zero, or an empty
+ * string, collection, map, array or optional, and true otherwise. The
+ * condition is negated with <code>#{if !path}</code>.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ConditionNode implements TemplateNode {
+
+    /** The path of the tested value. */
+    private final PropertyPath path;
+
+    /** Whether the condition is negated. */
+    private final boolean negated;
+
+    /** The nodes rendered when the condition holds. */
+    private final TemplateNode[] thenNodes;
+
+    /** The nodes rendered otherwise. */
+    private final TemplateNode[] elseNodes;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a conditional block.
+     *
+     * @param path      the path of the tested value
+     * @param negated   true if the block is rendered when the value is false
+     * @param thenNodes the nodes rendered when the condition holds
+     * @param elseNodes the nodes rendered otherwise, possibly none
+     */
+    public ConditionNode(PropertyPath path, boolean negated, TemplateNode[] thenNodes, TemplateNode[] elseNodes) {
+        this.path = path;
+        this.negated = negated;
+        this.thenNodes = thenNodes;
+        this.elseNodes = elseNodes;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Renders the branch selected by the condition.
+     *
+     * @param scope the variables of the rendering
+     * @param out   the response body
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(TemplateScope scope, Utf8ResponseWriter out) throws IOException {
+        Template.render(isTrue(path.resolve(scope)) != negated ? thenNodes : elseNodes, scope, out);
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Checks if a value counts as true.
+     *
+     * @param value the value, possibly null
+     * @return false for null, false, zero and empty values, true otherwise
+     */
+    static boolean isTrue(Object value) {
+        if (value == null) {
+            return false;
+        }
+
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+
+        if (value instanceof Number number) {
+            return number.doubleValue() != 0;
+        }
+
+        if (value instanceof CharSequence text) {
+            return text.length() > 0;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            return !collection.isEmpty();
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            return !map.isEmpty();
+        }
+
+        if (value instanceof Optional<?> optional) {
+            return optional.isPresent();
+        }
+
+        return !value.getClass().isArray() || Array.getLength(value) > 0;
+    }
+}
@@ -0,0 +1,273 @@
+package winter.data.template;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import winter.data.codec.Codecs;
+import winter.data.enumdata.EscapeMode;
+import winter.util.HtmlWriter;
+import winter.util.Utility;
+
+/**
+ * Utility class writing escaped template values in the Winter framework.
+ * <p>
+ * HTML replacements are looked up in tables indexed by character, shared
+ * with the {@link HtmlWriter} for text and quoted attributes, and text
+ * without characters to replace is written in a single run. Values are turned
+ * into text with {@link String#valueOf(Object)}, and null is written as
+ * nothing, except in {@link EscapeMode#SCRIPT_VALUE} where values are written
+ * as JSON through the shared codec.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Escaper extends Utility {
+
+    /** The hexadecimal digits. */
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * The replacements of ASCII characters in
+     * {@link EscapeMode#UNQUOTED_ATTRIBUTE}.
+     */
+    private static final String[] UNQUOTED_ESCAPES = new String[128];
+
+    /** The URL schemes an attribute holding a URL may start with. */
+    private static final String[] SAFE_SCHEMES = { "http", "https", "mailto", "tel" };
+
+    /** The URL written in place of one with an unsafe scheme. */
+    private static final String BLOCKED_URL = "#";
+
+    static {
+        UNQUOTED_ESCAPES['&'] = "&amp;";
+        UNQUOTED_ESCAPES['<'] = "&lt;";
+        UNQUOTED_ESCAPES['>'] = "&gt;";
+        UNQUOTED_ESCAPES['"'] = "&#34;";
+        UNQUOTED_ESCAPES['\''] = "&#39;";
+
+        for (char c : new char[] { ' ', '\t', '\n', '\f', '\r', '=', '`' }) {
+            UNQUOTED_ESCAPES[c] = "&#" + (int) c + ";";
+        }
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Writes a value escaped for a context.
+     *
+     * @param value the value, possibly null
+     * @param mode  the escaping of the context
+     * @param out   the destination
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(Object value, EscapeMode mode, Writer out) throws IOException {
+        if (mode == EscapeMode.SCRIPT_VALUE) {
+            writeScriptValue(value, out);
+            return;
+        }
+
+        if (value == null) {
+            return;
+        }
+
+        String text = String.valueOf(value);
+
+        switch (mode) {
+            case NONE -> out.write(text);
+            case HTML -> HtmlWriter.escape(text, out);
+            case UNQUOTED_ATTRIBUTE -> writeReplaced(text, UNQUOTED_ESCAPES, out);
+            case URL_COMPONENT -> writePercentEncoded(text, out);
+            case SCRIPT_STRING -> writeScriptString(text, out);
+            case CSS -> writeCss(text, out);
+            default -> throw new IllegalArgumentException("Unsupported escape mode: " + mode);
+        }
+    }
+
+    /**
+     * Replaces a URL whose scheme may run code, such as
+     * <code>javascript:</code>.
+     * <p>
+     * Relative URLs and URLs with a scheme among <code>http</code>,
+     * <code>https</code>, <code>mailto</code> and <code>tel</code> are kept.
+     * </p>
+     *
+     * @param value the value starting a URL attribute, possibly null
+     * @return the value, or a harmless URL in place of an unsafe one
+     */
+    public static Object filterUrl(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        String url = String.valueOf(value);
+
+        for (int i = 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+
+            if (c == '/' || c == '?' || c == '#') {
+                return url;
+            }
+
+            if (c == ':') {
+                String scheme = url.substring(0, i).trim();
+
+                for (String safe : SAFE_SCHEMES) {
+                    if (safe.equalsIgnoreCase(scheme)) {
+                        return url;
+                    }
+                }
+
+                return BLOCKED_URL;
+            }
+        }
+
+        return url;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Writes text with the ASCII characters of a table replaced.
+     *
+     * @param text     the text
+     * @param escapes  the replacements, indexed by character
+     * @param out      the destination
+     * @throws IOException if the text cannot be written
+     */
+    private static void writeReplaced(String text, String[] escapes, Writer out) throws IOException {
+        int length = text.length();
+        int start = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c < 128 && escapes[c] != null) {
+                if (i > start) {
+                    out.write(text, start, i - start);
+                }
+
+                out.write(escapes[c]);
+                start = i + 1;
+            }
+        }
+
+        if (start < length) {
+            out.write(text, start, length - start);
+        }
+    }
+
+    /**
+     * Writes text as percent-encoded UTF-8, keeping only unreserved characters.
+     *
+     * @param text the text
+     * @param out  the destination
+     * @throws IOException if the text cannot be written
+     */
+    private static void writePercentEncoded(String text, Writer out) throws IOException {
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            if (isAlphanumeric(b) || b == '-' || b == '.' || b == '_' || b == '~') {
+                out.write(b);
+            } else {
+                out.write('%');
+                out.write(HEX_DIGITS[(b >> 4) & 0xF]);
+                out.write(HEX_DIGITS[b & 0xF]);
+            }
+        }
+    }
+
+    /**
+     * Writes text for a JavaScript string, escaping every ASCII character but
+     * letters, digits and <code>_ . , -</code>, and the line separators.
+     *
+     * @param text the text
+     * @param out  the destination
+     * @throws IOException if the text cannot be written
+     */
+    private static void writeScriptString(String text, Writer out) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c < 128 ? isAlphanumeric(c) || c == '_' || c == '.' || c == ',' || c == '-'
+                    : c != '\u2028' && c != '\u2029') {
+                out.write(c);
+            } else {
+                writeUnicodeEscape(c, out);
+            }
+        }
+    }
+
+    /**
+     * Writes a value as JSON for a script, with the characters that could end
+     * the script element or a line escaped.
+     *
+     * @param value the value, possibly null
+     * @param out   the destination
+     * @throws IOException if the value cannot be written
+     */
+    private static void writeScriptValue(Object value, Writer out) throws IOException {
+        String json = Codecs.getJsonCodec().toJson(value);
+
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+
+            // These only occur inside JSON strings, where an escape is equivalent
+            if (c == '<' || c == '>' || c == '&' || c == '\u2028' || c == '\u2029') {
+                writeUnicodeEscape(c, out);
+            } else {
+                out.write(c);
+            }
+        }
+    }
+
+    /**
+     * Writes text for a style sheet, escaping every ASCII character but letters
+     * and digits with the six-digit form, which needs no terminating space.
+     *
+     * @param text the text
+     * @param out  the destination
+     * @throws IOException if the text cannot be written
+     */
+    private static void writeCss(String text, Writer out) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c >= 128 || isAlphanumeric(c)) {
+                out.write(c);
+            } else {
+                out.write("\\00");
+                out.write(HEX_DIGITS[(c >> 12) & 0xF]);
+                out.write(HEX_DIGITS[(c >> 8) & 0xF]);
+                out.write(HEX_DIGITS[(c >> 4) & 0xF]);
+                out.write(HEX_DIGITS[c & 0xF]);
+            }
+        }
+    }
+
+    /**
+     * Writes a character as a <code>&#92;uXXXX</code> escape.
+     *
+     * @param c   the character
+     * @param out the destination
+     * @throws IOException if the escape cannot be written
+     */
+    private static void writeUnicodeEscape(char c, Writer out) throws IOException {
+        out.write("\\u");
+        out.write(HEX_DIGITS[(c >> 12) & 0xF]);
+        out.write(HEX_DIGITS[(c >> 8) & 0xF]);
+        out.write(HEX_DIGITS[(c >> 4) & 0xF]);
+        out.write(HEX_DIGITS[c & 0xF]);
+    }
+
+    /**
+     * Checks if a character is an ASCII letter or digit.
+     *
+     * @param c the character
+     * @return true if the character is in <code>[A-Za-z0-9]</code>
+     */
+    private static boolean isAlphanumeric(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,114 @@
+package winter.data.template;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.BaseStream;
+
+import winter.data.servletabstraction.Utf8ResponseWriter;
+
+/**
+ * A loop of a template in the Winter framework, written
+ * <code>#{each item in path}...#{end}</code>.
+ * <p>
+ * The body is rendered once per element of an {@link Iterable}, array,
+ * {@link Iterator} or stream, once per entry of a {@link Map} (with
+ * <code>item.key</code> and <code>item.value</code>), once for any other
+ * value, and not at all for null. Streams are closed afterwards.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class LoopNode implements TemplateNode {
+
+    /** The name of the loop variable. */
+    private final String variable;
+
+    /** The path of the iterated value. */
+    private final PropertyPath path;
+
+    /** The nodes of the body. */
+    private final TemplateNode[] body;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a loop.
+     *
+     * @param variable the name of the loop variable
+     * @param path     the path of the iterated value
+     * @param body     the nodes of the body
+     */
+    public LoopNode(String variable, PropertyPath path, TemplateNode[] body) {
+        this.variable = variable;
+        this.path = path;
+        this.body = body;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Renders the body once per element.
+     *
+     * @param scope the variables of the rendering
+     * @param out   the response body
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(TemplateScope scope, Utf8ResponseWriter out) throws IOException {
+        Object value = path.resolve(scope);
+
+        if (value == null) {
+            return;
+        }
+
+        int slot = scope.push(variable);
+
+        try {
+            if (value.getClass().isArray()) {
+                int length = Array.getLength(value);
+
+                for (int i = 0; i < length; i++) {
+                    scope.set(slot, Array.get(value, i));
+                    Template.render(body, scope, out);
+                }
+            } else if (value instanceof BaseStream<?, ?> stream) {
+                try (stream) {
+                    renderEach(stream.iterator(), slot, scope, out);
+                }
+            } else if (value instanceof Iterator<?> iterator) {
+                renderEach(iterator, slot, scope, out);
+            } else if (value instanceof Iterable<?> iterable) {
+                renderEach(iterable.iterator(), slot, scope, out);
+            } else if (value instanceof Map<?, ?> map) {
+                renderEach(map.entrySet().iterator(), slot, scope, out);
+            } else {
+                scope.set(slot, value);
+                Template.render(body, scope, out);
+            }
+        } finally {
+            scope.pop();
+        }
+    }
+
+    /**
+     * Renders the body once per remaining element of an iterator.
+     *
+     * @param iterator the elements
+     * @param slot     the slot of the loop variable
+     * @param scope    the variables of the rendering
+     * @param out      the response body
+     * @throws IOException if the output cannot be written
+     */
+    private void renderEach(Iterator<?> iterator, int slot, TemplateScope scope, Utf8ResponseWriter out)
+            throws IOException {
+
+        while (iterator.hasNext()) {
+            scope.set(slot, iterator.next());
+            Template.render(body, scope, out);
+        }
+    }
+}
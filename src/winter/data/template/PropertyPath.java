@@ -0,0 +1,60 @@
+package winter.data.template;
+
+/**
+ * A dotted variable path compiled from a template expression in the Winter
+ * framework, such as <code>user.address.city</code>.
+ * <p>
+ * The first name is looked up in the {@link TemplateScope}, and each
+ * following name is read as a property of the previous value through the
+ * {@link PropertyReaders}. A null value along the way makes the whole path
+ * null.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PropertyPath {
+
+    /** The names of the path. */
+    private final String[] names;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a path.
+     *
+     * @param names the names of the path, at least one
+     */
+    public PropertyPath(String[] names) {
+        this.names = names;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Resolves the path in a scope.
+     *
+     * @param scope the scope of the rendering
+     * @return the value, possibly null
+     */
+    public Object resolve(TemplateScope scope) {
+        Object value = scope.lookup(names[0]);
+
+        for (int i = 1; i < names.length && value != null; i++) {
+            value = PropertyReaders.read(value, names[i]);
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the path as written in the template.
+     *
+     * @return the dotted path
+     */
+    @Override
+    public String toString() {
+        return String.join(".", names);
+    }
+}
@@ -0,0 +1,196 @@
+package winter.data.template;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import winter.util.Utility;
+
+/**
+ * Utility class reading the properties named in templates in the Winter
+ * framework.
+ * <p>
+ * A property is a map entry, the <code>length</code> of an array, or else the
+ * first of a public <code>getName()</code>, <code>isName()</code> or
+ * <code>name()</code> method (record components, <code>size()</code>...) and
+ * public field. Its reader is resolved once per class and name into a
+ * {@link MethodHandle}, cached through a {@link ClassValue}; a property the
+ * class does not have reads as null.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PropertyReaders extends Utility {
+
+    /** The type of reader handles. */
+    private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /** The reader of properties a class does not have. */
+    private static final MethodHandle MISSING = MethodHandles.dropArguments(
+            MethodHandles.constant(Object.class, null), 0, Object.class);
+
+    /** The lookup used for members of classes that are not public. */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** The readers already resolved, by class and property name. */
+    private static final ClassValue<Map<String, MethodHandle>> READERS = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Reads a property of an object.
+     *
+     * @param target the object, possibly null
+     * @param name   the property name
+     * @return the value, or null if the object is null or has no such property
+     * @throws IllegalStateException if the property reader fails
+     */
+    public static Object read(Object target, String name) {
+        if (target == null) {
+            return null;
+        }
+
+        if (target instanceof Map<?, ?> map) {
+            return map.get(name);
+        }
+
+        if (name.equals("length") && target.getClass().isArray()) {
+            return Array.getLength(target);
+        }
+
+        MethodHandle reader = READERS.get(target.getClass())
+                .computeIfAbsent(name, key -> findReader(target.getClass(), key));
+
+        try {
+            return reader.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot read the property " + name + " of " + target.getClass(), e);
+        }
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Resolves the reader of a property.
+     *
+     * @param type the class of the object
+     * @param name the property name
+     * @return the reader, or {@link #MISSING} if the class has no such property
+     */
+    private static MethodHandle findReader(Class<?> type, String name) {
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+        for (String methodName : new String[] { "get" + suffix, "is" + suffix, name }) {
+            MethodHandle reader = findMethod(type, methodName);
+
+            if (reader != null) {
+                return reader.asType(READER_TYPE);
+            }
+        }
+
+        try {
+            Field field = type.getField(name);
+
+            if (!Modifier.isStatic(field.getModifiers())) {
+                return unreflectGetter(field).asType(READER_TYPE);
+            }
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException e) {
+            // Not a readable field either
+        }
+
+        return MISSING;
+    }
+
+    /**
+     * Finds a public method without parameters, preferring its declaration in
+     * a public supertype when the class itself is not public (as for the
+     * collections returned by <code>List.of</code>).
+     *
+     * @param type       the class of the object
+     * @param methodName the method name
+     * @return the method handle, or null if there is no accessible method
+     */
+    private static MethodHandle findMethod(Class<?> type, String methodName) {
+        Method method;
+
+        try {
+            method = type.getMethod(methodName);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+
+        if (method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        pending.add(type);
+
+        while (!pending.isEmpty()) {
+            Class<?> candidate = pending.poll();
+
+            if (!visited.add(candidate)) {
+                continue;
+            }
+
+            if (Modifier.isPublic(candidate.getModifiers())) {
+                try {
+                    return MethodHandles.publicLookup().unreflect(candidate.getMethod(methodName));
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    // Declared further down the hierarchy, or in a closed module
+                }
+            }
+
+            if (candidate.getSuperclass() != null) {
+                pending.add(candidate.getSuperclass());
+            }
+
+            pending.addAll(List.of(candidate.getInterfaces()));
+        }
+
+        try {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the getter of a public field, falling back to private access for
+     * fields of classes that are not public.
+     *
+     * @param field the field
+     * @return the getter handle
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    private static MethodHandle unreflectGetter(Field field) throws IllegalAccessException {
+        try {
+            return MethodHandles.publicLookup().unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            field.setAccessible(true);
+            return LOOKUP.unreflectGetter(field);
+        }
+    }
+}
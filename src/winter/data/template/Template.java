@@ -0,0 +1,85 @@
+package winter.data.template;
+
+import java.io.IOException;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import winter.data.servletabstraction.Utf8ResponseWriter;
+
+/**
+ * A view template compiled by the {@link TemplateCompiler} in the Winter
+ * framework.
+ * <p>
+ * A template is a tree of {@link TemplateNode}s: static fragments already
+ * encoded into UTF-8, escaped expressions, conditions and loops. It renders
+ * a model straight into the response body, and is immutable, so a single
+ * instance serves concurrent requests.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Template {
+
+    /** The path of the template, for error messages. */
+    private final String name;
+
+    /** The top-level nodes. */
+    private final TemplateNode[] nodes;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a compiled template.
+     *
+     * @param name  the path of the template
+     * @param nodes the top-level nodes
+     */
+    public Template(String name, TemplateNode[] nodes) {
+        this.name = name;
+        this.nodes = nodes;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the path of the template.
+     *
+     * @return the path
+     */
+    public String getName() {
+        return name;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Renders a model.
+     *
+     * @param data    the model data
+     * @param request the request, whose attributes are visible to the template,
+     *                or null
+     * @param out     the response body
+     * @throws IOException if the output cannot be written
+     */
+    public void render(Map<String, ?> data, HttpServletRequest request, Utf8ResponseWriter out)
+            throws IOException {
+
+        render(nodes, new TemplateScope(data, request), out);
+    }
+
+    /**
+     * Renders a sequence of nodes.
+     *
+     * @param nodes the nodes
+     * @param scope the variables of the rendering
+     * @param out   the response body
+     * @throws IOException if the output cannot be written
+     */
+    static void render(TemplateNode[] nodes, TemplateScope scope, Utf8ResponseWriter out) throws IOException {
+        for (TemplateNode node : nodes) {
+            node.render(scope, out);
+        }
+    }
+}
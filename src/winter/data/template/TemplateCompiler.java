@@ -0,0 +1,727 @@
+package winter.data.template;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import winter.data.enumdata.EscapeMode;
+import winter.data.exception.internal.TemplateSyntaxException;
+
+/**
+ * Compiles view templates into {@link Template}s in the Winter framework.
+ * <p>
+ * A template is HTML with the following constructs:
+ * </p>
+ * <ul>
+ * <li><code>${path}</code> writes an escaped value, and <code>$!{path}</code>
+ * writes it as is;</li>
+ * <li><code>#{if path}</code>, <code>#{if !path}</code>,
+ * <code>#{else}</code> and <code>#{end}</code> delimit a
+ * {@link ConditionNode};</li>
+ * <li><code>#{each item in path}</code> and <code>#{end}</code> delimit a
+ * {@link LoopNode};</li>
+ * <li><code>#{-- ... --}</code> is a comment, and a backslash before
+ * <code>${</code>, <code>$!{</code> or <code>#{</code> writes it
+ * literally.</li>
+ * </ul>
+ * <p>
+ * A path is a dotted sequence of names, such as <code>user.name</code>. The
+ * static text is followed through a small HTML tokenizer, so every value is
+ * escaped for the context it appears in: element text, a quoted or unquoted
+ * attribute, a URL attribute (whose value cannot start with a
+ * <code>javascript:</code> scheme), an event handler or style attribute, or
+ * the content of a <code>script</code> or <code>style</code> element.
+ * Namespaced URL attributes such as <code>xlink:href</code> are URL
+ * attributes too, and so is the part of a <code>meta</code>
+ * <code>content</code> following <code>;url=</code>, as in a refresh. A
+ * refresh target written by a value that also holds the delay is not
+ * checked.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TemplateCompiler {
+
+    /** The syntax of a path. */
+    private static final Pattern PATH = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)*");
+
+    /** The syntax of the header of a loop. */
+    private static final Pattern LOOP = Pattern.compile("each\\s+([A-Za-z_][A-Za-z0-9_]*)\\s+in\\s+(.+)");
+
+    /** The attributes holding a URL, also matched after a namespace prefix. */
+    private static final Set<String> URL_ATTRIBUTES = Set.of("href", "src", "action", "formaction", "cite",
+            "poster", "background");
+
+    /** The static start of a <code>meta</code> refresh content, up to its URL. */
+    private static final Pattern REFRESH_URL = Pattern.compile("(?is).*[;,]\\s*url\\s*=\\s*['\"]?");
+
+    /** The path of the template, for error messages. */
+    private final String name;
+
+    /** The template source. */
+    private final String source;
+
+    /** The blocks being compiled, innermost first. */
+    private final Deque<Block> blocks = new ArrayDeque<>();
+
+    /** The static text not turned into a node yet. */
+    private final StringBuilder text = new StringBuilder();
+
+    /** The HTML context at the end of the compiled text. */
+    private HtmlContext context = new HtmlContext();
+
+    /** The position in the source. */
+    private int position = 0;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates the compiler of one template.
+     *
+     * @param name   the path of the template
+     * @param source the template source
+     */
+    private TemplateCompiler(String name, String source) {
+        this.name = name;
+        this.source = source;
+    }
+
+    /* ------------------------------- Compilation ------------------------------ */
+
+    /**
+     * Compiles a template.
+     *
+     * @param name   the path of the template, for error messages
+     * @param source the template source
+     * @return the compiled template
+     * @throws TemplateSyntaxException if the template is malformed
+     */
+    public static Template compile(String name, String source) throws TemplateSyntaxException {
+        return new TemplateCompiler(name, source).compile();
+    }
+
+    /**
+     * Compiles the template.
+     *
+     * @return the compiled template
+     * @throws TemplateSyntaxException if the template is malformed
+     */
+    private Template compile() throws TemplateSyntaxException {
+        Block root = new Block(null, 0, null, false, null, null);
+        blocks.push(root);
+        int length = source.length();
+
+        while (position < length) {
+            char c = source.charAt(position);
+
+            if (c == '\\' && (source.startsWith("${", position + 1) || source.startsWith("$!{", position + 1)
+                    || source.startsWith("#{", position + 1))) {
+                text.append(source.charAt(position + 1));
+                position += 2;
+            } else if (source.startsWith("${", position) || source.startsWith("$!{", position)) {
+                compileValue();
+            } else if (source.startsWith("#{--", position)) {
+                int end = source.indexOf("--}", position + 4);
+
+                if (end < 0) {
+                    throw error(position, "Unclosed comment");
+                }
+
+                position = end + 3;
+            } else if (source.startsWith("#{", position)) {
+                compileDirective();
+            } else {
+                text.append(c);
+                position++;
+            }
+        }
+
+        flushText();
+
+        if (blocks.size() > 1) {
+            Block block = blocks.peek();
+            throw error(block.start, "Unclosed #{" + block.kind + "}");
+        }
+
+        return new Template(name, root.nodes.toArray(new TemplateNode[0]));
+    }
+
+    /**
+     * Compiles the expression at the current position.
+     *
+     * @throws TemplateSyntaxException if the expression is malformed
+     */
+    private void compileValue() throws TemplateSyntaxException {
+        boolean raw = source.charAt(position + 1) == '!';
+        int start = position + (raw ? 3 : 2);
+        int close = source.indexOf('}', start);
+
+        if (close < 0) {
+            throw error(position, "Unclosed expression");
+        }
+
+        flushText();
+        PropertyPath path = parsePath(source.substring(start, close).trim(), position);
+
+        if (raw) {
+            blocks.peek().add(new ValueNode(path, EscapeMode.NONE, false));
+        } else {
+            blocks.peek().add(new ValueNode(path, context.escapeMode(), context.isUrlStart()));
+        }
+
+        context.valueWritten();
+        position = close + 1;
+    }
+
+    /**
+     * Compiles the directive at the current position.
+     *
+     * @throws TemplateSyntaxException if the directive is malformed or does not
+     *                                 match the open blocks
+     */
+    private void compileDirective() throws TemplateSyntaxException {
+        int start = position;
+        int close = source.indexOf('}', start + 2);
+
+        if (close < 0) {
+            throw error(start, "Unclosed directive");
+        }
+
+        flushText();
+        String directive = source.substring(start + 2, close).trim();
+        Block block = blocks.peek();
+        Matcher loop = LOOP.matcher(directive);
+
+        if (directive.equals("else")) {
+            if (!"if".equals(block.kind) || block.elseNodes != null) {
+                throw error(start, "#{else} outside of #{if}");
+            }
+
+            block.elseNodes = new ArrayList<>();
+            context = block.context.copy();
+        } else if (directive.equals("end")) {
+            if (blocks.size() == 1) {
+                throw error(start, "#{end} without an open block");
+            }
+
+            blocks.pop();
+            blocks.peek().add(block.toNode());
+        } else if (directive.startsWith("if ") || directive.startsWith("if!")) {
+            String condition = directive.substring(2).trim();
+            boolean negated = condition.startsWith("!");
+            PropertyPath path = parsePath(negated ? condition.substring(1).trim() : condition, start);
+            blocks.push(new Block("if", start, path, negated, null, context.copy()));
+        } else if (loop.matches()) {
+            PropertyPath path = parsePath(loop.group(2).trim(), start);
+            blocks.push(new Block("each", start, path, false, loop.group(1), null));
+        } else {
+            throw error(start, "Unknown directive #{" + directive + "}");
+        }
+
+        position = close + 1;
+    }
+
+    /**
+     * Turns the pending static text into a node, following its HTML context.
+     */
+    private void flushText() {
+        if (text.length() > 0) {
+            context.scan(text);
+            blocks.peek().add(new TextNode(text.toString()));
+            text.setLength(0);
+        }
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Parses a path.
+     *
+     * @param expression the path
+     * @param at         the position of the construct, for error messages
+     * @return the path
+     * @throws TemplateSyntaxException if the path is malformed
+     */
+    private PropertyPath parsePath(String expression, int at) throws TemplateSyntaxException {
+        if (!PATH.matcher(expression).matches()) {
+            throw error(at, "Invalid path '" + expression + "'");
+        }
+
+        return new PropertyPath(expression.split("\\."));
+    }
+
+    /**
+     * Creates a syntax error located in the template.
+     *
+     * @param at      the position of the error
+     * @param message the error description
+     * @return the exception
+     */
+    private TemplateSyntaxException error(int at, String message) {
+        int line = 1;
+
+        for (int i = 0; i < at; i++) {
+            if (source.charAt(i) == '\n') {
+                line++;
+            }
+        }
+
+        return new TemplateSyntaxException(name + ":" + line + ": " + message);
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * A block being compiled: the whole template, a condition or a loop.
+     */
+    private static final class Block {
+
+        /** The directive opening the block, or null for the template. */
+        final String kind;
+
+        /** The position of the opening directive. */
+        final int start;
+
+        /** The path of the tested or iterated value. */
+        final PropertyPath path;
+
+        /** Whether a condition is negated. */
+        final boolean negated;
+
+        /** The name of a loop variable. */
+        final String variable;
+
+        /** The HTML context at the start of a condition. */
+        final HtmlContext context;
+
+        /** The nodes of the block, or of the first branch of a condition. */
+        final List<TemplateNode> nodes = new ArrayList<>();
+
+        /** The nodes of the else branch, or null before <code>#{else}</code>. */
+        List<TemplateNode> elseNodes = null;
+
+        /**
+         * Opens a block.
+         *
+         * @param kind     the directive opening the block
+         * @param start    the position of the directive
+         * @param path     the path of the tested or iterated value
+         * @param negated  whether a condition is negated
+         * @param variable the name of a loop variable
+         * @param context  the HTML context at the start of a condition
+         */
+        Block(String kind, int start, PropertyPath path, boolean negated, String variable, HtmlContext context) {
+            this.kind = kind;
+            this.start = start;
+            this.path = path;
+            this.negated = negated;
+            this.variable = variable;
+            this.context = context;
+        }
+
+        /**
+         * Adds a node to the current branch.
+         *
+         * @param node the node
+         */
+        void add(TemplateNode node) {
+            (elseNodes != null ? elseNodes : nodes).add(node);
+        }
+
+        /**
+         * Turns the closed block into a node.
+         *
+         * @return the condition or loop
+         */
+        TemplateNode toNode() {
+            TemplateNode[] body = nodes.toArray(new TemplateNode[0]);
+
+            if (kind.equals("each")) {
+                return new LoopNode(variable, path, body);
+            }
+
+            TemplateNode[] otherwise = (elseNodes != null) ? elseNodes.toArray(new TemplateNode[0])
+                    : new TemplateNode[0];
+            return new ConditionNode(path, negated, body, otherwise);
+        }
+    }
+
+    /**
+     * The HTML context reached by the static text of a template, deciding how
+     * the following value is escaped.
+     * <p>
+     * This is a lenient subset of the HTML tokenizer: tags, attributes with
+     * their quoting, comments, and the raw text of <code>script</code> and
+     * <code>style</code> elements, in which JavaScript strings and comments
+     * are tracked too.
+     * </p>
+     */
+    private static final class HtmlContext {
+
+        /** The tokenizer states. */
+        private enum State {
+            DATA, TAG_OPEN, DECLARATION, COMMENT, TAG_NAME, TAG, ATTRIBUTE_NAME, AFTER_ATTRIBUTE_NAME,
+            BEFORE_VALUE, VALUE, RAW_TEXT
+        }
+
+        /** The current state. */
+        private State state = State.DATA;
+
+        /** The name of the current tag, in lower case. */
+        private StringBuilder tagName = new StringBuilder();
+
+        /** Whether the current tag is a closing one. */
+        private boolean closing = false;
+
+        /** The name of the current attribute, in lower case. */
+        private StringBuilder attribute = new StringBuilder();
+
+        /** The quote of the current attribute value, or 0 if unquoted. */
+        private char quote = 0;
+
+        /** Whether the current attribute value is still empty. */
+        private boolean valueEmpty = true;
+
+        /** The static text of the current attribute value, with a NUL for each value. */
+        private StringBuilder valueText = new StringBuilder();
+
+        /** The element whose raw text is read, <code>script</code> or <code>style</code>. */
+        private String rawTag = null;
+
+        /** The number of characters of the closing raw tag matched so far. */
+        private int rawMatch = 0;
+
+        /** The number of characters read in a declaration or dashes in a comment. */
+        private int count = 0;
+
+        /** The quote of the current JavaScript string, or 0 outside strings. */
+        private char scriptQuote = 0;
+
+        /** Whether the next JavaScript string character is escaped. */
+        private boolean scriptEscaped = false;
+
+        /** The JavaScript comment being read: 0 for none, 1 for a line, 2 for a block. */
+        private int scriptComment = 0;
+
+        /** The previous script character. */
+        private char previous = 0;
+
+        /**
+         * Copies the context, for the branches of a condition.
+         *
+         * @return the copy
+         */
+        HtmlContext copy() {
+            HtmlContext copy = new HtmlContext();
+            copy.state = state;
+            copy.tagName = new StringBuilder(tagName);
+            copy.closing = closing;
+            copy.attribute = new StringBuilder(attribute);
+            copy.quote = quote;
+            copy.valueEmpty = valueEmpty;
+            copy.valueText = new StringBuilder(valueText);
+            copy.rawTag = rawTag;
+            copy.rawMatch = rawMatch;
+            copy.count = count;
+            copy.scriptQuote = scriptQuote;
+            copy.scriptEscaped = scriptEscaped;
+            copy.scriptComment = scriptComment;
+            copy.previous = previous;
+            return copy;
+        }
+
+        /**
+         * Gets the escaping of a value written in this context.
+         *
+         * @return the escape mode
+         */
+        EscapeMode escapeMode() {
+            return switch (state) {
+                case DATA, TAG_OPEN, DECLARATION, COMMENT -> EscapeMode.HTML;
+                case TAG_NAME, TAG, ATTRIBUTE_NAME, AFTER_ATTRIBUTE_NAME -> EscapeMode.UNQUOTED_ATTRIBUTE;
+                case BEFORE_VALUE, VALUE -> attributeMode();
+                case RAW_TEXT -> !rawTag.equals("script") ? EscapeMode.CSS
+                        : (scriptQuote != 0 || scriptComment != 0) ? EscapeMode.SCRIPT_STRING
+                                : EscapeMode.SCRIPT_VALUE;
+            };
+        }
+
+        /**
+         * Checks if a value written in this context starts a URL attribute.
+         *
+         * @return true if the scheme of the value must be checked
+         */
+        boolean isUrlStart() {
+            if (state == State.BEFORE_VALUE || (state == State.VALUE && valueEmpty)) {
+                return isUrlAttribute(attribute.toString());
+            }
+
+            return state == State.VALUE && tagName.toString().equals("meta")
+                    && attribute.toString().equals("content") && REFRESH_URL.matcher(valueText).matches();
+        }
+
+        /**
+         * Records that a value was written in this context.
+         */
+        void valueWritten() {
+            if (state == State.BEFORE_VALUE) {
+                state = State.VALUE;
+                quote = 0;
+                valueText.setLength(0);
+            }
+
+            valueEmpty = false;
+            valueText.append('\0');
+        }
+
+        /**
+         * Advances the context over static text.
+         *
+         * @param text the text
+         */
+        void scan(CharSequence text) {
+            for (int i = 0; i < text.length(); i++) {
+                scan(text.charAt(i));
+            }
+        }
+
+        /**
+         * Gets the escaping of an attribute value.
+         *
+         * @return the escape mode
+         */
+        private EscapeMode attributeMode() {
+            String name = attribute.toString();
+            boolean quoted = state == State.VALUE && quote != 0;
+
+            if (name.startsWith("on")) {
+                return EscapeMode.SCRIPT_STRING;
+            }
+
+            if (name.equals("style")) {
+                return EscapeMode.CSS;
+            }
+
+            if (isUrlAttribute(name) && !isUrlStart()) {
+                return EscapeMode.URL_COMPONENT;
+            }
+
+            return quoted ? EscapeMode.HTML : EscapeMode.UNQUOTED_ATTRIBUTE;
+        }
+
+        /**
+         * Checks if an attribute holds a URL, ignoring a namespace prefix.
+         *
+         * @param name the attribute name, in lower case
+         * @return true for URL attributes such as <code>href</code> or
+         *         <code>xlink:href</code>
+         */
+        private static boolean isUrlAttribute(String name) {
+            return URL_ATTRIBUTES.contains(name) || URL_ATTRIBUTES.contains(name.substring(name.indexOf(':') + 1));
+        }
+
+        /**
+         * Advances the context over one character.
+         *
+         * @param c the character
+         */
+        private void scan(char c) {
+            boolean space = c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+
+            switch (state) {
+                case DATA -> {
+                    if (c == '<') {
+                        state = State.TAG_OPEN;
+                    }
+                }
+                case TAG_OPEN -> {
+                    if (Character.isLetter(c)) {
+                        startTag(c, false);
+                    } else if (c == '/') {
+                        startTag((char) 0, true);
+                    } else if (c == '!' || c == '?') {
+                        state = State.DECLARATION;
+                        count = (c == '!') ? 0 : 2;
+                    } else if (c != '<') {
+                        state = State.DATA;
+                    }
+                }
+                case DECLARATION -> {
+                    if (c == '>') {
+                        state = State.DATA;
+                    } else if (count < 2 && c == '-') {
+                        count++;
+
+                        if (count == 2) {
+                            state = State.COMMENT;
+                            count = 0;
+                        }
+                    } else {
+                        count = 2;
+                    }
+                }
+                case COMMENT -> {
+                    if (c == '>' && count >= 2) {
+                        state = State.DATA;
+                    }
+
+                    count = (c == '-') ? count + 1 : 0;
+                }
+                case TAG_NAME -> {
+                    if (space || c == '/') {
+                        state = State.TAG;
+                    } else if (c == '>') {
+                        endTag();
+                    } else {
+                        tagName.append(Character.toLowerCase(c));
+                    }
+                }
+                case TAG, AFTER_ATTRIBUTE_NAME -> {
+                    if (c == '>') {
+                        endTag();
+                    } else if (c == '=' && state == State.AFTER_ATTRIBUTE_NAME) {
+                        state = State.BEFORE_VALUE;
+                    } else if (c == '/') {
+                        state = State.TAG;
+                    } else if (!space) {
+                        attribute.setLength(0);
+                        attribute.append(Character.toLowerCase(c));
+                        state = State.ATTRIBUTE_NAME;
+                    }
+                }
+                case ATTRIBUTE_NAME -> {
+                    if (space) {
+                        state = State.AFTER_ATTRIBUTE_NAME;
+                    } else if (c == '=') {
+                        state = State.BEFORE_VALUE;
+                    } else if (c == '>') {
+                        endTag();
+                    } else if (c == '/') {
+                        state = State.TAG;
+                    } else {
+                        attribute.append(Character.toLowerCase(c));
+                    }
+                }
+                case BEFORE_VALUE -> {
+                    if (c == '"' || c == '\'') {
+                        state = State.VALUE;
+                        quote = c;
+                        valueEmpty = true;
+                        valueText.setLength(0);
+                    } else if (c == '>') {
+                        endTag();
+                    } else if (!space) {
+                        state = State.VALUE;
+                        quote = 0;
+                        valueEmpty = false;
+                        valueText.setLength(0);
+                        valueText.append(c);
+                    }
+                }
+                case VALUE -> {
+                    if (quote != 0 ? c == quote : space) {
+                        state = State.TAG;
+                    } else if (quote == 0 && c == '>') {
+                        endTag();
+                    } else {
+                        valueEmpty = false;
+                        valueText.append(c);
+                    }
+                }
+                case RAW_TEXT -> scanRawText(c);
+            }
+        }
+
+        /**
+         * Advances the context over one character of a <code>script</code> or
+         * <code>style</code> element.
+         *
+         * @param c the character
+         */
+        private void scanRawText(char c) {
+            String end = "</" + rawTag;
+
+            if (Character.toLowerCase(c) == end.charAt(rawMatch)) {
+                rawMatch++;
+
+                if (rawMatch == end.length()) {
+                    state = State.TAG_NAME;
+                    tagName.setLength(0);
+                    tagName.append(rawTag);
+                    closing = true;
+                    return;
+                }
+            } else {
+                rawMatch = (c == '<') ? 1 : 0;
+            }
+
+            if (!rawTag.equals("script")) {
+                return;
+            }
+
+            if (scriptComment == 1) {
+                scriptComment = (c == '\n') ? 0 : 1;
+            } else if (scriptComment == 2) {
+                scriptComment = (previous == '*' && c == '/') ? 0 : 2;
+            } else if (scriptQuote != 0) {
+                if (scriptEscaped) {
+                    scriptEscaped = false;
+                } else if (c == '\\') {
+                    scriptEscaped = true;
+                } else if (c == scriptQuote || (c == '\n' && scriptQuote != '`')) {
+                    scriptQuote = 0;
+                }
+            } else if (previous == '/' && (c == '/' || c == '*')) {
+                scriptComment = (c == '/') ? 1 : 2;
+                previous = 0;
+                return;
+            } else if (c == '"' || c == '\'' || c == '`') {
+                scriptQuote = c;
+            }
+
+            previous = c;
+        }
+
+        /**
+         * Starts reading a tag name.
+         *
+         * @param first   the first character of the name, or 0 if not read yet
+         * @param closing whether the tag is a closing one
+         */
+        private void startTag(char first, boolean closing) {
+            state = State.TAG_NAME;
+            this.closing = closing;
+            tagName.setLength(0);
+
+            if (first != 0) {
+                tagName.append(Character.toLowerCase(first));
+            }
+        }
+
+        /**
+         * Ends the current tag, entering the raw text of a <code>script</code>
+         * or <code>style</code> element.
+         */
+        private void endTag() {
+            String name = tagName.toString();
+
+            if (!closing && (name.equals("script") || name.equals("style"))) {
+                state = State.RAW_TEXT;
+                rawTag = name;
+                rawMatch = 0;
+                scriptQuote = 0;
+                scriptEscaped = false;
+                scriptComment = 0;
+                previous = 0;
+            } else {
+                state = State.DATA;
+            }
+        }
+    }
+}
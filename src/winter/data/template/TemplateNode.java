@@ -0,0 +1,29 @@
+package winter.data.template;
+
+import java.io.IOException;
+
+import winter.data.servletabstraction.Utf8ResponseWriter;
+
+/**
+ * An instruction of a compiled template in the Winter framework.
+ * <p>
+ * Templates are compiled once into a tree of nodes, which only read the
+ * {@link TemplateScope} they are rendered with and are shared by concurrent
+ * renderings.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TemplateNode {
+
+    /**
+     * Renders the node.
+     *
+     * @param scope the variables of the rendering
+     * @param out   the response body
+     * @throws IOException if the output cannot be written
+     */
+    void render(TemplateScope scope, Utf8ResponseWriter out) throws IOException;
+}
@@ -0,0 +1,114 @@
+package winter.data.template;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * The variables visible to a template while it is rendered in the Winter
+ * framework.
+ * <p>
+ * A name is looked up in the loop variables, innermost first, then in the
+ * model data, and finally in the request attributes, which hold the form
+ * data and errors of a failed validation. The model is read in place, without
+ * being copied into the request.
+ * </p>
+ * <p>
+ * A scope is used by a single rendering thread.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TemplateScope {
+
+    /** The model data. */
+    private final Map<String, ?> data;
+
+    /** The request, or null outside of a request. */
+    private final HttpServletRequest request;
+
+    /** The loop variable names, innermost last. */
+    private String[] names = new String[4];
+
+    /** The loop variable values. */
+    private Object[] values = new Object[4];
+
+    /** The number of loop variables. */
+    private int depth = 0;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates the scope of a rendering.
+     *
+     * @param data    the model data
+     * @param request the request, or null outside of a request
+     */
+    public TemplateScope(Map<String, ?> data, HttpServletRequest request) {
+        this.data = data;
+        this.request = request;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Looks up a variable.
+     *
+     * @param name the variable name
+     * @return the value, or null if no variable has this name
+     */
+    public Object lookup(String name) {
+        for (int i = depth - 1; i >= 0; i--) {
+            if (names[i].equals(name)) {
+                return values[i];
+            }
+        }
+
+        if (data != null) {
+            Object value = data.get(name);
+
+            if (value != null || data.containsKey(name)) {
+                return value;
+            }
+        }
+
+        return (request != null) ? request.getAttribute(name) : null;
+    }
+
+    /**
+     * Declares a loop variable.
+     *
+     * @param name the variable name
+     * @return the slot of the variable, for {@link #set(int, Object)}
+     */
+    int push(String name) {
+        if (depth == names.length) {
+            names = Arrays.copyOf(names, depth * 2);
+            values = Arrays.copyOf(values, depth * 2);
+        }
+
+        names[depth] = name;
+        values[depth] = null;
+        return depth++;
+    }
+
+    /**
+     * Sets the value of a loop variable.
+     *
+     * @param slot  the slot returned by {@link #push(String)}
+     * @param value the value
+     */
+    void set(int slot, Object value) {
+        values[slot] = value;
+    }
+
+    /**
+     * Removes the innermost loop variable.
+     */
+    void pop() {
+        values[--depth] = null;
+    }
+}
@@ -0,0 +1,48 @@
+package winter.data.template;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import winter.data.servletabstraction.Utf8ResponseWriter;
+
+/**
+ * A static fragment of a template in the Winter framework.
+ * <p>
+ * The fragment is encoded into UTF-8 when the template is compiled, and
+ * copied as bytes into every response.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TextNode implements TemplateNode {
+
+    /** The encoded fragment. */
+    private final byte[] bytes;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a static fragment.
+     *
+     * @param text the fragment
+     */
+    public TextNode(String text) {
+        this.bytes = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Writes the encoded fragment.
+     *
+     * @param scope the variables of the rendering, unused
+     * @param out   the response body
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(TemplateScope scope, Utf8ResponseWriter out) throws IOException {
+        out.writeEncoded(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,62 @@
+package winter.data.template;
+
+import java.io.IOException;
+
+import winter.data.enumdata.EscapeMode;
+import winter.data.servletabstraction.Utf8ResponseWriter;
+
+/**
+ * An expression of a template in the Winter framework, such as
+ * <code>${user.name}</code>.
+ * <p>
+ * Its escaping is fixed when the template is compiled, from the HTML context
+ * around the expression. An expression starting the value of a URL attribute
+ * also has its scheme checked, so a value cannot inject a
+ * <code>javascript:</code> link.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ValueNode implements TemplateNode {
+
+    /** The path of the value. */
+    private final PropertyPath path;
+
+    /** The escaping of the value. */
+    private final EscapeMode mode;
+
+    /** Whether the value starts a URL and has its scheme checked. */
+    private final boolean urlStart;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates an expression.
+     *
+     * @param path     the path of the value
+     * @param mode     the escaping of the value
+     * @param urlStart true if the value starts a URL attribute
+     */
+    public ValueNode(PropertyPath path, EscapeMode mode, boolean urlStart) {
+        this.path = path;
+        this.mode = mode;
+        this.urlStart = urlStart;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Writes the escaped value.
+     *
+     * @param scope the variables of the rendering
+     * @param out   the response body
+     * @throws IOException if the output cannot be written
+     */
+    @Override
+    public void render(TemplateScope scope, Utf8ResponseWriter out) throws IOException {
+        Object value = path.resolve(scope);
+        Escaper.write(urlStart ? Escaper.filterUrl(value) : value, mode, out);
+    }
+}
@@ -0,0 +1,119 @@
+package winter.data.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import winter.data.annotation.http.RequestParam;
+
+/**
+ * The compiled constraints of a parameter or field in the Winter framework.
+ * <p>
+ * A set is built once from a {@link RequestParam} annotation when the
+ * controllers are scanned. Only the constraints actually declared become
+ * validators, and a parameter without constraints skips validation
+ * entirely.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ConstraintSet {
+
+    /** The set without any constraint. */
+    public static final ConstraintSet NONE = new ConstraintSet(new ConstraintValidator[0]);
+
+    /** The validators, in the order they are applied. */
+    private final ConstraintValidator[] validators;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a set of validators.
+     *
+     * @param validators the validators, in the order they are applied
+     */
+    public ConstraintSet(ConstraintValidator[] validators) {
+        this.validators = validators.clone();
+    }
+
+    /**
+     * Compiles the constraints declared by a {@link RequestParam} annotation.
+     * <p>
+     * The format of the parameter type is checked first, then the bounds, the
+     * length, the pattern, the accepted values and finally the application
+     * validators.
+     * </p>
+     *
+     * @param requestParam the annotation, or null if none
+     * @return the compiled constraints
+     * @throws IllegalArgumentException if a pattern is invalid or a validator
+     *                                  cannot be instantiated
+     */
+    public static ConstraintSet of(RequestParam requestParam) {
+        if (requestParam == null) {
+            return NONE;
+        }
+
+        List<ConstraintValidator> validators = new ArrayList<>();
+        ConstraintValidator typeValidator = Constraints.of(requestParam.type());
+
+        if (typeValidator != null) {
+            validators.add(typeValidator);
+        }
+
+        if (requestParam.min() != Double.NEGATIVE_INFINITY || requestParam.max() != Double.POSITIVE_INFINITY) {
+            validators.add(Constraints.range(requestParam.min(), requestParam.max()));
+        }
+
+        if (requestParam.minLength() > 0 || requestParam.maxLength() != Integer.MAX_VALUE) {
+            validators.add(Constraints.length(requestParam.minLength(), requestParam.maxLength()));
+        }
+
+        if (!requestParam.pattern().isEmpty()) {
+            validators.add(Constraints.pattern(requestParam.pattern()));
+        }
+
+        if (requestParam.oneOf().length > 0) {
+            validators.add(Constraints.oneOf(requestParam.oneOf()));
+        }
+
+        for (Class<? extends ConstraintValidator> validatorClass : requestParam.validators()) {
+            validators.add(Constraints.custom(validatorClass));
+        }
+
+        return validators.isEmpty() ? NONE : new ConstraintSet(validators.toArray(new ConstraintValidator[0]));
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Checks if the set holds no constraint.
+     *
+     * @return true if every value is valid, false otherwise
+     */
+    public boolean isEmpty() {
+        return validators.length == 0;
+    }
+
+    /**
+     * Validates a value against every constraint, stopping at the first
+     * violation.
+     *
+     * @param rawValue the value as sent in the request, never null
+     * @param value    the value converted to the type of the parameter or field
+     * @return the error message of the first violation, or null if the value is
+     *         valid
+     */
+    public String validate(String rawValue, Object value) {
+        for (ConstraintValidator validator : validators) {
+            String message = validator.validate(rawValue, value);
+
+            if (message != null) {
+                return message;
+            }
+        }
+
+        return null;
+    }
+}
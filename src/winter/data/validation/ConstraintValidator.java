@@ -0,0 +1,31 @@
+package winter.data.validation;
+
+/**
+ * Validates a bound request value against one constraint in the Winter
+ * framework.
+ * <p>
+ * Validators are compiled once per parameter or field when the controllers are
+ * scanned, and report a violation by returning its message instead of throwing,
+ * so rejecting a value costs no exception. Applications may implement this
+ * interface and reference their validators from
+ * {@link winter.data.annotation.http.RequestParam#validators()}; such classes
+ * need a public no-arg constructor and must be thread-safe, as one instance is
+ * shared by every request.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ConstraintValidator {
+
+    /**
+     * Validates a value.
+     *
+     * @param rawValue the value as sent in the request, never null
+     * @param value    the value converted to the type of the parameter or field
+     * @return the error message of the violation, or null if the value is valid
+     */
+    String validate(String rawValue, Object value);
+}
@@ -0,0 +1,226 @@
+package winter.data.validation;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import winter.data.enumdata.RequestParamType;
+import winter.util.ParseResult;
+import winter.util.ParseUtil;
+import winter.util.Utility;
+
+/**
+ * Utility class building the built-in constraint validators of the Winter
+ * framework.
+ * <p>
+ * Simple constraints (format, range, length, membership) are specialized into
+ * plain comparisons and character scans that never use regular expressions.
+ * Patterns are compiled once, when the validator is built. Error messages are
+ * built at the same time, so a violation allocates nothing.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class Constraints extends Utility {
+
+    /** The validator of {@link RequestParamType#EMAIL} values. */
+    private static final ConstraintValidator EMAIL = (rawValue, value) -> isEmail(rawValue) ? null
+            : "Invalid email format";
+
+    /** The parse result reused by the range validators of each thread. */
+    private static final ThreadLocal<ParseResult> PARSE_RESULT = ThreadLocal.withInitial(ParseResult::new);
+
+    /** The validator of {@link RequestParamType#NUMERIC} values. */
+    private static final ConstraintValidator NUMERIC = (rawValue, value) -> ParseUtil.isNumeric(rawValue) ? null
+            : ParseUtil.NUMERIC_FORMAT_MESSAGE;
+
+    /* ------------------------------ Format types ------------------------------ */
+
+    /**
+     * Gets the validator of a parameter type.
+     *
+     * @param type the parameter type
+     * @return the validator, or null if the type has no format constraint
+     */
+    public static ConstraintValidator of(RequestParamType type) {
+        return switch (type) {
+            case EMAIL -> EMAIL;
+            case NUMERIC -> NUMERIC;
+            case TEXT -> null;
+        };
+    }
+
+    /**
+     * Checks if a text is a well-formed email address.
+     * <p>
+     * Accepts a non-empty local part of letters, digits and <code>+_.-</code>,
+     * an <code>@</code>, and a non-empty domain of letters, digits and
+     * <code>.-</code>.
+     * </p>
+     *
+     * @param text the text to check, may be null
+     * @return true if the text is an email address, false otherwise
+     */
+    public static boolean isEmail(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+
+        int at = -1;
+        int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+
+                at = i;
+            } else if (!isAsciiLetterOrDigit(c) && c != '.' && c != '-'
+                    && (at >= 0 || (c != '+' && c != '_'))) {
+                return false;
+            }
+        }
+
+        return at > 0 && at < length - 1;
+    }
+
+    /**
+     * Checks if a character is an ASCII letter or digit.
+     *
+     * @param c the character to check
+     * @return true if the character is an ASCII letter or digit, false otherwise
+     */
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /* ------------------------------ Value bounds ------------------------------ */
+
+    /**
+     * Builds a validator of numeric bounds.
+     * <p>
+     * Converted numbers are compared directly; text values are parsed first,
+     * into a parse result reused by the thread.
+     * </p>
+     *
+     * @param min the smallest accepted value
+     * @param max the largest accepted value
+     * @return the validator
+     */
+    public static ConstraintValidator range(double min, double max) {
+        String minMessage = "Value must be at least " + format(min);
+        String maxMessage = "Value must be at most " + format(max);
+
+        return (rawValue, value) -> {
+            double number;
+
+            if (value instanceof Number) {
+                number = ((Number) value).doubleValue();
+            } else {
+                ParseResult result = PARSE_RESULT.get();
+
+                if (!ParseUtil.parseDouble(rawValue, result)) {
+                    return result.getMessage();
+                }
+
+                number = result.getDouble();
+            }
+
+            if (number < min) {
+                return minMessage;
+            } else if (number > max) {
+                return maxMessage;
+            }
+
+            return null;
+        };
+    }
+
+    /**
+     * Builds a validator of text length bounds.
+     *
+     * @param minLength the smallest accepted length
+     * @param maxLength the largest accepted length
+     * @return the validator
+     */
+    public static ConstraintValidator length(int minLength, int maxLength) {
+        String minMessage = "Length must be at least " + minLength;
+        String maxMessage = "Length must be at most " + maxLength;
+
+        return (rawValue, value) -> {
+            int length = rawValue.length();
+
+            if (length < minLength) {
+                return minMessage;
+            } else if (length > maxLength) {
+                return maxMessage;
+            }
+
+            return null;
+        };
+    }
+
+    /* ------------------------------- Text shape ------------------------------- */
+
+    /**
+     * Builds a validator matching the whole value against a regular expression.
+     *
+     * @param regex the regular expression, compiled once
+     * @return the validator
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid
+     */
+    public static ConstraintValidator pattern(String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        String message = "Value must match " + regex;
+
+        return (rawValue, value) -> pattern.matcher(rawValue).matches() ? null : message;
+    }
+
+    /**
+     * Builds a validator of membership in a fixed set of values.
+     *
+     * @param allowed the accepted values
+     * @return the validator
+     */
+    public static ConstraintValidator oneOf(String... allowed) {
+        Set<String> values = Set.copyOf(Arrays.asList(allowed));
+        String message = "Value must be one of " + Arrays.toString(allowed);
+
+        return (rawValue, value) -> values.contains(rawValue) ? null : message;
+    }
+
+    /* --------------------------------- Custom --------------------------------- */
+
+    /**
+     * Instantiates an application validator.
+     *
+     * @param validatorClass the validator class, with a public no-arg constructor
+     * @return the validator instance
+     * @throws IllegalArgumentException if the class cannot be instantiated
+     */
+    public static ConstraintValidator custom(Class<? extends ConstraintValidator> validatorClass) {
+        try {
+            return validatorClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot instantiate validator: " + validatorClass.getName(), e);
+        }
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Formats a bound for an error message, without a fraction when it is whole.
+     *
+     * @param bound the bound
+     * @return the formatted bound
+     */
+    private static String format(double bound) {
+        return (bound == Math.rint(bound) && Math.abs(bound) < 1e15) ? Long.toString((long) bound)
+                : Double.toString(bound);
+    }
+}
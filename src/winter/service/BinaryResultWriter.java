@@ -0,0 +1,298 @@
+package winter.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.exception.client.MappingNotFoundException;
+import winter.data.servletabstraction.File;
+
+/**
+ * Service class writing binary controller results in the Winter framework.
+ * <p>
+ * Results returned as a <code>byte[]</code>, {@link ByteBuffer}, {@link Path},
+ * {@link FileChannel} or {@link File} are written to the
+ * {@link jakarta.servlet.ServletOutputStream} with an exact
+ * <code>Content-Length</code>, never through the response writer. Arrays and
+ * heap buffers are written in place; files are read in fixed-size chunks, and
+ * large files through read-only memory mappings, so their content is never
+ * loaded whole into the heap.
+ * </p>
+ * <p>
+ * The content type of files is resolved from their name by the servlet
+ * context, and {@link File} results are sent as attachments under their
+ * filename. Other results are sent as <code>application/octet-stream</code>.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BinaryResultWriter {
+
+    /** The content type of binary results without a known file type. */
+    public static final String BINARY_CONTENT_TYPE = "application/octet-stream";
+
+    /** The size of the chunks copied into the response, in bytes. */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /** The size from which files are read through a memory mapping, in bytes. */
+    private static final long MAP_THRESHOLD = 1024 * 1024;
+
+    /** The largest region of a file mapped at once, in bytes. */
+    private static final long MAP_SIZE = 16 * 1024 * 1024;
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Checks if a controller result is written as binary content.
+     *
+     * @param result the controller result
+     * @return true if the result is a byte array, byte buffer, path, file
+     *         channel or {@link File}, false otherwise
+     */
+    public static boolean isBinary(Object result) {
+        return result instanceof byte[] || result instanceof ByteBuffer || result instanceof Path
+                || result instanceof FileChannel || result instanceof File;
+    }
+
+    /**
+     * Writes a binary result with its content type and length.
+     * <p>
+     * A {@link FileChannel} result is written from its current position to its
+     * end and closed afterwards.
+     * </p>
+     *
+     * @param result the binary result returned by the handler
+     * @param req    the HTTP request, providing the servlet context
+     * @param resp   the HTTP response
+     * @throws MappingNotFoundException if a path result is not a readable
+     *                                  regular file
+     * @throws IOException              if the content cannot be read or
+     *                                  written
+     */
+    public void write(Object result, HttpServletRequest req, HttpServletResponse resp)
+            throws MappingNotFoundException, IOException {
+
+        if (result instanceof byte[] bytes) {
+            writeBytes(bytes, BINARY_CONTENT_TYPE, resp);
+        } else if (result instanceof ByteBuffer buffer) {
+            writeBuffer(buffer, resp);
+        } else if (result instanceof File file) {
+            resp.setHeader("Content-Disposition", attachmentOf(file.getFilename()));
+            writeBytes(file.getBytes(), contentTypeOf(file.getFilename(), req), resp);
+        } else if (result instanceof Path path) {
+            writePath(path, req, resp);
+        } else {
+            try (FileChannel channel = (FileChannel) result) {
+                long position = channel.position();
+                writeChannel(channel, position, Math.max(0, channel.size() - position), BINARY_CONTENT_TYPE,
+                        resp);
+            }
+        }
+    }
+
+    /**
+     * Writes a byte array.
+     *
+     * @param bytes       the content, written empty if null
+     * @param contentType the content type of the response
+     * @param resp        the HTTP response
+     * @throws IOException if the content cannot be written
+     */
+    private void writeBytes(byte[] bytes, String contentType, HttpServletResponse resp) throws IOException {
+        int length = (bytes != null) ? bytes.length : 0;
+
+        resp.setContentType(contentType);
+        resp.setContentLength(length);
+
+        if (length > 0) {
+            OutputStream out = resp.getOutputStream();
+            out.write(bytes);
+            out.flush();
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of a buffer, leaving its position unchanged.
+     *
+     * @param buffer the content
+     * @param resp   the HTTP response
+     * @throws IOException if the content cannot be written
+     */
+    private void writeBuffer(ByteBuffer buffer, HttpServletResponse resp) throws IOException {
+        resp.setContentType(BINARY_CONTENT_TYPE);
+        resp.setContentLength(buffer.remaining());
+
+        OutputStream out = resp.getOutputStream();
+
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+            // Direct and read-only buffers expose no array
+            copy(buffer.duplicate(), new byte[Math.min(CHUNK_SIZE, buffer.remaining())], out);
+        }
+
+        out.flush();
+    }
+
+    /**
+     * Writes a file.
+     *
+     * @param path the file path
+     * @param req  the HTTP request, providing the servlet context
+     * @param resp the HTTP response
+     * @throws MappingNotFoundException if the path is not a readable regular
+     *                                  file
+     * @throws IOException              if the file cannot be read or written
+     */
+    private void writePath(Path path, HttpServletRequest req, HttpServletResponse resp)
+            throws MappingNotFoundException, IOException {
+
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            throw new MappingNotFoundException("Resource not found for: " + path.getFileName());
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            writeChannel(channel, 0, channel.size(), contentTypeOf(String.valueOf(path.getFileName()), req), resp);
+        }
+    }
+
+    /**
+     * Writes a region of a file channel.
+     * <p>
+     * Small regions are read into a single chunk buffer; larger ones are mapped
+     * read-only, {@value #MAP_SIZE} bytes at a time, and copied straight from
+     * the mapping into the response.
+     * </p>
+     *
+     * @param channel     the file channel
+     * @param position    the position of the first byte to write
+     * @param count       the number of bytes to write
+     * @param contentType the content type of the response
+     * @param resp        the HTTP response
+     * @throws IOException if the file cannot be read or written
+     */
+    private void writeChannel(FileChannel channel, long position, long count, String contentType,
+            HttpServletResponse resp) throws IOException {
+
+        resp.setContentType(contentType);
+        resp.setContentLengthLong(count);
+
+        if (count == 0) {
+            return;
+        }
+
+        OutputStream out = resp.getOutputStream();
+        byte[] chunk = new byte[(int) Math.min(CHUNK_SIZE, count)];
+        long end = position + count;
+
+        if (count < MAP_THRESHOLD) {
+            ByteBuffer buffer = ByteBuffer.wrap(chunk);
+
+            while (position < end) {
+                buffer.clear().limit((int) Math.min(chunk.length, end - position));
+                int read = channel.read(buffer, position);
+
+                if (read < 0) {
+                    throw new IOException("File truncated while being sent");
+                }
+
+                out.write(chunk, 0, read);
+                position += read;
+            }
+        } else {
+            while (position < end) {
+                long length = Math.min(MAP_SIZE, end - position);
+                MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                copy(mapping, chunk, out);
+                position += length;
+            }
+        }
+
+        out.flush();
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Copies the remaining bytes of a buffer through a chunk array.
+     *
+     * @param buffer the source buffer, consumed by the copy
+     * @param chunk  the array used to move the bytes
+     * @param out    the response stream
+     * @throws IOException if the bytes cannot be written
+     */
+    private static void copy(ByteBuffer buffer, byte[] chunk, OutputStream out) throws IOException {
+        while (buffer.hasRemaining()) {
+            int length = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, length);
+            out.write(chunk, 0, length);
+        }
+    }
+
+    /**
+     * Resolves the content type of a file from its name.
+     *
+     * @param filename the file name
+     * @param req      the HTTP request, providing the servlet context
+     * @return the MIME type known to the servlet context, or
+     *         {@value #BINARY_CONTENT_TYPE} if none
+     */
+    private static String contentTypeOf(String filename, HttpServletRequest req) {
+        String contentType = (filename != null) ? req.getServletContext().getMimeType(filename) : null;
+        return (contentType != null) ? contentType : BINARY_CONTENT_TYPE;
+    }
+
+    /**
+     * Builds the <code>Content-Disposition</code> header of a download.
+     * <p>
+     * Non-ASCII names are also given in the RFC 6266
+     * <code>filename*</code> form, with an ASCII fallback.
+     * </p>
+     *
+     * @param filename the file name, or null if none
+     * @return the header value
+     */
+    private static String attachmentOf(String filename) {
+        if (filename == null || filename.isEmpty()) {
+            return "attachment";
+        }
+
+        StringBuilder header = new StringBuilder("attachment; filename=\"");
+        boolean ascii = true;
+
+        for (int i = 0; i < filename.length(); i++) {
+            char c = filename.charAt(i);
+
+            if (c >= 0x80 || c < 0x20) {
+                ascii &= (c < 0x80);
+                header.append('_');
+            } else {
+                if (c == '"' || c == '\\') {
+                    header.append('\\');
+                }
+
+                header.append(c);
+            }
+        }
+
+        header.append('"');
+
+        if (!ascii) {
+            header.append("; filename*=UTF-8''")
+                    .append(URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20"));
+        }
+
+        return header.toString();
+    }
+}
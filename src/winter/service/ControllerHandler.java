@@ -1,24 +1,19 @@
 package winter.service;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.ArrayList;
-import java.util.List;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
-import winter.data.MappingMethod;
-import winter.data.ObjectRequestParameter;
-import winter.data.annotation.http.RequestParam;
-import winter.data.client.FormData;
-import winter.data.exception.annotation.AnnotationNotFoundException;
-import winter.data.exception.client.InvalidFormDataException;
-import winter.data.servletabstraction.File;
+import winter.data.CachePolicy;
+import winter.data.HandlerDescriptor;
+import winter.data.binding.BindingPlan;
+import winter.data.exception.internal.RequestFailedException;
+import winter.data.invocation.ArgumentFrame;
+import winter.data.invocation.MethodInvoker;
+import winter.data.routing.RouteMatch;
+import winter.data.scope.ControllerProvider;
+import winter.data.servletabstraction.ScopedSession;
 import winter.data.servletabstraction.Session;
-import winter.util.DataUtil;
 
 /**
  * Service class for handling controller method invocation in the Winter
@@ -26,10 +21,9 @@ import winter.util.DataUtil;
  * <p>
  * This class manages the execution of controller methods, including
  * authentication checks,
- * session injection, and parameter initialization from HTTP requests. It
- * processes primitive
- * types, files, and complex objects, handling validation and errors
- * appropriately.
+ * session injection, and parameter initialization from HTTP requests. The
+ * parameters are bound through the precompiled
+ * {@link winter.data.binding.BindingPlan} of each handler.
  * </p>
  *
  * @author Hasina JY
@@ -38,257 +32,150 @@ import winter.util.DataUtil;
  */
 public class ControllerHandler {
 
-    /**
-     * The form data extracted from the request for validation and error reporting.
-     */
-    private FormData formData = null;
-
     /**
      * Invokes a controller method with arguments derived from an HTTP request.
      * <p>
-     * Loads the specified class, checks authentication, injects the session if
-     * required,
-     * initializes method arguments, and invokes the method. Errors are wrapped in
-     * appropriate
-     * exceptions for upstream handling.
+     * Checks authentication, initializes method arguments, obtains a controller
+     * instance from the handler's {@link ControllerProvider}, injects the session
+     * if required, and invokes the method. The HTTP session is only touched when
+     * the handler requires a role or the controller declares a {@link Session}
+     * field. Errors are wrapped in appropriate exceptions for upstream handling.
      * </p>
      *
-     * @param className     the fully qualified name of the controller class
-     * @param mappingMethod the mapping method containing the method to invoke
-     * @param req           the HTTP request providing parameters and session data
+     * @param handler    the handler descriptor containing the method to invoke
+     * @param req        the HTTP request providing parameters and session data
+     * @param routeMatch the resolved route providing the path variables
      * @return the result of the controller method invocation
-     * @throws AnnotationNotFoundException  if a required annotation is missing
      * @throws IOException                  if an I/O error occurs (e.g., file
      *                                      handling)
      * @throws ReflectiveOperationException if reflection-related errors occur
-     *                                      (e.g., class or method not found)
+     *                                      (e.g., the controller cannot be
+     *                                      instantiated)
      * @throws ServletException             if a servlet-related error occurs
      * @throws IllegalAccessException       if authentication fails or access is
      *                                      denied
      */
-    public Object invokeControllerMethod(String className, MappingMethod mappingMethod, HttpServletRequest req)
-            throws AnnotationNotFoundException, IOException, ReflectiveOperationException, ServletException {
-
-        String methodName = mappingMethod.getMethod().getName();
-
-        try {
-            Object authSession = req.getSession().getAttribute("auth");
-
-            if (!mappingMethod.hasAuth((String) authSession)) {
-                throw new IllegalAccessException();
-            }
+    public Object invokeControllerMethod(HandlerDescriptor handler, HttpServletRequest req,
+            RouteMatch<?> routeMatch) throws IOException, ReflectiveOperationException, ServletException {
 
-            Class<?> clazz = Class.forName(className);
-            Method method = mappingMethod.getMethod();
-            Object[] args = initializeMethodArguments(method.getParameters(), req);
-
-            // Inject session if it's defined
-            Object instanceObject = clazz.getDeclaredConstructor().newInstance();
-            injectSession(instanceObject, req.getSession());
-
-            // Invoke the controller method
-            return method.invoke(instanceObject, args);
-        } catch (ClassNotFoundException e) {
-            String message = "Class not found: " + className;
-            throw new ReflectiveOperationException(message, e);
-        } catch (NoSuchMethodException e) {
-            String message = "Method not found: " + methodName;
-            throw new ReflectiveOperationException(message, e);
-        } catch (AnnotationNotFoundException e) {
-            throw e;
-        } catch (IllegalAccessException e) {
-            throw new IllegalAccessException("Permission denied");
-        } catch (ReflectiveOperationException | NumberFormatException e) {
-            String message = "Error invoking method: " + methodName;
-            throw new ReflectiveOperationException(message, e);
-        }
+        return invoke(handler, handler.getMethod().getName(), handler.getInvoker(), handler.getBindingPlan(), req,
+                routeMatch);
     }
 
     /**
-     * Injects a Winter {@link Session} into an object if a matching field exists.
+     * Invokes the version method of a handler to get the version key of its
+     * response.
      * <p>
-     * Checks the object’s class for a {@link Session} field and invokes its setter
-     * with a wrapped {@link HttpSession}.
+     * The version method is authorized, bound and invoked on a controller
+     * instance exactly like the handler, so a client lacking the required role
+     * is denied before any cache validation.
      * </p>
      *
-     * @param object      the object to inject the session into
-     * @param httpSession the HTTP session to wrap
-     * @throws NoSuchMethodException     if the setter method for the session field
-     *                                   is not found
-     * @throws IllegalAccessException    if the setter method is inaccessible
-     * @throws InvocationTargetException if the setter invocation fails
-     * @throws IllegalArgumentException  if the session type is incompatible
-     * @throws SecurityException         if a security manager prevents access
-     */
-    private void injectSession(Object object, HttpSession httpSession)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, IllegalArgumentException,
-            SecurityException {
-        Class<?> clazz = object.getClass();
-        String attrName = hasSession(clazz);
-
-        if (attrName != null) {
-            Method sessionSetterMethod = clazz.getDeclaredMethod(DataUtil.getSetterName(attrName), Session.class);
-
-            // Creates the framework session abstraction object
-            Session winterSession = new Session(httpSession);
-            sessionSetterMethod.invoke(object, winterSession);
-        }
-    }
-
-    /**
-     * Checks if a class has a {@link Session} field.
-     *
-     * @param clazz the class to inspect
-     * @return the name of the session field if found, null otherwise
+     * @param handler    the handler descriptor declaring a version method
+     * @param req        the HTTP request providing parameters and session data
+     * @param routeMatch the resolved route providing the path variables
+     * @return the version key, or null if none
+     * @throws IOException                  if an I/O error occurs
+     * @throws ReflectiveOperationException if the version method cannot be
+     *                                      invoked
+     * @throws ServletException             if a servlet-related error occurs
+     * @throws IllegalAccessException       if authentication fails or access is
+     *                                      denied
+     * @see winter.data.annotation.http.HttpCache#version()
      */
-    private String hasSession(Class<?> clazz) {
-        Field[] attributes = clazz.getDeclaredFields();
-
-        for (Field attribute : attributes) {
-            if (attribute.getType() == Session.class) {
-                return attribute.getName();
-            }
-        }
+    public Object invokeVersionMethod(HandlerDescriptor handler, HttpServletRequest req, RouteMatch<?> routeMatch)
+            throws IOException, ReflectiveOperationException, ServletException {
 
-        return null;
+        CachePolicy cachePolicy = handler.getCachePolicy();
+        return invoke(handler, cachePolicy.getVersionMethodName(), cachePolicy.getVersionInvoker(),
+                cachePolicy.getVersionPlan(), req, routeMatch);
     }
 
     /**
-     * Initializes method arguments from an HTTP request.
-     * <p>
-     * Processes method parameters annotated with {@link RequestParam}, handling
-     * primitive types,
-     * {@link File} objects, and complex objects. Sets error attributes on the
-     * request if validation fails.
-     * </p>
+     * Invokes a compiled controller method with arguments bound from a request.
      *
-     * @param methodParams the parameters of the method to initialize
-     * @param req          the HTTP request providing parameter values
-     * @return an array of initialized argument objects
-     * @throws AnnotationNotFoundException  if a required {@link RequestParam}
-     *                                      annotation is missing
-     * @throws IOException                  if an I/O error occurs (e.g., file part
-     *                                      reading)
-     * @throws ReflectiveOperationException if reflection fails during object
-     *                                      creation
-     * @throws ServletException             if a servlet-related error occurs (e.g.,
-     *                                      part retrieval)
+     * @param handler     the handler descriptor providing the roles and the
+     *                    controller provider
+     * @param methodName  the name of the invoked method, for error messages
+     * @param invoker     the compiled invoker of the method
+     * @param bindingPlan the binding plan of the method parameters
+     * @param req         the HTTP request providing parameters and session data
+     * @param routeMatch  the resolved route providing the path variables
+     * @return the result of the method invocation
+     * @throws IOException                  if an I/O error occurs
+     * @throws ReflectiveOperationException if the method cannot be invoked
+     * @throws ServletException             if a servlet-related error occurs
+     * @throws IllegalAccessException       if authentication fails or access is
+     *                                      denied
      */
-    private Object[] initializeMethodArguments(Parameter[] methodParams, HttpServletRequest req)
-            throws AnnotationNotFoundException, IOException, ReflectiveOperationException, ServletException {
+    private Object invoke(HandlerDescriptor handler, String methodName, MethodInvoker invoker,
+            BindingPlan bindingPlan, HttpServletRequest req, RouteMatch<?> routeMatch)
+            throws IOException, ReflectiveOperationException, ServletException {
 
-        List<Object> args = new ArrayList<>();
-        this.formData = new FormData(methodParams, req);
-        boolean hasError = false;
+        ControllerProvider provider = handler.getProvider();
 
-        for (Parameter param : methodParams) {
-            // @RequestParam is required as parameter names are positional without
-            // additional configurations
-            String requestParamName = param.getAnnotation(RequestParam.class).value();
-            Class<?> paramType = param.getType();
-            Object paramValue = null;
+        try {
+            HttpSession httpSession = authorize(handler, req);
+            ArgumentFrame args = bindingPlan.bind(req, routeMatch, invoker.newFrame());
+            Object instanceObject = provider.acquire();
+            boolean bindsSession = provider.isShared() && provider.hasSession();
 
-            if (DataUtil.isPrimitive(paramType)) {
-                try {
-                    paramValue = DataUtil.parseObject(paramType, formData.getValue(requestParamName, false));
-                    DataUtil.validateRequestParamConstraints(param, paramValue);
-                } catch (NumberFormatException | InvalidFormDataException e) {
-                    hasError = true;
-                    formData.setErrorMessage(requestParamName, e.getMessage());
-                    paramValue = DataUtil.parseObject(paramType, "0");
+            try {
+                // Inject session if it's defined
+                if (provider.hasSession()) {
+                    httpSession = (httpSession != null) ? httpSession : req.getSession();
+
+                    if (bindsSession) {
+                        ScopedSession.bind(httpSession);
+                    } else {
+                        provider.injectSession(instanceObject, new Session(httpSession));
+                    }
                 }
-            } else if (paramType == File.class) {
-                paramValue = new File(req.getPart(requestParamName));
-            } else {
-                try {
-                    paramValue = createObjectParameterInstance(paramType, req, requestParamName);
-                } catch (Exception e) {
-                    hasError = true;
-                    paramValue = DataUtil.parseObject(paramType, null);
+
+                // Invoke the controller method
+                return invoker.invoke(instanceObject, args);
+            } finally {
+                if (bindsSession) {
+                    ScopedSession.unbind();
                 }
-            }
 
-            if (paramValue == null && param.getAnnotation(RequestParam.class).required()) {
-                hasError = true;
-                formData.setErrorMessage(requestParamName, "Field cannot be empty");
+                provider.release(instanceObject);
             }
-
-            args.add(paramValue);
-        }
-
-        if (hasError) {
-            req.setAttribute("hasError", true);
-            req.setAttribute("formData", formData);
+        } catch (IllegalAccessException e) {
+            throw new IllegalAccessException("Permission denied");
+        } catch (ReflectiveOperationException | NumberFormatException e) {
+            String message = "Error invoking method: " + methodName;
+            throw new RequestFailedException(message, e);
         }
-
-        return args.toArray();
-    }
-
-    /**
-     * Creates an instance of a complex object parameter from request data.
-     * <p>
-     * Instantiates the object and sets its attributes based on request parameters
-     * prefixed with the given name.
-     * </p>
-     *
-     * @param objType   the class type of the object to create
-     * @param req       the HTTP request providing parameter values
-     * @param objPrefix the prefix for parameter names (e.g., "user" for
-     *                  "user.name")
-     * @return the populated object instance
-     * @throws InvalidFormDataException     if validation of object attributes fails
-     * @throws ReflectiveOperationException if instantiation or attribute setting
-     *                                      fails
-     */
-    private Object createObjectParameterInstance(Class<?> objType, HttpServletRequest req, String objPrefix)
-            throws InvalidFormDataException, ReflectiveOperationException {
-        Object objectInstance = objType.getDeclaredConstructor().newInstance();
-        ObjectRequestParameter objRequestParameter = new ObjectRequestParameter(objType, req, objPrefix);
-        setObjectAttributes(objectInstance, objRequestParameter);
-        return objectInstance;
     }
 
     /**
-     * Sets attributes of an object based on request parameter values.
+     * Checks that the current user holds one of the roles required by a handler.
      * <p>
-     * Uses reflection to invoke setters for each field, validating the values and
-     * updating the form data with errors if validation fails.
+     * The session is only looked up, never created, and only for handlers that
+     * declare {@link winter.data.annotation.http.Auth} roles, so anonymous
+     * requests to public routes do not allocate a session.
      * </p>
      *
-     * @param instance            the object instance to populate
-     * @param objRequestParameter the request parameter data for the object
-     * @throws InvalidFormDataException     if any attribute validation fails
-     * @throws ReflectiveOperationException if setter invocation fails
+     * @param handler the handler to authorize
+     * @param req     the HTTP request
+     * @return the existing session of the request, or null if the handler
+     *         requires no role
+     * @throws IllegalAccessException if the current user holds none of the
+     *                                required roles
      */
-    private void setObjectAttributes(Object instance, ObjectRequestParameter objRequestParameter)
-            throws InvalidFormDataException, ReflectiveOperationException {
-
-        Class<?> objType = objRequestParameter.getObjType();
-        boolean hasError = false;
+    private HttpSession authorize(HandlerDescriptor handler, HttpServletRequest req) throws IllegalAccessException {
+        if (!handler.requiresAuth()) {
+            return null;
+        }
 
-        for (Field field : objType.getDeclaredFields()) {
-            String attrName = field.getName();
-            String attrValue = objRequestParameter.getValues().get(attrName);
-            Method attrSetterMethod = null;
-            Class<?> attrType = field.getType();
-            Object value = null;
+        HttpSession httpSession = req.getSession(false);
+        Object authSession = (httpSession != null) ? httpSession.getAttribute("auth") : null;
 
-            try {
-                attrSetterMethod = DataUtil.getSetterMethod(objType, attrName);
-                formData.setValue(objRequestParameter.getObjPrefix() + "." + attrName, attrValue);
-                value = DataUtil.parseObject(attrType, attrValue);
-                DataUtil.validateRequestParamConstraints(field, value.toString());
-                attrSetterMethod.invoke(instance, value);
-            } catch (NumberFormatException | InvalidFormDataException e) {
-                hasError = true;
-                formData.setErrorMessage(objRequestParameter.getObjPrefix() + "." + attrName, e.getMessage());
-            } catch (ReflectiveOperationException e) {
-                throw new ReflectiveOperationException("An error occurred while setting object attributes", e);
-            }
+        if (!handler.hasAuth((String) authSession)) {
+            throw new IllegalAccessException();
         }
 
-        if (hasError) {
-            throw new InvalidFormDataException();
-        }
+        return httpSession;
     }
-}
\ No newline at end of file
+}
@@ -6,15 +6,26 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import jakarta.servlet.ServletContext;
 import winter.FrontController;
 import winter.data.Mapping;
 import winter.data.MappingMethod;
+import winter.data.RouteDescriptor;
 import winter.data.annotation.Controller;
+import winter.data.annotation.ExceptionHandler;
 import winter.data.annotation.http.UrlMapping;
+import winter.data.binding.ParameterDecoder;
+import winter.data.error.ExceptionMapping;
+import winter.data.error.ExceptionMappings;
+import winter.data.routing.Router;
+import winter.data.scope.ControllerProvider;
+import winter.data.exception.annotation.AnnotationNotFoundException;
 import winter.data.exception.annotation.DuplicateMappingException;
+import winter.data.exception.annotation.InvalidMappingException;
 import winter.data.exception.initialization.InvalidPackageNameException;
 import winter.data.exception.initialization.PackageProviderNotFoundException;
 import winter.util.DataUtil;
@@ -41,6 +52,12 @@ public class ControllerScanner {
     /** The base package name to scan for controllers. */
     private String packageName;
 
+    /** The providers of controller instances, by controller class name. */
+    private final Map<String, ControllerProvider> providers = new HashMap<>();
+
+    /** The {@link ExceptionHandler} methods of the scanned controllers, with their controller class. */
+    private final Map<Method, Class<?>> exceptionHandlers = new LinkedHashMap<>();
+
     /**
      * Scans the servlet context for controllers within the configured package.
      * <p>
@@ -48,7 +65,13 @@ public class ControllerScanner {
      * parameter
      * "ControllersPackage", validates it, and scans the corresponding resources for
      * controller classes. The results are registered in {@link FrontController}'s
-     * URL mappings.
+     * URL mappings, which are then compiled into its {@link Router}, and their
+     * {@link ExceptionHandler} methods are registered in the
+     * {@link ExceptionMappings}. The optional
+     * "LazyParameterDecoding" parameter enables the {@link ParameterDecoder}, and
+     * the optional "ResponseCompression" parameter the
+     * {@link ResponseCompressor}. The optional "DevelopmentMode" parameter makes
+     * the {@link TemplateEngine} reload changed templates.
      * </p>
      *
      * @param servletContext the servlet context providing configuration
@@ -60,10 +83,19 @@ public class ControllerScanner {
      * @throws IOException                      if an I/O error occurs while
      *                                          scanning resources
      * @throws ClassNotFoundException           if a class file cannot be loaded
+     * @throws InvalidMappingException          if a URL mapping is malformed
+     * @throws DuplicateMappingException        if two URL mappings resolve to the
+     *                                          same route
+     * @throws AnnotationNotFoundException      if a controller method parameter
+     *                                          lacks a request parameter
+     *                                          annotation
+     * @throws ReflectiveOperationException     if a controller cannot be
+     *                                          instantiated or one of its methods
+     *                                          cannot be accessed
      */
     public void scanControllers(ServletContext servletContext)
             throws PackageProviderNotFoundException, InvalidPackageNameException, URISyntaxException, IOException,
-            ClassNotFoundException {
+            ClassNotFoundException, ReflectiveOperationException, AnnotationNotFoundException {
 
         packageName = servletContext.getInitParameter("ControllersPackage");
 
@@ -75,6 +107,10 @@ public class ControllerScanner {
             throw new InvalidPackageNameException("Invalid package name from the configurations");
         }
 
+        ParameterDecoder.setEnabled(Boolean.parseBoolean(servletContext.getInitParameter("LazyParameterDecoding")));
+        ResponseCompressor.setEnabled(Boolean.parseBoolean(servletContext.getInitParameter("ResponseCompression")));
+        TemplateEngine.setDevelopmentMode(Boolean.parseBoolean(servletContext.getInitParameter("DevelopmentMode")));
+
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         Enumeration<URL> resources = classLoader.getResources(packageName.replace(".", "/"));
 
@@ -82,6 +118,92 @@ public class ControllerScanner {
             URL resource = resources.nextElement();
             scanControllers(resource);
         }
+
+        FrontController.setRouter(compileRoutes(FrontController.getUrlMappings()));
+        registerExceptionHandlers();
+    }
+
+    /**
+     * Compiles the registered URL mappings into a routing table.
+     * <p>
+     * Each {@link Mapping} is turned into an immutable {@link RouteDescriptor}
+     * whose annotation metadata is resolved and whose methods and parameter
+     * bindings are compiled once, and the descriptors are compiled into a
+     * {@link Router}. A single {@link ControllerProvider} is created per
+     * controller class, following its declared scope.
+     * </p>
+     *
+     * @param urlMappings the map of URL patterns to their mappings
+     * @return the compiled routing table
+     * @throws InvalidMappingException   if a URL mapping is malformed
+     * @throws DuplicateMappingException    if two mappings resolve to the same
+     *                                      route
+     * @throws ReflectiveOperationException if a controller cannot be
+     *                                      instantiated or one of its methods
+     *                                      cannot be accessed
+     * @throws AnnotationNotFoundException  if a controller method parameter
+     *                                      lacks a request parameter annotation
+     */
+    private Router<RouteDescriptor> compileRoutes(Map<String, Mapping> urlMappings)
+            throws InvalidMappingException, DuplicateMappingException, ReflectiveOperationException,
+            AnnotationNotFoundException {
+
+        Map<String, RouteDescriptor> routes = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Mapping> urlMapping : urlMappings.entrySet()) {
+            String url = urlMapping.getKey();
+            Mapping mapping = urlMapping.getValue();
+            routes.put(url, new RouteDescriptor(url, mapping, providerOf(mapping.getClassName())));
+        }
+
+        return new Router<>(routes);
+    }
+
+    /**
+     * Compiles the {@link ExceptionHandler} methods of the scanned controllers
+     * and registers them in the {@link ExceptionMappings}.
+     * <p>
+     * The handler methods share the {@link ControllerProvider} of their
+     * controller with its request handlers.
+     * </p>
+     *
+     * @throws ReflectiveOperationException if a controller cannot be
+     *                                      instantiated or a handler method
+     *                                      cannot be accessed
+     * @throws InvalidMappingException      if a handler method takes an
+     *                                      invalid parameter
+     */
+    private void registerExceptionHandlers() throws ReflectiveOperationException {
+        for (Map.Entry<Method, Class<?>> handler : exceptionHandlers.entrySet()) {
+            Method method = handler.getKey();
+            ExceptionHandler exceptionHandler = method.getAnnotation(ExceptionHandler.class);
+            ExceptionMapping mapping = new ExceptionMapping(exceptionHandler.status(), method,
+                    providerOf(handler.getValue().getName()));
+
+            for (Class<? extends Throwable> type : exceptionHandler.value()) {
+                ExceptionMappings.register(type, mapping);
+            }
+        }
+    }
+
+    /**
+     * Gets the provider of instances of a controller, creating it on first use,
+     * so that a single provider is created per controller class.
+     *
+     * @param className the fully qualified name of the controller class
+     * @return the controller provider
+     * @throws ReflectiveOperationException if the controller cannot be
+     *                                      instantiated
+     */
+    private ControllerProvider providerOf(String className) throws ReflectiveOperationException {
+        ControllerProvider provider = providers.get(className);
+
+        if (provider == null) {
+            provider = ControllerProvider.of(Class.forName(className));
+            providers.put(className, provider);
+        }
+
+        return provider;
     }
 
     /**
@@ -140,7 +262,9 @@ public class ControllerScanner {
      * <p>
      * Scans the class's methods for {@link UrlMapping} annotations, constructs
      * mappings, and registers them in {@link FrontController}'s URL mappings.
-     * Multiple methods for the same URL are grouped together.
+     * Multiple methods for the same URL are grouped together. Methods
+     * annotated with {@link ExceptionHandler} are collected to be compiled with
+     * the routes.
      * </p>
      *
      * @param clazz the controller class to process
@@ -156,8 +280,12 @@ public class ControllerScanner {
         for (Method method : methods) {
             UrlMapping urlMappingAnnotation = method.getAnnotation(UrlMapping.class);
 
+            if (method.isAnnotationPresent(ExceptionHandler.class)) {
+                exceptionHandlers.put(method, clazz);
+            }
+
             if (urlMappingAnnotation != null) {
-                String url = DataUtil.getUrlMapping(clazz, method);
+                String url = Router.normalizePath(DataUtil.getUrlMapping(clazz, method));
                 MappingMethod mappingMethod = new MappingMethod(method);
                 mappingMethod.setAuth(clazz);
 
@@ -1,11 +1,18 @@
 package winter.service;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import winter.data.exception.client.InvalidRequestVerbException;
-import winter.data.exception.client.MappingNotFoundException;
+import winter.data.HandlerDescriptor;
+import winter.data.codec.Codecs;
+import winter.data.error.ErrorPage;
+import winter.data.error.ErrorPages;
+import winter.data.error.ExceptionMapping;
+import winter.data.error.ExceptionMappings;
+import winter.data.servletabstraction.Utf8ResponseWriter;
+import winter.util.ThrottledLogger;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -13,12 +20,14 @@ import java.util.logging.Logger;
  * Service class for handling and responding to exceptions in the Winter
  * framework.
  * <p>
- * This class logs exceptions using a {@link Logger} and sends formatted HTML
- * error responses
- * to the client via {@link HttpServletResponse}. It maps specific exceptions to
- * appropriate
- * HTTP status codes and provides user-friendly error pages styled with Tailwind
- * CSS.
+ * This class logs exceptions using a {@link Logger} and sends error responses
+ * to the client via {@link HttpServletResponse}. The status of an exception is
+ * resolved through the {@link ExceptionMappings} table, which applications
+ * extend with {@link winter.data.annotation.ExceptionHandler} methods, and the
+ * body is one of the {@link ErrorPages} rendered at startup: a JSON object for
+ * {@link winter.data.annotation.Rest} routes and clients asking for JSON, an
+ * HTML page otherwise. In development mode, HTML pages of server errors also
+ * show the stack trace of the failure.
  * </p>
  *
  * @author Hasina JY
@@ -27,41 +36,63 @@ import java.util.logging.Logger;
  */
 public class ExceptionHandler {
 
+    /** The request attribute holding the {@link HandlerDescriptor} of the request. */
+    public static final String HANDLER_ATTRIBUTE = "winter.handler";
+
     /** Logger instance for recording exception details. */
     private static final Logger logger = Logger.getLogger(ExceptionHandler.class.getName());
 
+    /** The rate-limited log of the handled exceptions. */
+    private static final ThrottledLogger errorLog = new ThrottledLogger(logger);
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the number of handled exceptions of each kind, logged or not.
+     *
+     * @return the counts keyed by exception class name and status
+     */
+    public static Map<String, Long> getErrorCounts() {
+        return errorLog.getCounts();
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
     /**
      * Handles an exception by logging it and sending an error response to the
      * client.
      * <p>
-     * Logs the exception at the specified {@link Level} and, if the response is not
-     * yet committed,
-     * sends an HTML error page with a status code and message based on the
-     * exception type.
+     * Logs the exception at the specified {@link Level}, with its stack trace
+     * only at {@link Level#SEVERE}, through a {@link ThrottledLogger} keyed by
+     * the exception class and status, so repeated errors are sampled and
+     * counted instead of logged one by one. If the response is not yet
+     * committed, what was written so far is discarded and the error response
+     * of the exception's mapping is sent.
      * </p>
      *
      * @param e     the exception to handle
      * @param level the logging level (e.g., {@link Level#SEVERE})
+     * @param req   the HTTP request that failed
      * @param resp  the HTTP response to send the error to
-     * @throws IOException if an error occurs while writing the response
      */
-    public void handleException(Exception e, Level level, HttpServletResponse resp) {
-        logger.log(level, e.getMessage(), e);
+    public void handleException(Exception e, Level level, HttpServletRequest req, HttpServletResponse resp) {
+        Throwable mapped = ExceptionMappings.findMapped(e);
+        ExceptionMapping mapping = (mapped != null) ? ExceptionMappings.find(mapped.getClass())
+                : ExceptionMappings.SERVER_ERROR;
+        Throwable source = (mapped != null) ? mapped : e;
+        boolean severe = level.intValue() >= Level.SEVERE.intValue();
+
+        errorLog.log(level, source.getClass().getName() + " (" + mapping.getStatus() + ")",
+                severe ? e.getMessage() : e.toString(), severe ? e : null);
 
         try {
             if (!resp.isCommitted()) {
-                if (e instanceof MappingNotFoundException) {
-                    sendError(resp, HttpServletResponse.SC_NOT_FOUND, e.getMessage());
-                } else if (e instanceof InvalidRequestVerbException) {
-                    sendError(resp, HttpServletResponse.SC_METHOD_NOT_ALLOWED, e.getMessage());
-                } else if (e instanceof IllegalAccessException) {
-                    sendError(resp, HttpServletResponse.SC_FORBIDDEN, e.getMessage());
-                } else {
-                    sendError(resp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
-                }
+                // Development pages show where a server failure came from
+                Throwable trace = (severe && TemplateEngine.isDevelopmentMode()) ? e : null;
+                sendError(mapping, source, trace, req, resp);
             }
-        } catch (IOException ioException) {
-            logger.log(Level.SEVERE, "Error sending error response to client", ioException);
+        } catch (IOException | IllegalStateException sendException) {
+            logger.log(Level.SEVERE, "Error sending error response to client", sendException);
         }
     }
 
@@ -73,90 +104,94 @@ public class ExceptionHandler {
      * severe error.
      * </p>
      *
+     * @param req           the HTTP request that failed
      * @param resp          the HTTP response to send the error to
      * @param initException the initialization exception to handle, or null if none
      */
-    public void handleInitException(HttpServletResponse resp, Exception initException) {
+    public void handleInitException(HttpServletRequest req, HttpServletResponse resp, Exception initException) {
         if (initException != null) {
-            handleException(initException, Level.SEVERE, resp);
+            handleException(initException, Level.SEVERE, req, resp);
         }
     }
 
     /**
-     * Sends an HTML error response with a specific status code and message.
+     * Sends the error response of an exception.
      * <p>
-     * Constructs a styled HTML error page using Tailwind CSS, including a title and
-     * details
-     * based on the status code, and writes it to the response.
+     * The message of the mapped exception is sent, unless an
+     * {@link winter.data.annotation.ExceptionHandler} method replaces it, or
+     * the whole JSON body.
      * </p>
      *
-     * @param resp    the HTTP response to send the error to
-     * @param status  the HTTP status code (e.g., 404, 500)
-     * @param message the error message to display
+     * @param mapping the mapping of the exception
+     * @param source  the mapped exception, or the failure itself if unmapped
+     * @param trace   the failure whose stack trace is shown on HTML pages, or
+     *                null
+     * @param req     the HTTP request that failed
+     * @param resp    the HTTP response, not yet committed
      * @throws IOException if an error occurs while writing the response
      */
-    private void sendError(HttpServletResponse resp, int status, String message) throws IOException {
-        resp.setContentType("text/html");
-        resp.setStatus(status);
-
-        try (PrintWriter out = resp.getWriter()) {
-            String html = String.format("""
-                    <!DOCTYPE html>
-                    <html lang="en">
-                    <head>
-                        <meta charset="UTF-8">
-                        <meta name="viewport" content="width=device-width, initial-scale=1.0">
-                        <title>Error %d</title>
-                        <script src="https://cdn.tailwindcss.com"></script>
-                    </head>
-                    <body class="bg-gray-100 h-screen flex items-center justify-center">
-                        <div class="bg-white p-8 rounded shadow-md text-center">
-                            <h1 class="text-4xl font-bold mb-4">
-                                %s
-                            </h1>
-                            <p class="text-gray-600 mb-6">%s</p>
-                            %s
-                        </div>
-                    </body>
-                    </html>
-                    """, status, getErrorTitle(status), message, getErrorDetails(status));
-            out.println(html);
+    private void sendError(ExceptionMapping mapping, Throwable source, Throwable trace, HttpServletRequest req,
+            HttpServletResponse resp) throws IOException {
+
+        boolean json = prefersJson(req);
+        String message = source.getMessage();
+        Object body = null;
+
+        if (mapping.hasHandler()) {
+            try {
+                Object result = mapping.invoke(source);
+
+                if (result instanceof String text) {
+                    message = text;
+                } else if (result != null && json) {
+                    body = result;
+                } else if (result != null) {
+                    message = result.toString();
+                }
+            } catch (ReflectiveOperationException handlerException) {
+                logger.log(Level.SEVERE, "Exception handler failed for " + source.getClass().getName(),
+                        handlerException);
+            }
         }
-    }
 
-    /**
-     * Returns a user-friendly title for the given HTTP status code.
-     *
-     * @param status the HTTP status code
-     * @return a descriptive title (e.g., "404 - Page Not Found")
-     */
-    private String getErrorTitle(int status) {
-        return switch (status) {
-            case 404 -> "404 - Page Not Found";
-            case 405 -> "405 - Method Not Allowed";
-            case 403 -> "403 - Forbidden";
-            case 500 -> "500 - Internal Server Error";
-            default -> status + " - Error";
-        };
+        // Headers, status and body set before the failure no longer apply
+        resp.reset();
+
+        if (body != null) {
+            resp.setStatus(mapping.getStatus());
+            resp.setContentType(ErrorPage.JSON_CONTENT_TYPE);
+
+            Utf8ResponseWriter out = new Utf8ResponseWriter(resp);
+
+            try {
+                Codecs.getJsonCodec().write(body, out);
+                out.close();
+            } finally {
+                out.discard();
+            }
+        } else {
+            ErrorPages.of(mapping.getStatus()).write(resp, message, json, trace);
+        }
     }
 
     /**
-     * Returns additional details for the given HTTP status code.
+     * Checks if the error must be sent as JSON.
      *
-     * @param status the HTTP status code
-     * @return a descriptive message, or an empty string if no details are defined
+     * @param req the HTTP request that failed
+     * @return true for {@link winter.data.annotation.Rest} routes, or when no
+     *         route was resolved and the client accepts JSON but not HTML,
+     *         false otherwise
      */
-    private String getErrorDetails(int status) {
-        return switch (status) {
-            case 404 ->
-                "<p class=\"text-gray-600\">The page you're looking for might have been removed or is temporarily unavailable.</p>";
-            case 405 ->
-                "<p class=\"text-gray-600\">The requested method is not allowed for this resource.</p>";
-            case 403 ->
-                "<p class=\"text-gray-600\">You don't have permission to access this resource.</p>";
-            case 500 ->
-                "<p class=\"text-gray-600\">An unexpected error occurred on our server. We're working on it!</p>";
-            default -> "";
-        };
+    private static boolean prefersJson(HttpServletRequest req) {
+        if (req == null) {
+            return false;
+        }
+
+        if (req.getAttribute(HANDLER_ATTRIBUTE) instanceof HandlerDescriptor handler) {
+            return handler.isRest();
+        }
+
+        String accept = req.getHeader("Accept");
+        return accept != null && accept.contains("application/json") && !accept.contains("text/html");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package winter.service;
+
+import java.io.IOException;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.CachePolicy;
+import winter.data.HandlerDescriptor;
+import winter.data.routing.RouteMatch;
+
+/**
+ * Service class evaluating HTTP cache validators in the Winter framework.
+ * <p>
+ * For handlers annotated with {@link winter.data.annotation.http.HttpCache},
+ * this class sets the caching headers and, when the handler declares a version
+ * method, compares the version key with the <code>If-None-Match</code> and
+ * <code>If-Modified-Since</code> headers of the request, so that a
+ * <code>304 Not Modified</code> is answered without invoking the controller
+ * method.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class HttpCacheHandler {
+
+    /** Invokes the version methods of the handlers. */
+    private final ControllerHandler controllerHandler = new ControllerHandler();
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Applies the caching rules of a handler and checks if the client already
+     * holds the current response.
+     * <p>
+     * <code>If-None-Match</code> takes precedence over
+     * <code>If-Modified-Since</code>, which is only compared when the version
+     * key is an instant, with a one-second precision. When the response is not
+     * modified, its status is set to <code>304</code> and nothing else must be
+     * written.
+     * </p>
+     *
+     * @param handler    the handler, with a non-null cache policy
+     * @param req        the HTTP request
+     * @param resp       the HTTP response
+     * @param routeMatch the resolved route providing the path variables
+     * @return true if a <code>304</code> was set, false if the controller
+     *         method must be invoked
+     * @throws IOException                  if an I/O error occurs
+     * @throws ReflectiveOperationException if the version method cannot be
+     *                                      invoked
+     * @throws ServletException             if a servlet-related error occurs
+     * @throws IllegalAccessException       if authentication fails or access is
+     *                                      denied
+     */
+    public boolean isNotModified(HandlerDescriptor handler, HttpServletRequest req, HttpServletResponse resp,
+            RouteMatch<?> routeMatch) throws IOException, ReflectiveOperationException, ServletException {
+
+        CachePolicy cachePolicy = handler.getCachePolicy();
+        cachePolicy.applyHeaders(resp);
+
+        if (!cachePolicy.hasVersion()) {
+            return false;
+        }
+
+        Object version = controllerHandler.invokeVersionMethod(handler, req, routeMatch);
+
+        if (version == null) {
+            return false;
+        }
+
+        String etag = cachePolicy.tagOfVersion(version);
+        long lastModified = CachePolicy.lastModifiedOf(version);
+
+        if (etag != null) {
+            resp.setHeader("ETag", etag);
+        }
+
+        if (lastModified >= 0) {
+            resp.setDateHeader("Last-Modified", lastModified);
+        }
+
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        boolean notModified;
+
+        if (ifNoneMatch != null) {
+            notModified = etag != null && CachePolicy.matches(ifNoneMatch, etag);
+        } else {
+            long ifModifiedSince = dateHeaderOf(req, "If-Modified-Since");
+            notModified = lastModified >= 0 && ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+        }
+
+        if (notModified) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        }
+
+        return notModified;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Reads a date header, ignoring malformed dates.
+     *
+     * @param req  the HTTP request
+     * @param name the header name
+     * @return the epoch milliseconds, or -1 if the header is absent or malformed
+     */
+    private static long dateHeaderOf(HttpServletRequest req, String name) {
+        try {
+            return req.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
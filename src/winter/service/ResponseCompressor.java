@@ -0,0 +1,75 @@
+package winter.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.HandlerDescriptor;
+import winter.data.enumdata.ContentCoding;
+import winter.data.servletabstraction.CompressedResponse;
+
+/**
+ * Service class negotiating the compression of responses in the Winter
+ * framework.
+ * <p>
+ * Compression is disabled by default and enabled with the
+ * <code>ResponseCompression</code> context parameter. Responses of handlers
+ * that did not opt out with {@link winter.data.annotation.Compression} then
+ * vary with <code>Accept-Encoding</code>, and are compressed with the coding
+ * the client prefers through a {@link CompressedResponse}.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ResponseCompressor {
+
+    /** Whether responses are compressed. */
+    private static volatile boolean enabled = false;
+
+    /* --------------------------- Getters and setters -------------------------- */
+
+    /**
+     * Checks if responses are compressed.
+     *
+     * @return true if compression is enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the compression of responses.
+     *
+     * @param enabled true to compress responses accepted compressed, false to
+     *                send every response as is
+     */
+    public static void setEnabled(boolean enabled) {
+        ResponseCompressor.enabled = enabled;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Wraps a response to compress it, if the handler and the client allow it.
+     * <p>
+     * The <code>Vary: Accept-Encoding</code> header is added whenever the
+     * handler may compress, including on responses sent as is, so that caches
+     * keep the variants apart.
+     * </p>
+     *
+     * @param handler the handler producing the response
+     * @param req     the HTTP request
+     * @param resp    the HTTP response
+     * @return the compressing response, or null if the response is sent as is
+     */
+    public CompressedResponse wrap(HandlerDescriptor handler, HttpServletRequest req, HttpServletResponse resp) {
+        if (!enabled || handler.getCompressionMinSize() < 0) {
+            return null;
+        }
+
+        resp.addHeader("Vary", "Accept-Encoding");
+        ContentCoding coding = ContentCoding.negotiate(req.getHeader("Accept-Encoding"));
+
+        return (coding != null) ? new CompressedResponse(resp, coding, handler.getCompressionMinSize()) : null;
+    }
+}
@@ -0,0 +1,411 @@
+package winter.service;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.BaseStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.HandlerDescriptor;
+import winter.data.binding.Converters;
+import winter.data.codec.Codecs;
+import winter.data.codec.JsonCodec;
+import winter.data.enumdata.StreamFormat;
+
+/**
+ * Service class writing streamed controller results in the Winter framework.
+ * <p>
+ * Results returned as a {@link java.util.stream.Stream}, {@link Iterator} or
+ * {@link Iterable} are written element by element into the response, as a JSON
+ * array, newline-delimited JSON or CSV, so heap use does not grow with the
+ * size of the result. The response is flushed every few elements, which lets
+ * the container send it in chunks; once the client has disconnected, writing
+ * stops. The result is closed in every case when it is closeable.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ResultStreamer {
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Checks if a controller result is written as a stream of elements.
+     *
+     * @param result the controller result
+     * @return true if the result is a stream, iterator or iterable, false
+     *         otherwise
+     */
+    public static boolean isStreamed(Object result) {
+        return result instanceof BaseStream || result instanceof Iterator || result instanceof Iterable;
+    }
+
+    /**
+     * Writes a streamed result in the format negotiated with the client.
+     *
+     * @param result  the stream, iterator or iterable returned by the handler
+     * @param handler the handler that produced the result
+     * @param req     the HTTP request, providing the <code>Accept</code> header
+     * @param resp    the HTTP response
+     * @param out     the response writer
+     * @throws IOException if an element cannot be written
+     */
+    public void stream(Object result, HandlerDescriptor handler, HttpServletRequest req, HttpServletResponse resp,
+            PrintWriter out) throws IOException {
+
+        StreamFormat format = StreamFormat.negotiate(req.getHeader("Accept"), handler.getStreamFormats());
+        resp.setContentType(format.getContentType());
+
+        Iterator<?> iterator = iteratorOf(result);
+
+        try {
+            write(iterator, format, handler.getFlushInterval(), out);
+        } finally {
+            close(result, iterator);
+        }
+    }
+
+    /**
+     * Writes every element of an iterator.
+     *
+     * @param iterator      the elements
+     * @param format        the output format
+     * @param flushInterval the number of elements between two flushes
+     * @param out           the response writer
+     * @throws IOException if an element cannot be written
+     */
+    private void write(Iterator<?> iterator, StreamFormat format, int flushInterval, PrintWriter out)
+            throws IOException {
+
+        JsonCodec codec = Codecs.getJsonCodec();
+        List<String> csvHeader = null;
+        int count = 0;
+
+        if (format == StreamFormat.JSON_ARRAY) {
+            out.write('[');
+        }
+
+        while (iterator.hasNext()) {
+            Object element = iterator.next();
+
+            switch (format) {
+                case JSON_ARRAY -> {
+                    if (count > 0) {
+                        out.write(',');
+                    }
+
+                    codec.write(element, out);
+                }
+                case NDJSON -> {
+                    codec.write(element, out);
+                    out.write('\n');
+                }
+                case CSV -> {
+                    if (csvHeader == null) {
+                        csvHeader = CsvLayout.headerOf(element);
+                        CsvLayout.writeRow(csvHeader, out);
+                    }
+
+                    CsvLayout.writeElement(element, csvHeader, out);
+                }
+            }
+
+            if (++count % flushInterval == 0) {
+                out.flush();
+
+                // The writer reports a failed flush once the client is gone
+                if (out.checkError()) {
+                    return;
+                }
+            }
+        }
+
+        if (format == StreamFormat.JSON_ARRAY) {
+            out.write(']');
+        }
+
+        out.flush();
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Gets the iterator of a streamed result.
+     *
+     * @param result the stream, iterator or iterable
+     * @return the iterator of its elements
+     */
+    private static Iterator<?> iteratorOf(Object result) {
+        if (result instanceof BaseStream<?, ?> stream) {
+            return stream.iterator();
+        } else if (result instanceof Iterator<?> iterator) {
+            return iterator;
+        }
+
+        return ((Iterable<?>) result).iterator();
+    }
+
+    /**
+     * Closes a streamed result and its iterator when they are closeable.
+     *
+     * @param result   the stream, iterator or iterable
+     * @param iterator the iterator of its elements
+     * @throws IOException if the result cannot be closed
+     */
+    private static void close(Object result, Iterator<?> iterator) throws IOException {
+        try {
+            if (result instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+
+            if (iterator != result && iterator instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Cannot close the streamed result", e);
+        }
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * The CSV columns of an element class, compiled once per class.
+     * <p>
+     * Records expose their components, other classes their readable properties
+     * in field declaration order, and maps their keys. Types with a value
+     * converter (numbers, text, dates...) form a single <code>value</code>
+     * column.
+     * </p>
+     */
+    private static final class CsvLayout {
+
+        /** The layouts already compiled, one per element class. */
+        private static final ClassValue<CsvLayout> LAYOUTS = new ClassValue<>() {
+            @Override
+            protected CsvLayout computeValue(Class<?> type) {
+                return new CsvLayout(type);
+            }
+        };
+
+        /** The type of column accessor handles. */
+        private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        /** The column names. */
+        private final List<String> columns = new ArrayList<>();
+
+        /** The accessor of each column, or null for a single value column. */
+        private final MethodHandle[] accessors;
+
+        /**
+         * Compiles the layout of an element class.
+         *
+         * @param type the element class
+         */
+        private CsvLayout(Class<?> type) {
+            List<MethodHandle> handles = new ArrayList<>();
+
+            if (Converters.supports(type)) {
+                columns.add("value");
+                this.accessors = null;
+                return;
+            }
+
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    addColumn(component.getName(), component.getAccessor(), handles);
+                }
+            } else {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        addColumn(field.getName(), findGetter(type, field), handles);
+                    }
+                }
+            }
+
+            this.accessors = handles.toArray(new MethodHandle[0]);
+        }
+
+        /**
+         * Gets the header of a stream from its first element.
+         *
+         * @param element the first element
+         * @return the column names
+         */
+        static List<String> headerOf(Object element) {
+            if (element instanceof Map<?, ?> map) {
+                List<String> header = new ArrayList<>();
+                map.keySet().forEach(key -> header.add(String.valueOf(key)));
+                return header;
+            }
+
+            return (element == null) ? List.of("value") : LAYOUTS.get(element.getClass()).columns;
+        }
+
+        /**
+         * Writes one element as a CSV row.
+         * <p>
+         * Maps are written following the header, so later maps may omit keys.
+         * </p>
+         *
+         * @param element the element
+         * @param header  the column names of the stream
+         * @param out     the response writer
+         * @throws IOException if a column cannot be read
+         */
+        static void writeElement(Object element, List<String> header, PrintWriter out) throws IOException {
+            if (element instanceof Map<?, ?> map) {
+                List<Object> values = new ArrayList<>(header.size());
+                header.forEach(column -> values.add(map.get(column)));
+                writeRow(values, out);
+            } else if (element == null) {
+                out.write("\r\n");
+            } else {
+                LAYOUTS.get(element.getClass()).write(element, out);
+            }
+        }
+
+        /**
+         * Writes the columns of an element.
+         *
+         * @param element the element
+         * @param out     the response writer
+         * @throws IOException if a getter fails
+         */
+        private void write(Object element, PrintWriter out) throws IOException {
+            if (accessors == null) {
+                writeCell(element, out);
+                out.write("\r\n");
+                return;
+            }
+
+            for (int i = 0; i < accessors.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+
+                try {
+                    writeCell(accessors[i].invokeExact(element), out);
+                } catch (Throwable e) {
+                    throw new IOException("Cannot read the CSV column " + columns.get(i), e);
+                }
+            }
+
+            out.write("\r\n");
+        }
+
+        /**
+         * Writes a row of values.
+         *
+         * @param values the cell values
+         * @param out    the response writer
+         */
+        static void writeRow(List<?> values, PrintWriter out) {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+
+                writeCell(values.get(i), out);
+            }
+
+            out.write("\r\n");
+        }
+
+        /**
+         * Writes one cell, quoting it when it holds a separator, a quote or a line
+         * break.
+         *
+         * @param value the cell value, written empty if null
+         * @param out   the response writer
+         */
+        private static void writeCell(Object value, PrintWriter out) {
+            if (value == null) {
+                return;
+            }
+
+            String text = value.toString();
+            boolean quoted = false;
+
+            for (int i = 0; i < text.length() && !quoted; i++) {
+                char c = text.charAt(i);
+                quoted = (c == ',' || c == '"' || c == '\n' || c == '\r');
+            }
+
+            if (!quoted) {
+                out.write(text);
+                return;
+            }
+
+            out.write('"');
+
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+
+                if (c == '"') {
+                    out.write('"');
+                }
+
+                out.write(c);
+            }
+
+            out.write('"');
+        }
+
+        /**
+         * Adds a column read through an accessor method.
+         *
+         * @param name     the column name
+         * @param accessor the accessor method, or null to skip the column
+         * @param handles  the accessor handles being collected
+         */
+        private void addColumn(String name, Method accessor, List<MethodHandle> handles) {
+            if (accessor == null) {
+                return;
+            }
+
+            try {
+                accessor.setAccessible(true);
+                handles.add(MethodHandles.lookup().unreflect(accessor).asType(ACCESSOR_TYPE));
+                columns.add(name);
+            } catch (IllegalAccessException | RuntimeException e) {
+                // Inaccessible properties are left out of the export
+            }
+        }
+
+        /**
+         * Finds the getter of a field.
+         *
+         * @param type  the element class
+         * @param field the field
+         * @return the <code>getX</code> or <code>isX</code> method, or null if none
+         */
+        private static Method findGetter(Class<?> type, Field field) {
+            String name = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+
+            for (String prefix : new String[] { "get", "is" }) {
+                try {
+                    return type.getMethod(prefix + name);
+                } catch (NoSuchMethodException e) {
+                    // Try the next naming convention
+                }
+            }
+
+            return null;
+        }
+    }
+}
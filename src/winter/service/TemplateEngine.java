@@ -0,0 +1,223 @@
+package winter.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import winter.data.exception.internal.TemplateSyntaxException;
+import winter.data.servletabstraction.Utf8ResponseWriter;
+import winter.data.template.Template;
+import winter.data.template.TemplateCompiler;
+
+/**
+ * Service class rendering the views written as Winter templates in the Winter
+ * framework.
+ * <p>
+ * A view whose name ends with {@value #TEMPLATE_EXTENSION} is rendered by this
+ * engine instead of being forwarded to: the template is read from the web
+ * application resources, compiled once by the {@link TemplateCompiler} and
+ * cached by resolved path, and renders the model of the {@link
+ * winter.data.client.ModelView} directly into the response through a
+ * {@link Utf8ResponseWriter}, without request attributes or a
+ * {@link jakarta.servlet.RequestDispatcher}.
+ * </p>
+ * <p>
+ * Templates are not reloaded by default. When the
+ * <code>DevelopmentMode</code> context parameter is set, the modification
+ * time of a template is checked before each rendering, and a changed
+ * template is compiled again.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TemplateEngine {
+
+    /** The extension of view names rendered as templates. */
+    public static final String TEMPLATE_EXTENSION = ".wtl";
+
+    /** Whether templates are checked for changes before each rendering. */
+    private static volatile boolean developmentMode = false;
+
+    /** The compiled templates by resolved path. */
+    private final Map<String, CachedTemplate> templates = new ConcurrentHashMap<>();
+
+    /* --------------------------- Getters and setters -------------------------- */
+
+    /**
+     * Checks if templates are reloaded when they change.
+     *
+     * @return true in development mode, false otherwise
+     */
+    public static boolean isDevelopmentMode() {
+        return developmentMode;
+    }
+
+    /**
+     * Enables or disables the reloading of changed templates.
+     *
+     * @param developmentMode true to check templates before each rendering,
+     *                        false to compile them once
+     */
+    public static void setDevelopmentMode(boolean developmentMode) {
+        TemplateEngine.developmentMode = developmentMode;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Checks if a view is a template rendered by this engine.
+     *
+     * @param view the view name, possibly null
+     * @return true if the view path ends with {@value #TEMPLATE_EXTENSION}
+     */
+    public static boolean isTemplate(String view) {
+        return view != null && pathOf(view).endsWith(TEMPLATE_EXTENSION);
+    }
+
+    /**
+     * Renders a template into the response.
+     * <p>
+     * The body is only sent once rendered, or once it outgrows the response
+     * buffer, so a failing template can still be answered with an error page.
+     * </p>
+     *
+     * @param view the template path, absolute or relative to the request path
+     * @param data the model data
+     * @param req  the HTTP request, whose attributes are visible to the template
+     * @param resp the HTTP response
+     * @throws ServletException if the template does not exist or is malformed
+     * @throws IOException      if the template cannot be read or the response
+     *                          cannot be written
+     */
+    public void render(String view, Map<String, Object> data, HttpServletRequest req, HttpServletResponse resp)
+            throws ServletException, IOException {
+
+        Template template = templateOf(view, req);
+        Utf8ResponseWriter out = new Utf8ResponseWriter(resp);
+        boolean rendered = false;
+
+        try {
+            template.render(data, req, out);
+            rendered = true;
+        } finally {
+            if (rendered) {
+                out.close();
+            } else {
+                out.discard();
+            }
+        }
+    }
+
+    /* --------------------------------- Lookup --------------------------------- */
+
+    /**
+     * Gets the compiled template of a view, compiling it if it is not cached or
+     * changed in development mode.
+     *
+     * @param view the template path
+     * @param req  the HTTP request the path is resolved against
+     * @return the compiled template
+     * @throws ServletException if the template does not exist or is malformed
+     * @throws IOException      if the template cannot be read
+     */
+    private Template templateOf(String view, HttpServletRequest req) throws ServletException, IOException {
+        String path = ViewDispatcher.resolve(pathOf(view), req);
+
+        if (path == null) {
+            throw new ServletException("Template paths cannot have dot segments: " + view);
+        }
+
+        CachedTemplate cached = templates.get(path);
+
+        if (cached != null && !(developmentMode && cached.isStale())) {
+            return cached.template;
+        }
+
+        URL resource = req.getServletContext().getResource(path);
+
+        if (resource == null) {
+            throw new ServletException("Template not found: " + view);
+        }
+
+        URLConnection connection = resource.openConnection();
+        long lastModified = connection.getLastModified();
+        String source;
+
+        try (InputStream in = connection.getInputStream()) {
+            source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        try {
+            Template template = TemplateCompiler.compile(path, source);
+            templates.put(path, new CachedTemplate(template, resource, lastModified));
+            return template;
+        } catch (TemplateSyntaxException e) {
+            throw new ServletException("Invalid template " + path, e);
+        }
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Strips the query string of a view name; templates do not read it.
+     *
+     * @param view the view name
+     * @return the view path
+     */
+    private static String pathOf(String view) {
+        int query = view.indexOf('?');
+        return (query >= 0) ? view.substring(0, query) : view;
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * A compiled template with the resource it was read from.
+     */
+    private static final class CachedTemplate {
+
+        /** The compiled template. */
+        final Template template;
+
+        /** The template resource. */
+        final URL resource;
+
+        /** The modification time of the resource when it was read. */
+        final long lastModified;
+
+        /**
+         * Creates a cache entry.
+         *
+         * @param template     the compiled template
+         * @param resource     the template resource
+         * @param lastModified the modification time of the resource
+         */
+        CachedTemplate(Template template, URL resource, long lastModified) {
+            this.template = template;
+            this.resource = resource;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Checks if the resource changed since it was read.
+         *
+         * @return true if the modification time differs or cannot be read
+         */
+        boolean isStale() {
+            try {
+                return resource.openConnection().getLastModified() != lastModified;
+            } catch (IOException e) {
+                return true;
+            }
+        }
+    }
+}
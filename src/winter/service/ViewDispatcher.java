@@ -0,0 +1,127 @@
+package winter.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Service class forwarding requests to their views in the Winter framework.
+ * <p>
+ * The {@link RequestDispatcher} of a view is looked up once per resolved view
+ * path and reused, as container dispatchers are stateless between forwards.
+ * Relative view paths, such as <code>users.jsp</code>, are resolved against
+ * the directory of the request path like the container does; paths with
+ * <code>.</code> or <code>..</code> segments are left to the container and not
+ * cached.
+ * </p>
+ * <p>
+ * The forward never acquires the response writer or stream, so the view
+ * chooses how it writes the response, and the container keeps buffering it.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ViewDispatcher {
+
+    /** The largest number of cached dispatchers. */
+    private static final int MAX_CACHED_VIEWS = 1024;
+
+    /** The dispatchers by resolved view path. */
+    private final Map<String, RequestDispatcher> dispatchers = new ConcurrentHashMap<>();
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Forwards a request to a view.
+     *
+     * @param view            the view path, absolute or relative to the request
+     *                        path
+     * @param req             the HTTP request the view path is resolved against
+     * @param dispatchRequest the request forwarded to the view
+     * @param resp            the HTTP response
+     * @throws ServletException if the view path is null, no resource serves
+     *                          it, or the view fails
+     * @throws IOException      if an I/O error occurs while the view is
+     *                          rendered
+     */
+    public void forward(String view, HttpServletRequest req, HttpServletRequest dispatchRequest,
+            HttpServletResponse resp) throws ServletException, IOException {
+
+        RequestDispatcher dispatcher = dispatcherOf(view, req);
+
+        if (dispatcher == null) {
+            // A missing view is a deployment error rather than a client one
+            throw new ServletException("View not found: " + view);
+        }
+
+        dispatcher.forward(dispatchRequest, resp);
+    }
+
+    /**
+     * Gets the dispatcher of a view, from the cache when possible.
+     *
+     * @param view the view path
+     * @param req  the HTTP request the view path is resolved against
+     * @return the dispatcher, or null if the view cannot be dispatched to
+     */
+    private RequestDispatcher dispatcherOf(String view, HttpServletRequest req) {
+        if (view == null) {
+            return null;
+        }
+
+        String path = resolve(view, req);
+
+        if (path == null) {
+            return req.getRequestDispatcher(view);
+        }
+
+        RequestDispatcher dispatcher = dispatchers.get(path);
+
+        if (dispatcher == null) {
+            dispatcher = req.getServletContext().getRequestDispatcher(path);
+
+            if (dispatcher != null && dispatchers.size() < MAX_CACHED_VIEWS) {
+                dispatchers.putIfAbsent(path, dispatcher);
+            }
+        }
+
+        return dispatcher;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Resolves a view path into a context-relative path.
+     *
+     * @param view the view path
+     * @param req  the HTTP request
+     * @return the path starting with <code>/</code>, or null if it has dot
+     *         segments and must be resolved by the container
+     */
+    static String resolve(String view, HttpServletRequest req) {
+        String path = view;
+
+        if (!view.startsWith("/")) {
+            String servletPath = (req.getServletPath() != null) ? req.getServletPath() : "";
+            String requestPath = (req.getPathInfo() != null) ? servletPath + req.getPathInfo() : servletPath;
+            path = requestPath.substring(0, requestPath.lastIndexOf('/') + 1) + view;
+
+            if (!path.startsWith("/")) {
+                path = "/" + path;
+            }
+        }
+
+        int query = path.indexOf('?');
+        String pathOnly = (query >= 0) ? path.substring(0, query) : path;
+
+        return (pathOnly.contains("/./") || pathOnly.contains("/../") || pathOnly.endsWith("/.")
+                || pathOnly.endsWith("/..")) ? null : path;
+    }
+}
@@ -0,0 +1,46 @@
+package winter.util;
+
+/**
+ * A pool of byte buffers shared by the text responses in the Winter framework.
+ * <p>
+ * Text results are encoded into a buffer of {@value #BUFFER_SIZE} bytes before
+ * being sent, so every response borrows one from this pool instead of
+ * allocating it. Idle buffers are kept in a {@link SlotPool} of two slots per
+ * processor; a buffer released while every slot is taken is left to the
+ * garbage collector.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class BufferPool extends Utility {
+
+    /** The size of pooled buffers, in bytes. */
+    public static final int BUFFER_SIZE = 16 * 1024;
+
+    /** The idle buffers. */
+    private static final SlotPool<byte[]> BUFFERS = new SlotPool<>(2 * Runtime.getRuntime().availableProcessors());
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Takes an idle buffer from the pool, or allocates one if the pool is empty.
+     *
+     * @return a buffer of {@value #BUFFER_SIZE} bytes, with undefined content
+     */
+    public static byte[] acquire() {
+        byte[] buffer = BUFFERS.poll();
+        return (buffer != null) ? buffer : new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Puts a buffer back into the pool, unless the pool is full.
+     *
+     * @param buffer the buffer obtained from {@link #acquire()}, no longer used
+     *               by the caller
+     */
+    public static void release(byte[] buffer) {
+        BUFFERS.offer(buffer);
+    }
+}
@@ -0,0 +1,115 @@
+package winter.util;
+
+import java.util.function.Function;
+
+/**
+ * Utility class choosing a response format from an <code>Accept</code> header
+ * in the Winter framework.
+ * <p>
+ * Handlers declare the formats they produce once, preferred first; each
+ * request then picks one of them by scanning the header in place, without
+ * splitting it into strings per media range.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ContentNegotiator extends Utility {
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Chooses the format of a response from an <code>Accept</code> header.
+     * <p>
+     * The allowed format with the highest quality in the header is chosen; on
+     * equal quality, the one listed first in the header wins. Wildcards and an
+     * absent header select the first allowed format, as does a header naming
+     * none of them.
+     * </p>
+     *
+     * @param <F>        the format type
+     * @param accept     the <code>Accept</code> header, or null if absent
+     * @param allowed    the formats the handler produces, preferred first
+     * @param mediaTypes the media types selecting each format
+     * @return the chosen format
+     */
+    public static <F> F negotiate(String accept, F[] allowed, Function<F, String[]> mediaTypes) {
+        if (accept == null || accept.isEmpty() || allowed.length == 1) {
+            return allowed[0];
+        }
+
+        F chosen = allowed[0];
+        double chosenQuality = 0;
+        int start = 0;
+
+        while (start < accept.length()) {
+            int end = accept.indexOf(',', start);
+            end = (end < 0) ? accept.length() : end;
+
+            int parameters = accept.indexOf(';', start);
+            int typeEnd = (parameters >= 0 && parameters < end) ? parameters : end;
+            String mediaType = accept.substring(start, typeEnd).trim();
+            double quality = qualityOf(accept, typeEnd, end);
+            F format = match(mediaType, allowed, mediaTypes);
+
+            if (format != null && quality > chosenQuality) {
+                chosen = format;
+                chosenQuality = quality;
+            }
+
+            start = end + 1;
+        }
+
+        return chosen;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Finds the allowed format selected by a media type.
+     *
+     * @param <F>        the format type
+     * @param mediaType  the media type, without parameters
+     * @param allowed    the formats the handler produces, preferred first
+     * @param mediaTypes the media types selecting each format
+     * @return the format, the first allowed one for wildcards, or null if none
+     */
+    private static <F> F match(String mediaType, F[] allowed, Function<F, String[]> mediaTypes) {
+        if (mediaType.equals("*/*")) {
+            return allowed[0];
+        }
+
+        for (F format : allowed) {
+            for (String candidate : mediaTypes.apply(format)) {
+                if (candidate.equalsIgnoreCase(mediaType)) {
+                    return format;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads the <code>q</code> parameter of a media range.
+     *
+     * @param accept the <code>Accept</code> header
+     * @param from   the index of the parameters of the range
+     * @param to     the index after the range
+     * @return the quality, 1 if absent or malformed
+     */
+    private static double qualityOf(String accept, int from, int to) {
+        int q = accept.indexOf("q=", from);
+
+        if (q < 0 || q >= to) {
+            return 1;
+        }
+
+        try {
+            return Double.parseDouble(accept.substring(q + 2, to).trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
@@ -3,17 +3,21 @@ package winter.util;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import jakarta.servlet.http.HttpServletRequest;
 import winter.data.annotation.http.RequestParam;
 import winter.data.annotation.http.UrlMapping;
+import winter.data.binding.ValueConverter;
 import winter.data.enumdata.RequestParamType;
 import winter.data.exception.client.InvalidFormDataException;
+import winter.data.validation.ConstraintValidator;
+import winter.data.validation.Constraints;
 
 /**
  * Utility class providing data-related helper methods for the Winter framework.
@@ -37,33 +41,27 @@ public class DataUtil extends Utility {
     /**
      * Parses a string value into an object of the specified type.
      * <p>
-     * Supports primitive types and their wrappers (e.g., int, Integer, double,
-     * Double).
-     * Returns the original string if the type is not explicitly handled.
+     * Supports every type with a converter in
+     * {@link winter.data.binding.Converters}, such as primitives and their
+     * wrappers, strings, enums, dates and UUIDs.
      * </p>
      *
      * @param objType the target class type to parse the value into
      * @param value   the string value to parse
-     * @return the parsed object, or null if the value is null
-     * @throws NumberFormatException if the value cannot be parsed into a numeric
-     *                               type
+     * @return the parsed object, or null if the value is null for a non-primitive
+     *         type
+     * @throws NumberFormatException if the value cannot be parsed into the
+     *                               target type, or the type is not supported
      */
     public static Object parseObject(Class<?> objType, String value) {
-        if (isNumeric(objType) && !isNumeric(value)) {
-            throw new NumberFormatException("Invalid numeric format");
-        }
+        ParseResult result = new ParseResult();
+        Object parsed = ValueConverter.of(objType).convert(value, result);
 
-        if (value == null) {
-            return null;
-        } else if (objType == int.class || objType == Integer.class) {
-            return Integer.parseInt(value);
-        } else if (objType == double.class || objType == Double.class) {
-            return Double.parseDouble(value);
-        } else if (objType == float.class || objType == Float.class) {
-            return Float.parseFloat(value);
-        } else {
-            return value;
+        if (!result.isValid()) {
+            throw new NumberFormatException(result.getMessage());
         }
+
+        return parsed;
     }
 
     /* --------------------------- Validation methods --------------------------- */
@@ -90,12 +88,28 @@ public class DataUtil extends Utility {
             return;
         }
 
-        RequestParamType type = requestParam.type();
+        validateRequestParamConstraints(requestParam.type(), (String) value);
+    }
+
+    /**
+     * Validates a value against a request parameter type.
+     * <p>
+     * Precompiled binders use a {@link winter.data.validation.ConstraintSet}
+     * instead, which reports violations without throwing.
+     * </p>
+     *
+     * @param type  the parameter type constraint
+     * @param value the raw value to validate
+     * @throws InvalidFormDataException if the value violates the type constraint
+     */
+    public static void validateRequestParamConstraints(RequestParamType type, String value)
+            throws InvalidFormDataException {
+
+        ConstraintValidator validator = Constraints.of(type);
+        String violation = (validator != null) ? validator.validate(value, value) : null;
 
-        if (type == RequestParamType.EMAIL && !isEmail((String) value)) {
-            throw new InvalidFormDataException("Invalid email format");
-        } else if (type == RequestParamType.NUMERIC && !isNumeric((String) value)) {
-            throw new InvalidFormDataException("Invalid numeric format");
+        if (violation != null) {
+            throw new InvalidFormDataException(violation);
         }
     }
 
@@ -133,12 +147,7 @@ public class DataUtil extends Utility {
             return false;
         }
 
-        String regex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$";
-
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(email);
-
-        return matcher.matches();
+        return Constraints.isEmail(email);
     }
 
     /**
@@ -170,15 +179,7 @@ public class DataUtil extends Utility {
      * @return true if the string can be parsed as a number, false otherwise
      */
     public static boolean isNumeric(String value) {
-        if (value == null || value.isEmpty()) {
-            return false;
-        }
-        try {
-            new java.math.BigDecimal(value);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return ParseUtil.isNumeric(value);
     }
 
     /**
@@ -188,13 +189,40 @@ public class DataUtil extends Utility {
      * @return true if the package name is valid, false otherwise
      */
     public static boolean isValidPackageName(String packageName) {
-        String packageNameRegex = "^(\\w+)(\\.(\\w++))*+$";
-        Pattern pattern = Pattern.compile(packageNameRegex);
-
         if (packageName == null || packageName.isEmpty()) {
             return false;
         }
-        return pattern.matcher(packageName).matches();
+
+        // Dot-separated, non-empty segments of ASCII word characters, as the regex \w
+        boolean segmentStart = true;
+
+        for (int i = 0; i < packageName.length(); i++) {
+            char c = packageName.charAt(i);
+
+            if (c == '.') {
+                if (segmentStart) {
+                    return false;
+                }
+
+                segmentStart = true;
+            } else if (isWordCharacter(c)) {
+                segmentStart = false;
+            } else {
+                return false;
+            }
+        }
+
+        return !segmentStart;
+    }
+
+    /**
+     * Checks whether a character is an ASCII letter, digit or underscore.
+     *
+     * @param c the character to check
+     * @return true if the character matches the regex <code>\w</code>
+     */
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
     }
 
     /* --------------------------- Generation methods --------------------------- */
@@ -292,4 +320,23 @@ public class DataUtil extends Utility {
     public static String extractURIMapping(HttpServletRequest req) {
         return req.getRequestURI().substring(req.getContextPath().length());
     }
+
+    /**
+     * Resolves a character encoding name.
+     *
+     * @param encoding       the encoding name, or null if none
+     * @param defaultCharset the charset used when the name is null or unknown
+     * @return the charset of the encoding, or the default charset
+     */
+    public static Charset charsetOf(String encoding, Charset defaultCharset) {
+        if (encoding == null) {
+            return defaultCharset;
+        }
+
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            return defaultCharset;
+        }
+    }
 }
\ No newline at end of file
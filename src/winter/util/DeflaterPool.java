@@ -0,0 +1,70 @@
+package winter.util;
+
+import java.util.zip.Deflater;
+
+/**
+ * A pool of {@link Deflater} instances shared by compressed responses in the
+ * Winter framework.
+ * <p>
+ * A deflater holds about 256 KiB of native memory and is costly to create and
+ * to free, so response compression borrows them from this pool instead of
+ * creating one per response. Idle deflaters are kept in a {@link SlotPool} of
+ * two slots per processor for each of the raw (gzip) and zlib (deflate)
+ * formats; a deflater released while every slot is taken is ended.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DeflaterPool extends Utility {
+
+    /** The compression level of pooled deflaters. */
+    public static final int LEVEL = 6;
+
+    /** The idle deflaters producing raw deflate data, as wrapped by gzip. */
+    private static final SlotPool<Deflater> RAW_DEFLATERS = new SlotPool<>(poolSize());
+
+    /** The idle deflaters producing zlib data. */
+    private static final SlotPool<Deflater> ZLIB_DEFLATERS = new SlotPool<>(poolSize());
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Takes an idle deflater from the pool, or creates one if the pool is empty.
+     *
+     * @param nowrap true for a deflater producing raw deflate data, false for
+     *               zlib data
+     * @return a deflater ready for a new stream
+     */
+    public static Deflater acquire(boolean nowrap) {
+        Deflater deflater = (nowrap ? RAW_DEFLATERS : ZLIB_DEFLATERS).poll();
+        return (deflater != null) ? deflater : new Deflater(LEVEL, nowrap);
+    }
+
+    /**
+     * Resets a deflater and puts it back into the pool, or ends it if the pool
+     * is full.
+     *
+     * @param deflater the deflater obtained from {@link #acquire(boolean)}
+     * @param nowrap   the format the deflater was acquired for
+     */
+    public static void release(Deflater deflater, boolean nowrap) {
+        deflater.reset();
+
+        if (!(nowrap ? RAW_DEFLATERS : ZLIB_DEFLATERS).offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Returns the number of idle deflaters kept per format.
+     *
+     * @return twice the number of available processors
+     */
+    private static int poolSize() {
+        return 2 * Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -1,15 +1,15 @@
 package winter.util;
 
-import java.io.PrintWriter;
+import java.io.IOException;
 
 /**
  * Utility class for building HTML elements in the Winter framework.
  * <p>
  * This class extends {@link Utility} and provides static methods to generate
- * HTML output
- * for displaying request information, controller details, and error messages.
- * It is not
- * intended to be instantiated, and all functionality is accessed statically.
+ * HTML output for displaying request information, controller details, and
+ * error messages. The elements are streamed through an {@link HtmlWriter}, so
+ * values, including exception messages, are escaped and no intermediate
+ * string is built, even for long stack traces.
  * </p>
  *
  * @author Hasina JY
@@ -27,12 +27,12 @@ public class HtmlElementBuilder extends Utility {
      * "URL Information".
      * </p>
      *
-     * @param out        the PrintWriter to output the HTML
+     * @param out        the HtmlWriter to output the HTML
      * @param requestURL the URL of the request to display
-     * @throws IllegalArgumentException if out or requestURL is null
-     * @see #printList(PrintWriter, String, String[], String[])
+     * @throws IOException if the HTML cannot be written
+     * @see #printList(HtmlWriter, String, String[], String[])
      */
-    public static void printRequestInfo(PrintWriter out, String requestURL) {
+    public static void printRequestInfo(HtmlWriter out, String requestURL) throws IOException {
         HtmlElementBuilder.printList(out, "URL Information", new String[] { "Request URL" },
                 new String[] { requestURL });
     }
@@ -41,21 +41,20 @@ public class HtmlElementBuilder extends Utility {
      * Prints controller information as an HTML list.
      * <p>
      * Generates an HTML unordered list with details about the target mapping,
-     * controller
-     * class, method, and return value under a heading titled "Controller
-     * Information".
+     * controller class, method, and return value under a heading titled
+     * "Controller Information".
      * </p>
      *
-     * @param out         the PrintWriter to output the HTML
+     * @param out         the HtmlWriter to output the HTML
      * @param targetURL   the target mapping URL
      * @param className   the name of the controller class
      * @param methodName  the name of the method handling the request
      * @param returnValue the value returned by the method
-     * @throws IllegalArgumentException if out or any parameter is null
-     * @see #printList(PrintWriter, String, String[], String[])
+     * @throws IOException if the HTML cannot be written
+     * @see #printList(HtmlWriter, String, String[], String[])
      */
-    public static void printTargetControllerInfo(PrintWriter out, String targetURL, String className, String methodName,
-            String returnValue) {
+    public static void printTargetControllerInfo(HtmlWriter out, String targetURL, String className,
+            String methodName, String returnValue) throws IOException {
         HtmlElementBuilder.printList(out, "Controller Information",
                 new String[] { "Target Mapping", "Controller", "Method", "Returned Value" },
                 new String[] { targetURL, className, methodName, returnValue });
@@ -67,141 +66,83 @@ public class HtmlElementBuilder extends Utility {
      * Prints a labeled list as HTML.
      * <p>
      * Generates an HTML unordered list (&lt;ul&gt;) with a heading and paired
-     * labels and
-     * values. The number of labels must match the number of values.
+     * labels and values. The number of labels must match the number of values.
      * </p>
      *
-     * @param out    the PrintWriter to output the HTML
+     * @param out    the HtmlWriter to output the HTML
      * @param title  the heading title for the list
      * @param labels the array of labels to display
      * @param values the array of corresponding values
      * @throws IllegalArgumentException if out, labels, or values is null, or if
      *                                  labels and values have different lengths
+     * @throws IOException              if the HTML cannot be written
      */
-    public static void printList(PrintWriter out, String title, String[] labels, String[] values)
-            throws IllegalArgumentException {
+    public static void printList(HtmlWriter out, String title, String[] labels, String[] values)
+            throws IllegalArgumentException, IOException {
         if (out == null || labels == null || values == null || labels.length != values.length) {
             throw new IllegalArgumentException(
                     "Invalid arguments: out, labels, and values must be valid and have the same length");
         }
 
-        out.print(makeHeading(3, title));
-        out.println("<ul>");
+        printHeading(out, 3, title);
+        out.start("ul").raw("\n");
 
         for (int i = 0; i < labels.length; i++) {
-            out.print("<li>");
-            out.print(makeBold(labels[i] + ": "));
-            out.println(values[i]);
-            out.println("</li>");
+            out.start("li").start("b").text(labels[i]).text(": ").end("b");
+            out.text(values[i]).raw("\n").end("li").raw("\n");
         }
 
-        out.println("</ul>"); // End the unordered list
+        out.end("ul").raw("\n"); // End the unordered list
     }
 
     /**
      * Prints an error message as an HTML paragraph.
      * <p>
-     * Outputs the error message in a paragraph with a bold ">>>>" prefix.
+     * Outputs the escaped error message in a paragraph with a bold ">>>>"
+     * prefix.
      * </p>
      *
-     * @param out    the PrintWriter to output the HTML
+     * @param out    the HtmlWriter to output the HTML
      * @param errMsg the error message to display
-     * @throws IllegalArgumentException if out or errMsg is null
+     * @throws IOException if the HTML cannot be written
      */
-    public static void printError(PrintWriter out, String errMsg) {
-        out.print(makeParagraph(makeBold(">>>> ") + errMsg));
+    public static void printError(HtmlWriter out, String errMsg) throws IOException {
+        out.start("p").element("b", ">>>> ").text(errMsg).end("p");
     }
 
     /**
      * Prints an exception's details as HTML.
      * <p>
      * Outputs a bold "EXCEPTION LOG" heading followed by the exception's message
-     * and
-     * stack trace in a preformatted block.
+     * and stack trace, with its causes, in a preformatted block. The trace is
+     * written frame by frame.
      * </p>
      *
-     * @param out the PrintWriter to output the HTML
+     * @param out the HtmlWriter to output the HTML
      * @param e   the exception to display
-     * @throws IllegalArgumentException if out or e is null
+     * @throws IOException if the HTML cannot be written
      */
-    public static void printError(PrintWriter out, Exception e) {
-        printError(out, makeBold("EXCEPTION LOG"));
-
-        StringBuilder stringBuilder = new StringBuilder();
-        StackTraceElement[] stackTraceElements = e.getStackTrace();
-
-        stringBuilder.append(e.toString());
-
-        for (StackTraceElement stackTraceElement : stackTraceElements) {
-            stringBuilder.append("\n\tat ");
-            stringBuilder.append(stackTraceElement.toString());
-        }
-
-        out.print(makePre(stringBuilder.toString()));
+    public static void printError(HtmlWriter out, Exception e) throws IOException {
+        out.start("p").element("b", ">>>> ").element("b", "EXCEPTION LOG").end("p");
+        out.start("pre").stackTrace(e).end("pre");
     }
 
     /**
-     * Wraps text in an HTML paragraph tag.
-     *
-     * @param text the text to wrap
-     * @return the text enclosed in &lt;p&gt; tags
-     * @throws IllegalArgumentException if text is null
-     */
-    private static String makeParagraph(String text) {
-        return "<p>" + text + "</p>";
-    }
-
-    /**
-     * Creates an HTML heading of the specified level.
+     * Prints an HTML heading of the specified level.
      *
+     * @param out   the HtmlWriter to output the HTML
      * @param level the heading level (1 to 6)
      * @param text  the heading text
-     * @return the text enclosed in the appropriate heading tag (e.g., &lt;h3&gt;)
      * @throws IllegalArgumentException if level is not between 1 and 6, or if text
      *                                  is null
+     * @throws IOException              if the HTML cannot be written
      */
-    private static String makeHeading(int level, String text) throws IllegalArgumentException {
+    private static void printHeading(HtmlWriter out, int level, String text)
+            throws IllegalArgumentException, IOException {
         if (level <= 0 || level >= 7 || text == null) {
             throw new IllegalArgumentException("Invalid heading level or text");
         }
 
-        switch (level) {
-            case 1:
-                return "<h1>" + text + "</h1>";
-            case 2:
-                return "<h2>" + text + "</h2>";
-            case 3:
-                return "<h3>" + text + "</h3>";
-            case 4:
-                return "<h4>" + text + "</h4>";
-            case 5:
-                return "<h5>" + text + "</h5>";
-            case 6:
-                return "<h6>" + text + "</h6>";
-            default:
-                return null;
-        }
-    }
-
-    /**
-     * Wraps text in HTML bold tags.
-     *
-     * @param text the text to bold
-     * @return the text enclosed in &lt;b&gt; tags
-     * @throws IllegalArgumentException if text is null
-     */
-    private static String makeBold(String text) {
-        return "<b>" + text + "</b>";
-    }
-
-    /**
-     * Wraps text in HTML preformatted tags.
-     *
-     * @param text the text to preformat
-     * @return the text enclosed in &lt;pre&gt; tags
-     * @throws IllegalArgumentException if text is null
-     */
-    private static String makePre(String text) {
-        return "<pre>" + text + "</pre>";
+        out.element("h" + level, text);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,295 @@
+package winter.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * A streaming HTML writer in the Winter framework.
+ * <p>
+ * Tags, attributes and text are appended to the underlying {@link Writer} as
+ * they are written, so a page of any size is produced without being built as
+ * a string first. Text and attribute values are escaped through a table
+ * indexed by character, and runs of text without markup characters are
+ * written in one call. Tag and attribute names are written as given and must
+ * come from code, never from user input.
+ * </p>
+ * <p>
+ * A start tag is left open after {@link #start(String)} so attributes can be
+ * added, and is closed by the next text, tag or end tag.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class HtmlWriter {
+
+    /** The replacements of ASCII characters in text and attribute values. */
+    private static final String[] ESCAPES = new String[128];
+
+    /** The largest number of causes written with a stack trace. */
+    private static final int MAX_CAUSES = 8;
+
+    static {
+        ESCAPES['&'] = "&amp;";
+        ESCAPES['<'] = "&lt;";
+        ESCAPES['>'] = "&gt;";
+        ESCAPES['"'] = "&#34;";
+        ESCAPES['\''] = "&#39;";
+    }
+
+    /** The destination of the markup. */
+    private final Writer out;
+
+    /** Whether a start tag waits for its closing <code>&gt;</code>. */
+    private boolean tagOpen = false;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates a writer appending to a destination.
+     *
+     * @param out the destination, neither flushed nor closed by this writer
+     *            except through {@link #flush()}
+     */
+    public HtmlWriter(Writer out) {
+        this.out = out;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Writes a start tag, left open for attributes.
+     *
+     * @param tag the tag name
+     * @return this writer
+     * @throws IOException if the markup cannot be written
+     */
+    public HtmlWriter start(String tag) throws IOException {
+        closeStartTag();
+        out.write('<');
+        out.write(tag);
+        tagOpen = true;
+        return this;
+    }
+
+    /**
+     * Adds an attribute to the open start tag.
+     *
+     * @param name  the attribute name
+     * @param value the value, escaped; null writes the attribute without value
+     * @return this writer
+     * @throws IOException           if the markup cannot be written
+     * @throws IllegalStateException if no start tag is open
+     */
+    public HtmlWriter attribute(String name, Object value) throws IOException {
+        if (!tagOpen) {
+            throw new IllegalStateException("No start tag is open for attribute " + name);
+        }
+
+        out.write(' ');
+        out.write(name);
+
+        if (value != null) {
+            out.write("=\"");
+            escape(String.valueOf(value), out);
+            out.write('"');
+        }
+
+        return this;
+    }
+
+    /**
+     * Writes an end tag.
+     *
+     * @param tag the tag name
+     * @return this writer
+     * @throws IOException if the markup cannot be written
+     */
+    public HtmlWriter end(String tag) throws IOException {
+        closeStartTag();
+        out.write("</");
+        out.write(tag);
+        out.write('>');
+        return this;
+    }
+
+    /**
+     * Writes escaped text.
+     *
+     * @param value the text, or any value written through
+     *              {@link String#valueOf(Object)}; null writes nothing
+     * @return this writer
+     * @throws IOException if the text cannot be written
+     */
+    public HtmlWriter text(Object value) throws IOException {
+        closeStartTag();
+
+        if (value instanceof CharSequence text) {
+            escape(text, out);
+        } else if (value != null) {
+            escape(String.valueOf(value), out);
+        }
+
+        return this;
+    }
+
+    /**
+     * Writes markup as is.
+     *
+     * @param html the markup, trusted
+     * @return this writer
+     * @throws IOException if the markup cannot be written
+     */
+    public HtmlWriter raw(String html) throws IOException {
+        closeStartTag();
+        out.write(html);
+        return this;
+    }
+
+    /**
+     * Writes an element holding escaped text, such as
+     * <code>&lt;td&gt;42&lt;/td&gt;</code>.
+     *
+     * @param tag   the tag name
+     * @param value the text of the element, possibly null
+     * @return this writer
+     * @throws IOException if the markup cannot be written
+     */
+    public HtmlWriter element(String tag, Object value) throws IOException {
+        return start(tag).text(value).end(tag);
+    }
+
+    /**
+     * Writes the escaped stack trace of an exception and its causes, frame by
+     * frame.
+     *
+     * @param thrown the exception
+     * @return this writer
+     * @throws IOException if the trace cannot be written
+     */
+    public HtmlWriter stackTrace(Throwable thrown) throws IOException {
+        closeStartTag();
+        Set<Throwable> written = Collections.newSetFromMap(new IdentityHashMap<>());
+        Throwable current = thrown;
+
+        for (int depth = 0; current != null && depth <= MAX_CAUSES && written.add(current); depth++) {
+            if (depth > 0) {
+                out.write("\nCaused by: ");
+            }
+
+            escape(current.toString(), out);
+
+            for (StackTraceElement frame : current.getStackTrace()) {
+                out.write("\n\tat ");
+                writeFrame(frame);
+            }
+
+            current = current.getCause();
+        }
+
+        return this;
+    }
+
+    /**
+     * Flushes the destination.
+     *
+     * @throws IOException if the destination cannot be flushed
+     */
+    public void flush() throws IOException {
+        closeStartTag();
+        out.flush();
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Writes text with its markup characters and quotes escaped.
+     *
+     * @param text the text
+     * @param out  the destination
+     * @throws IOException if the text cannot be written
+     */
+    public static void escape(CharSequence text, Writer out) throws IOException {
+        int length = text.length();
+        int start = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c < 128 && ESCAPES[c] != null) {
+                if (i > start) {
+                    writeRun(text, start, i, out);
+                }
+
+                out.write(ESCAPES[c]);
+                start = i + 1;
+            }
+        }
+
+        if (start < length) {
+            writeRun(text, start, length, out);
+        }
+    }
+
+    /**
+     * Writes a run of text, without copying it when it is a string.
+     *
+     * @param text  the text
+     * @param start the index of the first character
+     * @param end   the index after the last character
+     * @param out   the destination
+     * @throws IOException if the text cannot be written
+     */
+    private static void writeRun(CharSequence text, int start, int end, Writer out) throws IOException {
+        if (text instanceof String string) {
+            out.write(string, start, end - start);
+        } else {
+            out.append(text, start, end);
+        }
+    }
+
+    /**
+     * Writes one stack frame, as {@link StackTraceElement#toString()} would
+     * without its module information.
+     *
+     * @param frame the frame
+     * @throws IOException if the frame cannot be written
+     */
+    private void writeFrame(StackTraceElement frame) throws IOException {
+        escape(frame.getClassName(), out);
+        out.write('.');
+        escape(frame.getMethodName(), out);
+        out.write('(');
+
+        if (frame.isNativeMethod()) {
+            out.write("Native Method");
+        } else if (frame.getFileName() == null) {
+            out.write("Unknown Source");
+        } else {
+            escape(frame.getFileName(), out);
+
+            if (frame.getLineNumber() >= 0) {
+                out.write(':');
+                out.write(Integer.toString(frame.getLineNumber()));
+            }
+        }
+
+        out.write(')');
+    }
+
+    /**
+     * Closes the open start tag, if any.
+     *
+     * @throws IOException if the markup cannot be written
+     */
+    private void closeStartTag() throws IOException {
+        if (tagOpen) {
+            out.write('>');
+            tagOpen = false;
+        }
+    }
+}
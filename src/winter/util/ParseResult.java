@@ -0,0 +1,217 @@
+package winter.util;
+
+/**
+ * The reusable outcome of a {@link ParseUtil} parse in the Winter framework.
+ * <p>
+ * Parsers report success or failure through a status code instead of throwing
+ * exceptions, and leave the parsed value in a primitive slot of this object, so
+ * parsing invalid input costs no more than parsing valid input and parsing
+ * never allocates. One instance is meant to be reused for every value of a
+ * request.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ParseResult {
+
+    /** The status of a successful parse. */
+    public static final int VALID = 0;
+
+    /** The status of a parse of an absent or empty value. */
+    public static final int EMPTY = 1;
+
+    /** The status of a parse of a malformed value. */
+    public static final int INVALID_FORMAT = 2;
+
+    /** The status of a parse of a value outside the range of its type. */
+    public static final int OUT_OF_RANGE = 3;
+
+    /** The status of the last parse. */
+    private int status = VALID;
+
+    /** The error message of the last parse, or null if it succeeded. */
+    private String message;
+
+    /** The integral, boolean or character value of the last parse. */
+    private long longValue;
+
+    /** The floating-point value of the last parse. */
+    private double doubleValue;
+
+    /** The decimal exponent found by the last decimal scan. */
+    int exponent;
+
+    /** Whether the last decimal scan kept every significant digit. */
+    boolean exact;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Constructs a result in the {@link #VALID} status.
+     */
+    public ParseResult() {
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Checks if the last parse succeeded.
+     *
+     * @return true if the status is {@link #VALID}, false otherwise
+     */
+    public boolean isValid() {
+        return status == VALID;
+    }
+
+    /**
+     * Gets the status of the last parse.
+     *
+     * @return one of {@link #VALID}, {@link #EMPTY}, {@link #INVALID_FORMAT} or
+     *         {@link #OUT_OF_RANGE}
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the error message of the last parse.
+     *
+     * @return the error message, or null if the parse succeeded
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the parsed value as an <code>int</code>.
+     *
+     * @return the parsed value
+     */
+    public int getInt() {
+        return (int) longValue;
+    }
+
+    /**
+     * Gets the parsed value as a <code>long</code>.
+     *
+     * @return the parsed value
+     */
+    public long getLong() {
+        return longValue;
+    }
+
+    /**
+     * Gets the parsed value as a <code>short</code>.
+     *
+     * @return the parsed value
+     */
+    public short getShort() {
+        return (short) longValue;
+    }
+
+    /**
+     * Gets the parsed value as a <code>byte</code>.
+     *
+     * @return the parsed value
+     */
+    public byte getByte() {
+        return (byte) longValue;
+    }
+
+    /**
+     * Gets the parsed value as a <code>double</code>.
+     *
+     * @return the parsed value
+     */
+    public double getDouble() {
+        return doubleValue;
+    }
+
+    /**
+     * Gets the parsed value as a <code>float</code>.
+     *
+     * @return the parsed value
+     */
+    public float getFloat() {
+        return (float) doubleValue;
+    }
+
+    /**
+     * Gets the parsed value as a <code>boolean</code>.
+     *
+     * @return the parsed value
+     */
+    public boolean getBoolean() {
+        return longValue != 0;
+    }
+
+    /**
+     * Gets the parsed value as a <code>char</code>.
+     *
+     * @return the parsed value
+     */
+    public char getChar() {
+        return (char) longValue;
+    }
+
+    /* --------------------------------- Setters -------------------------------- */
+
+    /**
+     * Marks the result as successful without a primitive value, as for values
+     * kept as text.
+     */
+    public void reset() {
+        this.status = VALID;
+        this.message = null;
+    }
+
+    /**
+     * Marks the result as failed on a malformed value, as done by converters
+     * outside {@link ParseUtil}.
+     *
+     * @param message the error message
+     * @return always false
+     */
+    public boolean reject(String message) {
+        return fail(INVALID_FORMAT, message);
+    }
+
+    /**
+     * Records a successful integral, boolean or character parse.
+     *
+     * @param value the parsed value
+     * @return always true
+     */
+    boolean succeed(long value) {
+        reset();
+        this.longValue = value;
+        return true;
+    }
+
+    /**
+     * Records a successful floating-point parse.
+     *
+     * @param value the parsed value
+     * @return always true
+     */
+    boolean succeed(double value) {
+        reset();
+        this.doubleValue = value;
+        return true;
+    }
+
+    /**
+     * Records a failed parse.
+     *
+     * @param status  the failure status
+     * @param message the error message
+     * @return always false
+     */
+    boolean fail(int status, String message) {
+        this.status = status;
+        this.message = message;
+        return false;
+    }
+}
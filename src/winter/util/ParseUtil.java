@@ -0,0 +1,447 @@
+package winter.util;
+
+/**
+ * Utility class providing exception-free text parsers for the Winter
+ * framework.
+ * <p>
+ * Each parser validates and converts its input in a single scan of a
+ * {@link CharSequence}, reports the outcome through a reusable
+ * {@link ParseResult} and never throws on malformed input. Rejecting junk
+ * values therefore costs no exception creation nor stack capture, and the
+ * same string is never scanned twice to check then convert it.
+ * </p>
+ * <p>
+ * Numbers follow the decimal syntax of {@link java.math.BigDecimal}: an
+ * optional sign, digits with an optional fraction, and an optional exponent.
+ * Integral types reject fractions and exponents.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ParseUtil extends Utility {
+
+    /** The error message of a malformed or missing number. */
+    public static final String NUMERIC_FORMAT_MESSAGE = "Invalid numeric format";
+
+    /** The error message of a number outside the range of its type. */
+    public static final String NUMERIC_RANGE_MESSAGE = "Numeric value out of range";
+
+    /** The error message of a malformed boolean. */
+    public static final String BOOLEAN_FORMAT_MESSAGE = "Invalid boolean format";
+
+    /** The error message of a malformed character. */
+    public static final String CHARACTER_FORMAT_MESSAGE = "Invalid character format";
+
+    /** The largest mantissa a double holds exactly, 2^53. */
+    private static final long DOUBLE_EXACT_MANTISSA = 1L << 53;
+
+    /** The largest mantissa a float holds exactly, 2^24. */
+    private static final long FLOAT_EXACT_MANTISSA = 1L << 24;
+
+    /** The powers of ten a double holds exactly. */
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** The powers of ten a float holds exactly. */
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    /** The number of significant digits accumulated in a long mantissa. */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    /** The exponent magnitude beyond which every double overflows or vanishes. */
+    private static final int MAX_EXPONENT = 100_000;
+
+    /* ----------------------------- Integral types ----------------------------- */
+
+    /**
+     * Parses an <code>int</code>.
+     *
+     * @param text   the text to parse, may be null
+     * @param result the result receiving the status and value
+     * @return true if the text is a valid <code>int</code>, false otherwise
+     */
+    public static boolean parseInt(CharSequence text, ParseResult result) {
+        return parseIntegral(text, Integer.MIN_VALUE, Integer.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses a <code>long</code>.
+     *
+     * @param text   the text to parse, may be null
+     * @param result the result receiving the status and value
+     * @return true if the text is a valid <code>long</code>, false otherwise
+     */
+    public static boolean parseLong(CharSequence text, ParseResult result) {
+        return parseIntegral(text, Long.MIN_VALUE, Long.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses a <code>short</code>.
+     *
+     * @param text   the text to parse, may be null
+     * @param result the result receiving the status and value
+     * @return true if the text is a valid <code>short</code>, false otherwise
+     */
+    public static boolean parseShort(CharSequence text, ParseResult result) {
+        return parseIntegral(text, Short.MIN_VALUE, Short.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses a <code>byte</code>.
+     *
+     * @param text   the text to parse, may be null
+     * @param result the result receiving the status and value
+     * @return true if the text is a valid <code>byte</code>, false otherwise
+     */
+    public static boolean parseByte(CharSequence text, ParseResult result) {
+        return parseIntegral(text, Byte.MIN_VALUE, Byte.MAX_VALUE, result);
+    }
+
+    /**
+     * Parses an integer within bounds.
+     * <p>
+     * Digits are accumulated as a negative number, like
+     * {@link Long#parseLong(String)}, so that the minimum value of each type is
+     * reachable, and overflow is detected before it happens.
+     * </p>
+     *
+     * @param text   the text to parse, may be null
+     * @param min    the smallest accepted value
+     * @param max    the largest accepted value
+     * @param result the result receiving the status and value
+     * @return true if the text is a valid integer within bounds, false otherwise
+     */
+    private static boolean parseIntegral(CharSequence text, long min, long max, ParseResult result) {
+        if (text == null || text.length() == 0) {
+            return result.fail(ParseResult.EMPTY, NUMERIC_FORMAT_MESSAGE);
+        }
+
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        char first = text.charAt(0);
+
+        if (first == '-' || first == '+') {
+            negative = (first == '-');
+            i++;
+
+            if (length == 1) {
+                return result.fail(ParseResult.INVALID_FORMAT, NUMERIC_FORMAT_MESSAGE);
+            }
+        }
+
+        long limit = negative ? min : -max;
+        long multiplicationLimit = limit / 10;
+        long value = 0;
+        boolean overflow = false;
+
+        for (; i < length; i++) {
+            int digit = text.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                return result.fail(ParseResult.INVALID_FORMAT, NUMERIC_FORMAT_MESSAGE);
+            }
+
+            // Keep scanning after an overflow so that malformed input is still
+            // reported as such
+            if (overflow || value < multiplicationLimit || value * 10 < limit + digit) {
+                overflow = true;
+                continue;
+            }
+
+            value = value * 10 - digit;
+        }
+
+        if (overflow) {
+            return result.fail(ParseResult.OUT_OF_RANGE, NUMERIC_RANGE_MESSAGE);
+        }
+
+        return result.succeed(negative ? value : -value);
+    }
+
+    /* -------------------------- Floating-point types -------------------------- */
+
+    /**
+     * Parses a <code>double</code>.
+     * <p>
+     * Values whose significant digits fit in 53 bits and whose exponent is
+     * small are computed exactly in one multiplication or division; others
+     * fall back to {@link Double#parseDouble(String)} once the syntax is known to
+     * be valid.
+     * Infinite results are reported as out of range.
+     * </p>
+     *
+     * @param text   the text to parse, may be null
+     * @param result the result receiving the status and value
+     * @return true if the text is a valid finite <code>double</code>, false
+     *         otherwise
+     */
+    public static boolean parseDouble(CharSequence text, ParseResult result) {
+        if (!scanDecimal(text, result)) {
+            return false;
+        }
+
+        long mantissa = result.getLong();
+        int exponent = result.exponent;
+        double value;
+
+        if (result.exact && mantissa < DOUBLE_EXACT_MANTISSA && Math.abs(exponent) < DOUBLE_POWERS_OF_TEN.length) {
+            value = (exponent >= 0) ? mantissa * DOUBLE_POWERS_OF_TEN[exponent]
+                    : mantissa / DOUBLE_POWERS_OF_TEN[-exponent];
+            value = (text.charAt(0) == '-') ? -value : value;
+        } else {
+            value = Double.parseDouble(text.toString());
+        }
+
+        if (Double.isInfinite(value)) {
+            return result.fail(ParseResult.OUT_OF_RANGE, NUMERIC_RANGE_MESSAGE);
+        }
+
+        return result.succeed(value);
+    }
+
+    /**
+     * Parses a <code>float</code>.
+     * <p>
+     * Values whose significant digits fit in 24 bits and whose exponent is
+     * small are computed exactly in one multiplication or division; others
+     * fall back to {@link Float#parseFloat(String)} once the syntax is known to
+     * be valid.
+     * Infinite results are reported as out of range.
+     * </p>
+     *
+     * @param text   the text to parse, may be null
+     * @param result the result receiving the status and value
+     * @return true if the text is a valid finite <code>float</code>, false
+     *         otherwise
+     */
+    public static boolean parseFloat(CharSequence text, ParseResult result) {
+        if (!scanDecimal(text, result)) {
+            return false;
+        }
+
+        long mantissa = result.getLong();
+        int exponent = result.exponent;
+        float value;
+
+        if (result.exact && mantissa < FLOAT_EXACT_MANTISSA && Math.abs(exponent) < FLOAT_POWERS_OF_TEN.length) {
+            value = (exponent >= 0) ? mantissa * FLOAT_POWERS_OF_TEN[exponent]
+                    : mantissa / FLOAT_POWERS_OF_TEN[-exponent];
+            value = (text.charAt(0) == '-') ? -value : value;
+        } else {
+            value = Float.parseFloat(text.toString());
+        }
+
+        if (Float.isInfinite(value)) {
+            return result.fail(ParseResult.OUT_OF_RANGE, NUMERIC_RANGE_MESSAGE);
+        }
+
+        return result.succeed((double) value);
+    }
+
+    /**
+     * Checks if a text is a decimal number, without converting it.
+     *
+     * @param text the text to check, may be null
+     * @return true if the text follows the decimal syntax, false otherwise
+     */
+    public static boolean isNumeric(CharSequence text) {
+        return scanDecimal(text, new ParseResult());
+    }
+
+    /**
+     * Scans the syntax of a decimal number.
+     * <p>
+     * On success, the result holds up to {@value #MAX_MANTISSA_DIGITS}
+     * significant digits as its long value, the matching decimal exponent, and
+     * whether digits were dropped.
+     * </p>
+     *
+     * @param text   the text to scan, may be null
+     * @param result the result receiving the status and scanned parts
+     * @return true if the text follows the decimal syntax, false otherwise
+     */
+    private static boolean scanDecimal(CharSequence text, ParseResult result) {
+        if (text == null || text.length() == 0) {
+            return result.fail(ParseResult.EMPTY, NUMERIC_FORMAT_MESSAGE);
+        }
+
+        int length = text.length();
+        int i = 0;
+        char first = text.charAt(0);
+
+        if (first == '-' || first == '+') {
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean hasDigit = false;
+        boolean inFraction = false;
+
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c == '.' && !inFraction) {
+                inFraction = true;
+                continue;
+            }
+
+            int digit = c - '0';
+
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+
+            hasDigit = true;
+
+            if (significantDigits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                significantDigits += (mantissa != 0) ? 1 : 0;
+                exponent -= inFraction ? 1 : 0;
+            } else {
+                exact &= (digit == 0);
+                exponent += inFraction ? 0 : 1;
+            }
+        }
+
+        if (!hasDigit) {
+            return result.fail(ParseResult.INVALID_FORMAT, NUMERIC_FORMAT_MESSAGE);
+        }
+
+        if (i < length) {
+            char marker = text.charAt(i);
+
+            if (marker != 'e' && marker != 'E') {
+                return result.fail(ParseResult.INVALID_FORMAT, NUMERIC_FORMAT_MESSAGE);
+            }
+
+            i++;
+            boolean negativeExponent = false;
+
+            if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negativeExponent = (text.charAt(i) == '-');
+                i++;
+            }
+
+            if (i == length) {
+                return result.fail(ParseResult.INVALID_FORMAT, NUMERIC_FORMAT_MESSAGE);
+            }
+
+            int explicitExponent = 0;
+
+            for (; i < length; i++) {
+                int digit = text.charAt(i) - '0';
+
+                if (digit < 0 || digit > 9) {
+                    return result.fail(ParseResult.INVALID_FORMAT, NUMERIC_FORMAT_MESSAGE);
+                }
+
+                explicitExponent = Math.min(explicitExponent * 10 + digit, MAX_EXPONENT);
+            }
+
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        result.succeed(mantissa);
+        result.exponent = exponent;
+        result.exact = exact;
+        return true;
+    }
+
+    /* --------------------------- Hexadecimal digits --------------------------- */
+
+    /**
+     * Gets the value of an ASCII hexadecimal digit.
+     *
+     * @param c the character or byte
+     * @return the digit value, or -1 if it is not a hexadecimal digit
+     */
+    public static int hexDigit(int c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+
+        return -1;
+    }
+
+    /* ---------------------------- Non-numeric types --------------------------- */
+
+    /**
+     * Parses a <code>boolean</code>.
+     * <p>
+     * Accepts <code>true</code> and <code>false</code>, ignoring case, as well
+     * as <code>on</code> and <code>off</code>, the values sent by HTML
+     * checkboxes.
+     * </p>
+     *
+     * @param text   the text to parse, may be null
+     * @param result the result receiving the status and value
+     * @return true if the text is a valid boolean, false otherwise
+     */
+    public static boolean parseBoolean(CharSequence text, ParseResult result) {
+        if (text == null || text.length() == 0) {
+            return result.fail(ParseResult.EMPTY, BOOLEAN_FORMAT_MESSAGE);
+        }
+
+        if (equalsIgnoreCase(text, "true") || equalsIgnoreCase(text, "on")) {
+            return result.succeed(1L);
+        } else if (equalsIgnoreCase(text, "false") || equalsIgnoreCase(text, "off")) {
+            return result.succeed(0L);
+        }
+
+        return result.fail(ParseResult.INVALID_FORMAT, BOOLEAN_FORMAT_MESSAGE);
+    }
+
+    /**
+     * Parses a <code>char</code>, a text of exactly one character.
+     *
+     * @param text   the text to parse, may be null
+     * @param result the result receiving the status and value
+     * @return true if the text is a single character, false otherwise
+     */
+    public static boolean parseChar(CharSequence text, ParseResult result) {
+        if (text == null || text.length() == 0) {
+            return result.fail(ParseResult.EMPTY, CHARACTER_FORMAT_MESSAGE);
+        }
+
+        if (text.length() != 1) {
+            return result.fail(ParseResult.INVALID_FORMAT, CHARACTER_FORMAT_MESSAGE);
+        }
+
+        return result.succeed((long) text.charAt(0));
+    }
+
+    /**
+     * Compares a text to a lowercase ASCII keyword, ignoring case.
+     *
+     * @param text    the text to compare
+     * @param keyword the lowercase keyword
+     * @return true if the text matches the keyword, false otherwise
+     */
+    private static boolean equalsIgnoreCase(CharSequence text, String keyword) {
+        if (text.length() != keyword.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < keyword.length(); i++) {
+            if ((text.charAt(i) | 0x20) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
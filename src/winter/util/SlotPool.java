@@ -0,0 +1,100 @@
+package winter.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free pool of idle objects in the Winter framework.
+ * <p>
+ * Idle objects are kept in a fixed array of slots: taking one swaps it out of
+ * a slot atomically, and offering one puts it into an empty slot with a
+ * compare-and-set. Threads start probing at a slot derived from their id to
+ * limit contention. The pool neither creates nor disposes of objects; its
+ * users allocate one when the pool is empty and drop or close one the pool
+ * has no room for.
+ * </p>
+ *
+ * @param <T> the type of pooled objects
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SlotPool<T> {
+
+    /** The slots holding idle objects; an empty slot holds null. */
+    private final AtomicReferenceArray<T> slots;
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param size the maximum number of idle objects
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public SlotPool(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid pool size: " + size);
+        }
+
+        this.slots = new AtomicReferenceArray<>(size);
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Takes an idle object out of the pool.
+     *
+     * @return the object, or null if the pool is empty
+     */
+    public T poll() {
+        int size = slots.length();
+        int start = startSlot(size);
+
+        for (int i = 0; i < size; i++) {
+            int slot = (start + i) % size;
+
+            if (slots.get(slot) != null) {
+                T object = slots.getAndSet(slot, null);
+
+                if (object != null) {
+                    return object;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Puts an idle object into the pool, unless every slot is taken.
+     *
+     * @param object the object, no longer used by the caller
+     * @return true if the object was pooled, false if the pool is full
+     */
+    public boolean offer(T object) {
+        int size = slots.length();
+        int start = startSlot(size);
+
+        for (int i = 0; i < size; i++) {
+            int slot = (start + i) % size;
+
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, object)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /* ----------------------------- Utility methods ---------------------------- */
+
+    /**
+     * Returns the slot the current thread starts probing from.
+     *
+     * @param size the number of slots
+     * @return the start slot
+     */
+    private static int startSlot(int size) {
+        return (int) (Thread.currentThread().getId() % size);
+    }
+}
@@ -0,0 +1,181 @@
+package winter.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A logger limiting the rate of repeated entries in the Winter framework.
+ * <p>
+ * Entries are grouped by a key naming the kind of event, such as an exception
+ * class and status. Within each one-minute window, the first
+ * {@value #BURST} entries of a key are logged, then only one in
+ * {@value #SAMPLE_RATE}; the others are counted, and their number is logged
+ * when the next window of the key starts. Every occurrence is also added to a
+ * per-key total exposed by {@link #getCounts()}. Counting is lock-free, so a
+ * flood of identical errors costs a few atomic increments per request rather
+ * than a synchronous log record each.
+ * </p>
+ *
+ * @author Hasina JY
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ThrottledLogger {
+
+    /** The length of a rate-limiting window, in nanoseconds. */
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /** The number of entries of a key logged at the start of each window. */
+    private static final int BURST = 10;
+
+    /** The sampling rate of a key beyond its burst: one entry in this many is logged. */
+    private static final int SAMPLE_RATE = 100;
+
+    /** The largest number of keys tracked separately. */
+    private static final int MAX_KEYS = 1024;
+
+    /** The key sharing the counters of the keys beyond {@value #MAX_KEYS}. */
+    private static final String OVERFLOW_KEY = "(other)";
+
+    /** The underlying logger. */
+    private final Logger logger;
+
+    /** The counters by key. */
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /* ------------------------------ Constructors ------------------------------ */
+
+    /**
+     * Wraps a logger.
+     *
+     * @param logger the underlying logger
+     */
+    public ThrottledLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    /* --------------------------------- Getters -------------------------------- */
+
+    /**
+     * Gets the number of occurrences of each key, logged or not.
+     *
+     * @return a snapshot of the totals, sorted by key
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((key, counter) -> counts.put(key, counter.total.sum()));
+        return counts;
+    }
+
+    /* --------------------------------- Methods -------------------------------- */
+
+    /**
+     * Logs an entry unless its key exceeded its rate.
+     *
+     * @param level   the level of the entry
+     * @param key     the kind of event, grouping identical entries
+     * @param message the message of the entry
+     * @param thrown  the exception whose stack trace is logged, or null if none
+     */
+    public void log(Level level, String key, String message, Throwable thrown) {
+        Counter counter = counterOf(key);
+        counter.total.increment();
+
+        if (!logger.isLoggable(level)) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long suppressed = counter.roll(now);
+
+        if (suppressed > 0) {
+            logger.log(level, suppressed + " similar entries not logged in the last window for " + key);
+        }
+
+        int count = counter.windowCount.incrementAndGet();
+
+        if (count <= BURST) {
+            logger.log(level, message, thrown);
+        } else if ((count - BURST) % SAMPLE_RATE == 0) {
+            logger.log(level, message + " [sampled: 1 in " + SAMPLE_RATE + " similar entries logged]", thrown);
+        } else {
+            counter.suppressed.increment();
+        }
+    }
+
+    /**
+     * Gets the counter of a key, creating it on first use.
+     *
+     * @param key the kind of event
+     * @return the counter of the key, or the shared counter once
+     *         {@value #MAX_KEYS} keys are tracked
+     */
+    private Counter counterOf(String key) {
+        Counter counter = counters.get(key);
+
+        if (counter != null) {
+            return counter;
+        }
+
+        return counters.computeIfAbsent((counters.size() < MAX_KEYS) ? key : OVERFLOW_KEY,
+                k -> new Counter(System.nanoTime()));
+    }
+
+    /* ----------------------------- Nested classes ----------------------------- */
+
+    /**
+     * The occurrences of a key.
+     */
+    private static final class Counter {
+
+        /** The number of occurrences since the logger was created. */
+        private final LongAdder total = new LongAdder();
+
+        /** The number of entries not logged in the current window. */
+        private final LongAdder suppressed = new LongAdder();
+
+        /** The number of entries in the current window. */
+        private final AtomicInteger windowCount = new AtomicInteger();
+
+        /** The start of the current window, in {@link System#nanoTime()} units. */
+        private volatile long windowStart;
+
+        /**
+         * Creates a counter.
+         *
+         * @param windowStart the start of the first window
+         */
+        private Counter(long windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        /**
+         * Starts a new window if the current one has ended.
+         *
+         * @param now the current time, in {@link System#nanoTime()} units
+         * @return the number of entries not logged in the ended window, to be
+         *         reported by a single caller, or 0 if the window goes on
+         */
+        private long roll(long now) {
+            if (now - windowStart < WINDOW_NANOS) {
+                return 0;
+            }
+
+            synchronized (this) {
+                if (now - windowStart < WINDOW_NANOS) {
+                    return 0;
+                }
+
+                windowStart = now;
+                windowCount.set(0);
+                return suppressed.sumThenReset();
+            }
+        }
+    }
+}